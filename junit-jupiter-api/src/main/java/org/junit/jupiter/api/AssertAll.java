@@ -10,14 +10,25 @@
 
 package org.junit.jupiter.api;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.function.Executable;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.opentest4j.MultipleFailuresError;
@@ -41,7 +52,7 @@ class AssertAll {
 	static void assertAll(String heading, Executable... executables) {
 		Preconditions.notEmpty(executables, "executables array must not be null or empty");
 		Preconditions.containsNoNullElements(executables, "individual executables must not be null");
-		assertAll(heading, Arrays.stream(executables));
+		executeAll(heading, Arrays.asList(executables));
 	}
 
 	static void assertAll(Collection<Executable> executables) {
@@ -51,7 +62,7 @@ class AssertAll {
 	static void assertAll(String heading, Collection<Executable> executables) {
 		Preconditions.notNull(executables, "executables collection must not be null");
 		Preconditions.containsNoNullElements(executables, "individual executables must not be null");
-		assertAll(heading, executables.stream());
+		executeAll(heading, executables);
 	}
 
 	static void assertAll(Stream<Executable> executables) {
@@ -63,23 +74,208 @@ class AssertAll {
 
 		List<Throwable> failures = executables //
 				.peek(executable -> Preconditions.notNull(executable, "individual executables must not be null"))//
-				.map(executable -> {
-					try {
-						executable.execute();
-						return null;
-					}
-					catch (Throwable t) {
-						UnrecoverableExceptions.rethrowIfUnrecoverable(t);
-						return t;
-					}
-				}) //
+				.map(AssertAll::execute) //
 				.filter(Objects::nonNull) //
 				.collect(Collectors.toList());
 
 		if (!failures.isEmpty()) {
-			MultipleFailuresError multipleFailuresError = new MultipleFailuresError(heading, failures);
-			failures.forEach(multipleFailuresError::addSuppressed);
-			throw multipleFailuresError;
+			throw createMultipleFailuresError(heading, failures);
+		}
+	}
+
+	static void assertAllConcurrently(Executable... executables) {
+		assertAllConcurrently(null, executables);
+	}
+
+	static void assertAllConcurrently(String heading, Executable... executables) {
+		Preconditions.notEmpty(executables, "executables array must not be null or empty");
+		Preconditions.containsNoNullElements(executables, "individual executables must not be null");
+		executeAllConcurrently(heading, Arrays.asList(executables));
+	}
+
+	static void assertAllConcurrently(Collection<Executable> executables) {
+		assertAllConcurrently(null, executables);
+	}
+
+	static void assertAllConcurrently(String heading, Collection<Executable> executables) {
+		Preconditions.notNull(executables, "executables collection must not be null");
+		Preconditions.containsNoNullElements(executables, "individual executables must not be null");
+		executeAllConcurrently(heading, new ArrayList<>(executables));
+	}
+
+	static void assertAllConcurrently(Stream<Executable> executables) {
+		assertAllConcurrently(null, executables);
+	}
+
+	static void assertAllConcurrently(String heading, Stream<Executable> executables) {
+		Preconditions.notNull(executables, "executables stream must not be null");
+
+		List<Executable> executableList = executables //
+				.peek(executable -> Preconditions.notNull(executable, "individual executables must not be null"))//
+				.collect(Collectors.toList());
+
+		executeAllConcurrently(heading, executableList);
+	}
+
+	/**
+	 * Execute the supplied executables sequentially without creating a stream
+	 * and only allocate the list of failures once an executable has failed.
+	 */
+	private static void executeAll(String heading, Iterable<Executable> executables) {
+		List<Throwable> failures = null;
+		for (Executable executable : executables) {
+			Throwable failure = execute(executable);
+			if (failure != null) {
+				if (failures == null) {
+					failures = new ArrayList<>();
+				}
+				failures.add(failure);
+			}
+		}
+
+		if (failures != null) {
+			throw createMultipleFailuresError(heading, failures);
+		}
+	}
+
+	/**
+	 * Execute the supplied executables concurrently and report their failures
+	 * in the order of the executables.
+	 *
+	 * <p>The executables are executed by a temporary thread pool that is
+	 * bounded by the number of available processors. They are never forked
+	 * into the {@link ForkJoinPool} of the calling thread &mdash; for example,
+	 * the one used by the Jupiter engine for parallel test execution &mdash;
+	 * since joining them would let the calling thread execute unrelated tasks
+	 * of that pool. Instead, the calling thread waits for them via a
+	 * {@link ManagedBlocker} so that the pool may compensate for it.
+	 */
+	private static void executeAllConcurrently(String heading, List<Executable> executables) {
+		if (executables.size() < 2) {
+			executeAll(heading, executables);
+			return;
+		}
+
+		List<Throwable> results = executeInThreadPool(executables);
+
+		List<Throwable> failures = new ArrayList<>();
+		for (Throwable result : results) {
+			if (result != null) {
+				UnrecoverableExceptions.rethrowIfUnrecoverable(result);
+				failures.add(result);
+			}
+		}
+
+		if (!failures.isEmpty()) {
+			throw createMultipleFailuresError(heading, failures);
+		}
+	}
+
+	private static List<Throwable> executeInThreadPool(List<Executable> executables) {
+		int parallelism = Math.min(executables.size(), Runtime.getRuntime().availableProcessors());
+		ExecutorService executorService = Executors.newFixedThreadPool(parallelism,
+			new ConcurrentAssertAllThreadFactory());
+		try {
+			List<Future<Throwable>> futures = new ArrayList<>(executables.size());
+			for (Executable executable : executables) {
+				futures.add(executorService.submit(() -> executeAndCatch(executable)));
+			}
+			List<Throwable> results = new ArrayList<>(futures.size());
+			for (Future<Throwable> future : futures) {
+				results.add(await(future));
+			}
+			return results;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+		catch (ExecutionException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static <T> T await(Future<T> future) throws InterruptedException, ExecutionException {
+		if (ForkJoinTask.inForkJoinPool()) {
+			ForkJoinPool.managedBlock(new FutureBlocker(future));
+		}
+		return future.get();
+	}
+
+	/**
+	 * Execute the supplied executable and return the thrown exception, if any,
+	 * so it can be rethrown or aggregated by the calling thread.
+	 */
+	private static Throwable executeAndCatch(Executable executable) {
+		try {
+			executable.execute();
+			return null;
+		}
+		catch (Throwable t) {
+			return t;
+		}
+	}
+
+	private static Throwable execute(Executable executable) {
+		try {
+			executable.execute();
+			return null;
+		}
+		catch (Throwable t) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+			return t;
+		}
+	}
+
+	private static MultipleFailuresError createMultipleFailuresError(String heading, List<Throwable> failures) {
+		MultipleFailuresError multipleFailuresError = new MultipleFailuresError(heading, failures);
+		failures.forEach(multipleFailuresError::addSuppressed);
+		return multipleFailuresError;
+	}
+
+	/**
+	 * {@link ManagedBlocker} that waits for a {@link Future} to complete.
+	 */
+	private static class FutureBlocker implements ManagedBlocker {
+
+		private final Future<?> future;
+
+		FutureBlocker(Future<?> future) {
+			this.future = future;
+		}
+
+		@Override
+		public boolean block() throws InterruptedException {
+			try {
+				future.get();
+			}
+			catch (ExecutionException ignore) {
+				// reported when the result is retrieved
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return future.isDone();
+		}
+	}
+
+	/**
+	 * The thread factory used for concurrent execution of executables.
+	 */
+	private static class ConcurrentAssertAllThreadFactory implements ThreadFactory {
+
+		private static final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r, "junit-assertAll-thread-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
 		}
 	}
 
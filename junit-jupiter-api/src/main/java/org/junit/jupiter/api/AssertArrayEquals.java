@@ -18,6 +18,7 @@ import static org.junit.jupiter.api.AssertionUtils.nullSafeGet;
 import static org.junit.platform.commons.util.ReflectionUtils.isArray;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -26,6 +27,11 @@ import java.util.function.Supplier;
  * {@code AssertArrayEquals} is a collection of utility methods that support asserting
  * array equality in tests.
  *
+ * <p>Primitive arrays are compared in bulk via {@link Arrays#equals}, which
+ * the JVM typically vectorizes; the mismatching element is only searched for
+ * once the arrays are known to differ. Arrays compared within a delta are
+ * compared element by element, but the delta is only validated once.
+ *
  * @since 5.0
  */
 class AssertArrayEquals {
@@ -159,11 +165,11 @@ class AssertArrayEquals {
 	}
 
 	static void assertArrayEquals(Object[] expected, Object[] actual, String message) {
-		assertArrayEquals(expected, actual, new ArrayDeque<>(), message);
+		assertArrayEquals(expected, actual, null, message);
 	}
 
 	static void assertArrayEquals(Object[] expected, Object[] actual, Supplier<String> messageSupplier) {
-		assertArrayEquals(expected, actual, new ArrayDeque<>(), messageSupplier);
+		assertArrayEquals(expected, actual, null, messageSupplier);
 	}
 
 	private static void assertArrayEquals(boolean[] expected, boolean[] actual, Deque<Integer> indexes,
@@ -174,6 +180,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
@@ -190,6 +199,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
@@ -206,6 +218,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
@@ -222,6 +237,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
@@ -238,6 +256,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
@@ -254,6 +275,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
@@ -270,6 +294,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (!AssertionUtils.floatsAreEqual(expected[i], actual[i])) {
@@ -289,7 +316,7 @@ class AssertArrayEquals {
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
 
 		for (int i = 0; i < expected.length; i++) {
-			if (!AssertionUtils.floatsAreEqual(expected[i], actual[i], delta)) {
+			if (!AssertionUtils.floatsAreEqualWithinDelta(expected[i], actual[i], delta)) {
 				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
 			}
 		}
@@ -303,6 +330,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (!AssertionUtils.doublesAreEqual(expected[i], actual[i])) {
@@ -322,7 +352,7 @@ class AssertArrayEquals {
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
 
 		for (int i = 0; i < expected.length; i++) {
-			if (!AssertionUtils.doublesAreEqual(expected[i], actual[i], delta)) {
+			if (!AssertionUtils.doublesAreEqualWithinDelta(expected[i], actual[i], delta)) {
 				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
 			}
 		}
@@ -345,6 +375,9 @@ class AssertArrayEquals {
 				continue;
 			}
 
+			if (indexes == null) {
+				indexes = new ArrayDeque<>();
+			}
 			indexes.addLast(i);
 			assertArrayElementsEqual(expectedElement, actualElement, indexes, messageOrSupplier);
 			indexes.removeLast();
@@ -40,11 +40,11 @@ class AssertIterableEquals {
 	}
 
 	static void assertIterableEquals(Iterable<?> expected, Iterable<?> actual, String message) {
-		assertIterableEquals(expected, actual, new ArrayDeque<>(), message);
+		assertIterableEquals(expected, actual, null, message);
 	}
 
 	static void assertIterableEquals(Iterable<?> expected, Iterable<?> actual, Supplier<String> messageSupplier) {
-		assertIterableEquals(expected, actual, new ArrayDeque<>(), messageSupplier);
+		assertIterableEquals(expected, actual, null, messageSupplier);
 	}
 
 	private static void assertIterableEquals(Iterable<?> expected, Iterable<?> actual, Deque<Integer> indexes,
@@ -68,6 +68,9 @@ class AssertIterableEquals {
 				continue;
 			}
 
+			if (indexes == null) {
+				indexes = new ArrayDeque<>();
+			}
 			indexes.addLast(processed - 1);
 			assertIterableElementsEqual(expectedElement, actualElement, indexes, messageOrSupplier);
 			indexes.removeLast();
@@ -18,17 +18,27 @@ import static org.junit.platform.commons.util.Preconditions.condition;
 import static org.junit.platform.commons.util.Preconditions.notNull;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
  * {@code AssertLinesMatch} is a collection of utility methods that support asserting
  * lines of {@link String} equality or {@link java.util.regex.Pattern}-match in tests.
  *
+ * <p>Each expected line is compiled to a {@link Pattern} at most once per
+ * assertion, and lines without regular expression metacharacters are only
+ * compared for equality. If lines don't match and the expected lines contain
+ * no fast-forward markers, the failure message includes the differences
+ * between expected and actual lines computed by Myers' difference algorithm.
+ *
  * @since 5.0
  */
 class AssertLinesMatch {
@@ -39,6 +49,18 @@ class AssertLinesMatch {
 
 	private static final int MAX_SNIPPET_LENGTH = 21;
 
+	private static final int MAX_DIFF_LINES = 20;
+
+	private static final int MAX_DIFF_EDIT_DISTANCE = 1000;
+
+	private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+	/**
+	 * Sentinel for expected lines that are not (valid) regular expressions and
+	 * therefore only match equal actual lines.
+	 */
+	private static final Pattern NO_PATTERN = Pattern.compile("");
+
 	static void assertLinesMatch(List<String> expectedLines, List<String> actualLines) {
 		assertLinesMatch(expectedLines, actualLines, (Object) null);
 	}
@@ -86,6 +108,7 @@ class AssertLinesMatch {
 		private final List<String> expectedLines;
 		private final List<String> actualLines;
 		private final Object messageOrSupplier;
+		private final Map<String, Pattern> patterns = new HashMap<>();
 
 		LinesMatcher(List<String> expectedLines, List<String> actualLines, Object messageOrSupplier) {
 			this.expectedLines = expectedLines;
@@ -93,6 +116,16 @@ class AssertLinesMatch {
 			this.messageOrSupplier = messageOrSupplier;
 		}
 
+		boolean matches(String expectedLine, String actualLine) {
+			notNull(expectedLine, "expected line must not be null");
+			notNull(actualLine, "actual line must not be null");
+			if (expectedLine.hashCode() == actualLine.hashCode() && expectedLine.equals(actualLine)) {
+				return true;
+			}
+			Pattern pattern = patterns.computeIfAbsent(expectedLine, AssertLinesMatch::compile);
+			return pattern != NO_PATTERN && pattern.matcher(actualLine).matches();
+		}
+
 		void assertLinesMatch() {
 			int expectedSize = expectedLines.size();
 			int actualSize = actualLines.size();
@@ -104,7 +137,7 @@ class AssertLinesMatch {
 
 			// simple case: both list are equally sized, compare them line-by-line
 			if (expectedSize == actualSize) {
-				if (IntStream.range(0, expectedSize).allMatch(i -> matches(expectedLines.get(i), actualLines.get(i)))) {
+				if (allLinesMatch(expectedSize)) {
 					return;
 				}
 				// else fall-through to "with fast-forward" matching
@@ -113,6 +146,15 @@ class AssertLinesMatch {
 			assertLinesMatchWithFastForward();
 		}
 
+		boolean allLinesMatch(int size) {
+			for (int i = 0; i < size; i++) {
+				if (!matches(expectedLines.get(i), actualLines.get(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
 		void assertLinesMatchWithFastForward() {
 			Deque<String> expectedDeque = new ArrayDeque<>(expectedLines);
 			Deque<String> actualDeque = new ArrayDeque<>(actualLines);
@@ -172,8 +214,8 @@ class AssertLinesMatch {
 				}
 
 				int actualLineNumber = actualLines.size() - actualDeque.size() + 1; // 1-based line number
-				fail("expected line #%d doesn't match actual line #%d%n" + "\texpected: `%s`%n" + "\t  actual: `%s`",
-					expectedLineNumber, actualLineNumber, expectedLine, actualLine);
+				fail("expected line #%d doesn't match actual line #%d%n" + "\texpected: `%s`%n" + "\t  actual: `%s`%s",
+					expectedLineNumber, actualLineNumber, expectedLine, actualLine, diff());
 			}
 
 			// after math
@@ -182,6 +224,110 @@ class AssertLinesMatch {
 			}
 		}
 
+		/**
+		 * Compute the differences between expected and actual lines using
+		 * Myers' O(ND) difference algorithm after skipping common leading and
+		 * trailing lines, which keeps the common case of few differences in
+		 * large inputs linear.
+		 *
+		 * @return the formatted differences, prefixed with a line separator;
+		 * or an empty string if the expected lines contain fast-forward markers
+		 */
+		String diff() {
+			if (expectedLines.stream().anyMatch(AssertLinesMatch::isFastForwardLine)) {
+				return "";
+			}
+			int start = 0;
+			int expectedEnd = expectedLines.size();
+			int actualEnd = actualLines.size();
+			while (start < expectedEnd && start < actualEnd && matches(start, start)) {
+				start++;
+			}
+			while (expectedEnd > start && actualEnd > start && matches(expectedEnd - 1, actualEnd - 1)) {
+				expectedEnd--;
+				actualEnd--;
+			}
+
+			List<String> edits = diff(start, expectedEnd, actualEnd);
+			String newLine = System.lineSeparator();
+			StringBuilder builder = new StringBuilder(newLine).append("diff (- expected, + actual):");
+			if (edits == null) {
+				return builder.append(newLine).append("\t(more than ").append(MAX_DIFF_EDIT_DISTANCE).append(
+					" differences)").toString();
+			}
+			edits.stream().limit(MAX_DIFF_LINES).forEach(edit -> builder.append(newLine).append('\t').append(edit));
+			if (edits.size() > MAX_DIFF_LINES) {
+				builder.append(newLine).append("\t(").append(edits.size() - MAX_DIFF_LINES).append(
+					" more differences)");
+			}
+			return builder.toString();
+		}
+
+		/**
+		 * Compute the edits that transform the expected lines between
+		 * {@code start} and {@code expectedEnd} into the actual lines between
+		 * {@code start} and {@code actualEnd}.
+		 *
+		 * @return the formatted edits in order; or {@code null} if there are
+		 * more than {@value #MAX_DIFF_EDIT_DISTANCE} of them
+		 */
+		private List<String> diff(int start, int expectedEnd, int actualEnd) {
+			int n = expectedEnd - start;
+			int m = actualEnd - start;
+			int max = Math.min(n + m, MAX_DIFF_EDIT_DISTANCE);
+			// furthest reaching x on diagonal k = x - y, indexed by k + max + 1
+			int[] v = new int[2 * max + 3];
+			// snapshots of v[-d..d] after each step d, used to backtrack the path
+			List<int[]> trace = new ArrayList<>();
+			for (int d = 0; d <= max; d++) {
+				for (int k = -d; k <= d; k += 2) {
+					int x = (k == -d || (k != d && v[k - 1 + max + 1] < v[k + 1 + max + 1])) ? v[k + 1 + max + 1]
+							: v[k - 1 + max + 1] + 1;
+					int y = x - k;
+					while (x < n && y < m && matches(start + x, start + y)) {
+						x++;
+						y++;
+					}
+					v[k + max + 1] = x;
+					if (x >= n && y >= m) {
+						trace.add(Arrays.copyOfRange(v, max + 1 - d, max + 2 + d));
+						return backtrack(trace, start, n, m);
+					}
+				}
+				trace.add(Arrays.copyOfRange(v, max + 1 - d, max + 2 + d));
+			}
+			return null;
+		}
+
+		private List<String> backtrack(List<int[]> trace, int start, int n, int m) {
+			Deque<String> edits = new ArrayDeque<>();
+			int x = n;
+			int y = m;
+			for (int d = trace.size() - 1; d > 0; d--) {
+				int[] previous = trace.get(d - 1); // v[-(d-1)..(d-1)] indexed by k + d - 1
+				int k = x - y;
+				boolean insertion = k == -d || (k != d && previous[k - 1 + d - 1] < previous[k + 1 + d - 1]);
+				int previousK = insertion ? k + 1 : k - 1;
+				int previousX = previous[previousK + d - 1];
+				int previousY = previousX - previousK;
+				if (insertion) {
+					edits.addFirst(format("+ actual line #%d: `%s`", start + previousY + 1,
+						actualLines.get(start + previousY)));
+				}
+				else {
+					edits.addFirst(format("- expected line #%d: `%s`", start + previousX + 1,
+						expectedLines.get(start + previousX)));
+				}
+				x = previousX;
+				y = previousY;
+			}
+			return new ArrayList<>(edits);
+		}
+
+		private boolean matches(int expectedIndex, int actualIndex) {
+			return matches(expectedLines.get(expectedIndex), actualLines.get(actualIndex));
+		}
+
 		String snippet(String line) {
 			if (line.length() <= MAX_SNIPPET_LENGTH) {
 				return line;
@@ -219,12 +365,34 @@ class AssertLinesMatch {
 		if (expectedLine.equals(actualLine)) {
 			return true;
 		}
+		Pattern pattern = compile(expectedLine);
+		return pattern != NO_PATTERN && pattern.matcher(actualLine).matches();
+	}
+
+	/**
+	 * Compile the supplied expected line to a {@link Pattern}, or return
+	 * {@link #NO_PATTERN} if it does not contain any regular expression
+	 * metacharacters or is not a valid regular expression.
+	 */
+	private static Pattern compile(String expectedLine) {
+		if (!containsRegexMetacharacter(expectedLine)) {
+			return NO_PATTERN;
+		}
 		try {
-			return actualLine.matches(expectedLine);
+			return Pattern.compile(expectedLine);
 		}
 		catch (PatternSyntaxException ignore) {
-			return false;
+			return NO_PATTERN;
+		}
+	}
+
+	private static boolean containsRegexMetacharacter(String line) {
+		for (int i = 0; i < line.length(); i++) {
+			if (REGEX_METACHARACTERS.indexOf(line.charAt(i)) >= 0) {
+				return true;
+			}
 		}
+		return false;
 	}
 
 }
@@ -158,6 +158,15 @@ class AssertionUtils {
 
 	static boolean floatsAreEqual(float value1, float value2, float delta) {
 		assertValidDelta(delta);
+		return floatsAreEqualWithinDelta(value1, value2, delta);
+	}
+
+	/**
+	 * Variant of {@link #floatsAreEqual(float, float, float)} that does not
+	 * validate the supplied {@code delta}; intended for callers that compare
+	 * many values using the same, already validated delta.
+	 */
+	static boolean floatsAreEqualWithinDelta(float value1, float value2, float delta) {
 		return floatsAreEqual(value1, value2) || Math.abs(value1 - value2) <= delta;
 	}
 
@@ -179,6 +188,14 @@ class AssertionUtils {
 
 	static boolean doublesAreEqual(double value1, double value2, double delta) {
 		assertValidDelta(delta);
+		return doublesAreEqualWithinDelta(value1, value2, delta);
+	}
+
+	/**
+	 * Variant of {@link #doublesAreEqual(double, double, double)} that does not
+	 * validate the supplied {@code delta}.
+	 */
+	static boolean doublesAreEqualWithinDelta(double value1, double value2, double delta) {
 		return doublesAreEqual(value1, value2) || Math.abs(value1 - value2) <= delta;
 	}
 
@@ -2990,6 +2990,146 @@ public class Assertions {
 		AssertAll.assertAll(heading, executables);
 	}
 
+	// --- assertAllConcurrently -----------------------------------------------
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions, executing them concurrently.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, Stream)} for an
+	 * explanation of this method's execution and exception handling semantics.
+	 *
+	 * @since 5.8
+	 * @see #assertAllConcurrently(String, Executable...)
+	 * @see #assertAllConcurrently(Collection)
+	 * @see #assertAllConcurrently(String, Collection)
+	 * @see #assertAllConcurrently(Stream)
+	 * @see #assertAllConcurrently(String, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.8")
+	public static void assertAllConcurrently(Executable... executables) throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions, executing them concurrently.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, Stream)} for an
+	 * explanation of this method's execution and exception handling semantics.
+	 *
+	 * @since 5.8
+	 * @see #assertAllConcurrently(Executable...)
+	 * @see #assertAllConcurrently(Collection)
+	 * @see #assertAllConcurrently(String, Collection)
+	 * @see #assertAllConcurrently(Stream)
+	 * @see #assertAllConcurrently(String, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.8")
+	public static void assertAllConcurrently(String heading, Executable... executables) throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(heading, executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions, executing them concurrently.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, Stream)} for an
+	 * explanation of this method's execution and exception handling semantics.
+	 *
+	 * @since 5.8
+	 * @see #assertAllConcurrently(Executable...)
+	 * @see #assertAllConcurrently(String, Executable...)
+	 * @see #assertAllConcurrently(String, Collection)
+	 * @see #assertAllConcurrently(Stream)
+	 * @see #assertAllConcurrently(String, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.8")
+	public static void assertAllConcurrently(Collection<Executable> executables) throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions, executing them concurrently.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, Stream)} for an
+	 * explanation of this method's execution and exception handling semantics.
+	 *
+	 * @since 5.8
+	 * @see #assertAllConcurrently(Executable...)
+	 * @see #assertAllConcurrently(String, Executable...)
+	 * @see #assertAllConcurrently(Collection)
+	 * @see #assertAllConcurrently(Stream)
+	 * @see #assertAllConcurrently(String, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.8")
+	public static void assertAllConcurrently(String heading, Collection<Executable> executables)
+			throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(heading, executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions, executing them concurrently.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, Stream)} for an
+	 * explanation of this method's execution and exception handling semantics.
+	 *
+	 * @since 5.8
+	 * @see #assertAllConcurrently(Executable...)
+	 * @see #assertAllConcurrently(String, Executable...)
+	 * @see #assertAllConcurrently(Collection)
+	 * @see #assertAllConcurrently(String, Collection)
+	 * @see #assertAllConcurrently(String, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.8")
+	public static void assertAllConcurrently(Stream<Executable> executables) throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions, executing them concurrently.
+	 *
+	 * <p>The {@code executables} are executed by a temporary pool of threads
+	 * whose size is limited by the number of available processors, even if the
+	 * calling thread is a worker of a
+	 * {@link java.util.concurrent.ForkJoinPool ForkJoinPool} &mdash; for example,
+	 * when tests are executed in parallel by the Jupiter engine. This method
+	 * blocks until all {@code executables} have completed.
+	 *
+	 * <p>If any supplied {@link Executable} throws an exception (i.e., a {@link Throwable}
+	 * or any subclass thereof), all exceptions will be aggregated and reported in a
+	 * {@link MultipleFailuresError} in the order of the supplied {@code executables},
+	 * regardless of the order in which they completed. In addition, all aggregated
+	 * exceptions will be added as {@linkplain Throwable#addSuppressed(Throwable)
+	 * suppressed exceptions} to the {@code MultipleFailuresError}. However, if an
+	 * {@code executable} throws an <em>unrecoverable</em> exception &mdash; for
+	 * example, an {@link OutOfMemoryError} &mdash; it will be rethrown <em>as is</em>
+	 * but <em>masked</em> as an unchecked exception once all {@code executables}
+	 * have completed.
+	 *
+	 * <p>The supplied {@code heading} will be included in the message string for the
+	 * {@code MultipleFailuresError}.
+	 *
+	 * <p>Since the {@code executables} are executed in different threads than that
+	 * of the calling code, the caveats regarding {@link ThreadLocal} storage
+	 * described for {@code assertTimeoutPreemptively()} apply here as well.
+	 *
+	 * @since 5.8
+	 * @see #assertAllConcurrently(Executable...)
+	 * @see #assertAllConcurrently(String, Executable...)
+	 * @see #assertAllConcurrently(Collection)
+	 * @see #assertAllConcurrently(String, Collection)
+	 * @see #assertAllConcurrently(Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.8")
+	public static void assertAllConcurrently(String heading, Stream<Executable> executables)
+			throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(heading, executables);
+	}
+
 	// --- assert exceptions ---------------------------------------------------
 
 	// --- executable ---
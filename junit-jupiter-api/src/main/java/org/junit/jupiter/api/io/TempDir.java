@@ -57,6 +57,13 @@ import org.junit.jupiter.api.extension.ParameterResolutionException;
  * or {@link org.junit.jupiter.api.AfterEach @AfterEach} methods &mdash; each test
  * will use its own temporary directory.
  *
+ * <h3>Temporary Directory Templates</h3>
+ *
+ * <p>If a {@link #template() template} is specified, the contents of the
+ * template directory are copied into the temporary directory before it is
+ * injected. Temporary directories for different templates are never shared,
+ * even if they are declared within the same scope.
+ *
  * <h3>Temporary Directory Deletion</h3>
  *
  * <p>When the end of the scope of a temporary directory is reached, i.e. when
@@ -66,6 +73,11 @@ import org.junit.jupiter.api.extension.ParameterResolutionException;
  * directory fails, an {@link IOException} will be thrown that will cause the
  * test or test class to fail.
  *
+ * <p>If deletion in the background is enabled via the
+ * {@code junit.jupiter.tempdir.cleanup.background.enabled} configuration
+ * parameter, temporary directories are deleted asynchronously and failures
+ * are reported once the test engine finishes execution instead.
+ *
  * @since 5.4
  */
 @Target({ ElementType.FIELD, ElementType.PARAMETER })
@@ -73,4 +85,38 @@ import org.junit.jupiter.api.extension.ParameterResolutionException;
 @Documented
 @API(status = EXPERIMENTAL, since = "5.4")
 public @interface TempDir {
+
+	/**
+	 * Prefix for {@link #template() templates} that denote a directory on the
+	 * classpath.
+	 *
+	 * @since 5.8
+	 */
+	@API(status = EXPERIMENTAL, since = "5.8")
+	String CLASSPATH_TEMPLATE_PREFIX = "classpath:";
+
+	/**
+	 * The directory whose contents should be copied into the temporary
+	 * directory.
+	 *
+	 * <p>The template may either be the path of a directory in the file
+	 * system, resolved against the current working directory if relative, or
+	 * the name of a directory on the classpath prefixed with
+	 * {@value #CLASSPATH_TEMPLATE_PREFIX}, e.g.
+	 * {@code "classpath:fixtures/repository"}.
+	 *
+	 * <p>Files are copied one at a time. If the
+	 * {@code junit.jupiter.tempdir.template.links.enabled} configuration
+	 * parameter is set to {@code true}, files of templates residing on the
+	 * same file store as the temporary directory are hard-linked instead of
+	 * being copied. Tests must then not modify such files in place but may
+	 * delete or replace them.
+	 *
+	 * <p>Defaults to an empty string, i.e. no template.
+	 *
+	 * @since 5.8
+	 */
+	@API(status = EXPERIMENTAL, since = "5.8")
+	String template() default "";
+
 }
@@ -230,6 +230,26 @@ public final class Constants {
 	public static final String PARALLEL_CONFIG_CUSTOM_CLASS_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
 			+ CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
 
+	/**
+	 * Property name used to limit the number of dynamic tests and containers
+	 * of a single {@link org.junit.jupiter.api.TestFactory @TestFactory}
+	 * method or {@link org.junit.jupiter.api.DynamicContainer DynamicContainer}
+	 * that may be executing or waiting to be executed at the same time:
+	 * {@value}
+	 *
+	 * <p>Once the limit is reached, no further dynamic nodes are requested
+	 * from the {@code Stream} returned by the factory until one of the
+	 * in-flight nodes has finished. This allows factories that generate a very
+	 * large or even infinite number of dynamic tests to be executed in
+	 * parallel with constant memory.
+	 *
+	 * <p>Value must be a positive integer; defaults to unlimited.
+	 *
+	 * @since 5.8
+	 */
+	@API(status = EXPERIMENTAL, since = "5.8")
+	public static final String DYNAMIC_TESTS_IN_FLIGHT_LIMIT_PROPERTY_NAME = JupiterConfiguration.DYNAMIC_TESTS_IN_FLIGHT_LIMIT_PROPERTY_NAME;
+
 	/**
 	 * Property name used to set the default timeout for all testable and
 	 * lifecycle methods.
@@ -474,6 +494,89 @@ public final class Constants {
 	@API(status = EXPERIMENTAL, since = "5.8")
 	public static final String DEFAULT_TEST_CLASS_ORDER_PROPERTY_NAME = JupiterConfiguration.DEFAULT_TEST_CLASS_ORDER_PROPERTY_NAME;
 
+	/**
+	 * Property name used to enable deleting temporary directories created via
+	 * {@link org.junit.jupiter.api.io.TempDir @TempDir} in the background:
+	 * {@value}
+	 *
+	 * <p>If enabled, temporary directories are deleted by a bounded pool of
+	 * background threads instead of the thread that executed the test. All
+	 * pending deletions are completed before the JUnit Jupiter test engine
+	 * finishes execution. Failures to delete a temporary directory are
+	 * reported as a failure of the engine rather than of the test that used
+	 * it.
+	 *
+	 * <p>The default value is {@code false}.
+	 *
+	 * @since 5.8
+	 * @see #TEMP_DIR_BACKGROUND_PARALLELISM_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.8")
+	public static final String TEMP_DIR_BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME = JupiterConfiguration.TEMP_DIR_BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the number of background threads used to
+	 * delete temporary directories and to create pooled temporary directories:
+	 * {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1}.
+	 *
+	 * @since 5.8
+	 * @see #TEMP_DIR_BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME
+	 * @see #TEMP_DIR_POOL_SIZE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.8")
+	public static final String TEMP_DIR_BACKGROUND_PARALLELISM_PROPERTY_NAME = JupiterConfiguration.TEMP_DIR_BACKGROUND_PARALLELISM_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the number of temporary directories that are
+	 * created in advance for {@link org.junit.jupiter.api.io.TempDir @TempDir}:
+	 * {@value}
+	 *
+	 * <p>Pooled directories are created by background threads so that tests
+	 * usually do not have to wait for a temporary directory to be created.
+	 *
+	 * <p>Value must be a non-negative integer; defaults to {@code 0}, i.e. no
+	 * directories are created in advance.
+	 *
+	 * @since 5.8
+	 * @see #TEMP_DIR_POOL_DIRECTORY_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.8")
+	public static final String TEMP_DIR_POOL_SIZE_PROPERTY_NAME = JupiterConfiguration.TEMP_DIR_POOL_SIZE_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the directory in which temporary directories
+	 * for {@link org.junit.jupiter.api.io.TempDir @TempDir} are created if
+	 * {@linkplain #TEMP_DIR_POOL_SIZE_PROPERTY_NAME pooling} is enabled: {@value}
+	 *
+	 * <p>The directory is created if it does not exist. If not specified,
+	 * the default temporary-file directory as specified by the
+	 * {@code java.io.tmpdir} system property is used.
+	 *
+	 * @since 5.8
+	 * @see #TEMP_DIR_POOL_SIZE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.8")
+	public static final String TEMP_DIR_POOL_DIRECTORY_PROPERTY_NAME = JupiterConfiguration.TEMP_DIR_POOL_DIRECTORY_PROPERTY_NAME;
+
+	/**
+	 * Property name used to enable hard-linking the files of
+	 * {@linkplain org.junit.jupiter.api.io.TempDir#template() temp dir templates}
+	 * instead of copying them: {@value}
+	 *
+	 * <p>Hard links are only created if the template resides on the same
+	 * file store as the temporary directory; otherwise, files are copied.
+	 * Since a hard-linked file shares its contents with the template, tests
+	 * must not modify such files in place.
+	 *
+	 * <p>The default value is {@code false}.
+	 *
+	 * @since 5.8
+	 */
+	@API(status = EXPERIMENTAL, since = "5.8")
+	public static final String TEMP_DIR_TEMPLATE_LINKS_ENABLED_PROPERTY_NAME = JupiterConfiguration.TEMP_DIR_TEMPLATE_LINKS_ENABLED_PROPERTY_NAME;
+
 	private Constants() {
 		/* no-op */
 	}
@@ -12,6 +12,7 @@ package org.junit.jupiter.engine.config;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -74,6 +75,36 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			key -> delegate.getDefaultClassesExecutionMode());
 	}
 
+	@Override
+	public int getDynamicTestsInFlightLimit() {
+		return (int) cache.computeIfAbsent(DYNAMIC_TESTS_IN_FLIGHT_LIMIT_PROPERTY_NAME,
+			key -> delegate.getDynamicTestsInFlightLimit());
+	}
+
+	@Override
+	public boolean isTempDirBackgroundCleanupEnabled() {
+		return (boolean) cache.computeIfAbsent(TEMP_DIR_BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME,
+			key -> delegate.isTempDirBackgroundCleanupEnabled());
+	}
+
+	@Override
+	public int getTempDirBackgroundParallelism() {
+		return (int) cache.computeIfAbsent(TEMP_DIR_BACKGROUND_PARALLELISM_PROPERTY_NAME,
+			key -> delegate.getTempDirBackgroundParallelism());
+	}
+
+	@Override
+	public int getTempDirPoolSize() {
+		return (int) cache.computeIfAbsent(TEMP_DIR_POOL_SIZE_PROPERTY_NAME, key -> delegate.getTempDirPoolSize());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Optional<Path> getTempDirPoolDirectory() {
+		return (Optional<Path>) cache.computeIfAbsent(TEMP_DIR_POOL_DIRECTORY_PROPERTY_NAME,
+			key -> delegate.getTempDirPoolDirectory());
+	}
+
 	@Override
 	public TestInstance.Lifecycle getDefaultTestInstanceLifecycle() {
 		return (TestInstance.Lifecycle) cache.computeIfAbsent(DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME,
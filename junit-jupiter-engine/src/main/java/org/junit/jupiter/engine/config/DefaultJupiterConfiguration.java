@@ -12,6 +12,8 @@ package org.junit.jupiter.engine.config;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -23,6 +25,8 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ClassNamePatternFilterUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
@@ -35,6 +39,8 @@ import org.junit.platform.engine.ConfigurationParameters;
 @API(status = INTERNAL, since = "5.4")
 public class DefaultJupiterConfiguration implements JupiterConfiguration {
 
+	private static final Logger logger = LoggerFactory.getLogger(DefaultJupiterConfiguration.class);
+
 	private static final EnumConfigurationParameterConverter<ExecutionMode> executionModeConverter = //
 		new EnumConfigurationParameterConverter<>(ExecutionMode.class, "parallel execution mode");
 
@@ -89,6 +95,65 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 			getDefaultExecutionMode());
 	}
 
+	@Override
+	public int getDynamicTestsInFlightLimit() {
+		Optional<String> value = configurationParameters.get(DYNAMIC_TESTS_IN_FLIGHT_LIMIT_PROPERTY_NAME);
+		if (value.isPresent()) {
+			try {
+				int limit = Integer.parseInt(value.get().trim());
+				if (limit > 0) {
+					return limit;
+				}
+			}
+			catch (NumberFormatException ignore) {
+				// fall through
+			}
+			logger.warn(() -> String.format(
+				"Invalid limit '%s' set via the '%s' configuration parameter. "
+						+ "Falling back to executing an unlimited number of dynamic tests concurrently.",
+				value.get(), DYNAMIC_TESTS_IN_FLIGHT_LIMIT_PROPERTY_NAME));
+		}
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public boolean isTempDirBackgroundCleanupEnabled() {
+		return configurationParameters.getBoolean(TEMP_DIR_BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	@Override
+	public int getTempDirBackgroundParallelism() {
+		return getInt(TEMP_DIR_BACKGROUND_PARALLELISM_PROPERTY_NAME, 1, 1);
+	}
+
+	@Override
+	public int getTempDirPoolSize() {
+		return getInt(TEMP_DIR_POOL_SIZE_PROPERTY_NAME, 0, 0);
+	}
+
+	@Override
+	public Optional<Path> getTempDirPoolDirectory() {
+		return configurationParameters.get(TEMP_DIR_POOL_DIRECTORY_PROPERTY_NAME, Paths::get);
+	}
+
+	private int getInt(String key, int defaultValue, int minValue) {
+		return configurationParameters.get(key).map(value -> {
+			try {
+				int result = Integer.parseInt(value.trim());
+				if (result >= minValue) {
+					return result;
+				}
+			}
+			catch (NumberFormatException ignore) {
+				// fall through
+			}
+			logger.warn(() -> String.format(
+				"Ignoring invalid value '%s' for configuration parameter '%s': must be an integer >= %d.", value, key,
+				minValue));
+			return defaultValue;
+		}).orElse(defaultValue);
+	}
+
 	@Override
 	public Lifecycle getDefaultTestInstanceLifecycle() {
 		return lifecycleConverter.get(configurationParameters, DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME,
@@ -12,6 +12,7 @@ package org.junit.jupiter.engine.config;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -35,6 +36,7 @@ public interface JupiterConfiguration {
 	String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "junit.jupiter.execution.parallel.enabled";
 	String DEFAULT_EXECUTION_MODE_PROPERTY_NAME = "junit.jupiter.execution.parallel.mode.default";
 	String DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME = "junit.jupiter.execution.parallel.mode.classes.default";
+	String DYNAMIC_TESTS_IN_FLIGHT_LIMIT_PROPERTY_NAME = "junit.jupiter.execution.dynamic.inflight.limit";
 	String EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME = "junit.jupiter.extensions.autodetection.enabled";
 	String DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME = "junit.jupiter.testinstance.lifecycle.default";
 	String DEACTIVATE_ALL_CONDITIONS_PATTERN = ClassNamePatternFilterUtils.DEACTIVATE_ALL_PATTERN;
@@ -54,6 +56,12 @@ public interface JupiterConfiguration {
 	String DEFAULT_AFTER_ALL_METHOD_TIMEOUT_PROPERTY_NAME = "junit.jupiter.execution.timeout.afterall.method.default";
 	String TIMEOUT_MODE_PROPERTY_NAME = "junit.jupiter.execution.timeout.mode";
 
+	String TEMP_DIR_BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME = "junit.jupiter.tempdir.cleanup.background.enabled";
+	String TEMP_DIR_BACKGROUND_PARALLELISM_PROPERTY_NAME = "junit.jupiter.tempdir.background.parallelism";
+	String TEMP_DIR_POOL_SIZE_PROPERTY_NAME = "junit.jupiter.tempdir.pool.size";
+	String TEMP_DIR_POOL_DIRECTORY_PROPERTY_NAME = "junit.jupiter.tempdir.pool.directory";
+	String TEMP_DIR_TEMPLATE_LINKS_ENABLED_PROPERTY_NAME = "junit.jupiter.tempdir.template.links.enabled";
+
 	Optional<String> getRawConfigurationParameter(String key);
 
 	<T> Optional<T> getRawConfigurationParameter(String key, Function<String, T> transformer);
@@ -66,6 +74,16 @@ public interface JupiterConfiguration {
 
 	ExecutionMode getDefaultClassesExecutionMode();
 
+	int getDynamicTestsInFlightLimit();
+
+	boolean isTempDirBackgroundCleanupEnabled();
+
+	int getTempDirBackgroundParallelism();
+
+	int getTempDirPoolSize();
+
+	Optional<Path> getTempDirPoolDirectory();
+
 	TestInstance.Lifecycle getDefaultTestInstanceLifecycle();
 
 	Predicate<ExecutionCondition> getExecutionConditionFilter();
@@ -365,7 +365,8 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		for (BeforeAllCallback callback : registry.getExtensions(BeforeAllCallback.class)) {
-			throwableCollector.execute(() -> callback.beforeAll(extensionContext));
+			executeCallback(BeforeAllCallback.class, callback, throwableCollector,
+				() -> callback.beforeAll(extensionContext));
 			if (throwableCollector.isNotEmpty()) {
 				break;
 			}
@@ -431,7 +432,8 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		registry.getReversedExtensions(AfterAllCallback.class)//
-				.forEach(extension -> throwableCollector.execute(() -> extension.afterAll(extensionContext)));
+				.forEach(extension -> executeCallback(AfterAllCallback.class, extension, throwableCollector,
+					() -> extension.afterAll(extensionContext)));
 	}
 
 	private void invokeTestInstancePreDestroyCallbacks(JupiterEngineExecutionContext context) {
@@ -439,7 +441,8 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		context.getExtensionRegistry().getReversedExtensions(TestInstancePreDestroyCallback.class).forEach(
-			extension -> throwableCollector.execute(() -> extension.preDestroyTestInstance(extensionContext)));
+			extension -> executeCallback(TestInstancePreDestroyCallback.class, extension, throwableCollector,
+				() -> extension.preDestroyTestInstance(extensionContext)));
 	}
 
 	private boolean isPerClassLifecycle(JupiterEngineExecutionContext context) {
@@ -55,6 +55,8 @@ class DynamicContainerTestDescriptor extends DynamicNodeTestDescriptor {
 	public JupiterEngineExecutionContext execute(JupiterEngineExecutionContext context,
 			DynamicTestExecutor dynamicTestExecutor) throws Exception {
 
+		DynamicTestExecutor throttlingExecutor = ThrottlingDynamicTestExecutor.create(dynamicTestExecutor,
+			context.getExecutionListener(), configuration.getDynamicTestsInFlightLimit());
 		AtomicInteger index = new AtomicInteger(1);
 		try (Stream<? extends DynamicNode> children = dynamicContainer.getChildren()) {
 			// @formatter:off
@@ -62,7 +64,7 @@ class DynamicContainerTestDescriptor extends DynamicNodeTestDescriptor {
 					.map(child -> toDynamicDescriptor(index.getAndIncrement(), child))
 					.filter(Optional::isPresent)
 					.map(Optional::get)
-					.forEachOrdered(dynamicTestExecutor::execute);
+					.forEachOrdered(throttlingExecutor::execute);
 			// @formatter:on
 		}
 		return context;
@@ -41,6 +41,8 @@ import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Instrumentation;
+import org.junit.platform.commons.util.Instrumentation.Span;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestSource;
@@ -50,6 +52,8 @@ import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
 import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
 import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
 import org.junit.platform.engine.support.hierarchical.Node;
+import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
+import org.junit.platform.engine.support.hierarchical.ThrowableCollector.Executable;
 
 /**
  * @since 5.0
@@ -128,6 +132,23 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 		}
 	}
 
+	/**
+	 * Execute the supplied invocation of a callback of the supplied extension
+	 * using the supplied {@link ThrowableCollector} and report its duration to
+	 * the {@link Instrumentation}.
+	 */
+	static <E extends Extension> void executeCallback(Class<E> callbackType, E extension,
+			ThrowableCollector throwableCollector, Executable executable) {
+
+		Span span = Instrumentation.getInstance().beginExtensionCallback(callbackType, extension);
+		try {
+			throwableCollector.execute(executable);
+		}
+		finally {
+			span.end();
+		}
+	}
+
 	// --- Node ----------------------------------------------------------------
 
 	@Override
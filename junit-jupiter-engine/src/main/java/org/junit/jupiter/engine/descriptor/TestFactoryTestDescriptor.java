@@ -89,6 +89,8 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor implemen
 	@Override
 	protected void invokeTestMethod(JupiterEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
 		ExtensionContext extensionContext = context.getExtensionContext();
+		DynamicTestExecutor throttlingExecutor = ThrottlingDynamicTestExecutor.create(dynamicTestExecutor,
+			context.getExecutionListener(), configuration.getDynamicTestsInFlightLimit());
 
 		context.getThrowableCollector().execute(() -> {
 			Object instance = extensionContext.getRequiredTestInstance();
@@ -103,13 +105,13 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor implemen
 					DynamicNode dynamicNode = iterator.next();
 					Optional<JupiterTestDescriptor> descriptor = createDynamicDescriptor(this, dynamicNode, index++,
 						defaultTestSource, getDynamicDescendantFilter(), configuration);
-					descriptor.ifPresent(dynamicTestExecutor::execute);
+					descriptor.ifPresent(throttlingExecutor::execute);
 				}
 			}
 			catch (ClassCastException ex) {
 				throw invalidReturnTypeException(ex);
 			}
-			dynamicTestExecutor.awaitFinished();
+			throttlingExecutor.awaitFinished();
 		});
 	}
 
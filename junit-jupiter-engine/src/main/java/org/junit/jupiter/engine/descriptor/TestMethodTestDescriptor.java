@@ -192,7 +192,8 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		for (T callback : registry.getExtensions(type)) {
-			throwableCollector.execute(() -> callbackInvoker.invoke(callback, extensionContext));
+			executeCallback(type, callback, throwableCollector,
+				() -> callbackInvoker.invoke(callback, extensionContext));
 			if (throwableCollector.isNotEmpty()) {
 				break;
 			}
@@ -266,7 +267,8 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		registry.getReversedExtensions(type).forEach(callback -> {
-			throwableCollector.execute(() -> callbackInvoker.invoke(callback, extensionContext));
+			executeCallback(type, callback, throwableCollector,
+				() -> callbackInvoker.invoke(callback, extensionContext));
 		});
 	}
 
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
+
+/**
+ * {@link DynamicTestExecutor} that limits the number of dynamic test
+ * descriptors that may be in flight, i.e. executing or waiting to be
+ * executed, at the same time.
+ *
+ * <p>Once the limit is reached, {@link #execute(TestDescriptor)} blocks
+ * until one of the in-flight descriptors has finished. Since callers pull
+ * dynamic nodes lazily from the stream returned by the factory, this
+ * applies back-pressure to the factory and bounds the number of pending
+ * tasks held by the underlying executor.
+ *
+ * <p>Instances are not thread-safe and are only meant to be used by the
+ * thread executing the owning node.
+ *
+ * @since 5.8
+ * @see org.junit.jupiter.engine.Constants#DYNAMIC_TESTS_IN_FLIGHT_LIMIT_PROPERTY_NAME
+ */
+class ThrottlingDynamicTestExecutor implements DynamicTestExecutor {
+
+	static DynamicTestExecutor create(DynamicTestExecutor delegate, EngineExecutionListener executionListener,
+			int limit) {
+		if (limit == Integer.MAX_VALUE) {
+			return delegate;
+		}
+		return new ThrottlingDynamicTestExecutor(delegate, executionListener, limit);
+	}
+
+	private final Deque<Future<?>> inFlight = new ArrayDeque<>();
+	private final DynamicTestExecutor delegate;
+	private final EngineExecutionListener executionListener;
+	private final int limit;
+
+	private ThrottlingDynamicTestExecutor(DynamicTestExecutor delegate, EngineExecutionListener executionListener,
+			int limit) {
+		this.delegate = delegate;
+		this.executionListener = executionListener;
+		this.limit = limit;
+	}
+
+	@Override
+	public void execute(TestDescriptor testDescriptor) {
+		execute(testDescriptor, this.executionListener);
+	}
+
+	@Override
+	public Future<?> execute(TestDescriptor testDescriptor, EngineExecutionListener executionListener) {
+		try {
+			awaitCapacity();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			ExceptionUtils.throwAsUncheckedException(e);
+		}
+		Future<?> future = this.delegate.execute(testDescriptor, executionListener);
+		if (!future.isDone()) {
+			this.inFlight.addLast(future);
+		}
+		return future;
+	}
+
+	@Override
+	public void awaitFinished() throws InterruptedException {
+		this.inFlight.clear();
+		this.delegate.awaitFinished();
+	}
+
+	private void awaitCapacity() throws InterruptedException {
+		if (this.inFlight.size() < this.limit) {
+			return;
+		}
+		this.inFlight.removeIf(Future::isDone);
+		while (this.inFlight.size() >= this.limit) {
+			await(this.inFlight.removeFirst());
+		}
+	}
+
+	private static void await(Future<?> future) throws InterruptedException {
+		try {
+			// Joining a task forked by the current ForkJoinPool worker executes
+			// it or helps with other tasks instead of blocking the worker.
+			future.get();
+		}
+		catch (CancellationException ignore) {
+			// Futures returned by execute() may have been cancelled
+		}
+		catch (ExecutionException e) {
+			ExceptionUtils.throwAsUncheckedException(e.getCause());
+		}
+	}
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.engine.discovery;
 
+import static java.util.Collections.emptyList;
 import static java.util.function.Predicate.isEqual;
 import static java.util.stream.Collectors.toCollection;
 import static org.junit.jupiter.engine.discovery.predicates.IsTestClassWithTests.isTestOrTestFactoryOrTestTemplateMethod;
@@ -54,10 +55,13 @@ class ClassSelectorResolver implements SelectorResolver {
 	private static final IsNestedTestClass isNestedTestClass = new IsNestedTestClass();
 
 	private final Predicate<String> classNameFilter;
+	private final TestClassTagFilter tagFilter;
 	private final JupiterConfiguration configuration;
 
-	ClassSelectorResolver(Predicate<String> classNameFilter, JupiterConfiguration configuration) {
+	ClassSelectorResolver(Predicate<String> classNameFilter, TestClassTagFilter tagFilter,
+			JupiterConfiguration configuration) {
 		this.classNameFilter = classNameFilter;
+		this.tagFilter = tagFilter;
 		this.configuration = configuration;
 	}
 
@@ -66,7 +70,8 @@ class ClassSelectorResolver implements SelectorResolver {
 		Class<?> testClass = selector.getJavaClass();
 		if (isTestClassWithTests.test(testClass)) {
 			// Nested tests are never filtered out
-			if (classNameFilter.test(testClass.getName())) {
+			if (classNameFilter.test(testClass.getName())
+					&& tagFilter.mayContainIncludedTests(emptyList(), testClass)) {
 				return toResolution(
 					context.addToParent(parent -> Optional.of(newClassTestDescriptor(parent, testClass))));
 			}
@@ -80,7 +85,8 @@ class ClassSelectorResolver implements SelectorResolver {
 
 	@Override
 	public Resolution resolve(NestedClassSelector selector, Context context) {
-		if (isNestedTestClass.test(selector.getNestedClass())) {
+		if (isNestedTestClass.test(selector.getNestedClass())
+				&& tagFilter.mayContainIncludedTests(selector.getEnclosingClasses(), selector.getNestedClass())) {
 			return toResolution(context.addToParent(() -> selectClass(selector.getEnclosingClasses()),
 				parent -> Optional.of(newNestedClassTestDescriptor(parent, selector.getNestedClass()))));
 		}
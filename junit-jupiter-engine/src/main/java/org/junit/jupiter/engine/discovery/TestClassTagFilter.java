@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.discovery;
+
+import static org.junit.jupiter.engine.discovery.predicates.IsTestClassWithTests.isTestOrTestFactoryOrTestTemplateMethod;
+import static org.junit.platform.commons.util.AnnotationUtils.findRepeatableAnnotations;
+import static org.junit.platform.commons.util.ReflectionUtils.findMethods;
+import static org.junit.platform.commons.util.ReflectionUtils.findNestedClasses;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.engine.discovery.predicates.IsNestedTestClass;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.Filter;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.discovery.TagDiscoveryFilter;
+
+/**
+ * Determines whether a test class may contain tests whose tags are included
+ * by the {@link TagDiscoveryFilter TagDiscoveryFilters} of a discovery
+ * request.
+ *
+ * <p>The tags of a test are the union of the tags declared on its method,
+ * its class, and all enclosing classes. Thus, the tags of all tests within
+ * a class can be computed by only inspecting annotations, which is
+ * considerably cheaper than resolving the class.
+ *
+ * @since 5.8
+ */
+class TestClassTagFilter {
+
+	private static final IsNestedTestClass isNestedTestClass = new IsNestedTestClass();
+
+	static TestClassTagFilter from(EngineDiscoveryRequest request) {
+		List<TagDiscoveryFilter> filters = request.getFiltersByType(TagDiscoveryFilter.class);
+		return new TestClassTagFilter(filters.isEmpty() ? null : Filter.composeFilters(filters).toPredicate());
+	}
+
+	private final Predicate<Set<TestTag>> tagFilter;
+
+	private TestClassTagFilter(Predicate<Set<TestTag>> tagFilter) {
+		this.tagFilter = tagFilter;
+	}
+
+	/**
+	 * Determine whether the supplied test class, nested within the supplied
+	 * enclosing test classes, may contain a test or test container whose
+	 * tags are included.
+	 */
+	boolean mayContainIncludedTests(List<Class<?>> enclosingTestClasses, Class<?> testClass) {
+		if (this.tagFilter == null) {
+			return true;
+		}
+		try {
+			Set<TestTag> inheritedTags = new LinkedHashSet<>();
+			enclosingTestClasses.forEach(enclosingTestClass -> addTags(enclosingTestClass, inheritedTags));
+			return containsIncludedTests(testClass, inheritedTags);
+		}
+		catch (Throwable t) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+			// Let regular resolution report the problem, e.g. a cycle of nested classes
+			return true;
+		}
+	}
+
+	private boolean containsIncludedTests(Class<?> testClass, Set<TestTag> enclosingTags) {
+		Set<TestTag> classTags = new LinkedHashSet<>(enclosingTags);
+		addTags(testClass, classTags);
+		for (Method method : findMethods(testClass, isTestOrTestFactoryOrTestTemplateMethod)) {
+			Set<TestTag> methodTags = new LinkedHashSet<>(classTags);
+			addTags(method, methodTags);
+			if (this.tagFilter.test(methodTags)) {
+				return true;
+			}
+		}
+		for (Class<?> nestedClass : findNestedClasses(testClass, isNestedTestClass)) {
+			if (containsIncludedTests(nestedClass, classTags)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void addTags(AnnotatedElement element, Set<TestTag> tags) {
+		// Invalid tags are reported when the test descriptors are created.
+		for (Tag tag : findRepeatableAnnotations(element, Tag.class)) {
+			if (TestTag.isValid(tag.value())) {
+				tags.add(TestTag.create(tag.value()));
+			}
+		}
+	}
+
+}
@@ -16,8 +16,6 @@ import static org.junit.platform.commons.util.ReflectionUtils.getWrapperType;
 import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
 import java.util.Comparator;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -37,6 +35,9 @@ import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
  * {@code ExtensionValuesStore} is used inside implementations of
  * {@link ExtensionContext} to store and retrieve values.
  *
+ * <p>Values are sharded by {@link Namespace} so that looking up a value
+ * does not require allocating a composite key.
+ *
  * @since 5.0
  */
 @API(status = INTERNAL, since = "5.0")
@@ -46,7 +47,7 @@ public class ExtensionValuesStore {
 		it -> it.order).reversed();
 
 	private final AtomicInteger insertOrderSequence = new AtomicInteger();
-	private final ConcurrentMap<CompositeKey, StoredValue> storedValues = new ConcurrentHashMap<>(4);
+	private final ConcurrentMap<Namespace, ConcurrentMap<Object, StoredValue>> storedValues = new ConcurrentHashMap<>(4);
 	private final ExtensionValuesStore parentStore;
 
 	public ExtensionValuesStore(ExtensionValuesStore parentStore) {
@@ -62,6 +63,7 @@ public class ExtensionValuesStore {
 	public void closeAllStoredCloseableValues() {
 		ThrowableCollector throwableCollector = createThrowableCollector();
 		storedValues.values().stream() //
+				.flatMap(values -> values.values().stream()) //
 				.filter(storedValue -> storedValue.evaluateSafely() instanceof CloseableResource) //
 				.sorted(REVERSE_INSERT_ORDER) //
 				.map(storedValue -> (CloseableResource) storedValue.evaluate()) //
@@ -70,7 +72,7 @@ public class ExtensionValuesStore {
 	}
 
 	Object get(Namespace namespace, Object key) {
-		StoredValue storedValue = getStoredValue(new CompositeKey(namespace, key));
+		StoredValue storedValue = getStoredValue(namespace, key);
 		return (storedValue != null ? storedValue.evaluate() : null);
 	}
 
@@ -80,11 +82,11 @@ public class ExtensionValuesStore {
 	}
 
 	<K, V> Object getOrComputeIfAbsent(Namespace namespace, K key, Function<K, V> defaultCreator) {
-		CompositeKey compositeKey = new CompositeKey(namespace, key);
-		StoredValue storedValue = getStoredValue(compositeKey);
+		StoredValue storedValue = getStoredValue(namespace, key);
 		if (storedValue == null) {
 			StoredValue newValue = storedValue(new MemoizingSupplier(() -> defaultCreator.apply(key)));
-			storedValue = Optional.ofNullable(storedValues.putIfAbsent(compositeKey, newValue)).orElse(newValue);
+			StoredValue previousValue = getOrCreateValues(namespace).putIfAbsent(key, newValue);
+			storedValue = (previousValue != null ? previousValue : newValue);
 		}
 		return storedValue.evaluate();
 	}
@@ -95,7 +97,19 @@ public class ExtensionValuesStore {
 	}
 
 	void put(Namespace namespace, Object key, Object value) {
-		storedValues.put(new CompositeKey(namespace, key), storedValue(() -> value));
+		getOrCreateValues(namespace).put(key, storedValue(() -> value));
+	}
+
+	private ConcurrentMap<Object, StoredValue> getOrCreateValues(Namespace namespace) {
+		ConcurrentMap<Object, StoredValue> values = storedValues.get(namespace);
+		if (values == null) {
+			ConcurrentMap<Object, StoredValue> newValues = new ConcurrentHashMap<>(4);
+			values = storedValues.putIfAbsent(namespace, newValues);
+			if (values == null) {
+				values = newValues;
+			}
+		}
+		return values;
 	}
 
 	private StoredValue storedValue(Supplier<Object> value) {
@@ -103,7 +117,8 @@ public class ExtensionValuesStore {
 	}
 
 	Object remove(Namespace namespace, Object key) {
-		StoredValue previous = storedValues.remove(new CompositeKey(namespace, key));
+		ConcurrentMap<Object, StoredValue> values = storedValues.get(namespace);
+		StoredValue previous = (values != null ? values.remove(key) : null);
 		return (previous != null ? previous.evaluate() : null);
 	}
 
@@ -112,13 +127,16 @@ public class ExtensionValuesStore {
 		return castToRequiredType(key, value, requiredType);
 	}
 
-	private StoredValue getStoredValue(CompositeKey compositeKey) {
-		StoredValue storedValue = storedValues.get(compositeKey);
-		if (storedValue != null) {
-			return storedValue;
+	private StoredValue getStoredValue(Namespace namespace, Object key) {
+		ConcurrentMap<Object, StoredValue> values = storedValues.get(namespace);
+		if (values != null) {
+			StoredValue storedValue = values.get(key);
+			if (storedValue != null) {
+				return storedValue;
+			}
 		}
 		if (parentStore != null) {
-			return parentStore.getStoredValue(compositeKey);
+			return parentStore.getStoredValue(namespace, key);
 		}
 		return null;
 	}
@@ -139,35 +157,6 @@ public class ExtensionValuesStore {
 			String.format("Object stored under key [%s] is not of required type [%s]", key, requiredType.getName()));
 	}
 
-	private static class CompositeKey {
-
-		private final Namespace namespace;
-		private final Object key;
-
-		private CompositeKey(Namespace namespace, Object key) {
-			this.namespace = namespace;
-			this.key = key;
-		}
-
-		@Override
-		public boolean equals(Object o) {
-			if (this == o) {
-				return true;
-			}
-			if (o == null || getClass() != o.getClass()) {
-				return false;
-			}
-			CompositeKey that = (CompositeKey) o;
-			return this.namespace.equals(that.namespace) && this.key.equals(that.key);
-		}
-
-		@Override
-		public int hashCode() {
-			return Objects.hash(namespace, key);
-		}
-
-	}
-
 	private static class StoredValue {
 
 		private final int order;
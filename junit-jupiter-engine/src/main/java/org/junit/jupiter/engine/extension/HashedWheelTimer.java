@@ -0,0 +1,353 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Timer based on a hashed wheel that schedules and cancels tasks in
+ * constant time.
+ *
+ * <p>Scheduled tasks are first added to one of several <em>pending</em>
+ * queues that are striped by the scheduling thread in order to reduce
+ * contention when tests are executed in parallel. A single worker thread
+ * transfers pending tasks into the buckets of the wheel and runs expired
+ * tasks once per tick. Cancelling a task merely marks it as cancelled; it
+ * is removed from its bucket the next time the worker visits that bucket
+ * or before the worker becomes idle.
+ *
+ * <p>Tasks are executed on the worker thread and must therefore be short.
+ * Their execution may be delayed by up to one tick.
+ *
+ * <p>While no timeouts are active, the worker thread is parked instead of
+ * ticking.
+ *
+ * @since 5.8
+ */
+class HashedWheelTimer {
+
+	private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+	private final long tickNanos;
+	private final Bucket[] wheel;
+	private final int wheelMask;
+	private final Queue<Timeout>[] pendingTimeouts;
+	private final int pendingMask;
+	private final AtomicInteger activeTimeouts = new AtomicInteger();
+	private final long startTime = System.nanoTime();
+	private final Thread worker;
+	private volatile boolean stopped;
+
+	// only written by the worker thread
+	private volatile int storedTimeouts;
+
+	HashedWheelTimer(String threadName, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+		Preconditions.condition(tickDuration > 0, "tickDuration must be greater than 0");
+		Preconditions.condition(ticksPerWheel > 0, "ticksPerWheel must be greater than 0");
+		this.tickNanos = unit.toNanos(tickDuration);
+		this.wheel = createWheel(ticksPerWheel);
+		this.wheelMask = this.wheel.length - 1;
+		this.pendingTimeouts = createPendingQueues(Runtime.getRuntime().availableProcessors());
+		this.pendingMask = this.pendingTimeouts.length - 1;
+		this.worker = new Thread(this::run, threadName);
+		this.worker.setDaemon(true);
+		this.worker.setPriority(Thread.MAX_PRIORITY);
+		this.worker.start();
+	}
+
+	private static Bucket[] createWheel(int ticksPerWheel) {
+		Bucket[] wheel = new Bucket[powerOfTwoAtLeast(ticksPerWheel)];
+		for (int i = 0; i < wheel.length; i++) {
+			wheel[i] = new Bucket();
+		}
+		return wheel;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Queue<Timeout>[] createPendingQueues(int stripes) {
+		Queue<Timeout>[] queues = new Queue[powerOfTwoAtLeast(Math.min(stripes, 64))];
+		for (int i = 0; i < queues.length; i++) {
+			queues[i] = new ConcurrentLinkedQueue<>();
+		}
+		return queues;
+	}
+
+	private static int powerOfTwoAtLeast(int value) {
+		int result = 1;
+		while (result < value) {
+			result <<= 1;
+		}
+		return result;
+	}
+
+	/**
+	 * Schedule the supplied task for execution after the supplied delay.
+	 *
+	 * @return the {@link Timeout} that can be used to cancel the task
+	 */
+	Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+		Preconditions.condition(!stopped, "Timer has already been stopped");
+		long deadline = computeDeadline(unit.toNanos(delay));
+		Timeout timeout = new Timeout(this, task, deadline);
+		int stripe = (int) Thread.currentThread().getId() & pendingMask;
+		pendingTimeouts[stripe].add(timeout);
+		if (activeTimeouts.getAndIncrement() == 0) {
+			LockSupport.unpark(worker);
+		}
+		return timeout;
+	}
+
+	private long computeDeadline(long delayNanos) {
+		long elapsedNanos = elapsedNanos();
+		// Clamp instead of overflowing so that very long delays never expire
+		// immediately.
+		return delayNanos > Long.MAX_VALUE - elapsedNanos ? Long.MAX_VALUE : elapsedNanos + delayNanos;
+	}
+
+	/**
+	 * Stop the worker thread and wait for it to terminate.
+	 *
+	 * <p>Timeouts that have not yet expired are discarded.
+	 *
+	 * @return {@code true} if the worker thread terminated within the
+	 * supplied time
+	 */
+	boolean stop(long timeout, TimeUnit unit) throws InterruptedException {
+		stopped = true;
+		LockSupport.unpark(worker);
+		worker.join(unit.toMillis(timeout));
+		return !worker.isAlive();
+	}
+
+	private void run() {
+		long tick = 0;
+		while (!stopped) {
+			if (activeTimeouts.get() == 0) {
+				purgeCancelledTimeouts();
+				LockSupport.park(this);
+				// No live timeouts are stored in the wheel, so ticks that
+				// elapsed while idle can safely be skipped.
+				tick = Math.max(tick, elapsedNanos() / tickNanos);
+				continue;
+			}
+			long sleepNanos = (tick + 1) * tickNanos - elapsedNanos();
+			if (sleepNanos > 0) {
+				LockSupport.parkNanos(this, sleepNanos);
+				continue;
+			}
+			transferPendingTimeouts(tick);
+			expireTimeouts(wheel[(int) (tick & wheelMask)]);
+			tick++;
+		}
+	}
+
+	private long elapsedNanos() {
+		return System.nanoTime() - startTime;
+	}
+
+	private void transferPendingTimeouts(long currentTick) {
+		for (Queue<Timeout> queue : pendingTimeouts) {
+			Timeout timeout;
+			while ((timeout = queue.poll()) != null) {
+				if (timeout.isCancelled()) {
+					continue;
+				}
+				long calculatedTick = timeout.deadline / tickNanos;
+				timeout.remainingRounds = (calculatedTick - currentTick) / wheel.length;
+				long targetTick = Math.max(calculatedTick, currentTick);
+				addToBucket(wheel[(int) (targetTick & wheelMask)], timeout);
+			}
+		}
+	}
+
+	private void purgeCancelledTimeouts() {
+		for (Queue<Timeout> queue : pendingTimeouts) {
+			queue.removeIf(Timeout::isCancelled);
+		}
+		for (Bucket bucket : wheel) {
+			Timeout timeout = bucket.head;
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				if (timeout.isCancelled()) {
+					removeFromBucket(bucket, timeout);
+				}
+				timeout = next;
+			}
+		}
+	}
+
+	/**
+	 * Count the timeouts that have been scheduled but not yet removed by the
+	 * worker thread, including cancelled ones.
+	 */
+	int countScheduledTimeouts() {
+		int count = storedTimeouts;
+		for (Queue<Timeout> queue : pendingTimeouts) {
+			count += queue.size();
+		}
+		return count;
+	}
+
+	private void addToBucket(Bucket bucket, Timeout timeout) {
+		bucket.add(timeout);
+		storedTimeouts++;
+	}
+
+	private void removeFromBucket(Bucket bucket, Timeout timeout) {
+		bucket.remove(timeout);
+		storedTimeouts--;
+	}
+
+	private void expireTimeouts(Bucket bucket) {
+		Timeout timeout = bucket.head;
+		while (timeout != null) {
+			Timeout next = timeout.next;
+			if (timeout.isCancelled()) {
+				removeFromBucket(bucket, timeout);
+			}
+			else if (timeout.remainingRounds <= 0) {
+				removeFromBucket(bucket, timeout);
+				timeout.expire();
+			}
+			else {
+				timeout.remainingRounds--;
+			}
+			timeout = next;
+		}
+	}
+
+	/**
+	 * Handle for a task scheduled via {@link HashedWheelTimer#schedule}.
+	 */
+	static final class Timeout {
+
+		private static final int STATE_SCHEDULED = 0;
+		private static final int STATE_CANCELLED = 1;
+		private static final int STATE_EXPIRED = 2;
+		private static final int STATE_COMPLETED = 3;
+
+		private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(
+			Timeout.class, "state");
+
+		private final HashedWheelTimer timer;
+		private final Runnable task;
+		private final long deadline;
+		private volatile int state = STATE_SCHEDULED;
+
+		// only accessed by the worker thread
+		private long remainingRounds;
+		private Timeout next;
+		private Timeout previous;
+
+		private Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+			this.timer = timer;
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * Cancel the task unless it has already been executed or is currently
+		 * being executed.
+		 *
+		 * @return {@code true} if the task was cancelled before its execution
+		 */
+		boolean cancel() {
+			if (STATE_UPDATER.compareAndSet(this, STATE_SCHEDULED, STATE_CANCELLED)) {
+				timer.activeTimeouts.decrementAndGet();
+				return true;
+			}
+			return state == STATE_CANCELLED;
+		}
+
+		/**
+		 * Wait until an expired task has finished executing.
+		 *
+		 * <p>Tasks are short, so this method spins instead of blocking which
+		 * also makes it insensitive to the interrupted status of the calling
+		 * thread.
+		 */
+		void awaitCompletion() {
+			while (state == STATE_EXPIRED) {
+				Thread.yield();
+			}
+		}
+
+		private boolean isCancelled() {
+			return state == STATE_CANCELLED;
+		}
+
+		private void expire() {
+			if (!STATE_UPDATER.compareAndSet(this, STATE_SCHEDULED, STATE_EXPIRED)) {
+				return;
+			}
+			timer.activeTimeouts.decrementAndGet();
+			try {
+				task.run();
+			}
+			catch (Throwable t) {
+				logger.warn(t, () -> "Timeout task threw an exception: " + task);
+			}
+			finally {
+				state = STATE_COMPLETED;
+			}
+		}
+
+	}
+
+	/**
+	 * Doubly linked list of timeouts that is only accessed by the worker thread.
+	 */
+	private static final class Bucket {
+
+		private Timeout head;
+		private Timeout tail;
+
+		void add(Timeout timeout) {
+			if (head == null) {
+				head = tail = timeout;
+			}
+			else {
+				tail.next = timeout;
+				timeout.previous = tail;
+				tail = timeout;
+			}
+		}
+
+		void remove(Timeout timeout) {
+			Timeout next = timeout.next;
+			if (timeout.previous != null) {
+				timeout.previous.next = next;
+			}
+			if (next != null) {
+				next.previous = timeout.previous;
+			}
+			if (timeout == head) {
+				head = next;
+			}
+			if (timeout == tail) {
+				tail = timeout.previous;
+			}
+			timeout.previous = null;
+			timeout.next = null;
+		}
+
+	}
+
+}
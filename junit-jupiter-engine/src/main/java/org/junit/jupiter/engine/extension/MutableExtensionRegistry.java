@@ -47,9 +47,8 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 
 	private static final Logger logger = LoggerFactory.getLogger(MutableExtensionRegistry.class);
 
-	private static final List<Extension> DEFAULT_EXTENSIONS = Collections.unmodifiableList(Arrays.asList(//
+	private static final List<Extension> DEFAULT_STATELESS_EXTENSIONS = Collections.unmodifiableList(Arrays.asList(//
 		new DisabledCondition(), //
-		new TempDirectory(), //
 		new TimeoutExtension(), //
 		new RepeatedTestExtension(), //
 		new TestInfoParameterResolver(), //
@@ -65,19 +64,20 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 	 * registered after the default extensions.
 	 *
 	 * @param configuration configuration parameters used to retrieve the extension
-	 * auto-detection flag; never {@code null}
+	 * auto-detection flag and to configure default extensions; never {@code null}
 	 * @return a new {@code ExtensionRegistry}; never {@code null}
 	 */
 	public static MutableExtensionRegistry createRegistryWithDefaultExtensions(JupiterConfiguration configuration) {
 		MutableExtensionRegistry extensionRegistry = new MutableExtensionRegistry(null);
 
 		// @formatter:off
-		logger.trace(() -> "Registering default extensions: " + DEFAULT_EXTENSIONS.stream()
+		logger.trace(() -> "Registering default extensions: " + DEFAULT_STATELESS_EXTENSIONS.stream()
 						.map(extension -> extension.getClass().getName())
 						.collect(toList()));
 		// @formatter:on
 
-		DEFAULT_EXTENSIONS.forEach(extensionRegistry::registerDefaultExtension);
+		DEFAULT_STATELESS_EXTENSIONS.forEach(extensionRegistry::registerDefaultExtension);
+		extensionRegistry.registerDefaultExtension(new TempDirectory(configuration));
 
 		if (configuration.isExtensionAutoDetectionEnabled()) {
 			registerAutoDetectedExtensions(extensionRegistry);
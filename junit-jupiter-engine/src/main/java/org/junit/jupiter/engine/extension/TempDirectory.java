@@ -12,7 +12,9 @@ package org.junit.jupiter.engine.extension;
 
 import static java.nio.file.FileVisitResult.CONTINUE;
 import static java.util.stream.Collectors.joining;
+import static org.junit.jupiter.engine.config.JupiterConfiguration.TEMP_DIR_TEMPLATE_LINKS_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.commons.util.AnnotationUtils.findAnnotatedFields;
+import static org.junit.platform.commons.util.AnnotationUtils.findAnnotation;
 import static org.junit.platform.commons.util.ReflectionUtils.isPrivate;
 import static org.junit.platform.commons.util.ReflectionUtils.makeAccessible;
 
@@ -43,9 +45,12 @@ import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.jupiter.engine.extension.TempDirectoryTemplate.ArchiveFileSystems;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
 
 /**
  * {@code TempDirectory} is a JUnit Jupiter extension that creates and cleans
@@ -62,7 +67,12 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 
 	private static final Namespace NAMESPACE = Namespace.create(TempDirectory.class);
 	private static final String KEY = "temp.dir";
-	private static final String TEMP_DIR_PREFIX = "junit";
+
+	private final JupiterConfiguration configuration;
+
+	TempDirectory(JupiterConfiguration configuration) {
+		this.configuration = configuration;
+	}
 
 	/**
 	 * Perform field injection for non-private, {@code static} fields (i.e.,
@@ -99,7 +109,8 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 		findAnnotatedFields(testClass, TempDir.class, predicate).forEach(field -> {
 			assertValidFieldCandidate(field);
 			try {
-				makeAccessible(field).set(testInstance, getPathOrFile(field.getType(), context));
+				String template = findAnnotation(field, TempDir.class).map(TempDir::template).orElse("");
+				makeAccessible(field).set(testInstance, getPathOrFile(field.getType(), template, context));
 			}
 			catch (Throwable t) {
 				ExceptionUtils.throwAsUncheckedException(t);
@@ -136,7 +147,8 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 	public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
 		Class<?> parameterType = parameterContext.getParameter().getType();
 		assertSupportedType("parameter", parameterType);
-		return getPathOrFile(parameterType, extensionContext);
+		String template = parameterContext.findAnnotation(TempDir.class).map(TempDir::template).orElse("");
+		return getPathOrFile(parameterType, template, extensionContext);
 	}
 
 	private void assertSupportedType(String target, Class<?> type) {
@@ -146,29 +158,64 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 		}
 	}
 
-	private Object getPathOrFile(Class<?> type, ExtensionContext extensionContext) {
+	private Object getPathOrFile(Class<?> type, String template, ExtensionContext extensionContext) {
+		// Temp dirs created from different templates must not be shared
+		String storeKey = template.isEmpty() ? KEY : KEY + "." + template;
 		Path path = extensionContext.getStore(NAMESPACE) //
-				.getOrComputeIfAbsent(KEY, key -> createTempDir(), CloseablePath.class) //
+				.getOrComputeIfAbsent(storeKey, key -> createTempDir(template, extensionContext),
+					CloseablePath.class) //
 				.get();
 
 		return (type == Path.class) ? path : path.toFile();
 	}
 
-	private static CloseablePath createTempDir() {
+	private CloseablePath createTempDir(String template, ExtensionContext extensionContext) {
+		CloseablePath tempDir;
 		try {
-			return new CloseablePath(Files.createTempDirectory(TEMP_DIR_PREFIX));
+			TempDirectoryPool pool = TempDirectoryPool.get(extensionContext, this.configuration);
+			tempDir = new CloseablePath(pool.createTempDirectory(), pool);
 		}
 		catch (Exception ex) {
 			throw new ExtensionConfigurationException("Failed to create default temp directory", ex);
 		}
+		if (!template.isEmpty()) {
+			materializeTemplate(template, tempDir, extensionContext);
+		}
+		return tempDir;
+	}
+
+	private static void materializeTemplate(String template, CloseablePath tempDir,
+			ExtensionContext extensionContext) {
+		try {
+			boolean linksEnabled = extensionContext.getConfigurationParameter(
+				TEMP_DIR_TEMPLATE_LINKS_ENABLED_PROPERTY_NAME, Boolean::valueOf).orElse(false);
+			TempDirectoryTemplate.resolve(template, ArchiveFileSystems.get(extensionContext)) //
+					.materialize(tempDir.get(), linksEnabled);
+		}
+		catch (Throwable t) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+			try {
+				tempDir.delete();
+			}
+			catch (Throwable suppressed) {
+				t.addSuppressed(suppressed);
+			}
+			if (t instanceof ExtensionConfigurationException) {
+				throw (ExtensionConfigurationException) t;
+			}
+			throw new ExtensionConfigurationException("Failed to create temp directory from template [" + template
+					+ "]", t);
+		}
 	}
 
 	private static class CloseablePath implements CloseableResource {
 
 		private final Path dir;
+		private final TempDirectoryPool pool;
 
-		CloseablePath(Path dir) {
+		CloseablePath(Path dir, TempDirectoryPool pool) {
 			this.dir = dir;
+			this.pool = pool;
 		}
 
 		Path get() {
@@ -177,6 +224,10 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 
 		@Override
 		public void close() throws IOException {
+			pool.delete(this::delete);
+		}
+
+		void delete() throws IOException {
 			SortedMap<Path, IOException> failures = deleteAllFilesAndDirectories();
 			if (!failures.isEmpty()) {
 				throw createIOExceptionWithAttachedFailures(failures);
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+
+/**
+ * {@code TempDirectoryPool} creates and deletes the temporary directories
+ * used by the {@link TempDirectory} extension.
+ *
+ * <p>By default, temporary directories are created and deleted on demand by
+ * the thread executing the test. Depending on the configuration, a number of
+ * directories is created in advance and deletions are handed to a bounded
+ * pool of background threads. If the queue of pending background tasks is
+ * full, deletions are performed by the calling thread instead.
+ *
+ * <p>A single instance is stored in the root {@link ExtensionContext}. When
+ * it is closed at the end of the execution of the engine, all pending
+ * deletions are completed and unused pooled directories are deleted.
+ *
+ * @since 5.8
+ * @see org.junit.jupiter.engine.Constants#TEMP_DIR_BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME
+ * @see org.junit.jupiter.engine.Constants#TEMP_DIR_POOL_SIZE_PROPERTY_NAME
+ */
+class TempDirectoryPool implements CloseableResource {
+
+	private static final Logger logger = LoggerFactory.getLogger(TempDirectoryPool.class);
+
+	private static final Namespace NAMESPACE = Namespace.create(TempDirectoryPool.class);
+	private static final String TEMP_DIR_PREFIX = "junit";
+	private static final int MAX_PENDING_TASKS = 1024;
+
+	static TempDirectoryPool get(ExtensionContext context, JupiterConfiguration configuration) {
+		return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(TempDirectoryPool.class,
+			key -> create(configuration), TempDirectoryPool.class);
+	}
+
+	private static TempDirectoryPool create(JupiterConfiguration configuration) {
+		int poolSize = configuration.getTempDirPoolSize();
+		Path baseDir = poolSize == 0 ? null : configuration.getTempDirPoolDirectory().orElse(null);
+		return new TempDirectoryPool(configuration.isTempDirBackgroundCleanupEnabled(),
+			configuration.getTempDirBackgroundParallelism(), poolSize, baseDir);
+	}
+
+	private final boolean backgroundCleanup;
+	private final Path baseDir;
+	private final BlockingQueue<Path> pooledDirectories;
+	private final ThreadPoolExecutor executor;
+	private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+	private volatile boolean closed;
+
+	TempDirectoryPool(boolean backgroundCleanup, int parallelism, int poolSize, Path baseDir) {
+		this.backgroundCleanup = backgroundCleanup;
+		this.baseDir = baseDir;
+		this.pooledDirectories = poolSize == 0 ? null : new LinkedBlockingQueue<>(poolSize);
+		this.executor = backgroundCleanup || poolSize > 0 ? createExecutor(parallelism) : null;
+		if (baseDir != null) {
+			try {
+				Files.createDirectories(baseDir);
+			}
+			catch (IOException ex) {
+				throw new ExtensionConfigurationException("Failed to create temp directory pool in " + baseDir, ex);
+			}
+		}
+		for (int i = 0; i < poolSize; i++) {
+			replenish();
+		}
+	}
+
+	private static ThreadPoolExecutor createExecutor(int parallelism) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "junit-jupiter-tempdir-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		return new ThreadPoolExecutor(parallelism, parallelism, 0, TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(MAX_PENDING_TASKS), threadFactory);
+	}
+
+	/**
+	 * Create a new temporary directory or take one from the pool.
+	 */
+	Path createTempDirectory() throws IOException {
+		if (this.pooledDirectories != null) {
+			Path dir = this.pooledDirectories.poll();
+			if (dir != null) {
+				replenish();
+				return dir;
+			}
+		}
+		return newTempDirectory();
+	}
+
+	/**
+	 * Perform the supplied deletion in the background if enabled; otherwise,
+	 * or if too many deletions are pending, perform it immediately.
+	 */
+	void delete(Deletion deletion) throws IOException {
+		if (this.backgroundCleanup && !this.closed) {
+			try {
+				this.executor.execute(() -> {
+					try {
+						deletion.delete();
+					}
+					catch (Throwable t) {
+						UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+						this.failures.add(t);
+					}
+				});
+				return;
+			}
+			catch (RejectedExecutionException ignore) {
+				// apply back-pressure by deleting on the current thread
+			}
+		}
+		deletion.delete();
+	}
+
+	private void replenish() {
+		try {
+			this.executor.execute(() -> {
+				if (this.closed) {
+					return;
+				}
+				try {
+					Path dir = newTempDirectory();
+					if (!this.pooledDirectories.offer(dir)) {
+						Files.delete(dir);
+					}
+				}
+				catch (IOException ex) {
+					logger.warn(ex, () -> "Failed to create pooled temp directory");
+				}
+			});
+		}
+		catch (RejectedExecutionException ignore) {
+			// the directory will be created on demand instead
+		}
+	}
+
+	private Path newTempDirectory() throws IOException {
+		return this.baseDir == null ? Files.createTempDirectory(TEMP_DIR_PREFIX)
+				: Files.createTempDirectory(this.baseDir, TEMP_DIR_PREFIX);
+	}
+
+	@Override
+	public void close() throws IOException, InterruptedException {
+		this.closed = true;
+		if (this.executor != null) {
+			this.executor.shutdown();
+			this.executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		}
+		if (this.pooledDirectories != null) {
+			for (Path dir = this.pooledDirectories.poll(); dir != null; dir = this.pooledDirectories.poll()) {
+				try {
+					Files.deleteIfExists(dir);
+				}
+				catch (IOException ex) {
+					this.failures.add(ex);
+				}
+			}
+		}
+		if (!this.failures.isEmpty()) {
+			IOException exception = new IOException(
+				"Failed to delete temp directories (see suppressed exceptions for details)");
+			this.failures.forEach(exception::addSuppressed);
+			throw exception;
+		}
+	}
+
+	/**
+	 * Deletion of a temporary directory.
+	 */
+	@FunctionalInterface
+	interface Deletion {
+
+		void delete() throws IOException;
+
+	}
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
+import static java.util.Collections.emptyMap;
+import static org.junit.jupiter.api.io.TempDir.CLASSPATH_TEMPLATE_PREFIX;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileStore;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+
+/**
+ * Template directory whose contents are materialized into a temporary
+ * directory created by the {@link TempDirectory} extension.
+ *
+ * <p>If enabled and the template resides on the same file store as the
+ * target directory, files are hard-linked instead of copied.
+ *
+ * @since 5.8
+ * @see org.junit.jupiter.api.io.TempDir#template()
+ */
+class TempDirectoryTemplate {
+
+	static TempDirectoryTemplate resolve(String template, ArchiveFileSystems archiveFileSystems) {
+		if (template.startsWith(CLASSPATH_TEMPLATE_PREFIX)) {
+			return new TempDirectoryTemplate(template, resolveClasspathResource(template, archiveFileSystems));
+		}
+		Path dir = Paths.get(template);
+		if (!Files.isDirectory(dir)) {
+			throw new ExtensionConfigurationException("@TempDir template [" + template + "] is not a directory");
+		}
+		return new TempDirectoryTemplate(template, dir);
+	}
+
+	private static Path resolveClasspathResource(String template, ArchiveFileSystems archiveFileSystems) {
+		String name = template.substring(CLASSPATH_TEMPLATE_PREFIX.length());
+		name = name.startsWith("/") ? name.substring(1) : name;
+		URL resource = ClassLoaderUtils.getDefaultClassLoader().getResource(name);
+		if (resource == null) {
+			throw new ExtensionConfigurationException(
+				"@TempDir template [" + template + "] does not exist on the classpath");
+		}
+		try {
+			URI uri = resource.toURI();
+			if ("jar".equals(uri.getScheme())) {
+				String uriString = uri.toString();
+				int separatorIndex = uriString.indexOf("!/");
+				URI archiveUri = URI.create(uriString.substring(0, separatorIndex));
+				// entry names within the archive are not percent-encoded
+				String entryName = new URI(uriString.substring(separatorIndex + 1)).getPath();
+				return archiveFileSystems.get(archiveUri).getPath(entryName);
+			}
+			return Paths.get(uri);
+		}
+		catch (URISyntaxException | IOException | RuntimeException ex) {
+			throw new ExtensionConfigurationException(
+				"Failed to resolve @TempDir template [" + template + "] on the classpath", ex);
+		}
+	}
+
+	private final String template;
+	private final Path dir;
+
+	private TempDirectoryTemplate(String template, Path dir) {
+		this.template = template;
+		this.dir = dir;
+	}
+
+	/**
+	 * Copy or link all files and directories of this template into the
+	 * supplied, existing target directory.
+	 */
+	void materialize(Path targetDir, boolean linksEnabled) throws IOException {
+		if (!Files.isDirectory(this.dir)) {
+			throw new ExtensionConfigurationException("@TempDir template [" + this.template + "] is not a directory");
+		}
+		List<Path> files = new ArrayList<>();
+		try (Stream<Path> paths = Files.walk(this.dir)) {
+			for (Path path : (Iterable<Path>) paths::iterator) {
+				if (Files.isDirectory(path)) {
+					Files.createDirectories(resolveTarget(path, targetDir));
+				}
+				else {
+					files.add(path);
+				}
+			}
+		}
+		boolean link = linksEnabled && isSameFileStore(targetDir);
+		for (Path file : files) {
+			copyOrLink(file, resolveTarget(file, targetDir), link);
+		}
+	}
+
+	private Path resolveTarget(Path path, Path targetDir) {
+		return targetDir.resolve(this.dir.relativize(path).toString());
+	}
+
+	private boolean isSameFileStore(Path targetDir) throws IOException {
+		if (this.dir.getFileSystem() != targetDir.getFileSystem()) {
+			return false;
+		}
+		FileStore fileStore = Files.getFileStore(this.dir);
+		return fileStore.equals(Files.getFileStore(targetDir));
+	}
+
+	private static void copyOrLink(Path source, Path target, boolean link) throws IOException {
+		if (link) {
+			try {
+				Files.createLink(target, source);
+				return;
+			}
+			catch (UnsupportedOperationException | IOException ignore) {
+				// fall back to copying the file
+			}
+		}
+		Files.copy(source, target, COPY_ATTRIBUTES);
+	}
+
+	/**
+	 * File systems of archives containing classpath templates.
+	 *
+	 * <p>They are kept open for reuse across test classes and closed once the
+	 * root {@link ExtensionContext} is closed. File systems that were already
+	 * open before are reused but not closed.
+	 */
+	static final class ArchiveFileSystems implements CloseableResource {
+
+		private static final Namespace NAMESPACE = Namespace.create(ArchiveFileSystems.class);
+
+		static ArchiveFileSystems get(ExtensionContext context) {
+			return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(ArchiveFileSystems.class,
+				key -> new ArchiveFileSystems(), ArchiveFileSystems.class);
+		}
+
+		private final Map<URI, FileSystem> fileSystems = new HashMap<>();
+		private final List<FileSystem> ownedFileSystems = new ArrayList<>();
+
+		synchronized FileSystem get(URI archiveUri) throws IOException {
+			FileSystem fileSystem = this.fileSystems.get(archiveUri);
+			if (fileSystem == null) {
+				try {
+					fileSystem = FileSystems.newFileSystem(archiveUri, emptyMap());
+					this.ownedFileSystems.add(fileSystem);
+				}
+				catch (FileSystemAlreadyExistsException ex) {
+					fileSystem = FileSystems.getFileSystem(archiveUri);
+				}
+				this.fileSystems.put(archiveUri, fileSystem);
+			}
+			return fileSystem;
+		}
+
+		@Override
+		public synchronized void close() throws IOException {
+			IOException failure = null;
+			for (FileSystem fileSystem : this.ownedFileSystems) {
+				try {
+					fileSystem.close();
+				}
+				catch (IOException ex) {
+					if (failure == null) {
+						failure = ex;
+					}
+					else {
+						failure.addSuppressed(ex);
+					}
+				}
+			}
+			this.ownedFileSystems.clear();
+			this.fileSystems.clear();
+			if (failure != null) {
+				throw failure;
+			}
+		}
+
+	}
+
+}
@@ -15,8 +15,6 @@ import static org.junit.jupiter.engine.config.JupiterConfiguration.TIMEOUT_MODE_
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.util.Optional;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -167,7 +165,7 @@ class TimeoutExtension implements BeforeAllCallback, BeforeEachCallback, Invocat
 		if (timeout == null || isTimeoutDisabled(extensionContext)) {
 			return invocation;
 		}
-		return new TimeoutInvocation<>(invocation, timeout, getExecutor(extensionContext),
+		return new TimeoutInvocation<>(invocation, timeout, getTimer(extensionContext),
 			() -> describe(invocationContext, extensionContext));
 	}
 
@@ -180,8 +178,8 @@ class TimeoutExtension implements BeforeAllCallback, BeforeEachCallback, Invocat
 		return ReflectionUtils.getFullyQualifiedMethodName(invocationContext.getTargetClass(), method);
 	}
 
-	private ScheduledExecutorService getExecutor(ExtensionContext extensionContext) {
-		return extensionContext.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(ExecutorResource.class).get();
+	private HashedWheelTimer getTimer(ExtensionContext extensionContext) {
+		return extensionContext.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(TimerResource.class).get();
 	}
 
 	/**
@@ -212,30 +210,24 @@ class TimeoutExtension implements BeforeAllCallback, BeforeEachCallback, Invocat
 	private interface TimeoutProvider extends Function<TimeoutConfiguration, Optional<TimeoutDuration>> {
 	}
 
-	private static class ExecutorResource implements CloseableResource {
+	private static class TimerResource implements CloseableResource {
 
-		private final ScheduledExecutorService executor;
+		private final HashedWheelTimer timer;
 
 		@SuppressWarnings("unused")
-		ExecutorResource() {
-			executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
-				Thread thread = new Thread(runnable, "junit-jupiter-timeout-watcher");
-				thread.setPriority(Thread.MAX_PRIORITY);
-				return thread;
-			});
+		TimerResource() {
+			timer = new HashedWheelTimer("junit-jupiter-timeout-watcher", 10, TimeUnit.MILLISECONDS, 512);
 		}
 
-		ScheduledExecutorService get() {
-			return executor;
+		HashedWheelTimer get() {
+			return timer;
 		}
 
 		@Override
 		public void close() throws Throwable {
-			executor.shutdown();
-			boolean terminated = executor.awaitTermination(5, TimeUnit.SECONDS);
+			boolean terminated = timer.stop(5, TimeUnit.SECONDS);
 			if (!terminated) {
-				executor.shutdownNow();
-				throw new JUnitException("Scheduled executor could not be stopped in an orderly manner");
+				throw new JUnitException("Timeout timer could not be stopped in an orderly manner");
 			}
 		}
 
@@ -10,12 +10,11 @@
 
 package org.junit.jupiter.engine.extension;
 
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+import org.junit.jupiter.engine.extension.HashedWheelTimer.Timeout;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 
 /**
@@ -25,21 +24,21 @@ class TimeoutInvocation<T> implements Invocation<T> {
 
 	private final Invocation<T> delegate;
 	private final TimeoutDuration timeout;
-	private final ScheduledExecutorService executor;
+	private final HashedWheelTimer timer;
 	private final Supplier<String> descriptionSupplier;
 
-	TimeoutInvocation(Invocation<T> delegate, TimeoutDuration timeout, ScheduledExecutorService executor,
+	TimeoutInvocation(Invocation<T> delegate, TimeoutDuration timeout, HashedWheelTimer timer,
 			Supplier<String> descriptionSupplier) {
 		this.delegate = delegate;
 		this.timeout = timeout;
-		this.executor = executor;
+		this.timer = timer;
 		this.descriptionSupplier = descriptionSupplier;
 	}
 
 	@Override
 	public T proceed() throws Throwable {
 		InterruptTask interruptTask = new InterruptTask(Thread.currentThread());
-		ScheduledFuture<?> future = executor.schedule(interruptTask, timeout.getValue(), timeout.getUnit());
+		Timeout scheduledTimeout = timer.schedule(interruptTask, timeout.getValue(), timeout.getUnit());
 		Throwable failure = null;
 		T result = null;
 		try {
@@ -50,9 +49,9 @@ class TimeoutInvocation<T> implements Invocation<T> {
 			failure = t;
 		}
 		finally {
-			boolean cancelled = future.cancel(false);
+			boolean cancelled = scheduledTimeout.cancel();
 			if (!cancelled) {
-				future.get();
+				scheduledTimeout.awaitCompletion();
 			}
 			if (interruptTask.executed) {
 				Thread.interrupted();
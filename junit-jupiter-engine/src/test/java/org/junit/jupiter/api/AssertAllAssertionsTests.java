@@ -11,18 +11,26 @@
 package org.junit.jupiter.api;
 
 import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertAllConcurrently;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.function.Executable;
@@ -193,6 +201,95 @@ class AssertAllAssertionsTests {
 		assertThat(multipleFailuresError.getFailures()).hasSize(100).doesNotContainNull();
 	}
 
+	@Test
+	void assertAllConcurrentlyWithNullExecutableArray() {
+		assertPrecondition("executables array must not be null or empty",
+			() -> assertAllConcurrently((Executable[]) null));
+	}
+
+	@Test
+	void assertAllConcurrentlyWithNullInExecutableCollection() {
+		assertPrecondition("individual executables must not be null",
+			() -> assertAllConcurrently(asList((Executable) null)));
+	}
+
+	@Test
+	void assertAllConcurrentlyWithExecutablesThatDoNotThrowExceptions() {
+		AtomicInteger counter = new AtomicInteger();
+		Executable executable = counter::incrementAndGet;
+
+		assertAllConcurrently(executable, executable, executable);
+		assertAllConcurrently("heading", asList(executable, executable));
+		assertAllConcurrently(Stream.of(executable));
+
+		assertEquals(6, counter.get());
+	}
+
+	@Test
+	void assertAllConcurrentlyReportsFailuresInOrderOfExecutables() {
+		CountDownLatch firstMayFail = new CountDownLatch(1);
+
+		// @formatter:off
+		MultipleFailuresError multipleFailuresError = assertThrows(MultipleFailuresError.class, () ->
+			assertAllConcurrently("heading",
+				() -> {
+					firstMayFail.await(1, SECONDS);
+					throw new IOException();
+				},
+				() -> {
+					throw new IllegalStateException();
+				},
+				() -> {
+					firstMayFail.countDown();
+					throw new EnigmaThrowable();
+				}
+			)
+		);
+		// @formatter:on
+
+		assertThat(multipleFailuresError).hasMessageStartingWith("heading");
+		assertExpectedExceptionTypes(multipleFailuresError, IOException.class, IllegalStateException.class,
+			EnigmaThrowable.class);
+	}
+
+	@Test
+	void assertAllConcurrentlyExecutesExecutablesConcurrently() {
+		assumeTrue(Runtime.getRuntime().availableProcessors() >= 2, "requires at least two processors");
+		CountDownLatch latch = new CountDownLatch(2);
+		Executable executable = () -> {
+			latch.countDown();
+			assertTrue(latch.await(5, SECONDS), "executables did not run concurrently");
+		};
+
+		assertAllConcurrently(executable, executable);
+	}
+
+	@Test
+	void assertAllConcurrentlyDoesNotUseForkJoinPoolOfCallingThread() throws Exception {
+		ForkJoinPool forkJoinPool = new ForkJoinPool(1);
+		try {
+			List<Thread> threads = new CopyOnWriteArrayList<>();
+			Executable executable = () -> threads.add(Thread.currentThread());
+
+			forkJoinPool.submit(() -> assertAllConcurrently(executable, executable, executable)).get();
+
+			assertThat(threads).hasSize(3).noneMatch(thread -> thread instanceof ForkJoinWorkerThread);
+		}
+		finally {
+			forkJoinPool.shutdownNow();
+		}
+	}
+
+	@Test
+	void assertAllConcurrentlyWithExecutableThatThrowsUnrecoverableException() {
+		AtomicInteger counter = new AtomicInteger();
+		OutOfMemoryError outOfMemoryError = assertThrows(OutOfMemoryError.class,
+			() -> assertAllConcurrently(AssertionTestUtils::runOutOfMemory, counter::incrementAndGet));
+
+		assertEquals("boom", outOfMemoryError.getMessage());
+		assertEquals(1, counter.get());
+	}
+
 	private void assertPrecondition(String msg, Executable executable) {
 		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class, executable);
 		assertMessageEquals(exception, msg);
@@ -717,6 +717,20 @@ class AssertArrayEqualsAssertionsTests {
 		}
 	}
 
+	@Test
+	void assertArrayEqualsDifferentLargeIntArrays() {
+		int[] expected = new int[100_000];
+		int[] actual = new int[100_000];
+		actual[99_999] = 42;
+		try {
+			assertArrayEquals(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "array contents differ at index [99999], expected: <0> but was: <42>");
+		}
+	}
+
 	@Test
 	void assertArrayEqualsDifferentIntArraysAndMessage() {
 		try {
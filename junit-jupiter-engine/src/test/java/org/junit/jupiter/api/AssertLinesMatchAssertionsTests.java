@@ -136,7 +136,10 @@ class AssertLinesMatchAssertionsTests {
 		var expectedMessage = String.join(System.lineSeparator(), List.of( //
 			"expected line #2 doesn't match actual line #2", //
 			"\texpected: `second line`", //
-			"\t  actual: `sec0nd line`"));
+			"\t  actual: `sec0nd line`", //
+			"diff (- expected, + actual):", //
+			"\t- expected line #2: `second line`", //
+			"\t+ actual line #2: `sec0nd line`"));
 		assertError(error, expectedMessage, expected, actual);
 	}
 
@@ -233,7 +236,63 @@ class AssertLinesMatchAssertionsTests {
 		var expectedMessage = String.join(System.lineSeparator(), List.of( //
 			"custom message ==> expected line #1 doesn't match actual line #1", //
 			"\texpected: `1`", //
-			"\t  actual: `0`"));
+			"\t  actual: `0`", //
+			"diff (- expected, + actual):", //
+			"\t+ actual line #1: `0`", //
+			"\t+ actual line #1000: `999`"));
+		assertError(error, expectedMessage, expected, actual);
+	}
+
+	@Test
+	void diffOfMismatchingLinesMatchesRegexPatterns() {
+		var expected = List.of("first line", "duration: \\d+ ms", "second line", "third line", "fourth line");
+		var actual = List.of("first line", "duration: 42 ms", "inserted line", "third line", "4th line");
+		var error = assertThrows(AssertionFailedError.class, () -> assertLinesMatch(expected, actual));
+		var expectedMessage = String.join(System.lineSeparator(), List.of( //
+			"expected line #3 doesn't match actual line #3", //
+			"\texpected: `second line`", //
+			"\t  actual: `inserted line`", //
+			"diff (- expected, + actual):", //
+			"\t- expected line #3: `second line`", //
+			"\t+ actual line #3: `inserted line`", //
+			"\t- expected line #5: `fourth line`", //
+			"\t+ actual line #5: `4th line`"));
+		assertError(error, expectedMessage, expected, actual);
+	}
+
+	@Test
+	void diffOfLargeListsIsLimited() {
+		var expected = IntStream.range(0, 100_000).mapToObj(Integer::toString).collect(Collectors.toList());
+		var actual = IntStream.range(0, 100_000) //
+				.mapToObj(i -> i % 1000 == 999 ? "changed" : Integer.toString(i)) //
+				.collect(Collectors.toList());
+		var error = assertThrows(AssertionFailedError.class, () -> assertLinesMatch(expected, actual));
+		var lines = error.getMessage().lines().collect(Collectors.toList());
+		assertEquals("diff (- expected, + actual):", lines.get(3));
+		assertEquals("\t- expected line #1000: `999`", lines.get(4));
+		assertEquals("\t+ actual line #1000: `changed`", lines.get(5));
+		assertEquals(3 + 1 + 20 + 1, lines.size());
+		assertEquals("\t(180 more differences)", lines.get(lines.size() - 1));
+	}
+
+	@Test
+	void diffIsOmittedIfThereAreTooManyDifferences() {
+		var expected = IntStream.range(0, 2_000).mapToObj(i -> "expected " + i).collect(Collectors.toList());
+		var actual = IntStream.range(0, 2_000).mapToObj(i -> "actual " + i).collect(Collectors.toList());
+		var error = assertThrows(AssertionFailedError.class, () -> assertLinesMatch(expected, actual));
+		assertTrue(error.getMessage().endsWith(
+			"diff (- expected, + actual):" + System.lineSeparator() + "\t(more than 1000 differences)"));
+	}
+
+	@Test
+	void diffIsOmittedForFastForwardMarkers() {
+		var expected = List.of("first line", ">> skip >>", "third line", "fourth line");
+		var actual = List.of("first line", "second line", "third line", "4th line");
+		var error = assertThrows(AssertionFailedError.class, () -> assertLinesMatch(expected, actual));
+		var expectedMessage = String.join(System.lineSeparator(), List.of( //
+			"expected line #4 doesn't match actual line #4", //
+			"\texpected: `fourth line`", //
+			"\t  actual: `4th line`"));
 		assertError(error, expectedMessage, expected, actual);
 	}
 
@@ -251,7 +310,10 @@ class AssertLinesMatchAssertionsTests {
 			var expectedMessage = String.join(System.lineSeparator(), List.of( //
 				message + " ==> expected line #2 doesn't match actual line #2", //
 				"\texpected: `b`", //
-				"\t  actual: `d`"));
+				"\t  actual: `d`", //
+				"diff (- expected, + actual):", //
+				"\t- expected line #2: `b`", //
+				"\t+ actual line #2: `d`"));
 			assertError(error, expectedMessage, expected, actual);
 		}
 
@@ -265,7 +327,10 @@ class AssertLinesMatchAssertionsTests {
 			var expectedMessage = String.join(System.lineSeparator(), List.of( //
 				message + " ==> expected line #2 doesn't match actual line #2", //
 				"\texpected: `b`", //
-				"\t  actual: `d`"));
+				"\t  actual: `d`", //
+				"diff (- expected, + actual):", //
+				"\t- expected line #2: `b`", //
+				"\t+ actual line #2: `d`"));
 			assertError(error, expectedMessage, expected, actual);
 		}
 	}
@@ -46,6 +46,26 @@ class CachingJupiterConfigurationTests {
 		verify(delegate, only()).getDefaultExecutionMode();
 	}
 
+	@Test
+	void cachesDynamicTestsInFlightLimit() {
+		when(delegate.getDynamicTestsInFlightLimit()).thenReturn(42);
+
+		assertThat(cache.getDynamicTestsInFlightLimit()).isEqualTo(42);
+		assertThat(cache.getDynamicTestsInFlightLimit()).isEqualTo(42);
+
+		verify(delegate, only()).getDynamicTestsInFlightLimit();
+	}
+
+	@Test
+	void cachesTempDirPoolSize() {
+		when(delegate.getTempDirPoolSize()).thenReturn(8);
+
+		assertThat(cache.getTempDirPoolSize()).isEqualTo(8);
+		assertThat(cache.getTempDirPoolSize()).isEqualTo(8);
+
+		verify(delegate, only()).getTempDirPoolSize();
+	}
+
 	@Test
 	void cachesDefaultTestInstanceLifecycle() {
 		when(delegate.getDefaultTestInstanceLifecycle()).thenReturn(Lifecycle.PER_CLASS);
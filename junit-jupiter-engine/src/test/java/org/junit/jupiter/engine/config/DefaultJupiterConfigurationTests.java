@@ -99,6 +99,63 @@ class DefaultJupiterConfigurationTests {
 		assertThat(defaultTestMethodOrder).isEmpty();
 	}
 
+	@Test
+	void getDynamicTestsInFlightLimitWithConfigParamSet() {
+		assertAll(//
+			() -> assertDynamicTestsInFlightLimit(null, Integer.MAX_VALUE), //
+			() -> assertDynamicTestsInFlightLimit("", Integer.MAX_VALUE), //
+			() -> assertDynamicTestsInFlightLimit("bogus", Integer.MAX_VALUE), //
+			() -> assertDynamicTestsInFlightLimit("0", Integer.MAX_VALUE), //
+			() -> assertDynamicTestsInFlightLimit("-1", Integer.MAX_VALUE), //
+			() -> assertDynamicTestsInFlightLimit("1", 1), //
+			() -> assertDynamicTestsInFlightLimit("  42  ", 42) //
+		);
+	}
+
+	@Test
+	void getTempDirPoolSizeWithConfigParamSet() {
+		assertAll(//
+			() -> assertTempDirPoolSize(null, 0), //
+			() -> assertTempDirPoolSize("bogus", 0), //
+			() -> assertTempDirPoolSize("-1", 0), //
+			() -> assertTempDirPoolSize("0", 0), //
+			() -> assertTempDirPoolSize("  8  ", 8) //
+		);
+	}
+
+	@Test
+	void getTempDirBackgroundParallelismWithConfigParamSet() {
+		assertAll(//
+			() -> assertTempDirBackgroundParallelism(null, 1), //
+			() -> assertTempDirBackgroundParallelism("bogus", 1), //
+			() -> assertTempDirBackgroundParallelism("0", 1), //
+			() -> assertTempDirBackgroundParallelism("4", 4) //
+		);
+	}
+
+	private void assertTempDirPoolSize(String configValue, int expected) {
+		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(Constants.TEMP_DIR_POOL_SIZE_PROPERTY_NAME)).thenReturn(Optional.ofNullable(configValue));
+		int poolSize = new DefaultJupiterConfiguration(configParams).getTempDirPoolSize();
+		assertThat(poolSize).isEqualTo(expected);
+	}
+
+	private void assertTempDirBackgroundParallelism(String configValue, int expected) {
+		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(Constants.TEMP_DIR_BACKGROUND_PARALLELISM_PROPERTY_NAME)).thenReturn(
+			Optional.ofNullable(configValue));
+		int parallelism = new DefaultJupiterConfiguration(configParams).getTempDirBackgroundParallelism();
+		assertThat(parallelism).isEqualTo(expected);
+	}
+
+	private void assertDynamicTestsInFlightLimit(String configValue, int expected) {
+		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(Constants.DYNAMIC_TESTS_IN_FLIGHT_LIMIT_PROPERTY_NAME)).thenReturn(
+			Optional.ofNullable(configValue));
+		int limit = new DefaultJupiterConfiguration(configParams).getDynamicTestsInFlightLimit();
+		assertThat(limit).isEqualTo(expected);
+	}
+
 	private void assertDefaultConfigParam(String configValue, Lifecycle expected) {
 		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
 		when(configParams.get(KEY)).thenReturn(Optional.ofNullable(configValue));
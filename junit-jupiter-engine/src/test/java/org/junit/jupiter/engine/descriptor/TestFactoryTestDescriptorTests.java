@@ -136,6 +136,7 @@ class TestFactoryTestDescriptorTests {
 		void before() throws Exception {
 			jupiterConfiguration = mock(JupiterConfiguration.class);
 			when(jupiterConfiguration.getDefaultDisplayNameGenerator()).thenReturn(new DisplayNameGenerator.Standard());
+			when(jupiterConfiguration.getDynamicTestsInFlightLimit()).thenReturn(Integer.MAX_VALUE);
 
 			extensionContext = mock(ExtensionContext.class);
 			isClosed = false;
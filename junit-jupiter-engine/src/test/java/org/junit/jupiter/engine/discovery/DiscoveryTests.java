@@ -16,8 +16,11 @@ import static org.junit.jupiter.engine.discovery.JupiterUniqueIdBuilder.uniqueId
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectNestedClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectNestedMethod;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.TagFilter.excludeTags;
+import static org.junit.platform.launcher.TagFilter.includeTags;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
 import java.lang.annotation.Retention;
@@ -26,6 +29,7 @@ import java.lang.reflect.Method;
 import java.util.List;
 
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestTemplate;
@@ -160,6 +164,48 @@ class DiscoveryTests extends AbstractJupiterTestEngineTests {
 		assertThat(methodDescriptor.getTestMethod().getName()).isEqualTo("test");
 	}
 
+	@Test
+	void doNotResolveTestClassesWithoutIncludedTags() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectClass(LocalTestCase.class), selectClass(TaggedTestCase.class)) //
+				.filters(includeTags("fast")) //
+				.build();
+
+		TestDescriptor engineDescriptor = discoverTests(request);
+
+		assertThat(engineDescriptor.getChildren()) //
+				.extracting(child -> ((ClassTestDescriptor) child).getTestClass().getName()) //
+				.containsExactly(TaggedTestCase.class.getName());
+	}
+
+	@Test
+	void resolveTestClassesWithIncludedTagsOnNestedClasses() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectClass(TaggedTestCase.class)) //
+				.filters(excludeTags("fast")) //
+				.build();
+
+		TestDescriptor engineDescriptor = discoverTests(request);
+
+		ClassTestDescriptor classDescriptor = (ClassTestDescriptor) getOnlyElement(engineDescriptor.getChildren());
+		assertThat(classDescriptor.getTestClass()).isEqualTo(TaggedTestCase.class);
+		assertThat(classDescriptor.getChildren()) //
+				.extracting(TestDescriptor::getDisplayName) //
+				.contains("SlowTests");
+	}
+
+	@Test
+	void doNotResolveNestedTestClassesWithoutIncludedTags() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectNestedClass(List.of(TaggedTestCase.class), TaggedTestCase.SlowTests.class)) //
+				.filters(includeTags("fast")) //
+				.build();
+
+		TestDescriptor engineDescriptor = discoverTests(request);
+
+		assertThat(engineDescriptor.getDescendants()).isEmpty();
+	}
+
 	// -------------------------------------------------------------------
 
 	private static abstract class AbstractTestCase {
@@ -227,4 +273,21 @@ class DiscoveryTests extends AbstractJupiterTestEngineTests {
 		}
 	}
 
+	static class TaggedTestCase {
+
+		@Test
+		@Tag("fast")
+		void fastTest() {
+		}
+
+		@Nested
+		@Tag("slow")
+		class SlowTests {
+
+			@Test
+			void slowTest() {
+			}
+		}
+	}
+
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.engine.extension.HashedWheelTimer.Timeout;
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * @since 5.8
+ */
+class HashedWheelTimerTests {
+
+	private final HashedWheelTimer timer = new HashedWheelTimer("test-timer", 1, MILLISECONDS, 8);
+
+	@AfterEach
+	void stopTimer() throws Exception {
+		assertTrue(timer.stop(5, SECONDS));
+	}
+
+	@Test
+	void executesExpiredTask() throws Exception {
+		var latch = new CountDownLatch(1);
+
+		var timeout = timer.schedule(latch::countDown, 1, NANOSECONDS);
+
+		assertTrue(latch.await(5, SECONDS));
+		timeout.awaitCompletion();
+		assertFalse(timeout.cancel());
+	}
+
+	@Test
+	void executesTasksWhoseDelayExceedsOneRotationOfTheWheel() throws Exception {
+		var latch = new CountDownLatch(1);
+
+		timer.schedule(latch::countDown, 20, MILLISECONDS);
+
+		assertTrue(latch.await(5, SECONDS));
+	}
+
+	@Test
+	void doesNotExecuteCancelledTask() throws Exception {
+		var executions = new AtomicInteger();
+
+		var timeout = timer.schedule(executions::incrementAndGet, 20, MILLISECONDS);
+
+		assertTrue(timeout.cancel());
+		assertTrue(timeout.cancel());
+		Thread.sleep(50);
+		assertEquals(0, executions.get());
+	}
+
+	@Test
+	void doesNotExecuteTaskWithVeryLongDelay() throws Exception {
+		var executions = new AtomicInteger();
+
+		var timeout = timer.schedule(executions::incrementAndGet, Long.MAX_VALUE, NANOSECONDS);
+
+		Thread.sleep(50);
+		assertEquals(0, executions.get());
+		assertTrue(timeout.cancel());
+	}
+
+	@Test
+	void removesCancelledTimeoutsBeforeBecomingIdle() throws Exception {
+		List<Timeout> timeouts = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			timeouts.add(timer.schedule(() -> {
+			}, 1, DAYS));
+		}
+		Thread.sleep(20);
+
+		timeouts.forEach(Timeout::cancel);
+
+		var deadline = System.nanoTime() + SECONDS.toNanos(5);
+		while (timer.countScheduledTimeouts() > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+		assertEquals(0, timer.countScheduledTimeouts());
+	}
+
+	@Test
+	void executesTasksScheduledFromManyThreads() throws Exception {
+		var latch = new CountDownLatch(100);
+		List<Thread> threads = new ArrayList<>();
+		List<Timeout> cancelled = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			threads.add(new Thread(() -> {
+				for (int j = 0; j < 10; j++) {
+					timer.schedule(latch::countDown, j, MILLISECONDS);
+				}
+			}));
+		}
+		threads.forEach(Thread::start);
+		for (int i = 0; i < 100; i++) {
+			cancelled.add(timer.schedule(latch::countDown, 1, DAYS));
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertTrue(latch.await(5, SECONDS));
+		assertTrue(cancelled.stream().allMatch(Timeout::cancel));
+	}
+
+	@Test
+	void resumesTickingAfterBeingIdle() throws Exception {
+		var first = new CountDownLatch(1);
+		timer.schedule(first::countDown, 1, MILLISECONDS);
+		assertTrue(first.await(5, SECONDS));
+
+		Thread.sleep(20);
+
+		var second = new CountDownLatch(1);
+		timer.schedule(second::countDown, 1, MILLISECONDS);
+		assertTrue(second.await(5, SECONDS));
+	}
+
+	@Test
+	void rejectsTasksAfterBeingStopped() throws Exception {
+		assertTrue(timer.stop(5, SECONDS));
+
+		assertThrows(PreconditionViolationException.class, () -> timer.schedule(() -> {
+		}, 1, MILLISECONDS));
+	}
+
+}
@@ -15,10 +15,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+import static org.junit.jupiter.engine.Constants.TEMP_DIR_BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.TEMP_DIR_BACKGROUND_PARALLELISM_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.TEMP_DIR_POOL_DIRECTORY_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.TEMP_DIR_POOL_SIZE_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
@@ -26,11 +33,19 @@ import static org.junit.platform.testkit.engine.TestExecutionResultConditions.me
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Supplier;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
 
 import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.AfterAll;
@@ -51,6 +66,7 @@ import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+import org.junit.jupiter.engine.extension.TempDirectoryTemplate.ArchiveFileSystems;
 import org.junit.platform.testkit.engine.EngineExecutionResults;
 
 /**
@@ -68,6 +84,7 @@ class TempDirectoryTests extends AbstractJupiterTestEngineTests {
 		BaseSharedTempDirParameterInjectionTestCase.tempDir = null;
 		BaseSeparateTempDirsFieldInjectionTestCase.tempDirs.clear();
 		BaseSeparateTempDirsParameterInjectionTestCase.tempDirs.clear();
+		RecordingTempDirsTestCase.tempDirs.clear();
 	}
 
 	@Test
@@ -755,11 +772,207 @@ class TempDirectoryTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	@Nested
+	@DisplayName("when configured to clean up in the background and to pool temp dirs")
+	class BackgroundCleanupAndPooling {
+
+		@Test
+		@DisplayName("deletes temp dirs before the engine finishes")
+		void deletesTempDirsInBackground() {
+			var results = executeTests(request() //
+					.selectors(selectClass(RecordingTempDirsTestCase.class)) //
+					.configurationParameter(TEMP_DIR_BACKGROUND_CLEANUP_ENABLED_PROPERTY_NAME, "true") //
+					.configurationParameter(TEMP_DIR_BACKGROUND_PARALLELISM_PROPERTY_NAME, "2") //
+					.build());
+
+			results.allEvents().assertStatistics(stats -> stats.failed(0));
+			assertThat(RecordingTempDirsTestCase.tempDirs).hasSize(2).noneMatch(Files::exists);
+		}
+
+		@Test
+		@DisplayName("creates temp dirs in pool directory and deletes unused ones")
+		void createsTempDirsInPoolDirectory(@TempDir Path tempDir) throws IOException {
+			Path poolDir = tempDir.resolve("pool");
+
+			var results = executeTests(request() //
+					.selectors(selectClass(RecordingTempDirsTestCase.class)) //
+					.configurationParameter(TEMP_DIR_POOL_SIZE_PROPERTY_NAME, "3") //
+					.configurationParameter(TEMP_DIR_POOL_DIRECTORY_PROPERTY_NAME, poolDir.toString()) //
+					.build());
+
+			results.allEvents().assertStatistics(stats -> stats.failed(0));
+			assertThat(RecordingTempDirsTestCase.tempDirs).hasSize(2).allMatch(dir -> dir.getParent().equals(poolDir));
+			try (var remainingFiles = Files.list(poolDir)) {
+				assertThat(remainingFiles).isEmpty();
+			}
+		}
+
+	}
+
+	@Nested
+	@DisplayName("when a template is specified")
+	class Templates {
+
+		@Test
+		@DisplayName("copies the contents of a classpath template")
+		void copiesContentsOfClasspathTemplate() {
+			executeTestsForClass(ClasspathTemplateTestCase.class).testEvents()//
+					.assertStatistics(stats -> stats.started(2).succeeded(2));
+		}
+
+		@Test
+		@DisplayName("fails if the template does not exist")
+		void failsIfTemplateDoesNotExist() {
+			var results = executeTestsForClass(MissingTemplateTestCase.class);
+
+			assertSingleFailedTest(results, instanceOf(ParameterResolutionException.class),
+				cause(instanceOf(ExtensionConfigurationException.class),
+					message("@TempDir template [classpath:does-not-exist] does not exist on the classpath")));
+		}
+
+		@Test
+		@DisplayName("copies files of a file system template")
+		void copiesFilesOfFileSystemTemplate(@TempDir Path tempDir) throws IOException {
+			Path template = Files.createDirectory(tempDir.resolve("template"));
+			Path target = Files.createDirectory(tempDir.resolve("target"));
+			Files.createDirectories(template.resolve("a/b"));
+			Files.write(template.resolve("a/b/file.txt"), "content".getBytes());
+
+			TempDirectoryTemplate.resolve(template.toString(), new ArchiveFileSystems()).materialize(target, false);
+
+			assertThat(target.resolve("a/b/file.txt")).hasContent("content");
+			assertThat(Files.isSameFile(template.resolve("a/b/file.txt"), target.resolve("a/b/file.txt"))).isFalse();
+		}
+
+		@Test
+		@DisplayName("links files of a file system template if enabled")
+		void linksFilesOfFileSystemTemplate(@TempDir Path tempDir) throws IOException {
+			Path template = Files.createDirectory(tempDir.resolve("template"));
+			Path target = Files.createDirectory(tempDir.resolve("target"));
+			Files.write(template.resolve("file.txt"), "content".getBytes());
+
+			TempDirectoryTemplate.resolve(template.toString(), new ArchiveFileSystems()).materialize(target, true);
+
+			assertThat(target.resolve("file.txt")).hasContent("content");
+			assumeTrue(Files.getFileStore(template).supportsFileAttributeView("unix"), "hard links not supported");
+			assertThat(Files.isSameFile(template.resolve("file.txt"), target.resolve("file.txt"))).isTrue();
+		}
+
+		@Test
+		@DisplayName("closes file systems of archive templates")
+		void closesFileSystemsOfArchiveTemplates(@TempDir Path tempDir) throws Exception {
+			Path jarFile = createTemplateJar(tempDir.resolve("template.jar"), "jar-template");
+			Path target = Files.createDirectory(tempDir.resolve("target"));
+			var archiveUri = URI.create("jar:" + jarFile.toUri());
+			var archiveFileSystems = new ArchiveFileSystems();
+
+			materializeFromJar(jarFile, "classpath:jar-template", archiveFileSystems, target);
+
+			assertThat(target.resolve("file.txt")).hasContent("content");
+			assertTrue(FileSystems.getFileSystem(archiveUri).isOpen());
+
+			archiveFileSystems.close();
+
+			assertThrows(FileSystemNotFoundException.class, () -> FileSystems.getFileSystem(archiveUri));
+		}
+
+		@Test
+		@DisplayName("resolves archive templates whose names contain spaces")
+		void resolvesArchiveTemplatesWithSpacesInName(@TempDir Path tempDir) throws Exception {
+			Path jarFile = createTemplateJar(tempDir.resolve("template.jar"), "jar template");
+			Path target = Files.createDirectory(tempDir.resolve("target"));
+
+			var archiveFileSystems = new ArchiveFileSystems();
+			try {
+				materializeFromJar(jarFile, "classpath:jar template", archiveFileSystems, target);
+			}
+			finally {
+				archiveFileSystems.close();
+			}
+
+			assertThat(target.resolve("file.txt")).hasContent("content");
+		}
+
+		private Path createTemplateJar(Path jarFile, String templateName) throws IOException {
+			try (var out = new JarOutputStream(Files.newOutputStream(jarFile))) {
+				out.putNextEntry(new ZipEntry(templateName + "/"));
+				out.closeEntry();
+				out.putNextEntry(new ZipEntry(templateName + "/file.txt"));
+				out.write("content".getBytes());
+				out.closeEntry();
+			}
+			return jarFile;
+		}
+
+		private void materializeFromJar(Path jarFile, String template, ArchiveFileSystems archiveFileSystems,
+				Path target) throws IOException {
+			var originalClassLoader = Thread.currentThread().getContextClassLoader();
+			try (var classLoader = new URLClassLoader(new URL[] { jarFile.toUri().toURL() }, null)) {
+				Thread.currentThread().setContextClassLoader(classLoader);
+
+				TempDirectoryTemplate.resolve(template, archiveFileSystems).materialize(target, false);
+			}
+			finally {
+				Thread.currentThread().setContextClassLoader(originalClassLoader);
+			}
+		}
+
+	}
+
 	private static void writeFile(Path tempDir, TestInfo testInfo) throws IOException {
 		Path file = tempDir.resolve(testInfo.getTestMethod().orElseThrow().getName() + ".txt");
 		Files.write(file, testInfo.getDisplayName().getBytes());
 	}
 
+	static class RecordingTempDirsTestCase {
+
+		static final Deque<Path> tempDirs = new ConcurrentLinkedDeque<>();
+
+		@Test
+		void test1(@TempDir Path tempDir, TestInfo testInfo) throws Exception {
+			writeFile(tempDir, testInfo);
+			tempDirs.add(tempDir);
+		}
+
+		@Test
+		void test2(@TempDir Path tempDir, TestInfo testInfo) throws Exception {
+			writeFile(tempDir, testInfo);
+			tempDirs.add(tempDir);
+		}
+
+	}
+
+	static class ClasspathTemplateTestCase {
+
+		@TempDir(template = "classpath:tempdir-template")
+		Path tempDir;
+
+		@Test
+		void copiesTemplate() {
+			assertThat(tempDir.resolve("root.txt")).hasContent("root file");
+			assertThat(tempDir.resolve("nested/nested.txt")).hasContent("nested file");
+		}
+
+		@Test
+		void usesSeparateTempDirForDifferentTemplates(@TempDir Path emptyTempDir) throws IOException {
+			assertNotEquals(tempDir, emptyTempDir);
+			try (var files = Files.list(emptyTempDir)) {
+				assertThat(files).isEmpty();
+			}
+			Files.write(tempDir.resolve("root.txt"), "modified".getBytes());
+		}
+
+	}
+
+	static class MissingTemplateTestCase {
+
+		@Test
+		void test(@TempDir(template = "classpath:does-not-exist") Path tempDir) {
+			fail("should not be called");
+		}
+
+	}
+
 	// https://github.com/junit-team/junit5/issues/1748
 	static class TempDirectoryDoesNotPreventConstructorParameterResolutionTestCase {
 
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.engine.extension;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -17,8 +18,6 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.Test;
@@ -31,24 +30,23 @@ class TimeoutInvocationTests {
 
 	@Test
 	void resetsInterruptFlag() {
-		var exception = assertThrows(TimeoutException.class, () -> withExecutor(executor -> {
+		var exception = assertThrows(TimeoutException.class, () -> withTimer(timer -> {
 			var delegate = new EventuallyInterruptibleInvocation();
 			var duration = new TimeoutDuration(1, NANOSECONDS);
-			var timeoutInvocation = new TimeoutInvocation<>(delegate, duration, executor, () -> "execution");
+			var timeoutInvocation = new TimeoutInvocation<>(delegate, duration, timer, () -> "execution");
 			timeoutInvocation.proceed();
 		}));
 		assertFalse(Thread.currentThread().isInterrupted());
 		assertThat(exception).hasMessage("execution timed out after 1 nanosecond");
 	}
 
-	private void withExecutor(ThrowingConsumer<ScheduledExecutorService> consumer) throws Throwable {
-		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+	private void withTimer(ThrowingConsumer<HashedWheelTimer> consumer) throws Throwable {
+		HashedWheelTimer timer = new HashedWheelTimer("test-timer", 1, MILLISECONDS, 64);
 		try {
-			consumer.accept(executor);
+			consumer.accept(timer);
 		}
 		finally {
-			executor.shutdown();
-			assertTrue(executor.awaitTermination(5, SECONDS));
+			assertTrue(timer.stop(5, SECONDS));
 		}
 	}
 }
@@ -15,26 +15,34 @@ import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.util.ClassFileVisitor.CLASS_FILE_SUFFIX;
+import static org.junit.platform.commons.util.ClassFileVisitor.MODULE_INFO_FILE_NAME;
+import static org.junit.platform.commons.util.ClassFileVisitor.PACKAGE_INFO_FILE_NAME;
 import static org.junit.platform.commons.util.StringUtils.isNotBlank;
 
 import java.io.IOException;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.function.Try;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Instrumentation.Span;
 
 /**
  * <h3>DISCLAIMER</h3>
@@ -52,6 +60,7 @@ class ClasspathScanner {
 	private static final char CLASSPATH_RESOURCE_PATH_SEPARATOR = '/';
 	private static final char PACKAGE_SEPARATOR_CHAR = '.';
 	private static final String PACKAGE_SEPARATOR_STRING = String.valueOf(PACKAGE_SEPARATOR_CHAR);
+	private static final String JAR_URI_SEPARATOR = "!";
 
 	/**
 	 * Malformed class name InternalError like reported in #401.
@@ -100,9 +109,19 @@ class ClasspathScanner {
 	}
 
 	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter) {
-		try (CloseablePath closeablePath = CloseablePath.create(baseUri)) {
-			Path baseDir = closeablePath.getPath();
-			return findClassesForPath(baseDir, basePackageName, classFilter);
+		Span span = Instrumentation.getInstance().beginClasspathScan(baseUri, basePackageName);
+		List<Class<?>> classes = emptyList();
+		try {
+			Optional<JarRoot> jarRoot = JarRoot.from(baseUri);
+			if (jarRoot.isPresent()) {
+				classes = findClassesInJar(jarRoot.get(), classFilter);
+			}
+			else {
+				try (CloseablePath closeablePath = CloseablePath.create(baseUri)) {
+					classes = findClassesForPath(closeablePath.getPath(), basePackageName, classFilter);
+				}
+			}
+			return classes;
 		}
 		catch (PreconditionViolationException ex) {
 			throw ex;
@@ -111,6 +130,9 @@ class ClasspathScanner {
 			logger.warn(ex, () -> "Error scanning files for URI " + baseUri);
 			return emptyList();
 		}
+		finally {
+			span.end(classes.size());
+		}
 	}
 
 	private List<Class<?>> findClassesForPath(Path baseDir, String basePackageName, ClassFilter classFilter) {
@@ -126,10 +148,52 @@ class ClasspathScanner {
 		return classes;
 	}
 
+	/**
+	 * Scan for classes in the entries of the supplied JAR file that start with
+	 * its entry prefix.
+	 *
+	 * <p>In contrast to {@link #findClassesForPath}, this reads the central
+	 * directory of the JAR file directly instead of mounting a zip file system
+	 * and walking its directory tree, which is considerably faster for JAR
+	 * files with many entries.
+	 */
+	private List<Class<?>> findClassesInJar(JarRoot jarRoot, ClassFilter classFilter) throws IOException {
+		List<Class<?>> classes = new ArrayList<>();
+		try (ZipFile zipFile = new ZipFile(jarRoot.jarFile.toFile())) {
+			Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while (entries.hasMoreElements()) {
+				String entryName = entries.nextElement().getName();
+				if (entryName.startsWith(jarRoot.entryPrefix) && isClassFileEntry(entryName)) {
+					processClassFileSafely(() -> jarRoot.jarFile + JAR_URI_SEPARATOR + CLASSPATH_RESOURCE_PATH_SEPARATOR
+							+ entryName,
+						() -> determineFullyQualifiedClassName(entryName), classFilter, classes::add);
+				}
+			}
+		}
+		return classes;
+	}
+
+	private static boolean isClassFileEntry(String entryName) {
+		String fileName = entryName.substring(entryName.lastIndexOf(CLASSPATH_RESOURCE_PATH_SEPARATOR) + 1);
+		return fileName.endsWith(CLASS_FILE_SUFFIX) && !fileName.equals(PACKAGE_INFO_FILE_NAME)
+				&& !fileName.equals(MODULE_INFO_FILE_NAME);
+	}
+
+	private static String determineFullyQualifiedClassName(String classFileEntryName) {
+		return classFileEntryName.substring(0, classFileEntryName.length() - CLASS_FILE_SUFFIX.length()).replace(
+			CLASSPATH_RESOURCE_PATH_SEPARATOR, PACKAGE_SEPARATOR_CHAR);
+	}
+
 	private void processClassFileSafely(Path baseDir, String basePackageName, ClassFilter classFilter, Path classFile,
 			Consumer<Class<?>> classConsumer) {
+		processClassFileSafely(() -> classFile.toAbsolutePath().toString(),
+			() -> determineFullyQualifiedClassName(baseDir, basePackageName, classFile), classFilter, classConsumer);
+	}
+
+	private void processClassFileSafely(Supplier<String> classFile, Supplier<String> fullyQualifiedClassNameSupplier,
+			ClassFilter classFilter, Consumer<Class<?>> classConsumer) {
 		try {
-			String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, classFile);
+			String fullyQualifiedClassName = fullyQualifiedClassNameSupplier.get();
 			if (classFilter.match(fullyQualifiedClassName)) {
 				try {
 					// @formatter:off
@@ -140,12 +204,12 @@ class ClasspathScanner {
 					// @formatter:on
 				}
 				catch (InternalError internalError) {
-					handleInternalError(classFile, fullyQualifiedClassName, internalError);
+					handleInternalError(classFile.get(), fullyQualifiedClassName, internalError);
 				}
 			}
 		}
 		catch (Throwable throwable) {
-			handleThrowable(classFile, throwable);
+			handleThrowable(classFile.get(), throwable);
 		}
 	}
 
@@ -177,7 +241,7 @@ class ClasspathScanner {
 		return subpackageName;
 	}
 
-	private void handleInternalError(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void handleInternalError(String classFile, String fullyQualifiedClassName, InternalError ex) {
 		if (MALFORMED_CLASS_NAME_ERROR_MESSAGE.equals(ex.getMessage())) {
 			logMalformedClassName(classFile, fullyQualifiedClassName, ex);
 		}
@@ -186,15 +250,15 @@ class ClasspathScanner {
 		}
 	}
 
-	private void handleThrowable(Path classFile, Throwable throwable) {
+	private void handleThrowable(String classFile, Throwable throwable) {
 		UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
 		logGenericFileProcessingException(classFile, throwable);
 	}
 
-	private void logMalformedClassName(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void logMalformedClassName(String classFile, String fullyQualifiedClassName, InternalError ex) {
 		try {
 			logger.debug(ex, () -> format("The java.lang.Class loaded from path [%s] has a malformed class name [%s].",
-				classFile.toAbsolutePath(), fullyQualifiedClassName));
+				classFile, fullyQualifiedClassName));
 		}
 		catch (Throwable t) {
 			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
@@ -203,9 +267,9 @@ class ClasspathScanner {
 		}
 	}
 
-	private void logGenericFileProcessingException(Path classFile, Throwable throwable) {
+	private void logGenericFileProcessingException(String classFile, Throwable throwable) {
 		logger.debug(throwable, () -> format("Failed to load java.lang.Class for path [%s] during classpath scanning.",
-			classFile.toAbsolutePath()));
+			classFile));
 	}
 
 	private ClassLoader getClassLoader() {
@@ -236,4 +300,54 @@ class ClasspathScanner {
 		}
 	}
 
+	/**
+	 * A JAR file on the local file system and the prefix of the entries to
+	 * scan within it.
+	 */
+	private static class JarRoot {
+
+		private static final String FILE_URI_SCHEME = "file";
+		private static final String JAR_URI_SCHEME = "jar";
+		private static final String JAR_FILE_EXTENSION = ".jar";
+
+		/**
+		 * Create a {@code JarRoot} for the supplied URI if it refers to a JAR
+		 * file or a directory within a JAR file on the local file system.
+		 */
+		static Optional<JarRoot> from(URI uri) throws URISyntaxException {
+			if (JAR_URI_SCHEME.equals(uri.getScheme())) {
+				String[] parts = uri.getRawSchemeSpecificPart().split(JAR_URI_SEPARATOR);
+				URI jarFileUri = new URI(parts[0]);
+				if (parts.length != 2 || !FILE_URI_SCHEME.equals(jarFileUri.getScheme())) {
+					// e.g. nested JAR files
+					return Optional.empty();
+				}
+				String rawEntryPath = parts[1].startsWith(String.valueOf(CLASSPATH_RESOURCE_PATH_SEPARATOR))
+						? parts[1]
+						: CLASSPATH_RESOURCE_PATH_SEPARATOR + parts[1];
+				// entry names in the central directory are not percent-encoded
+				String entryPrefix = new URI(rawEntryPath).getPath().substring(1);
+				return from(jarFileUri, entryPrefix);
+			}
+			if (FILE_URI_SCHEME.equals(uri.getScheme()) && uri.getPath().endsWith(JAR_FILE_EXTENSION)) {
+				return from(uri, "");
+			}
+			return Optional.empty();
+		}
+
+		private static Optional<JarRoot> from(URI jarFileUri, String entryPrefix) {
+			Path jarFile = Paths.get(jarFileUri);
+			return Files.isRegularFile(jarFile) ? Optional.of(new JarRoot(jarFile, entryPrefix)) : Optional.empty();
+		}
+
+		private final Path jarFile;
+		private final String entryPrefix;
+
+		private JarRoot(Path jarFile, String entryPrefix) {
+			this.jarFile = jarFile;
+			this.entryPrefix = entryPrefix;
+		}
+
+	}
+
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.net.URI;
+import java.util.ServiceLoader;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apiguardian.api.API;
+
+/**
+ * Hooks for recording low-level diagnostic information about the discovery
+ * and execution of tests, for example as Java Flight Recorder events.
+ *
+ * <p>The instance returned by {@link #getInstance()} is loaded once via Java's
+ * {@link ServiceLoader} mechanism. If no implementation is registered, all
+ * hooks are no-ops.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.8
+ */
+@API(status = INTERNAL, since = "1.8")
+public interface Instrumentation {
+
+	/**
+	 * Get the registered {@code Instrumentation} or a no-op implementation if
+	 * none is registered.
+	 */
+	static Instrumentation getInstance() {
+		return InstrumentationHolder.INSTANCE;
+	}
+
+	/**
+	 * Called before scanning the supplied classpath root for classes in the
+	 * supplied base package.
+	 *
+	 * @return a span that must be {@linkplain Span#end(int) ended} with the
+	 * number of classes found
+	 */
+	default Span beginClasspathScan(URI root, String basePackageName) {
+		return Span.NOOP;
+	}
+
+	/**
+	 * Called before the supplied task attempts to acquire the locks of the
+	 * resources it requires; the {@code toString()} representation of the
+	 * task is only computed if the span is recorded.
+	 *
+	 * @return a span that must be {@linkplain Span#end() ended} once the locks
+	 * have been acquired
+	 */
+	default Span beginLockAcquisition(Object task) {
+		return Span.NOOP;
+	}
+
+	/**
+	 * Called before invoking a callback of the supplied type on the supplied
+	 * extension.
+	 *
+	 * @return a span that must be {@linkplain Span#end() ended} once the
+	 * callback has returned
+	 */
+	default Span beginExtensionCallback(Class<?> callbackType, Object extension) {
+		return Span.NOOP;
+	}
+
+	/**
+	 * Called when a {@link ForkJoinPool} used to execute tests has been
+	 * created.
+	 */
+	default void forkJoinPoolStarted(ForkJoinPool pool) {
+	}
+
+	/**
+	 * Called when a {@link ForkJoinPool} used to execute tests is being shut
+	 * down.
+	 */
+	default void forkJoinPoolStopped(ForkJoinPool pool) {
+	}
+
+	/**
+	 * A measured span of time.
+	 */
+	interface Span {
+
+		Span NOOP = new Span() {
+		};
+
+		/**
+		 * End this span.
+		 */
+		default void end() {
+		}
+
+		/**
+		 * End this span, recording the supplied number of processed items.
+		 */
+		default void end(int count) {
+			end();
+		}
+
+	}
+
+}
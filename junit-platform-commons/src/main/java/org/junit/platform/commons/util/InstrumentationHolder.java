@@ -0,0 +1,48 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Lazily loads the registered {@link Instrumentation}.
+ *
+ * @since 1.8
+ */
+final class InstrumentationHolder {
+
+	static final Instrumentation INSTANCE = load();
+
+	private static Instrumentation load() {
+		try {
+			Iterator<Instrumentation> iterator = ServiceLoader.load(Instrumentation.class,
+				ClassLoaderUtils.getDefaultClassLoader()).iterator();
+			if (iterator.hasNext()) {
+				return iterator.next();
+			}
+		}
+		catch (ServiceConfigurationError | LinkageError error) {
+			LoggerFactory.getLogger(Instrumentation.class).warn(error,
+				() -> "Failed to load instrumentation; diagnostic events will not be recorded");
+		}
+		return new Instrumentation() {
+		};
+	}
+
+	private InstrumentationHolder() {
+		/* no-op */
+	}
+
+}
@@ -12,7 +12,6 @@ package org.junit.platform.commons.util;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.function.Supplier;
 
@@ -162,7 +161,9 @@ public final class Preconditions {
 	 */
 	public static <T> T[] containsNoNullElements(T[] array, String message) throws PreconditionViolationException {
 		if (array != null) {
-			Arrays.stream(array).forEach(object -> notNull(object, message));
+			for (T object : array) {
+				notNull(object, message);
+			}
 		}
 		return array;
 	}
@@ -184,7 +185,9 @@ public final class Preconditions {
 			throws PreconditionViolationException {
 
 		if (array != null) {
-			Arrays.stream(array).forEach(object -> notNull(object, messageSupplier));
+			for (T object : array) {
+				notNull(object, messageSupplier);
+			}
 		}
 		return array;
 	}
@@ -206,7 +209,9 @@ public final class Preconditions {
 			throws PreconditionViolationException {
 
 		if (collection != null) {
-			collection.forEach(object -> notNull(object, message));
+			for (Object object : collection) {
+				notNull(object, message);
+			}
 		}
 		return collection;
 	}
@@ -228,7 +233,9 @@ public final class Preconditions {
 			throws PreconditionViolationException {
 
 		if (collection != null) {
-			collection.forEach(object -> notNull(object, messageSupplier));
+			for (Object object : collection) {
+				notNull(object, messageSupplier);
+			}
 		}
 		return collection;
 	}
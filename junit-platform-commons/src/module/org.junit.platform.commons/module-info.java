@@ -43,6 +43,7 @@ module org.junit.platform.commons {
 			org.junit.jupiter.params,
 			org.junit.platform.console,
 			org.junit.platform.engine,
+			org.junit.platform.jfr,
 			org.junit.platform.launcher,
 			org.junit.platform.reporting,
 			org.junit.platform.runner,
@@ -51,4 +52,6 @@ module org.junit.platform.commons {
 			org.junit.platform.suite.engine,
 			org.junit.platform.testkit,
 			org.junit.vintage.engine;
+
+	uses org.junit.platform.commons.util.Instrumentation;
 }
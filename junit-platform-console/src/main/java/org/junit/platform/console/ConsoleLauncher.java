@@ -13,14 +13,22 @@ package org.junit.platform.console;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
+import java.io.IOException;
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.console.options.CommandLineOptions;
 import org.junit.platform.console.options.CommandLineOptionsParser;
 import org.junit.platform.console.options.PicocliCommandLineOptionsParser;
+import org.junit.platform.console.tasks.ConsoleDaemon;
+import org.junit.platform.console.tasks.ConsoleDaemonClient;
 import org.junit.platform.console.tasks.ConsoleTestExecutor;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
 
@@ -33,6 +41,8 @@ import org.junit.platform.launcher.listeners.TestExecutionSummary;
 @API(status = MAINTAINED, since = "1.0")
 public class ConsoleLauncher {
 
+	private static final long DAEMON_SHUTDOWN_TIMEOUT_SECONDS = 10;
+
 	public static void main(String... args) {
 		int exitCode = execute(System.out, System.err, args).getExitCode();
 		System.exit(exitCode);
@@ -70,6 +80,17 @@ public class ConsoleLauncher {
 				commandLineOptionsParser.printHelp(out, options.isAnsiColorOutputDisabled());
 				return ConsoleLauncherExecutionResult.success();
 			}
+			if (options.isStartDaemon()) {
+				return startDaemon(options);
+			}
+			if (options.getDaemonDirectory().isPresent()) {
+				Optional<Integer> exitCode = ConsoleDaemonClient.execute(options.getDaemonDirectory().get(),
+					Paths.get(System.getProperty("user.dir")), Arrays.asList(args), out);
+				if (exitCode.isPresent()) {
+					return ConsoleLauncherExecutionResult.forExitCode(exitCode.get());
+				}
+				out.println("No running daemon found, executing tests in this JVM.");
+			}
 			return executeTests(options, out);
 		}
 		catch (JUnitException ex) {
@@ -90,8 +111,42 @@ public class ConsoleLauncher {
 		out.println();
 	}
 
+	private ConsoleLauncherExecutionResult startDaemon(CommandLineOptions options) {
+		Path directory = options.getDaemonDirectory().orElseThrow(IllegalStateException::new);
+		try (ConsoleDaemon daemon = new ConsoleDaemon(directory, commandLineOptionsParser)) {
+			// the shutdown hook makes run() return and waits for the daemon to be closed below
+			Thread shutdownHook = new Thread(
+				() -> daemon.stopAndAwaitClose(DAEMON_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+			Runtime.getRuntime().addShutdownHook(shutdownHook);
+			try {
+				daemon.run(out);
+			}
+			finally {
+				removeShutdownHook(shutdownHook);
+			}
+			return ConsoleLauncherExecutionResult.success();
+		}
+		catch (IOException exception) {
+			exception.printStackTrace(err);
+			return ConsoleLauncherExecutionResult.failed();
+		}
+	}
+
+	private static void removeShutdownHook(Thread shutdownHook) {
+		try {
+			Runtime.getRuntime().removeShutdownHook(shutdownHook);
+		}
+		catch (IllegalStateException ex) {
+			// the JVM is already shutting down
+		}
+	}
+
 	private ConsoleLauncherExecutionResult executeTests(CommandLineOptions options, PrintWriter out) {
 		try {
+			if (options.isWatch()) {
+				new ConsoleTestExecutor(options).watch(out);
+				return ConsoleLauncherExecutionResult.success();
+			}
 			TestExecutionSummary testExecutionSummary = new ConsoleTestExecutor(options).execute(out);
 			return ConsoleLauncherExecutionResult.forSummary(testExecutionSummary, options);
 		}
@@ -59,6 +59,10 @@ public class ConsoleLauncherExecutionResult {
 		return new ConsoleLauncherExecutionResult(FAILED, null);
 	}
 
+	static ConsoleLauncherExecutionResult forExitCode(int exitCode) {
+		return new ConsoleLauncherExecutionResult(exitCode, null);
+	}
+
 	static ConsoleLauncherExecutionResult forSummary(TestExecutionSummary summary, CommandLineOptions options) {
 		int exitCode = computeExitCode(summary, options);
 		return new ConsoleLauncherExecutionResult(exitCode, summary);
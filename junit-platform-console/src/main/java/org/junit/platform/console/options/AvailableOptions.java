@@ -235,6 +235,64 @@ class AvailableOptions {
 	@Option(names = { "--E", "-exclude-engine" }, arity = "1", hidden = true)
 	private List<String> excludedEngines2 = new ArrayList<>();
 
+	// --- Sharding --------------------------------------------------------
+
+	@Option(names = "--shard-index", paramLabel = "INDEX", description = "EXPERIMENTAL: Execute only the tests of the shard with the "
+			+ "supplied zero-based index. Requires --shard-count.")
+	private Integer shardIndex;
+
+	@Option(names = "--shard-count", paramLabel = "COUNT", description = "EXPERIMENTAL: Partition the discovered tests into the supplied "
+			+ "number of shards. Top-level containers, such as test classes, are never split. Requires --shard-index.")
+	private Integer shardCount;
+
+	@Option(names = "--shard-timings", paramLabel = "FILE", description = "EXPERIMENTAL: Balance shards based on the durations recorded "
+			+ "in the supplied file, and record the durations of the current execution in it.")
+	private Path shardTimingsFile;
+
+	@Option(names = "--shard-timings-digest", paramLabel = "SHA256", description = "EXPERIMENTAL: Fail unless the SHA-256 digest of "
+			+ "the file supplied via --shard-timings matches, ensuring that all shards read the same timings. Requires --shard-timings.")
+	private String shardTimingsDigest;
+
+	// --- Test Impact Analysis --------------------------------------------
+
+	@Option(names = "--changed-class", paramLabel = "CLASS", arity = "1", description = "EXPERIMENTAL: Provide the fully qualified "
+			+ "name of a changed class to execute only test classes that directly or transitively reference it. This option can be repeated.")
+	private List<String> changedClasses = new ArrayList<>();
+
+	@Option(names = "--class-dependency-cache", paramLabel = "FILE", description = "EXPERIMENTAL: Cache the class dependency graph "
+			+ "used for --changed-class in the supplied file to only read changed class files in subsequent executions.")
+	private Path classDependencyCacheFile;
+
+	@Option(names = "--test-result-cache", paramLabel = "DIR", description = "EXPERIMENTAL: Record passed test classes in the "
+			+ "supplied directory and skip them in subsequent executions unless they or any class they reference changed.")
+	private Path testResultCacheDirectory;
+
+	// --- Forked Execution ------------------------------------------------
+
+	@Option(names = "--fork-count", paramLabel = "COUNT", description = "EXPERIMENTAL: Execute top-level containers, such as test "
+			+ "classes, in the supplied number of forked JVMs that are reused across containers. Default: 0 (execute in the current JVM).")
+	private int forkCount = 0;
+
+	@Option(names = "--fork-jvm-option", paramLabel = "OPTION", arity = "1", description = "EXPERIMENTAL: Provide an option for "
+			+ "the forked JVMs, e.g. --fork-jvm-option=-Xmx512m. This option can be repeated.")
+	private List<String> forkJvmOptions = new ArrayList<>();
+
+	// --- Daemon ----------------------------------------------------------
+
+	@Option(names = "--daemon", paramLabel = "DIR", description = "EXPERIMENTAL: Execute tests in the daemon started with the "
+			+ "supplied directory, if it is running. Otherwise, tests are executed in the current JVM.")
+	private Path daemonDirectory;
+
+	@Option(names = "--start-daemon", description = "EXPERIMENTAL: Start a daemon that keeps test engines loaded and executes tests "
+			+ "for subsequent invocations with the same --daemon directory. Requires --daemon.")
+	private boolean startDaemon;
+
+	// --- Watch Mode ------------------------------------------------------
+
+	@Option(names = "--watch", description = "EXPERIMENTAL: After executing all tests, watch the directories supplied via "
+			+ "--class-path for changed class files and re-execute the affected tests until the process is terminated.")
+	private boolean watch;
+
 	// --- Configuration Parameters ----------------------------------------
 
 	// Implementation note: the @Option annotation is on a setter method to allow validation.
@@ -326,6 +384,53 @@ class AvailableOptions {
 		result.setIncludedEngines(merge(this.includedEngines, this.includedEngines2));
 		result.setExcludedEngines(merge(this.excludedEngines, this.excludedEngines2));
 
+		// Sharding
+		if ((this.shardIndex == null) != (this.shardCount == null)) {
+			throw new ParameterException(spec.commandLine(),
+				"The --shard-index and --shard-count options must be used together.");
+		}
+		if (this.shardCount != null) {
+			if (this.shardCount < 1 || this.shardIndex < 0 || this.shardIndex >= this.shardCount) {
+				throw new ParameterException(spec.commandLine(), String.format(
+					"Invalid shard index %d for shard count %d: the shard count must be positive and the "
+							+ "shard index must be between 0 and the shard count minus 1.",
+					this.shardIndex, this.shardCount));
+			}
+			result.setShardIndex(this.shardIndex);
+			result.setShardCount(this.shardCount);
+		}
+		result.setShardTimingsFile(this.shardTimingsFile);
+		if (this.shardTimingsDigest != null && this.shardTimingsFile == null) {
+			throw new ParameterException(spec.commandLine(), "The --shard-timings-digest option requires --shard-timings.");
+		}
+		result.setShardTimingsDigest(this.shardTimingsDigest);
+
+		// Test Impact Analysis
+		result.setChangedClasses(this.changedClasses);
+		result.setClassDependencyCacheFile(this.classDependencyCacheFile);
+		result.setTestResultCacheDirectory(this.testResultCacheDirectory);
+
+		// Forked Execution
+		if (this.forkCount < 0) {
+			throw new ParameterException(spec.commandLine(),
+				String.format("Invalid fork count %d: the fork count must not be negative.", this.forkCount));
+		}
+		result.setForkCount(this.forkCount);
+		result.setForkJvmOptions(this.forkJvmOptions);
+
+		// Daemon
+		if (this.startDaemon && this.daemonDirectory == null) {
+			throw new ParameterException(spec.commandLine(), "The --start-daemon option requires --daemon.");
+		}
+		result.setDaemonDirectory(this.daemonDirectory);
+		result.setStartDaemon(this.startDaemon);
+
+		// Watch Mode
+		if (this.watch && this.shardCount != null) {
+			throw new ParameterException(spec.commandLine(), "The --watch option cannot be combined with --shard-count.");
+		}
+		result.setWatch(this.watch);
+
 		// Configuration Parameters
 		result.setConfigurationParameters(this.configurationParameters);
 
@@ -68,6 +68,22 @@ public class CommandLineOptions {
 	private List<String> includedTagExpressions = emptyList();
 	private List<String> excludedTagExpressions = emptyList();
 
+	private int shardIndex = 0;
+	private int shardCount = 1;
+	private Path shardTimingsFile;
+	private String shardTimingsDigest;
+
+	private List<String> changedClasses = emptyList();
+	private Path classDependencyCacheFile;
+	private Path testResultCacheDirectory;
+
+	private int forkCount = 0;
+	private List<String> forkJvmOptions = emptyList();
+
+	private Path daemonDirectory;
+	private boolean startDaemon;
+	private boolean watch;
+
 	private Path reportsDir;
 
 	private Map<String, String> configurationParameters = emptyMap();
@@ -289,6 +305,102 @@ public class CommandLineOptions {
 		this.excludedTagExpressions = excludedTags;
 	}
 
+	public int getShardIndex() {
+		return this.shardIndex;
+	}
+
+	public void setShardIndex(int shardIndex) {
+		this.shardIndex = shardIndex;
+	}
+
+	public int getShardCount() {
+		return this.shardCount;
+	}
+
+	public void setShardCount(int shardCount) {
+		this.shardCount = shardCount;
+	}
+
+	public Optional<Path> getShardTimingsFile() {
+		return Optional.ofNullable(this.shardTimingsFile);
+	}
+
+	public void setShardTimingsFile(Path shardTimingsFile) {
+		this.shardTimingsFile = shardTimingsFile;
+	}
+
+	public Optional<String> getShardTimingsDigest() {
+		return Optional.ofNullable(this.shardTimingsDigest);
+	}
+
+	public void setShardTimingsDigest(String shardTimingsDigest) {
+		this.shardTimingsDigest = shardTimingsDigest;
+	}
+
+	public List<String> getChangedClasses() {
+		return this.changedClasses;
+	}
+
+	public void setChangedClasses(List<String> changedClasses) {
+		this.changedClasses = changedClasses;
+	}
+
+	public Optional<Path> getClassDependencyCacheFile() {
+		return Optional.ofNullable(this.classDependencyCacheFile);
+	}
+
+	public void setClassDependencyCacheFile(Path classDependencyCacheFile) {
+		this.classDependencyCacheFile = classDependencyCacheFile;
+	}
+
+	public Optional<Path> getTestResultCacheDirectory() {
+		return Optional.ofNullable(this.testResultCacheDirectory);
+	}
+
+	public void setTestResultCacheDirectory(Path testResultCacheDirectory) {
+		this.testResultCacheDirectory = testResultCacheDirectory;
+	}
+
+	public int getForkCount() {
+		return this.forkCount;
+	}
+
+	public void setForkCount(int forkCount) {
+		this.forkCount = forkCount;
+	}
+
+	public List<String> getForkJvmOptions() {
+		return this.forkJvmOptions;
+	}
+
+	public void setForkJvmOptions(List<String> forkJvmOptions) {
+		this.forkJvmOptions = forkJvmOptions;
+	}
+
+	public Optional<Path> getDaemonDirectory() {
+		return Optional.ofNullable(this.daemonDirectory);
+	}
+
+	public void setDaemonDirectory(Path daemonDirectory) {
+		this.daemonDirectory = daemonDirectory;
+	}
+
+	public boolean isStartDaemon() {
+		return this.startDaemon;
+	}
+
+	public void setStartDaemon(boolean startDaemon) {
+		this.startDaemon = startDaemon;
+	}
+
+	public boolean isWatch() {
+		return this.watch;
+	}
+
+	public void setWatch(boolean watch) {
+		this.watch = watch;
+	}
+
 	public Optional<Path> getReportsDir() {
 		return Optional.ofNullable(this.reportsDir);
 	}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.util.stream.Collectors.toList;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.console.ConsoleLauncherExecutionResult;
+import org.junit.platform.console.options.CommandLineOptions;
+import org.junit.platform.console.options.CommandLineOptionsParser;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+/**
+ * Long-running process that keeps a {@link LauncherSession}, and thus all
+ * test engines, loaded and executes tests on behalf of
+ * {@link ConsoleDaemonClient ConsoleDaemonClients}.
+ *
+ * <p>The daemon listens on a loopback port that is written to a state file in
+ * its directory along with a random token that clients need to present.
+ * Requests are executed one at a time. Since the test classes are loaded from
+ * the additional class path entries of each request, a fresh class loader is
+ * used for every request while the classes of the JUnit Platform and the test
+ * engines remain loaded.
+ *
+ * <p>Each request consists of the client's working directory and its
+ * command-line arguments. Relative paths in the arguments are resolved against
+ * the client's working directory. The daemon responds with a sequence of
+ * {@link #OUTPUT} frames followed by a single {@link #EXIT_CODE} frame.
+ *
+ * @since 1.8
+ * @see ConsoleDaemonClient
+ */
+@API(status = INTERNAL, since = "1.8")
+public class ConsoleDaemon implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ConsoleDaemon.class);
+
+	static final String STATE_FILE_NAME = "daemon.properties";
+	static final String PORT_KEY = "port";
+	static final String TOKEN_KEY = "token";
+
+	static final byte OUTPUT = 'O';
+	static final byte EXIT_CODE = 'X';
+
+	private static final int REQUEST_TIMEOUT_MILLIS = 10_000;
+	private static final int MAX_OUTPUT_FRAME_LENGTH = 8192;
+
+	private final Path directory;
+	private final CommandLineOptionsParser commandLineOptionsParser;
+	private final String token = ForkedExecutionProtocol.newToken();
+	private final ServerSocket serverSocket;
+	private final LauncherSession session;
+	private final AtomicBoolean closing = new AtomicBoolean();
+	private final CountDownLatch closed = new CountDownLatch(1);
+
+	public ConsoleDaemon(Path directory, CommandLineOptionsParser commandLineOptionsParser) throws IOException {
+		this.directory = directory.toAbsolutePath();
+		this.commandLineOptionsParser = commandLineOptionsParser;
+		this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		this.session = LauncherFactory.openSession();
+	}
+
+	/**
+	 * Publish the state file and execute requests until this daemon is
+	 * {@linkplain #stop() stopped} or {@linkplain #close() closed}.
+	 *
+	 * <p>This method does not close this daemon; that remains the
+	 * responsibility of its creator.
+	 */
+	public void run(PrintWriter out) throws IOException {
+		writeStateFile();
+		out.printf("Daemon listening on port %d, state file: %s%n", this.serverSocket.getLocalPort(), getStateFile());
+		out.flush();
+		while (!this.serverSocket.isClosed()) {
+			Socket socket;
+			try {
+				socket = this.serverSocket.accept();
+			}
+			catch (SocketException ex) {
+				if (this.serverSocket.isClosed()) {
+					break;
+				}
+				throw ex;
+			}
+			try (Socket client = socket) {
+				handle(client);
+			}
+			catch (IOException ex) {
+				logger.warn(ex, () -> "Failed to handle daemon request");
+			}
+		}
+	}
+
+	private void writeStateFile() throws IOException {
+		Files.createDirectories(this.directory);
+		Path tempFile = Files.createTempFile(this.directory, STATE_FILE_NAME, ".tmp");
+		try {
+			restrictToOwner(tempFile);
+			Properties properties = new Properties();
+			properties.setProperty(PORT_KEY, String.valueOf(this.serverSocket.getLocalPort()));
+			properties.setProperty(TOKEN_KEY, this.token);
+			try (OutputStream out = Files.newOutputStream(tempFile)) {
+				properties.store(out, "JUnit Platform console launcher daemon");
+			}
+			try {
+				Files.move(tempFile, getStateFile(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, getStateFile(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private static void restrictToOwner(Path file) throws IOException {
+		try {
+			Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+		}
+		catch (UnsupportedOperationException ex) {
+			// not a POSIX file system
+		}
+	}
+
+	private Path getStateFile() {
+		return this.directory.resolve(STATE_FILE_NAME);
+	}
+
+	private void handle(Socket socket) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+		socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+		if (!ForkedExecutionProtocol.readAndVerifyToken(in, this.token)) {
+			logger.warn(() -> "Rejected daemon request with invalid token");
+			return;
+		}
+		Path workingDirectory = Paths.get(in.readUTF());
+		int argumentCount = in.readInt();
+		List<String> args = new ArrayList<>(argumentCount);
+		for (int i = 0; i < argumentCount; i++) {
+			args.add(in.readUTF());
+		}
+		socket.setSoTimeout(0);
+
+		PrintWriter writer = new PrintWriter(new OutputFrameWriter(out));
+		int exitCode = execute(workingDirectory, args, writer);
+		writer.flush();
+		out.writeByte(EXIT_CODE);
+		out.writeInt(exitCode);
+		out.flush();
+	}
+
+	private int execute(Path workingDirectory, List<String> args, PrintWriter out) {
+		CommandLineOptions options;
+		try {
+			options = this.commandLineOptionsParser.parse(args.toArray(new String[0]));
+			if (options.isStartDaemon() || options.getDaemonDirectory().isPresent()) {
+				throw new JUnitException("The daemon options must not be passed to a running daemon");
+			}
+			if (options.isWatch()) {
+				throw new JUnitException("The --watch option is not supported by the daemon");
+			}
+		}
+		catch (JUnitException ex) {
+			out.println(ex.getMessage());
+			out.println();
+			this.commandLineOptionsParser.printHelp(out, false);
+			return -1;
+		}
+		if (options.isDisplayHelp()) {
+			this.commandLineOptionsParser.printHelp(out, options.isAnsiColorOutputDisabled());
+			return 0;
+		}
+		try {
+			resolvePaths(options, workingDirectory);
+			TestExecutionSummary summary = new ConsoleTestExecutor(options, this.session::getLauncher).execute(out);
+			return ConsoleLauncherExecutionResult.computeExitCode(summary, options);
+		}
+		catch (Exception ex) {
+			ex.printStackTrace(out);
+			return -1;
+		}
+	}
+
+	private static void resolvePaths(CommandLineOptions options, Path workingDirectory) {
+		// @formatter:off
+		options.setAdditionalClasspathEntries(options.getAdditionalClasspathEntries().stream()
+				.map(workingDirectory::resolve)
+				.collect(toList()));
+		options.setSelectedClasspathEntries(options.getSelectedClasspathEntries().stream()
+				.map(workingDirectory::resolve)
+				.collect(toList()));
+		options.setSelectedFiles(options.getSelectedFiles().stream()
+				.map(file -> workingDirectory.resolve(file).toString())
+				.collect(toList()));
+		options.setSelectedDirectories(options.getSelectedDirectories().stream()
+				.map(directory -> workingDirectory.resolve(directory).toString())
+				.collect(toList()));
+		// @formatter:on
+		options.getReportsDir().map(workingDirectory::resolve).ifPresent(options::setReportsDir);
+		options.getShardTimingsFile().map(workingDirectory::resolve).ifPresent(options::setShardTimingsFile);
+		options.getClassDependencyCacheFile().map(workingDirectory::resolve).ifPresent(
+			options::setClassDependencyCacheFile);
+		options.getTestResultCacheDirectory().map(workingDirectory::resolve).ifPresent(
+			options::setTestResultCacheDirectory);
+	}
+
+	/**
+	 * Stop accepting requests so that {@link #run(PrintWriter)} returns once
+	 * the current request, if any, has been executed.
+	 *
+	 * <p>In contrast to {@link #close()}, this method does not release any
+	 * other resources and may thus be called from any thread.
+	 */
+	public void stop() {
+		try {
+			this.serverSocket.close();
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to close daemon server socket");
+		}
+	}
+
+	/**
+	 * {@linkplain #stop() Stop} this daemon and wait up to the supplied
+	 * timeout for its creator to {@linkplain #close() close} it.
+	 *
+	 * <p>Intended to be called from a shutdown hook since the JVM halts as
+	 * soon as all shutdown hooks have completed. If this daemon has not been
+	 * closed in time, e.g. because a request is still being executed, only
+	 * its state file is deleted.
+	 */
+	public void stopAndAwaitClose(long timeout, TimeUnit unit) {
+		stop();
+		try {
+			if (this.closed.await(timeout, unit)) {
+				return;
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		deleteStateFile();
+	}
+
+	/**
+	 * Stop accepting requests, delete the state file, and close the
+	 * {@link LauncherSession}.
+	 *
+	 * <p>Only the first invocation has any effect.
+	 */
+	@Override
+	public void close() {
+		if (!this.closing.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			stop();
+			deleteStateFile();
+			this.session.close();
+		}
+		finally {
+			this.closed.countDown();
+		}
+	}
+
+	private void deleteStateFile() {
+		try {
+			Files.deleteIfExists(getStateFile());
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to delete daemon state file " + getStateFile());
+		}
+	}
+
+	/**
+	 * Sends everything written to it as {@link #OUTPUT} frames.
+	 */
+	private static class OutputFrameWriter extends Writer {
+
+		private final DataOutputStream out;
+
+		OutputFrameWriter(DataOutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public void write(char[] buffer, int offset, int length) throws IOException {
+			// DataOutputStream.writeUTF() is limited to 64 KB per string
+			for (int start = offset; start < offset + length; start += MAX_OUTPUT_FRAME_LENGTH) {
+				int end = Math.min(start + MAX_OUTPUT_FRAME_LENGTH, offset + length);
+				this.out.writeByte(OUTPUT);
+				this.out.writeUTF(new String(buffer, start, end - start));
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			this.out.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+
+	}
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Sends command-line arguments to a running {@link ConsoleDaemon} and relays
+ * its output.
+ *
+ * @since 1.8
+ * @see ConsoleDaemon
+ */
+@API(status = INTERNAL, since = "1.8")
+public final class ConsoleDaemonClient {
+
+	private static final Logger logger = LoggerFactory.getLogger(ConsoleDaemonClient.class);
+
+	private static final String DAEMON_OPTION = "--daemon";
+	private static final int CONNECT_TIMEOUT_MILLIS = 1_000;
+
+	private ConsoleDaemonClient() {
+		/* no-op */
+	}
+
+	/**
+	 * Execute the supplied arguments using the daemon whose state file resides
+	 * in the supplied directory.
+	 *
+	 * @param daemonDirectory the directory of the daemon
+	 * @param workingDirectory the directory relative paths in the arguments
+	 * are resolved against
+	 * @param args the original command-line arguments; the {@code --daemon}
+	 * option is removed before they are sent to the daemon
+	 * @param out the writer to relay the daemon's output to
+	 * @return the exit code of the execution; empty if no daemon is running
+	 */
+	public static Optional<Integer> execute(Path daemonDirectory, Path workingDirectory, List<String> args,
+			PrintWriter out) {
+
+		Properties state = new Properties();
+		try (InputStream in = Files.newInputStream(daemonDirectory.resolve(ConsoleDaemon.STATE_FILE_NAME))) {
+			state.load(in);
+		}
+		catch (NoSuchFileException ex) {
+			return Optional.empty();
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to read daemon state file in " + daemonDirectory);
+			return Optional.empty();
+		}
+
+		int port = Integer.parseInt(state.getProperty(ConsoleDaemon.PORT_KEY));
+		try (Socket socket = new Socket()) {
+			try {
+				socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), CONNECT_TIMEOUT_MILLIS);
+			}
+			catch (IOException ex) {
+				logger.info(() -> "No daemon is listening on port " + port);
+				return Optional.empty();
+			}
+			DataOutputStream request = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			request.writeUTF(state.getProperty(ConsoleDaemon.TOKEN_KEY));
+			request.writeUTF(workingDirectory.toAbsolutePath().toString());
+			List<String> daemonArgs = toDaemonArguments(args, workingDirectory);
+			request.writeInt(daemonArgs.size());
+			for (String arg : daemonArgs) {
+				request.writeUTF(arg);
+			}
+			request.flush();
+			return Optional.of(readResponse(socket, out));
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to communicate with daemon on port " + port, ex);
+		}
+	}
+
+	private static int readResponse(Socket socket, PrintWriter out) throws IOException {
+		DataInputStream response = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+		try {
+			while (true) {
+				byte frameType = response.readByte();
+				if (frameType == ConsoleDaemon.EXIT_CODE) {
+					return response.readInt();
+				}
+				out.print(response.readUTF());
+				if (response.available() == 0) {
+					out.flush();
+				}
+			}
+		}
+		catch (EOFException ex) {
+			throw new JUnitException("Daemon closed the connection before the tests finished", ex);
+		}
+		finally {
+			out.flush();
+		}
+	}
+
+	/**
+	 * Remove the {@code --daemon} option and make argument files absolute since
+	 * the daemon reads them relative to its own working directory.
+	 */
+	static List<String> toDaemonArguments(List<String> args, Path workingDirectory) {
+		List<String> result = new ArrayList<>(args.size());
+		for (int i = 0; i < args.size(); i++) {
+			String arg = args.get(i);
+			if (arg.equals(DAEMON_OPTION)) {
+				i++;
+			}
+			else if (!arg.startsWith(DAEMON_OPTION + "=")) {
+				if (arg.startsWith("@") && !arg.startsWith("@@")) {
+					result.add("@" + workingDirectory.resolve(arg.substring(1)).toAbsolutePath());
+				}
+				else {
+					result.add(arg);
+				}
+			}
+		}
+		return result;
+	}
+
+}
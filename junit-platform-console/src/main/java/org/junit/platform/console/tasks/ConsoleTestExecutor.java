@@ -10,15 +10,19 @@
 
 package org.junit.platform.console.tasks;
 
+import static java.util.Collections.singletonList;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.io.PrintWriter;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
@@ -29,8 +33,12 @@ import org.junit.platform.console.options.Details;
 import org.junit.platform.console.options.Theme;
 import org.junit.platform.launcher.Launcher;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.LauncherSession;
 import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.TestResultCache;
 import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.ShardTimingsListener;
 import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
 import org.junit.platform.reporting.legacy.xml.LegacyXmlReportGeneratingListener;
@@ -48,22 +56,68 @@ public class ConsoleTestExecutor {
 		this(options, LauncherFactory::create);
 	}
 
-	// for tests only
+	// for tests and the ConsoleDaemon
 	ConsoleTestExecutor(CommandLineOptions options, Supplier<Launcher> launcherSupplier) {
 		this.options = options;
 		this.launcherSupplier = launcherSupplier;
 	}
 
 	public TestExecutionSummary execute(PrintWriter out) throws Exception {
-		return new CustomContextClassLoaderExecutor(createCustomClassLoader()).invoke(() -> executeTests(out));
+		return execute(out, creator -> creator.toDiscoveryRequest(options), testPlan -> {
+		});
 	}
 
-	private TestExecutionSummary executeTests(PrintWriter out) {
+	/**
+	 * Execute all tests and afterwards re-execute the tests affected by
+	 * changed class files in the directories supplied via {@code --class-path}
+	 * until the current thread is interrupted.
+	 *
+	 * @since 1.8
+	 * @see TestWatcher
+	 */
+	@API(status = INTERNAL, since = "1.8")
+	public void watch(PrintWriter out) throws Exception {
+		try (LauncherSession session = LauncherFactory.openSession()) {
+			new TestWatcher(options, new ConsoleTestExecutor(options, session::getLauncher)).watch(out);
+		}
+	}
+
+	// for the TestWatcher
+	TestExecutionSummary execute(PrintWriter out,
+			Function<DiscoveryRequestCreator, LauncherDiscoveryRequest> discoveryRequestFactory,
+			Consumer<TestPlan> executedTestPlanConsumer) throws Exception {
+		return new CustomContextClassLoaderExecutor(createCustomClassLoader()).invoke(
+			() -> executeTests(out, discoveryRequestFactory, executedTestPlanConsumer));
+	}
+
+	private TestExecutionSummary executeTests(PrintWriter out,
+			Function<DiscoveryRequestCreator, LauncherDiscoveryRequest> discoveryRequestFactory,
+			Consumer<TestPlan> executedTestPlanConsumer) {
 		Launcher launcher = launcherSupplier.get();
-		SummaryGeneratingListener summaryListener = registerListeners(out, launcher);
+		SummaryGeneratingListener summaryListener = new SummaryGeneratingListener();
+		List<TestExecutionListener> listeners = createListeners(out, summaryListener);
+		Optional<TestResultCache> testResultCache = createTestResultCache();
+		testResultCache.ifPresent(listeners::add);
+		listeners.add(new TestExecutionListener() {
+			@Override
+			public void testPlanExecutionFinished(TestPlan testPlan) {
+				executedTestPlanConsumer.accept(testPlan);
+			}
+		});
+
+		DiscoveryRequestCreator discoveryRequestCreator = testResultCache //
+				.map(cache -> new DiscoveryRequestCreator(singletonList(cache), singletonList(cache))) //
+				.orElseGet(DiscoveryRequestCreator::new);
+		LauncherDiscoveryRequest discoveryRequest = discoveryRequestFactory.apply(discoveryRequestCreator);
+		if (options.getForkCount() > 0) {
+			TestPlan testPlan = launcher.discover(discoveryRequest);
+			new ForkedTestExecutor(options, listeners).execute(testPlan);
+		}
+		else {
+			launcher.execute(discoveryRequest, listeners.toArray(new TestExecutionListener[0]));
+		}
 
-		LauncherDiscoveryRequest discoveryRequest = new DiscoveryRequestCreator().toDiscoveryRequest(options);
-		launcher.execute(discoveryRequest);
+		testResultCache.ifPresent(cache -> printSkippedFromCache(cache, out));
 
 		TestExecutionSummary summary = summaryListener.getSummary();
 		if (summary.getTotalFailureCount() > 0 || options.getDetails() != Details.NONE) {
@@ -73,6 +127,19 @@ public class ConsoleTestExecutor {
 		return summary;
 	}
 
+	private Optional<TestResultCache> createTestResultCache() {
+		return options.getTestResultCacheDirectory().map(directory -> TestResultCache.open(directory,
+			DiscoveryRequestCreator.determineClassDependencyGraphRoots(options), options.getConfigurationParameters()));
+	}
+
+	private void printSkippedFromCache(TestResultCache testResultCache, PrintWriter out) {
+		int skippedCount = testResultCache.getSkippedUniqueIds().size();
+		if (skippedCount > 0 && options.getDetails() != Details.NONE) {
+			out.printf("%nSkipped %d unchanged container(s) that passed before according to the test result cache.%n",
+				skippedCount);
+		}
+	}
+
 	private Optional<ClassLoader> createCustomClassLoader() {
 		List<Path> additionalClasspathEntries = options.getExistingAdditionalClasspathEntries();
 		if (!additionalClasspathEntries.isEmpty()) {
@@ -93,15 +160,17 @@ public class ConsoleTestExecutor {
 		}
 	}
 
-	private SummaryGeneratingListener registerListeners(PrintWriter out, Launcher launcher) {
+	private List<TestExecutionListener> createListeners(PrintWriter out, SummaryGeneratingListener summaryListener) {
+		List<TestExecutionListener> listeners = new ArrayList<>();
 		// always register summary generating listener
-		SummaryGeneratingListener summaryListener = new SummaryGeneratingListener();
-		launcher.registerTestExecutionListeners(summaryListener);
+		listeners.add(summaryListener);
 		// optionally, register test plan execution details printing listener
-		createDetailsPrintingListener(out).ifPresent(launcher::registerTestExecutionListeners);
+		createDetailsPrintingListener(out).ifPresent(listeners::add);
 		// optionally, register XML reports writing listener
-		createXmlWritingListener(out).ifPresent(launcher::registerTestExecutionListeners);
-		return summaryListener;
+		createXmlWritingListener(out).ifPresent(listeners::add);
+		// optionally, register shard timings writing listener
+		options.getShardTimingsFile().map(ShardTimingsListener::new).ifPresent(listeners::add);
+		return listeners;
 	}
 
 	private Optional<TestExecutionListener> createDetailsPrintingListener(PrintWriter out) {
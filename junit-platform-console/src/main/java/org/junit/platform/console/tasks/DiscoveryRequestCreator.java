@@ -10,6 +10,7 @@
 
 package org.junit.platform.console.tasks;
 
+import static java.util.Collections.emptyList;
 import static org.junit.platform.engine.discovery.ClassNameFilter.excludeClassNamePatterns;
 import static org.junit.platform.engine.discovery.ClassNameFilter.includeClassNamePatterns;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathRoots;
@@ -18,6 +19,7 @@ import static org.junit.platform.engine.discovery.PackageNameFilter.excludePacka
 import static org.junit.platform.engine.discovery.PackageNameFilter.includePackageNames;
 import static org.junit.platform.launcher.EngineFilter.excludeEngines;
 import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.ShardFilter.shard;
 import static org.junit.platform.launcher.TagFilter.excludeTags;
 import static org.junit.platform.launcher.TagFilter.includeTags;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
@@ -39,7 +41,12 @@ import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.discovery.ClassNameFilter;
 import org.junit.platform.engine.discovery.ClasspathRootSelector;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.ClassDependencyGraph;
+import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.ShardFilter;
+import org.junit.platform.launcher.TestImpactFilter;
 import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
 
 /**
@@ -47,10 +54,39 @@ import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
  */
 class DiscoveryRequestCreator {
 
+	private final List<PostDiscoveryFilter> additionalPostDiscoveryFilters;
+	private final List<LauncherDiscoveryListener> additionalDiscoveryListeners;
+
+	DiscoveryRequestCreator() {
+		this(emptyList());
+	}
+
+	DiscoveryRequestCreator(List<PostDiscoveryFilter> additionalPostDiscoveryFilters) {
+		this(additionalPostDiscoveryFilters, emptyList());
+	}
+
+	DiscoveryRequestCreator(List<PostDiscoveryFilter> additionalPostDiscoveryFilters,
+			List<LauncherDiscoveryListener> additionalDiscoveryListeners) {
+		this.additionalPostDiscoveryFilters = additionalPostDiscoveryFilters;
+		this.additionalDiscoveryListeners = additionalDiscoveryListeners;
+	}
+
 	LauncherDiscoveryRequest toDiscoveryRequest(CommandLineOptions options) {
+		return toDiscoveryRequest(options, createDiscoverySelectors(options));
+	}
+
+	/**
+	 * Create a discovery request for the supplied selectors instead of those
+	 * specified by the supplied options, e.g. to re-execute affected tests in
+	 * watch mode, while applying all of their filters.
+	 */
+	LauncherDiscoveryRequest toDiscoveryRequest(CommandLineOptions options,
+			List<? extends DiscoverySelector> selectors) {
 		LauncherDiscoveryRequestBuilder requestBuilder = request();
-		requestBuilder.selectors(createDiscoverySelectors(options));
+		requestBuilder.selectors(selectors);
 		addFilters(requestBuilder, options);
+		requestBuilder.filters(this.additionalPostDiscoveryFilters.toArray(new PostDiscoveryFilter[0]));
+		requestBuilder.listeners(this.additionalDiscoveryListeners.toArray(new LauncherDiscoveryListener[0]));
 		requestBuilder.configurationParameters(options.getConfigurationParameters());
 		return requestBuilder.build();
 	}
@@ -129,6 +165,40 @@ class DiscoveryRequestCreator {
 		if (!options.getExcludedEngines().isEmpty()) {
 			requestBuilder.filters(excludeEngines(options.getExcludedEngines()));
 		}
+
+		if (!options.getChangedClasses().isEmpty()) {
+			requestBuilder.filters(createTestImpactFilter(options));
+		}
+
+		if (options.getShardCount() > 1) {
+			requestBuilder.filters(options.getShardTimingsFile() //
+					.map(timingsFile -> createShardFilter(options, timingsFile)) //
+					.orElseGet(() -> shard(options.getShardIndex(), options.getShardCount())));
+		}
+	}
+
+	private static ShardFilter createShardFilter(CommandLineOptions options, Path timingsFile) {
+		return options.getShardTimingsDigest() //
+				.map(digest -> shard(options.getShardIndex(), options.getShardCount(), timingsFile, digest)) //
+				.orElseGet(() -> shard(options.getShardIndex(), options.getShardCount(), timingsFile));
+	}
+
+	private TestImpactFilter createTestImpactFilter(CommandLineOptions options) {
+		Set<Path> classpathRoots = determineClassDependencyGraphRoots(options);
+		ClassDependencyGraph graph = options.getClassDependencyCacheFile() //
+				.map(cacheFile -> ClassDependencyGraph.build(classpathRoots, cacheFile)) //
+				.orElseGet(() -> ClassDependencyGraph.build(classpathRoots));
+		return TestImpactFilter.affectedBy(graph, options.getChangedClasses());
+	}
+
+	/**
+	 * Determine the class path directories and additional class path entries
+	 * whose classes are part of the {@link ClassDependencyGraph}.
+	 */
+	static Set<Path> determineClassDependencyGraphRoots(CommandLineOptions options) {
+		Set<Path> classpathRoots = new LinkedHashSet<>(ReflectionUtils.getAllClasspathRootDirectories());
+		classpathRoots.addAll(options.getExistingAdditionalClasspathEntries());
+		return classpathRoots;
 	}
 
 	private ClassNameFilter includedClassNamePatterns(CommandLineOptions options) {
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestIdentifier;
+
+/**
+ * Messages exchanged between the console launcher and its forked JVMs.
+ *
+ * <p>After connecting, a forked JVM sends its {@linkplain #newToken() token}
+ * as plain data. Only if it matches, the console launcher replies with the
+ * configuration parameters. Afterwards, the console launcher sends one
+ * {@link WorkItem} at a time and the forked JVM streams back
+ * {@link Event Events}, the last of which is always of type
+ * {@link Event.Type#WORK_ITEM_FINISHED}. Closing the connection tells the
+ * forked JVM to exit.
+ *
+ * <p>All messages following the token are serialized objects prefixed by
+ * their length. Only classes of the JDK's core packages, of JUnit, and of
+ * opentest4j as well as exceptions and enums may be serialized or
+ * deserialized.
+ *
+ * <p>The token is passed to the forked JVM via the {@value #TOKEN_ENVIRONMENT_VARIABLE}
+ * environment variable since the command line of a process is visible to
+ * other processes.
+ *
+ * @since 1.8
+ */
+final class ForkedExecutionProtocol {
+
+	static final String TOKEN_ENVIRONMENT_VARIABLE = "JUNIT_PLATFORM_FORK_TOKEN";
+
+	/**
+	 * Maximum length of a single serialized message in bytes.
+	 */
+	static final int MAX_MESSAGE_LENGTH = 64 * 1024 * 1024;
+
+	private static final List<String> ALLOWED_PACKAGE_PREFIXES = Arrays.asList("java.util.", "java.time.",
+		"java.math.", "org.junit.", "org.opentest4j.");
+
+	private static final List<String> ALLOWED_CLASS_NAMES = Arrays.asList("java.io.File", "java.net.URI");
+
+	private ForkedExecutionProtocol() {
+		/* no-op */
+	}
+
+	static String newToken() {
+		return new BigInteger(128, new SecureRandom()).toString(Character.MAX_RADIX);
+	}
+
+	static void writeToken(DataOutputStream out, String token) throws IOException {
+		out.writeUTF(token);
+		out.flush();
+	}
+
+	/**
+	 * Read a token from the supplied stream and compare it with the expected
+	 * one in constant time.
+	 */
+	static boolean readAndVerifyToken(DataInputStream in, String expectedToken) throws IOException {
+		byte[] actual = in.readUTF().getBytes(StandardCharsets.UTF_8);
+		return MessageDigest.isEqual(actual, expectedToken.getBytes(StandardCharsets.UTF_8));
+	}
+
+	static void write(DataOutputStream out, Object message) throws IOException {
+		byte[] bytes = serialize(message);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+		out.flush();
+	}
+
+	static Object read(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > MAX_MESSAGE_LENGTH) {
+			throw new StreamCorruptedException("Invalid message length: " + length);
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		try (ObjectInputStream objectIn = new AllowListObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return objectIn.readObject();
+		}
+		catch (ClassNotFoundException ex) {
+			throw new JUnitException("Failed to deserialize message from forked JVM", ex);
+		}
+	}
+
+	private static byte[] serialize(Object message) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		try (ObjectOutputStream objectOut = new AllowListObjectOutputStream(bytes)) {
+			objectOut.writeObject(message);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Top-level container, such as a test class, to be executed by a forked
+	 * JVM along with the unique IDs of all of its descendants that are part of
+	 * the test plan.
+	 */
+	static class WorkItem implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String uniqueId;
+		private final Set<String> includedUniqueIds;
+
+		WorkItem(String uniqueId, Set<String> includedUniqueIds) {
+			this.uniqueId = uniqueId;
+			this.includedUniqueIds = new LinkedHashSet<>(includedUniqueIds);
+		}
+
+		String getUniqueId() {
+			return this.uniqueId;
+		}
+
+		Set<String> getIncludedUniqueIds() {
+			return this.includedUniqueIds;
+		}
+
+	}
+
+	/**
+	 * Serializable form of a {@link org.junit.platform.launcher.TestExecutionListener}
+	 * notification.
+	 */
+	static class Event implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		enum Type {
+			DYNAMIC_TEST_REGISTERED, STARTED, SKIPPED, FINISHED, REPORTING_ENTRY_PUBLISHED, WORK_ITEM_FINISHED
+		}
+
+		static Event dynamicTestRegistered(TestIdentifier testIdentifier) {
+			return new Event(Type.DYNAMIC_TEST_REGISTERED, testIdentifier.getUniqueId(), testIdentifier, null, null,
+				null, null);
+		}
+
+		static Event started(String uniqueId) {
+			return new Event(Type.STARTED, uniqueId, null, null, null, null, null);
+		}
+
+		static Event skipped(String uniqueId, String reason) {
+			return new Event(Type.SKIPPED, uniqueId, null, reason, null, null, null);
+		}
+
+		static Event finished(String uniqueId, TestExecutionResult result) {
+			return new Event(Type.FINISHED, uniqueId, null, null, result.getStatus(),
+				result.getThrowable().orElse(null), null);
+		}
+
+		static Event reportingEntryPublished(String uniqueId, ReportEntry entry) {
+			return new Event(Type.REPORTING_ENTRY_PUBLISHED, uniqueId, null, null, null, null,
+				new LinkedHashMap<>(entry.getKeyValuePairs()));
+		}
+
+		static Event workItemFinished(String uniqueId) {
+			return new Event(Type.WORK_ITEM_FINISHED, uniqueId, null, null, null, null, null);
+		}
+
+		private final Type type;
+		private final String uniqueId;
+		private final TestIdentifier testIdentifier;
+		private final String reason;
+		private final TestExecutionResult.Status status;
+		private final Throwable throwable;
+		private final LinkedHashMap<String, String> reportEntry;
+
+		private Event(Type type, String uniqueId, TestIdentifier testIdentifier, String reason,
+				TestExecutionResult.Status status, Throwable throwable, LinkedHashMap<String, String> reportEntry) {
+			this.type = type;
+			this.uniqueId = uniqueId;
+			this.testIdentifier = testIdentifier;
+			this.reason = reason;
+			this.status = status;
+			this.throwable = throwable;
+			this.reportEntry = reportEntry;
+		}
+
+		Type getType() {
+			return this.type;
+		}
+
+		String getUniqueId() {
+			return this.uniqueId;
+		}
+
+		TestIdentifier getTestIdentifier() {
+			return this.testIdentifier;
+		}
+
+		String getReason() {
+			return this.reason;
+		}
+
+		TestExecutionResult getResult() {
+			switch (this.status) {
+				case SUCCESSFUL:
+					return TestExecutionResult.successful();
+				case ABORTED:
+					return TestExecutionResult.aborted(this.throwable);
+				default:
+					return TestExecutionResult.failed(this.throwable);
+			}
+		}
+
+		ReportEntry getReportEntry() {
+			return ReportEntry.from(this.reportEntry);
+		}
+
+		/**
+		 * Create a copy of this event that can be serialized even if its
+		 * throwable, or one of its causes, is not serializable.
+		 */
+		Event withSerializableThrowable() {
+			return new Event(this.type, this.uniqueId, this.testIdentifier, this.reason, this.status,
+				toSerializableThrowable(this.throwable), this.reportEntry);
+		}
+
+		private static Throwable toSerializableThrowable(Throwable throwable) {
+			if (throwable == null) {
+				return null;
+			}
+			try {
+				serialize(throwable);
+				return throwable;
+			}
+			catch (NotSerializableException ex) {
+				JUnitException replacement = new JUnitException(throwable.toString(),
+					toSerializableThrowable(throwable.getCause()));
+				replacement.setStackTrace(throwable.getStackTrace());
+				for (Throwable suppressed : throwable.getSuppressed()) {
+					replacement.addSuppressed(toSerializableThrowable(suppressed));
+				}
+				return replacement;
+			}
+			catch (IOException ex) {
+				return new JUnitException(throwable.toString());
+			}
+		}
+
+	}
+
+	static boolean isAllowed(Class<?> type) {
+		if (type.isArray()) {
+			return isAllowed(type.getComponentType());
+		}
+		if (type.isPrimitive() || type.isEnum() || Throwable.class.isAssignableFrom(type)) {
+			return true;
+		}
+		String name = type.getName();
+		if (name.startsWith("java.lang.")) {
+			// only the java.lang package itself, not java.lang.invoke etc.
+			return name.indexOf('.', "java.lang.".length()) < 0;
+		}
+		return ALLOWED_CLASS_NAMES.contains(name) || ALLOWED_PACKAGE_PREFIXES.stream().anyMatch(name::startsWith);
+	}
+
+	/**
+	 * Only writes classes that are {@linkplain #isAllowed(Class) allowed} so
+	 * that messages are not rejected by the receiving side.
+	 */
+	private static class AllowListObjectOutputStream extends ObjectOutputStream {
+
+		AllowListObjectOutputStream(OutputStream out) throws IOException {
+			super(out);
+		}
+
+		@Override
+		protected void annotateClass(Class<?> type) throws IOException {
+			if (!isAllowed(type)) {
+				throw new NotSerializableException(type.getName());
+			}
+		}
+
+		@Override
+		protected void annotateProxyClass(Class<?> type) throws IOException {
+			throw new NotSerializableException(type.getName());
+		}
+
+	}
+
+	/**
+	 * Only reads classes that are {@linkplain #isAllowed(Class) allowed} and
+	 * resolves them, e.g. exceptions thrown by tests, using the thread's
+	 * context class loader that includes additional class path entries.
+	 */
+	private static class AllowListObjectInputStream extends ObjectInputStream {
+
+		AllowListObjectInputStream(InputStream in) throws IOException {
+			super(in);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			Class<?> type;
+			try {
+				type = Class.forName(desc.getName(), false, ClassLoaderUtils.getDefaultClassLoader());
+			}
+			catch (ClassNotFoundException ignore) {
+				// fall back to the default behavior, e.g. for primitive types
+				type = super.resolveClass(desc);
+			}
+			if (!isAllowed(type)) {
+				throw new InvalidClassException(desc.getName(), "Class is not allowed in forked execution messages");
+			}
+			return type;
+		}
+
+		@Override
+		protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+			throw new InvalidClassException("Proxy classes are not allowed in forked execution messages");
+		}
+
+	}
+
+}
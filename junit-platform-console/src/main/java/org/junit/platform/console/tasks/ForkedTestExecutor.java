@@ -0,0 +1,410 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.util.stream.Collectors.joining;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+import org.junit.platform.console.options.CommandLineOptions;
+import org.junit.platform.console.tasks.ForkedExecutionProtocol.Event;
+import org.junit.platform.console.tasks.ForkedExecutionProtocol.WorkItem;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Executes a discovered {@link TestPlan} in a number of forked JVMs.
+ *
+ * <p>The direct children of each engine, e.g. top-level test classes, are
+ * distributed as work items to long-lived {@link ForkedTestWorker} JVMs that
+ * are reused until all work items have been executed. The events reported by
+ * the workers are passed on to the supplied listeners one at a time, whereas
+ * the engines themselves are reported as started before and as finished after
+ * all of their work items.
+ *
+ * <p>If a forked JVM terminates unexpectedly, the work item it was executing
+ * is reported as failed and a new JVM is started for the remaining work
+ * items.
+ *
+ * @since 1.8
+ */
+class ForkedTestExecutor {
+
+	private static final Logger logger = LoggerFactory.getLogger(ForkedTestExecutor.class);
+
+	private static final int CONNECT_TIMEOUT_MILLIS = 60_000;
+
+	private final CommandLineOptions options;
+	private final List<TestExecutionListener> listeners;
+
+	private final Object lock = new Object();
+	private final Queue<TestIdentifier> workItems = new ConcurrentLinkedQueue<>();
+	private final Map<String, Integer> remainingWorkItemsByRoot = new HashMap<>();
+	private final Map<String, TestExecutionResult> rootResults = new HashMap<>();
+
+	private ForkedTestPlan testPlan;
+
+	ForkedTestExecutor(CommandLineOptions options, List<TestExecutionListener> listeners) {
+		this.options = options;
+		this.listeners = listeners;
+	}
+
+	void execute(TestPlan discoveredTestPlan) {
+		this.testPlan = new ForkedTestPlan(discoveredTestPlan);
+		notifyListeners(listener -> listener.testPlanExecutionStarted(this.testPlan));
+		for (TestIdentifier root : this.testPlan.getRoots()) {
+			Set<TestIdentifier> children = this.testPlan.getChildren(root);
+			notifyListeners(listener -> listener.executionStarted(root));
+			this.remainingWorkItemsByRoot.put(root.getUniqueId(), children.size());
+			this.workItems.addAll(children);
+			if (children.isEmpty()) {
+				finishRoot(root.getUniqueId());
+			}
+		}
+
+		int workerCount = Math.min(this.options.getForkCount(), this.workItems.size());
+		List<Thread> threads = new ArrayList<>(workerCount);
+		for (int i = 0; i < workerCount; i++) {
+			Thread thread = new Thread(this::executeWorkItems, "junit-platform-fork-" + (i + 1));
+			thread.start();
+			threads.add(thread);
+		}
+		for (Thread thread : threads) {
+			joinUninterruptibly(thread);
+		}
+
+		// work items that could not be executed because no forked JVM could be started
+		TestIdentifier workItem;
+		while ((workItem = this.workItems.poll()) != null) {
+			reportWorkItemFailed(workItem, false, new ArrayDeque<>(),
+				new JUnitException("Failed to start a forked JVM for " + workItem.getUniqueId()));
+		}
+
+		notifyListeners(listener -> listener.testPlanExecutionFinished(this.testPlan));
+	}
+
+	private void executeWorkItems() {
+		Worker worker = null;
+		try {
+			TestIdentifier workItem;
+			while ((workItem = this.workItems.poll()) != null) {
+				if (worker == null) {
+					try {
+						worker = startWorker();
+					}
+					catch (Exception ex) {
+						UnrecoverableExceptions.rethrowIfUnrecoverable(ex);
+						reportWorkItemFailed(workItem, false, new ArrayDeque<>(), ex);
+						return;
+					}
+				}
+				try {
+					worker.execute(workItem);
+				}
+				catch (Exception ex) {
+					UnrecoverableExceptions.rethrowIfUnrecoverable(ex);
+					logger.warn(ex, () -> "Forked JVM terminated unexpectedly, starting a new one");
+					worker.destroy();
+					worker = null;
+				}
+			}
+		}
+		finally {
+			if (worker != null) {
+				worker.close();
+			}
+		}
+	}
+
+	private Worker startWorker() throws IOException {
+		String token = ForkedExecutionProtocol.newToken();
+		try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+			serverSocket.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+			ProcessBuilder processBuilder = new ProcessBuilder(createCommand(serverSocket.getLocalPort())).inheritIO();
+			processBuilder.environment().put(ForkedExecutionProtocol.TOKEN_ENVIRONMENT_VARIABLE, token);
+			Process process = processBuilder.start();
+			try {
+				Socket socket = serverSocket.accept();
+				Worker worker = new Worker(process, socket);
+				// Verify the token before deserializing anything sent by the peer
+				// since any local process may have connected.
+				socket.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+				if (!ForkedExecutionProtocol.readAndVerifyToken(worker.in, token)) {
+					socket.close();
+					throw new JUnitException("Forked JVM sent an invalid token");
+				}
+				socket.setSoTimeout(0);
+				ForkedExecutionProtocol.write(worker.out, new HashMap<>(this.options.getConfigurationParameters()));
+				return worker;
+			}
+			catch (Exception ex) {
+				process.destroyForcibly();
+				throw ex;
+			}
+		}
+	}
+
+	private List<String> createCommand(int port) {
+		List<String> command = new ArrayList<>();
+		command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+		command.addAll(this.options.getForkJvmOptions());
+		command.add("-cp");
+		command.add(Stream.concat(Stream.of(System.getProperty("java.class.path")),
+			this.options.getExistingAdditionalClasspathEntries().stream().map(Path::toString)) //
+				.collect(joining(File.pathSeparator)));
+		command.add(ForkedTestWorker.class.getName());
+		command.add(String.valueOf(port));
+		return command;
+	}
+
+	private void handle(Event event, Deque<String> startedUniqueIds) {
+		synchronized (this.lock) {
+			String uniqueId = event.getUniqueId();
+			switch (event.getType()) {
+				case DYNAMIC_TEST_REGISTERED:
+					this.testPlan.addInternal(event.getTestIdentifier());
+					notifyListeners(listener -> listener.dynamicTestRegistered(event.getTestIdentifier()));
+					break;
+				case STARTED:
+					if (!isRoot(uniqueId)) {
+						startedUniqueIds.push(uniqueId);
+						notifyListeners(listener -> listener.executionStarted(getTestIdentifier(uniqueId)));
+					}
+					break;
+				case SKIPPED:
+					if (!isRoot(uniqueId)) {
+						notifyListeners(
+							listener -> listener.executionSkipped(getTestIdentifier(uniqueId), event.getReason()));
+					}
+					break;
+				case FINISHED:
+					if (isRoot(uniqueId)) {
+						TestExecutionResult result = event.getResult();
+						if (result.getStatus() != TestExecutionResult.Status.SUCCESSFUL) {
+							this.rootResults.putIfAbsent(uniqueId, result);
+						}
+					}
+					else {
+						startedUniqueIds.remove(uniqueId);
+						notifyListeners(
+							listener -> listener.executionFinished(getTestIdentifier(uniqueId), event.getResult()));
+					}
+					break;
+				case REPORTING_ENTRY_PUBLISHED:
+					notifyListeners(listener -> listener.reportingEntryPublished(getTestIdentifier(uniqueId),
+						event.getReportEntry()));
+					break;
+				default:
+					break;
+			}
+		}
+	}
+
+	private void reportWorkItemFailed(TestIdentifier workItem, boolean workItemReported, Deque<String> startedUniqueIds,
+			Throwable cause) {
+
+		synchronized (this.lock) {
+			TestExecutionResult result = TestExecutionResult.failed(cause);
+			if (!workItemReported) {
+				notifyListeners(listener -> listener.executionStarted(workItem));
+				notifyListeners(listener -> listener.executionFinished(workItem, result));
+			}
+			while (!startedUniqueIds.isEmpty()) {
+				TestIdentifier testIdentifier = getTestIdentifier(startedUniqueIds.pop());
+				notifyListeners(listener -> listener.executionFinished(testIdentifier, result));
+			}
+			workItemFinished(workItem);
+		}
+	}
+
+	private void workItemFinished(TestIdentifier workItem) {
+		String rootId = workItem.getParentId().orElseThrow(IllegalStateException::new);
+		if (this.remainingWorkItemsByRoot.merge(rootId, -1, Integer::sum) == 0) {
+			finishRoot(rootId);
+		}
+	}
+
+	private void finishRoot(String rootId) {
+		TestExecutionResult result = this.rootResults.getOrDefault(rootId, TestExecutionResult.successful());
+		notifyListeners(listener -> listener.executionFinished(getTestIdentifier(rootId), result));
+	}
+
+	private boolean isRoot(String uniqueId) {
+		return !getTestIdentifier(uniqueId).getParentId().isPresent();
+	}
+
+	private TestIdentifier getTestIdentifier(String uniqueId) {
+		return this.testPlan.getTestIdentifier(uniqueId);
+	}
+
+	private void notifyListeners(Consumer<TestExecutionListener> notification) {
+		for (TestExecutionListener listener : this.listeners) {
+			try {
+				notification.accept(listener);
+			}
+			catch (Throwable throwable) {
+				UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
+				logger.warn(throwable, () -> "TestExecutionListener [" + listener.getClass().getName()
+						+ "] threw exception for forked execution event");
+			}
+		}
+	}
+
+	private static void joinUninterruptibly(Thread thread) {
+		boolean interrupted = false;
+		while (thread.isAlive()) {
+			try {
+				thread.join();
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Connection to a single forked JVM.
+	 */
+	private class Worker {
+
+		private final Process process;
+		private final Socket socket;
+		private final DataInputStream in;
+		private final DataOutputStream out;
+
+		Worker(Process process, Socket socket) throws IOException {
+			this.process = process;
+			this.socket = socket;
+			this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		}
+
+		void execute(TestIdentifier workItem) throws IOException {
+			Set<String> includedUniqueIds = new LinkedHashSet<>();
+			includedUniqueIds.add(workItem.getParentId().orElseThrow(IllegalStateException::new));
+			includedUniqueIds.add(workItem.getUniqueId());
+			testPlan.getDescendants(workItem).forEach(descendant -> includedUniqueIds.add(descendant.getUniqueId()));
+
+			Deque<String> startedUniqueIds = new ArrayDeque<>();
+			boolean workItemReported = false;
+			try {
+				ForkedExecutionProtocol.write(this.out, new WorkItem(workItem.getUniqueId(), includedUniqueIds));
+				while (true) {
+					Event event = (Event) ForkedExecutionProtocol.read(this.in);
+					if (event.getType() == Event.Type.WORK_ITEM_FINISHED) {
+						break;
+					}
+					workItemReported |= workItem.getUniqueId().equals(event.getUniqueId());
+					handle(event, startedUniqueIds);
+				}
+			}
+			catch (IOException | RuntimeException ex) {
+				JUnitException cause = new JUnitException(
+					"Forked JVM terminated unexpectedly while executing " + workItem.getUniqueId(), ex);
+				reportWorkItemFailed(workItem, workItemReported, startedUniqueIds, cause);
+				throw ex;
+			}
+			synchronized (lock) {
+				workItemFinished(workItem);
+			}
+		}
+
+		void close() {
+			try {
+				this.socket.close();
+				if (!this.process.waitFor(10, TimeUnit.SECONDS)) {
+					destroy();
+				}
+			}
+			catch (IOException ex) {
+				destroy();
+			}
+			catch (InterruptedException ex) {
+				destroy();
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		void destroy() {
+			try {
+				this.socket.close();
+			}
+			catch (IOException ignore) {
+				// the process is terminated anyway
+			}
+			this.process.destroyForcibly();
+		}
+
+	}
+
+	/**
+	 * Copy of the discovered {@link TestPlan} that dynamic tests reported by
+	 * the forked JVMs can be added to.
+	 */
+	private static class ForkedTestPlan extends TestPlan {
+
+		@SuppressWarnings("deprecation")
+		ForkedTestPlan(TestPlan discoveredTestPlan) {
+			super(discoveredTestPlan.containsTests());
+			for (TestIdentifier root : discoveredTestPlan.getRoots()) {
+				super.add(root);
+				addDescendants(discoveredTestPlan, root);
+			}
+		}
+
+		@SuppressWarnings("deprecation")
+		private void addDescendants(TestPlan discoveredTestPlan, TestIdentifier parent) {
+			for (TestIdentifier child : discoveredTestPlan.getChildren(parent)) {
+				super.add(child);
+				addDescendants(discoveredTestPlan, child);
+			}
+		}
+
+		@SuppressWarnings("deprecation")
+		void addInternal(TestIdentifier testIdentifier) {
+			super.add(testIdentifier);
+		}
+
+	}
+
+}
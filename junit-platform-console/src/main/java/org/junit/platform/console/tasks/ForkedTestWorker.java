@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.console.tasks.ForkedExecutionProtocol.Event;
+import org.junit.platform.console.tasks.ForkedExecutionProtocol.WorkItem;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * Entry point of the JVMs forked by the {@code ConsoleLauncher} when the
+ * {@code --fork-count} option is used.
+ *
+ * <p>A worker connects to the console launcher on the loopback interface,
+ * executes the work items it receives one at a time using the same
+ * {@link Launcher}, and streams all execution events back.
+ *
+ * @since 1.8
+ * @see ForkedExecutionProtocol
+ */
+@API(status = INTERNAL, since = "1.8")
+public final class ForkedTestWorker {
+
+	private static final Logger logger = LoggerFactory.getLogger(ForkedTestWorker.class);
+
+	/**
+	 * Connect to the console launcher and execute work items until the
+	 * connection is closed.
+	 *
+	 * <p>The token that identifies this worker is read from the
+	 * {@value ForkedExecutionProtocol#TOKEN_ENVIRONMENT_VARIABLE} environment
+	 * variable.
+	 *
+	 * @param args the port to connect to
+	 */
+	public static void main(String... args) {
+		try {
+			String token = System.getenv(ForkedExecutionProtocol.TOKEN_ENVIRONMENT_VARIABLE);
+			if (token == null) {
+				throw new IllegalStateException(
+					"Environment variable " + ForkedExecutionProtocol.TOKEN_ENVIRONMENT_VARIABLE + " is not set");
+			}
+			new ForkedTestWorker(Integer.parseInt(args[0]), token).run();
+			System.exit(0);
+		}
+		catch (Exception ex) {
+			logger.error(ex, () -> "Forked JVM failed to execute work items");
+			System.exit(1);
+		}
+	}
+
+	private final int port;
+	private final String token;
+
+	private ForkedTestWorker(int port, String token) {
+		this.port = port;
+		this.token = token;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void run() throws IOException {
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), this.port)) {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			ForkedExecutionProtocol.writeToken(out, this.token);
+			Map<String, String> configurationParameters = (Map<String, String>) ForkedExecutionProtocol.read(in);
+			Launcher launcher = LauncherFactory.create();
+			while (true) {
+				WorkItem workItem;
+				try {
+					workItem = (WorkItem) ForkedExecutionProtocol.read(in);
+				}
+				catch (EOFException ex) {
+					// the console launcher has no more work items
+					return;
+				}
+				execute(launcher, configurationParameters, workItem, out);
+			}
+		}
+	}
+
+	private void execute(Launcher launcher, Map<String, String> configurationParameters, WorkItem workItem,
+			DataOutputStream out) throws IOException {
+
+		UniqueId uniqueId = UniqueId.parse(workItem.getUniqueId());
+		String engineId = uniqueId.getEngineId().orElseThrow(IllegalStateException::new);
+		PostDiscoveryFilter includedUniqueIdsFilter = descriptor -> FilterResult.includedIf(
+			workItem.getIncludedUniqueIds().contains(descriptor.getUniqueId().toString()));
+		// @formatter:off
+		LauncherDiscoveryRequest request = request()
+				.selectors(selectUniqueId(uniqueId))
+				.filters(includeEngines(engineId), includedUniqueIdsFilter)
+				.configurationParameters(configurationParameters)
+				.build();
+		// @formatter:on
+		EventForwardingListener listener = new EventForwardingListener(out);
+		launcher.execute(request, listener);
+		listener.send(Event.workItemFinished(workItem.getUniqueId()));
+	}
+
+	/**
+	 * Forwards all events to the console launcher. Since tests may be executed
+	 * in parallel, events are sent one at a time.
+	 */
+	private static class EventForwardingListener implements TestExecutionListener {
+
+		private final DataOutputStream out;
+
+		EventForwardingListener(DataOutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+			sendUnchecked(Event.dynamicTestRegistered(testIdentifier));
+		}
+
+		@Override
+		public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+			sendUnchecked(Event.skipped(testIdentifier.getUniqueId(), reason));
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			sendUnchecked(Event.started(testIdentifier.getUniqueId()));
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			sendUnchecked(Event.finished(testIdentifier.getUniqueId(), testExecutionResult));
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			sendUnchecked(Event.reportingEntryPublished(testIdentifier.getUniqueId(), entry));
+		}
+
+		private void sendUnchecked(Event event) {
+			try {
+				send(event);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+		synchronized void send(Event event) throws IOException {
+			try {
+				ForkedExecutionProtocol.write(this.out, event);
+			}
+			catch (NotSerializableException ex) {
+				ForkedExecutionProtocol.write(this.out, event.withSerializableThrowable());
+			}
+		}
+
+	}
+
+}
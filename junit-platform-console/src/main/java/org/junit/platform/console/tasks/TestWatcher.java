@@ -0,0 +1,258 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.console.options.CommandLineOptions;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Re-executes tests affected by changed class files in the directories
+ * supplied via {@code --class-path}.
+ *
+ * <p>Changed class files are mapped to the tests of the previously executed
+ * {@link TestPlan TestPlans} whose {@link ClassSource} or {@link MethodSource}
+ * refers to the same top-level class. Those tests are re-discovered via their
+ * unique IDs and executed with a new class loader. Changed classes without any
+ * known tests, e.g. new test classes, are selected by name.
+ *
+ * @since 1.8
+ */
+class TestWatcher {
+
+	private static final String CLASS_FILE_EXTENSION = ".class";
+	private static final long QUIET_PERIOD_MILLIS = 200;
+
+	private final CommandLineOptions options;
+	private final ConsoleTestExecutor executor;
+
+	/**
+	 * Unique IDs of the topmost tests and containers per top-level class name.
+	 */
+	private final Map<String, Set<String>> uniqueIdsByTopLevelClassName = new HashMap<>();
+
+	TestWatcher(CommandLineOptions options, ConsoleTestExecutor executor) {
+		this.options = options;
+		this.executor = executor;
+	}
+
+	void watch(PrintWriter out) throws Exception {
+		List<Path> directories = this.options.getExistingAdditionalClasspathEntries().stream() //
+				.filter(Files::isDirectory) //
+				.map(Path::toAbsolutePath) //
+				.collect(toList());
+		Preconditions.notEmpty(directories, "The --watch option requires at least one directory in --class-path");
+
+		try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+			Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+			for (Path directory : directories) {
+				register(watchService, directory, watchedDirectories, new LinkedHashSet<>());
+			}
+
+			this.executor.execute(out, creator -> creator.toDiscoveryRequest(this.options), this::addTestPlan);
+
+			while (true) {
+				out.printf("%nWatching %s for changes...%n", directories);
+				out.flush();
+				List<DiscoverySelector> selectors = awaitAffectedTests(watchService, watchedDirectories, directories);
+				if (selectors == null) {
+					return;
+				}
+				this.executor.execute(out, creator -> creator.toDiscoveryRequest(this.options, selectors),
+					this::addTestPlan);
+			}
+		}
+	}
+
+	/**
+	 * Wait until class files of affected tests change.
+	 *
+	 * @return the selectors for the affected tests; {@code null} if the
+	 * current thread was interrupted
+	 */
+	private List<DiscoverySelector> awaitAffectedTests(WatchService watchService,
+			Map<WatchKey, Path> watchedDirectories, List<Path> directories) throws IOException {
+		while (true) {
+			Set<Path> changedFiles;
+			try {
+				changedFiles = awaitChanges(watchService, watchedDirectories);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			Set<String> changedClassNames = toClassNames(changedFiles, directories);
+			List<DiscoverySelector> selectors = selectAffectedTests(changedClassNames);
+			if (!selectors.isEmpty()) {
+				// the executed test plan of the affected tests replaces the previous ones
+				changedClassNames.stream().map(TestWatcher::toTopLevelClassName).forEach(
+					this.uniqueIdsByTopLevelClassName::remove);
+				return selectors;
+			}
+		}
+	}
+
+	/**
+	 * Index the supplied executed test plan, including its dynamic tests, by
+	 * top-level class name.
+	 */
+	void addTestPlan(TestPlan testPlan) {
+		testPlan.getRoots().stream().flatMap(root -> testPlan.getDescendants(root).stream()).forEach(identifier -> {
+			Optional<String> topLevelClassName = getTopLevelClassName(identifier);
+			if (topLevelClassName.isPresent() && !topLevelClassName.equals(
+				testPlan.getParent(identifier).flatMap(TestWatcher::getTopLevelClassName))) {
+				this.uniqueIdsByTopLevelClassName.computeIfAbsent(topLevelClassName.get(),
+					key -> new LinkedHashSet<>()).add(identifier.getUniqueId());
+			}
+		});
+	}
+
+	/**
+	 * Select the known tests of the supplied changed classes or the classes
+	 * themselves if no tests are known for them.
+	 */
+	List<DiscoverySelector> selectAffectedTests(Set<String> changedClassNames) {
+		Map<String, DiscoverySelector> selectors = new LinkedHashMap<>();
+		for (String className : changedClassNames) {
+			String topLevelClassName = toTopLevelClassName(className);
+			Set<String> uniqueIds = this.uniqueIdsByTopLevelClassName.get(topLevelClassName);
+			if (uniqueIds == null) {
+				selectors.putIfAbsent(topLevelClassName, DiscoverySelectors.selectClass(topLevelClassName));
+			}
+			else {
+				uniqueIds.forEach(
+					uniqueId -> selectors.putIfAbsent(uniqueId, DiscoverySelectors.selectUniqueId(uniqueId)));
+			}
+		}
+		return new ArrayList<>(selectors.values());
+	}
+
+	private static Optional<String> getTopLevelClassName(TestIdentifier identifier) {
+		Optional<TestSource> source = identifier.getSource();
+		if (source.isPresent() && source.get() instanceof ClassSource) {
+			return Optional.of(toTopLevelClassName(((ClassSource) source.get()).getClassName()));
+		}
+		if (source.isPresent() && source.get() instanceof MethodSource) {
+			return Optional.of(toTopLevelClassName(((MethodSource) source.get()).getClassName()));
+		}
+		return Optional.empty();
+	}
+
+	private static String toTopLevelClassName(String className) {
+		int index = className.indexOf('$');
+		return index < 0 ? className : className.substring(0, index);
+	}
+
+	private static void register(WatchService watchService, Path directory, Map<WatchKey, Path> watchedDirectories,
+			Set<Path> createdFiles) throws IOException {
+		try (Stream<Path> files = Files.walk(directory)) {
+			files.forEach(file -> {
+				if (Files.isDirectory(file)) {
+					try {
+						watchedDirectories.put(file.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE),
+							file);
+					}
+					catch (IOException ex) {
+						throw new UncheckedIOException(ex);
+					}
+				}
+				else {
+					createdFiles.add(file);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Wait for the first change and collect all further changes until the
+	 * directories have been quiet for {@value #QUIET_PERIOD_MILLIS} ms since
+	 * compilers usually write many class files at once.
+	 */
+	private static Set<Path> awaitChanges(WatchService watchService, Map<WatchKey, Path> watchedDirectories)
+			throws IOException, InterruptedException {
+		Set<Path> changedFiles = new LinkedHashSet<>();
+		WatchKey key = watchService.take();
+		while (key != null) {
+			Path directory = watchedDirectories.get(key);
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.kind() == OVERFLOW || directory == null) {
+					continue;
+				}
+				Path file = directory.resolve((Path) event.context());
+				if (event.kind() == ENTRY_CREATE && Files.isDirectory(file)) {
+					register(watchService, file, watchedDirectories, changedFiles);
+				}
+				else {
+					changedFiles.add(file);
+				}
+			}
+			if (!key.reset()) {
+				watchedDirectories.remove(key);
+			}
+			key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+		}
+		return changedFiles;
+	}
+
+	/**
+	 * Convert the supplied changed files to the binary names of the classes
+	 * they contain, ignoring deleted files.
+	 */
+	private static Set<String> toClassNames(Set<Path> changedFiles, List<Path> directories) {
+		Set<String> classNames = new LinkedHashSet<>();
+		for (Path file : changedFiles) {
+			String fileName = file.getFileName().toString();
+			if (!fileName.endsWith(CLASS_FILE_EXTENSION) || fileName.equals("module-info.class")
+					|| fileName.equals("package-info.class") || !Files.exists(file)) {
+				continue;
+			}
+			directories.stream().filter(file::startsWith).findFirst().ifPresent(directory -> {
+				String relativePath = directory.relativize(file).toString();
+				String className = relativePath.substring(0, relativePath.length() - CLASS_FILE_EXTENSION.length());
+				classNames.add(className.replace(file.getFileSystem().getSeparator(), "."));
+			});
+		}
+		return classNames;
+	}
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.discovery;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.TestTag;
+
+/**
+ * {@link DiscoveryFilter} that is applied to the complete set of
+ * {@linkplain TestTag tags} of a test, i.e. including the tags it inherits
+ * from its ancestors.
+ *
+ * <p>The {@code Launcher} applies these filters to all discovered tests
+ * after discovery, so engines are not required to support them. However,
+ * engines may use them to skip resolving containers that cannot contain any
+ * included test, for example, because none of the combinations of tags
+ * declared within a test class is included.
+ *
+ * @since 1.8
+ * @see org.junit.platform.engine.EngineDiscoveryRequest#getFiltersByType(Class)
+ */
+@API(status = EXPERIMENTAL, since = "1.8")
+public interface TagDiscoveryFilter extends DiscoveryFilter<Set<TestTag>> {
+}
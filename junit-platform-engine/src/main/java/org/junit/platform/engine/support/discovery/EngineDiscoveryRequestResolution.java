@@ -17,18 +17,28 @@ import static org.junit.platform.engine.SelectorResolutionResult.resolved;
 import static org.junit.platform.engine.SelectorResolutionResult.unresolved;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.EngineDiscoveryListener;
@@ -63,32 +73,164 @@ class EngineDiscoveryRequestResolution {
 	private final TestDescriptor engineDescriptor;
 	private final Map<DiscoverySelector, Resolution> resolvedSelectors = new LinkedHashMap<>();
 	private final Map<UniqueId, Match> resolvedUniqueIds = new LinkedHashMap<>();
-	private final Queue<DiscoverySelector> remainingSelectors = new ArrayDeque<>();
+	private final Deque<DiscoverySelector> remainingSelectors = new ArrayDeque<>();
 	private final Map<DiscoverySelector, Context> contextBySelector = new HashMap<>();
+	private final Map<Match, Set<? extends DiscoverySelector>> expandedMatches = new IdentityHashMap<>();
+	private final int parallelism;
+	private final Object lock = new Object();
+	private ConcurrentBatch currentBatch;
 
 	EngineDiscoveryRequestResolution(EngineDiscoveryRequest request, TestDescriptor engineDescriptor,
-			List<SelectorResolver> resolvers, List<TestDescriptor.Visitor> visitors) {
+			List<SelectorResolver> resolvers, List<TestDescriptor.Visitor> visitors, int parallelism) {
 		this.request = request;
 		this.engineDescriptor = engineDescriptor;
 		this.resolvers = resolvers;
 		this.visitors = visitors;
+		this.parallelism = parallelism;
 		this.defaultContext = new DefaultContext(null);
 		this.resolvedUniqueIds.put(engineDescriptor.getUniqueId(), Match.exact(engineDescriptor));
 	}
 
 	void run() {
 		remainingSelectors.addAll(request.getSelectorsByType(DiscoverySelector.class));
-		while (!remainingSelectors.isEmpty()) {
-			resolveCompletely(remainingSelectors.poll());
+		ExecutorService executorService = null;
+		try {
+			while (!remainingSelectors.isEmpty()) {
+				List<DiscoverySelector> independentSelectors = pollIndependentClassSelectors();
+				if (independentSelectors.size() > 1) {
+					if (executorService == null) {
+						executorService = createExecutorService();
+					}
+					resolveConcurrently(independentSelectors, executorService);
+				}
+				else {
+					resolveCompletely(remainingSelectors.poll());
+				}
+			}
+		}
+		finally {
+			if (executorService != null) {
+				executorService.shutdownNow();
+			}
 		}
 		visitors.forEach(engineDescriptor::accept);
 	}
 
+	/**
+	 * Poll the {@link ClassSelector ClassSelectors} at the head of the queue
+	 * that are not resolved in the context of a parent, if concurrent
+	 * resolution is enabled.
+	 */
+	private List<DiscoverySelector> pollIndependentClassSelectors() {
+		List<DiscoverySelector> selectors = new ArrayList<>();
+		if (parallelism > 1) {
+			while (remainingSelectors.peek() instanceof ClassSelector
+					&& !contextBySelector.containsKey(remainingSelectors.peek())) {
+				selectors.add(remainingSelectors.poll());
+			}
+			// leave a single selector to be resolved sequentially
+			if (selectors.size() == 1) {
+				remainingSelectors.addFirst(selectors.get(0));
+			}
+		}
+		return selectors;
+	}
+
+	private ExecutorService createExecutorService() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		AtomicInteger threadNumber = new AtomicInteger();
+		return Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread = new Thread(runnable, "junit-discovery-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		});
+	}
+
+	/**
+	 * Resolve the supplied selectors concurrently and process the results in
+	 * the order of the selectors.
+	 *
+	 * <p>Test descriptors created while resolving the selectors are
+	 * reordered afterwards so that the resulting tree is the same as if the
+	 * selectors had been resolved sequentially.
+	 */
+	private void resolveConcurrently(List<DiscoverySelector> selectors, ExecutorService executorService) {
+		ConcurrentBatch batch = new ConcurrentBatch(selectors.size());
+		List<Future<Optional<Resolution>>> results = new ArrayList<>(selectors.size());
+		synchronized (lock) {
+			currentBatch = batch;
+		}
+		try {
+			for (int i = 0; i < selectors.size(); i++) {
+				int index = i;
+				DiscoverySelector selector = selectors.get(i);
+				results.add(executorService.submit(() -> batch.run(index, () -> resolveAndExpand(selector))));
+			}
+			for (Future<Optional<Resolution>> result : results) {
+				awaitQuietly(result);
+			}
+		}
+		finally {
+			synchronized (lock) {
+				currentBatch = null;
+				batch.restoreSequentialOrder();
+			}
+		}
+		for (int i = 0; i < selectors.size(); i++) {
+			Future<Optional<Resolution>> result = results.get(i);
+			resolveCompletely(selectors.get(i), () -> getResult(result));
+		}
+	}
+
+	private Optional<Resolution> resolveAndExpand(DiscoverySelector selector) {
+		Optional<Resolution> result = resolve(selector);
+		result.ifPresent(resolution -> resolution.getMatches().stream().filter(Match::isExact).forEach(match -> {
+			try {
+				Set<? extends DiscoverySelector> childSelectors = match.expand();
+				synchronized (lock) {
+					expandedMatches.put(match, childSelectors);
+				}
+			}
+			catch (Throwable t) {
+				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+				// expanded again and reported when the resolution is processed
+			}
+		}));
+		return result;
+	}
+
+	private static void awaitQuietly(Future<?> future) {
+		try {
+			future.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JUnitException("Interrupted while resolving selectors", e);
+		}
+		catch (ExecutionException ignored) {
+			// reported when the result is processed
+		}
+	}
+
+	private static Optional<Resolution> getResult(Future<Optional<Resolution>> future) throws Exception {
+		try {
+			return future.get();
+		}
+		catch (ExecutionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e.getCause());
+		}
+	}
+
 	private void resolveCompletely(DiscoverySelector selector) {
+		resolveCompletely(selector, () -> resolve(selector));
+	}
+
+	private void resolveCompletely(DiscoverySelector selector, Callable<Optional<Resolution>> resolution) {
 		EngineDiscoveryListener discoveryListener = request.getDiscoveryListener();
 		UniqueId engineId = engineDescriptor.getUniqueId();
 		try {
-			Optional<Resolution> result = resolve(selector);
+			Optional<Resolution> result = resolution.call();
 			if (result.isPresent()) {
 				discoveryListener.selectorProcessed(engineId, selector, resolved());
 				enqueueAdditionalSelectors(result.get());
@@ -106,7 +248,7 @@ class EngineDiscoveryRequestResolution {
 	private void enqueueAdditionalSelectors(Resolution resolution) {
 		remainingSelectors.addAll(resolution.getSelectors());
 		resolution.getMatches().stream().filter(Match::isExact).forEach(match -> {
-			Set<? extends DiscoverySelector> childSelectors = match.expand();
+			Set<? extends DiscoverySelector> childSelectors = expand(match);
 			if (!childSelectors.isEmpty()) {
 				remainingSelectors.addAll(childSelectors);
 				DefaultContext context = new DefaultContext(match.getTestDescriptor());
@@ -115,9 +257,18 @@ class EngineDiscoveryRequestResolution {
 		});
 	}
 
+	private Set<? extends DiscoverySelector> expand(Match match) {
+		Set<? extends DiscoverySelector> childSelectors = expandedMatches.remove(match);
+		return childSelectors != null ? childSelectors : match.expand();
+	}
+
 	private Optional<Resolution> resolve(DiscoverySelector selector) {
-		if (resolvedSelectors.containsKey(selector)) {
-			return Optional.of(resolvedSelectors.get(selector));
+		synchronized (lock) {
+			Resolution resolution = resolvedSelectors.get(selector);
+			if (resolution != null) {
+				touch(resolution);
+				return Optional.of(resolution);
+			}
 		}
 		if (selector instanceof UniqueIdSelector) {
 			return resolveUniqueId((UniqueIdSelector) selector);
@@ -163,8 +314,13 @@ class EngineDiscoveryRequestResolution {
 
 	private Optional<Resolution> resolveUniqueId(UniqueIdSelector selector) {
 		UniqueId uniqueId = selector.getUniqueId();
-		if (resolvedUniqueIds.containsKey(uniqueId)) {
-			return Optional.of(Resolution.match(resolvedUniqueIds.get(uniqueId)));
+		synchronized (lock) {
+			Match match = resolvedUniqueIds.get(uniqueId);
+			if (match != null) {
+				Resolution resolution = Resolution.match(match);
+				touch(resolution);
+				return Optional.of(resolution);
+			}
 		}
 		if (!uniqueId.hasPrefix(engineDescriptor.getUniqueId())) {
 			return Optional.empty();
@@ -173,7 +329,15 @@ class EngineDiscoveryRequestResolution {
 	}
 
 	private Context getContext(DiscoverySelector selector) {
-		return contextBySelector.getOrDefault(selector, defaultContext);
+		synchronized (lock) {
+			return contextBySelector.getOrDefault(selector, defaultContext);
+		}
+	}
+
+	private void touch(Resolution resolution) {
+		if (currentBatch != null) {
+			resolution.getMatches().forEach(match -> currentBatch.touchWithAncestors(match.getTestDescriptor()));
+		}
 	}
 
 	private Optional<Resolution> resolve(DiscoverySelector selector,
@@ -184,10 +348,12 @@ class EngineDiscoveryRequestResolution {
 				.filter(Resolution::isResolved)
 				.findFirst()
 				.map(resolution -> {
-					contextBySelector.remove(selector);
-					resolvedSelectors.put(selector, resolution);
-					resolution.getMatches()
-							.forEach(match -> resolvedUniqueIds.put(match.getTestDescriptor().getUniqueId(), match));
+					synchronized (lock) {
+						contextBySelector.remove(selector);
+						resolvedSelectors.put(selector, resolution);
+						resolution.getMatches()
+								.forEach(match -> resolvedUniqueIds.put(match.getTestDescriptor().getUniqueId(), match));
+					}
 					return resolution;
 				});
 		// @formatter:on
@@ -246,14 +412,125 @@ class EngineDiscoveryRequestResolution {
 			Optional<T> child = creator.apply(parent);
 			if (child.isPresent()) {
 				UniqueId uniqueId = child.get().getUniqueId();
-				if (resolvedUniqueIds.containsKey(uniqueId)) {
-					return Optional.of((T) resolvedUniqueIds.get(uniqueId).getTestDescriptor());
+				synchronized (lock) {
+					if (resolvedUniqueIds.containsKey(uniqueId)) {
+						TestDescriptor existing = resolvedUniqueIds.get(uniqueId).getTestDescriptor();
+						if (currentBatch != null) {
+							currentBatch.touch(existing);
+						}
+						return Optional.of((T) existing);
+					}
+					if (currentBatch != null) {
+						Optional<TestDescriptor> created = currentBatch.findCreated(uniqueId);
+						if (created.isPresent()) {
+							currentBatch.touch(created.get());
+							return Optional.of((T) created.get());
+						}
+						currentBatch.created(child.get());
+					}
+					parent.addChild(child.get());
 				}
-				parent.addChild(child.get());
 			}
 			return child;
 		}
 
 	}
 
+	/**
+	 * Tracks the test descriptors created while resolving a batch of
+	 * selectors concurrently.
+	 *
+	 * <p>Each created descriptor is assigned the position at which it was
+	 * first touched, i.e. created or looked up, by the task of the earliest
+	 * selector. Sorting the created children of each parent by these
+	 * positions yields the order in which sequential resolution would have
+	 * added them. All methods except {@link #run} must be called while
+	 * holding the resolution lock.
+	 */
+	private static class ConcurrentBatch {
+
+		private final ThreadLocal<Integer> currentTask = new ThreadLocal<>();
+		private final int[] touchCounts;
+		private final Map<TestDescriptor, Position> positions = new IdentityHashMap<>();
+		private final Map<UniqueId, TestDescriptor> createdDescriptors = new HashMap<>();
+
+		ConcurrentBatch(int size) {
+			this.touchCounts = new int[size];
+		}
+
+		<V> V run(int task, Callable<V> callable) throws Exception {
+			currentTask.set(task);
+			try {
+				return callable.call();
+			}
+			finally {
+				currentTask.remove();
+			}
+		}
+
+		Optional<TestDescriptor> findCreated(UniqueId uniqueId) {
+			return Optional.ofNullable(createdDescriptors.get(uniqueId));
+		}
+
+		void created(TestDescriptor descriptor) {
+			createdDescriptors.put(descriptor.getUniqueId(), descriptor);
+			positions.put(descriptor, nextPosition());
+		}
+
+		void touch(TestDescriptor descriptor) {
+			Position position = positions.get(descriptor);
+			if (position != null) {
+				Position candidate = nextPosition();
+				if (candidate.compareTo(position) < 0) {
+					positions.put(descriptor, candidate);
+				}
+			}
+		}
+
+		void touchWithAncestors(TestDescriptor descriptor) {
+			Deque<TestDescriptor> ancestors = new ArrayDeque<>();
+			for (TestDescriptor current = descriptor; current != null; current = current.getParent().orElse(null)) {
+				ancestors.push(current);
+			}
+			ancestors.forEach(this::touch);
+		}
+
+		private Position nextPosition() {
+			Integer task = currentTask.get();
+			return task == null ? Position.UNKNOWN : new Position(task, touchCounts[task]++);
+		}
+
+		void restoreSequentialOrder() {
+			Map<TestDescriptor, List<TestDescriptor>> createdChildrenByParent = new IdentityHashMap<>();
+			positions.keySet().forEach(descriptor -> descriptor.getParent().ifPresent(
+				parent -> createdChildrenByParent.computeIfAbsent(parent, key -> new ArrayList<>()).add(descriptor)));
+			createdChildrenByParent.forEach((parent, children) -> {
+				children.sort(Comparator.comparing(positions::get));
+				children.forEach(parent::removeChild);
+				children.forEach(parent::addChild);
+			});
+		}
+
+	}
+
+	private static class Position implements Comparable<Position> {
+
+		static final Position UNKNOWN = new Position(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+		private final int task;
+		private final int sequence;
+
+		Position(int task, int sequence) {
+			this.task = task;
+			this.sequence = sequence;
+		}
+
+		@Override
+		public int compareTo(Position other) {
+			int result = Integer.compare(this.task, other.task);
+			return result != 0 ? result : Integer.compare(this.sequence, other.sequence);
+		}
+
+	}
+
 }
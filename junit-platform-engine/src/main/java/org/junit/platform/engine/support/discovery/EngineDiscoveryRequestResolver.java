@@ -20,6 +20,7 @@ import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.Filter;
@@ -43,6 +44,15 @@ import org.junit.platform.engine.support.discovery.SelectorResolver.Resolution;
  * EngineDiscoveryListeners} about the results of processed
  * {@link org.junit.platform.engine.DiscoverySelector DiscoverySelectors}.
  *
+ * <p>If the {@value #PARALLEL_RESOLUTION_ENABLED_PROPERTY_NAME} configuration
+ * parameter is set to {@code true}, consecutive {@link ClassSelector
+ * ClassSelectors} that are not resolved in the context of a parent, e.g. the
+ * selectors of a request or those resulting from scanning the class path, are
+ * resolved concurrently. In that case, all registered {@linkplain
+ * SelectorResolver resolvers} and the {@linkplain Match#expand() expansion}
+ * of their matches must be thread-safe. The resulting tree of test
+ * descriptors is the same as if the selectors had been resolved sequentially.
+ *
  * @param <T> the type of the engine's descriptor
  * @see #builder()
  * @see #resolve(EngineDiscoveryRequest, TestDescriptor)
@@ -51,6 +61,32 @@ import org.junit.platform.engine.support.discovery.SelectorResolver.Resolution;
 @API(status = EXPERIMENTAL, since = "1.5")
 public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 
+	/**
+	 * Property name used to enable concurrent resolution of independent
+	 * {@link ClassSelector ClassSelectors}: {@value}
+	 *
+	 * <p>Concurrent resolution is disabled by default.
+	 *
+	 * @since 1.8
+	 * @see #PARALLEL_RESOLUTION_PARALLELISM_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8")
+	public static final String PARALLEL_RESOLUTION_ENABLED_PROPERTY_NAME = "junit.platform.discovery.parallel.enabled";
+
+	/**
+	 * Property name used to configure the maximum number of threads used to
+	 * resolve {@link ClassSelector ClassSelectors} concurrently if enabled:
+	 * {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to the number of
+	 * available processors.
+	 *
+	 * @since 1.8
+	 * @see #PARALLEL_RESOLUTION_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8")
+	public static final String PARALLEL_RESOLUTION_PARALLELISM_PROPERTY_NAME = "junit.platform.discovery.parallel.parallelism";
+
 	private final List<Function<InitializationContext<T>, SelectorResolver>> resolverCreators;
 	private final List<Function<InitializationContext<T>, TestDescriptor.Visitor>> visitorCreators;
 
@@ -110,7 +146,20 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 		InitializationContext<T> initializationContext = new DefaultInitializationContext<>(request, engineDescriptor);
 		List<SelectorResolver> resolvers = instantiate(resolverCreators, initializationContext);
 		List<TestDescriptor.Visitor> visitors = instantiate(visitorCreators, initializationContext);
-		new EngineDiscoveryRequestResolution(request, engineDescriptor, resolvers, visitors).run();
+		new EngineDiscoveryRequestResolution(request, engineDescriptor, resolvers, visitors,
+			determineParallelism(request.getConfigurationParameters())).run();
+	}
+
+	private static int determineParallelism(ConfigurationParameters configurationParameters) {
+		if (!configurationParameters.getBoolean(PARALLEL_RESOLUTION_ENABLED_PROPERTY_NAME).orElse(false)) {
+			return 1;
+		}
+		int parallelism = configurationParameters.get(PARALLEL_RESOLUTION_PARALLELISM_PROPERTY_NAME,
+			Integer::valueOf).orElseGet(() -> Runtime.getRuntime().availableProcessors());
+		Preconditions.condition(parallelism > 0, () -> String.format(
+			"Configuration parameter '%s' must be a positive integer: %d", PARALLEL_RESOLUTION_PARALLELISM_PROPERTY_NAME,
+			parallelism));
+		return parallelism;
 	}
 
 	private <R> List<R> instantiate(List<Function<InitializationContext<T>, R>> creators,
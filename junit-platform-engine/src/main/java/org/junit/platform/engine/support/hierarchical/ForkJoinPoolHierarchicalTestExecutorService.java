@@ -33,6 +33,8 @@ import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.function.Try;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Instrumentation;
+import org.junit.platform.commons.util.Instrumentation.Span;
 import org.junit.platform.engine.ConfigurationParameters;
 
 /**
@@ -70,6 +72,7 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	public ForkJoinPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration) {
 		forkJoinPool = createForkJoinPool(configuration);
 		parallelism = forkJoinPool.getParallelism();
+		Instrumentation.getInstance().forkJoinPoolStarted(forkJoinPool);
 		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with parallelism of " + parallelism);
 	}
 
@@ -166,6 +169,7 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	@Override
 	public void close() {
 		forkJoinPool.shutdownNow();
+		Instrumentation.getInstance().forkJoinPoolStopped(forkJoinPool);
 	}
 
 	// this class cannot not be serialized because TestTask is not Serializable
@@ -181,7 +185,7 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		@SuppressWarnings("try")
 		@Override
 		public void compute() {
-			try (ResourceLock lock = testTask.getResourceLock().acquire()) {
+			try (ResourceLock lock = acquireResourceLock()) {
 				testTask.execute();
 			}
 			catch (InterruptedException e) {
@@ -189,6 +193,16 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 			}
 		}
 
+		private ResourceLock acquireResourceLock() throws InterruptedException {
+			Span span = Instrumentation.getInstance().beginLockAcquisition(testTask);
+			try {
+				return testTask.getResourceLock().acquire();
+			}
+			finally {
+				span.end();
+			}
+		}
+
 	}
 
 	static class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
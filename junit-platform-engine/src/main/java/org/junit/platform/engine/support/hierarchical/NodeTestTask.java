@@ -10,8 +10,8 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Collections.emptyList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
-import static java.util.stream.Collectors.toCollection;
 import static org.junit.platform.engine.TestExecutionResult.failed;
 
 import java.util.ArrayList;
@@ -79,6 +79,11 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		return taskContext.getExecutionAdvisor().getForcedExecutionMode(testDescriptor).orElse(node.getExecutionMode());
 	}
 
+	@Override
+	public String toString() {
+		return "NodeTestTask [" + testDescriptor.getUniqueId() + "]";
+	}
+
 	void setParentContext(C parentContext) {
 		this.parentContext = parentContext;
 	}
@@ -138,29 +143,42 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		throwableCollector.execute(() -> {
 			node.around(context, ctx -> {
 				context = ctx;
-				throwableCollector.execute(() -> {
-					// @formatter:off
-					List<NodeTestTask<C>> children = testDescriptor.getChildren().stream()
-							.map(descriptor -> new NodeTestTask<C>(taskContext, descriptor))
-							.collect(toCollection(ArrayList::new));
-					// @formatter:on
+				throwableCollector.execute(this::executeNodeAndChildren);
+				throwableCollector.execute(() -> node.after(context));
+			});
+		});
+	}
 
-					context = node.before(context);
+	private void executeNodeAndChildren() throws Exception {
+		List<NodeTestTask<C>> children = createChildren();
 
-					final DynamicTestExecutor dynamicTestExecutor = new DefaultDynamicTestExecutor();
-					context = node.execute(context, dynamicTestExecutor);
+		context = node.before(context);
 
-					if (!children.isEmpty()) {
-						children.forEach(child -> child.setParentContext(context));
-						taskContext.getExecutorService().invokeAll(children);
-					}
+		final DefaultDynamicTestExecutor dynamicTestExecutor = new DefaultDynamicTestExecutor();
+		context = node.execute(context, dynamicTestExecutor);
 
-					throwableCollector.execute(dynamicTestExecutor::awaitFinished);
-				});
+		if (!children.isEmpty()) {
+			for (NodeTestTask<C> child : children) {
+				child.setParentContext(context);
+			}
+			taskContext.getExecutorService().invokeAll(children);
+		}
 
-				throwableCollector.execute(() -> node.after(context));
-			});
-		});
+		if (dynamicTestExecutor.hasUnfinishedTasks()) {
+			throwableCollector.execute(dynamicTestExecutor::awaitFinished);
+		}
+	}
+
+	private List<NodeTestTask<C>> createChildren() {
+		Set<? extends TestDescriptor> childDescriptors = testDescriptor.getChildren();
+		if (childDescriptors.isEmpty()) {
+			return emptyList();
+		}
+		List<NodeTestTask<C>> children = new ArrayList<>(childDescriptors.size());
+		for (TestDescriptor childDescriptor : childDescriptors) {
+			children.add(new NodeTestTask<>(taskContext, childDescriptor));
+		}
+		return children;
 	}
 
 	private void cleanUp() {
@@ -197,7 +215,28 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 	}
 
 	private class DefaultDynamicTestExecutor implements DynamicTestExecutor {
-		private final Map<UniqueId, DynamicTaskState> unfinishedTasks = new ConcurrentHashMap<>();
+
+		// Created lazily since most nodes never execute dynamic tests.
+		private volatile Map<UniqueId, DynamicTaskState> unfinishedTasks;
+
+		private Map<UniqueId, DynamicTaskState> getUnfinishedTasks() {
+			Map<UniqueId, DynamicTaskState> tasks = unfinishedTasks;
+			if (tasks == null) {
+				synchronized (this) {
+					tasks = unfinishedTasks;
+					if (tasks == null) {
+						tasks = new ConcurrentHashMap<>();
+						unfinishedTasks = tasks;
+					}
+				}
+			}
+			return tasks;
+		}
+
+		boolean hasUnfinishedTasks() {
+			Map<UniqueId, DynamicTaskState> tasks = unfinishedTasks;
+			return tasks != null && !tasks.isEmpty();
+		}
 
 		@Override
 		public void execute(TestDescriptor testDescriptor) {
@@ -219,6 +258,7 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 			}
 			else {
 				UniqueId uniqueId = testDescriptor.getUniqueId();
+				Map<UniqueId, DynamicTaskState> unfinishedTasks = getUnfinishedTasks();
 				NodeTestTask<C> nodeTestTask = new NodeTestTask<>(taskContext.withListener(executionListener),
 					testDescriptor, () -> unfinishedTasks.remove(uniqueId));
 				nodeTestTask.setParentContext(context);
@@ -231,6 +271,10 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 
 		@Override
 		public void awaitFinished() throws InterruptedException {
+			Map<UniqueId, DynamicTaskState> unfinishedTasks = this.unfinishedTasks;
+			if (unfinishedTasks == null) {
+				return;
+			}
 			for (DynamicTaskState state : unfinishedTasks.values()) {
 				try {
 					state.awaitFinished();
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.jfr;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Instrumentation;
+
+/**
+ * An {@link Instrumentation} that generates Java Flight Recorder events.
+ *
+ * <p>Events are only created if they are enabled in a running recording;
+ * otherwise, the instrumented code paths only perform a single check.
+ *
+ * @see <a href="https://openjdk.java.net/jeps/328">JEP 328: Flight Recorder</a>
+ * @since 1.8
+ */
+@API(status = INTERNAL, since = "1.8")
+public class FlightRecordingInstrumentation implements Instrumentation {
+
+	private static final Set<ForkJoinPool> forkJoinPools = ConcurrentHashMap.newKeySet();
+	private static final AtomicBoolean periodicEventRegistered = new AtomicBoolean();
+
+	@Override
+	public Span beginClasspathScan(URI root, String basePackageName) {
+		var event = new ClasspathScanEvent();
+		if (!event.isEnabled()) {
+			return Span.NOOP;
+		}
+		event.begin();
+		return new Span() {
+			@Override
+			public void end(int count) {
+				event.end();
+				if (event.shouldCommit()) {
+					event.root = root.toString();
+					event.basePackage = basePackageName;
+					event.classes = count;
+					event.commit();
+				}
+			}
+		};
+	}
+
+	@Override
+	public Span beginLockAcquisition(Object task) {
+		var event = new LockAcquisitionEvent();
+		if (!event.isEnabled()) {
+			return Span.NOOP;
+		}
+		event.begin();
+		return new Span() {
+			@Override
+			public void end() {
+				event.end();
+				if (event.shouldCommit()) {
+					event.task = task.toString();
+					event.commit();
+				}
+			}
+		};
+	}
+
+	@Override
+	public Span beginExtensionCallback(Class<?> callbackType, Object extension) {
+		var event = new ExtensionCallbackEvent();
+		if (!event.isEnabled()) {
+			return Span.NOOP;
+		}
+		event.begin();
+		return new Span() {
+			@Override
+			public void end() {
+				event.end();
+				if (event.shouldCommit()) {
+					event.callback = callbackType.getSimpleName();
+					event.extension = extension.getClass().getName();
+					event.commit();
+				}
+			}
+		};
+	}
+
+	@Override
+	public void forkJoinPoolStarted(ForkJoinPool pool) {
+		forkJoinPools.add(pool);
+		if (periodicEventRegistered.compareAndSet(false, true)) {
+			FlightRecorder.addPeriodicEvent(ForkJoinPoolEvent.class,
+				FlightRecordingInstrumentation::emitForkJoinPoolEvents);
+		}
+	}
+
+	@Override
+	public void forkJoinPoolStopped(ForkJoinPool pool) {
+		forkJoinPools.remove(pool);
+	}
+
+	private static void emitForkJoinPoolEvents() {
+		for (ForkJoinPool pool : forkJoinPools) {
+			var event = new ForkJoinPoolEvent();
+			event.pool = System.identityHashCode(pool);
+			event.parallelism = pool.getParallelism();
+			event.poolSize = pool.getPoolSize();
+			event.activeThreads = pool.getActiveThreadCount();
+			event.runningThreads = pool.getRunningThreadCount();
+			event.queuedTasks = pool.getQueuedTaskCount();
+			event.queuedSubmissions = pool.getQueuedSubmissionCount();
+			event.steals = pool.getStealCount();
+			event.commit();
+		}
+	}
+
+	@Label("Classpath Scan")
+	@Category({ "JUnit", "Discovery" })
+	@Name("org.junit.ClasspathScan")
+	@StackTrace(false)
+	static class ClasspathScanEvent extends Event {
+
+		@Label("Classpath Root")
+		String root;
+
+		@Label("Base Package")
+		String basePackage;
+
+		@Label("Number of classes")
+		int classes;
+	}
+
+	@Label("Resource Lock Acquisition")
+	@Category({ "JUnit", "Execution" })
+	@Name("org.junit.ResourceLockAcquisition")
+	@StackTrace(false)
+	@Threshold("1 ms")
+	static class LockAcquisitionEvent extends Event {
+
+		@Label("Test Task")
+		String task;
+	}
+
+	@Label("Extension Callback")
+	@Category({ "JUnit", "Execution" })
+	@Name("org.junit.ExtensionCallback")
+	@StackTrace(false)
+	static class ExtensionCallbackEvent extends Event {
+
+		@Label("Callback")
+		String callback;
+
+		@Label("Extension")
+		String extension;
+	}
+
+	@Label("Fork-Join Pool Statistics")
+	@Category({ "JUnit", "Execution" })
+	@Name("org.junit.ForkJoinPool")
+	@StackTrace(false)
+	@Period("1 s")
+	static class ForkJoinPoolEvent extends Event {
+
+		@Label("Pool")
+		int pool;
+
+		@Label("Parallelism")
+		int parallelism;
+
+		@Label("Number of threads")
+		int poolSize;
+
+		@Label("Number of active threads")
+		int activeThreads;
+
+		@Label("Number of running threads")
+		int runningThreads;
+
+		@Label("Number of queued tasks")
+		long queuedTasks;
+
+		@Label("Number of queued submissions")
+		int queuedSubmissions;
+
+		@Label("Number of steals")
+		long steals;
+	}
+}
@@ -14,7 +14,9 @@
  * <p>The Flight Recording Listener module implements a
  * {@link org.junit.platform.launcher.LauncherDiscoveryListener} and a
  * {@link org.junit.platform.launcher.TestExecutionListener} that generate Java
- * Flight Recorder (JFR) events.
+ * Flight Recorder (JFR) events. In addition, it instruments classpath
+ * scanning, resource lock acquisition, fork-join pools, and extension
+ * callbacks to generate further JFR events.
  *
  * @see <a href="https://openjdk.java.net/jeps/328">JEP 328: Flight Recorder</a>
  * @since 1.7
@@ -25,6 +27,8 @@ module org.junit.platform.jfr {
 	requires org.junit.platform.engine;
 	requires org.junit.platform.launcher;
 
+	provides org.junit.platform.commons.util.Instrumentation
+			with org.junit.platform.jfr.FlightRecordingInstrumentation;
 	provides org.junit.platform.launcher.LauncherDiscoveryListener
 			with org.junit.platform.jfr.FlightRecordingDiscoveryListener;
 	provides org.junit.platform.launcher.TestExecutionListener
@@ -0,0 +1,489 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ToStringBuilder;
+
+/**
+ * Graph of the classes in a set of class path roots and the classes each of
+ * them references.
+ *
+ * <p>The references of a class are read from the constant pool of its class
+ * file. They comprise all classes referenced in the bytecode, including
+ * super types, field and method signatures, annotations, and generic type
+ * arguments. Since the Java compiler inlines compile-time constants, a
+ * reference to a {@code static final} field of a primitive or {@code String}
+ * type is not visible in the referencing class file.
+ *
+ * <p>In addition, the graph records a digest of each class file which allows
+ * computing a {@linkplain #computeFingerprint(String) fingerprint} that
+ * changes whenever a class or any class it transitively references changes.
+ *
+ * <p>Optionally, the references and digests of all classes can be cached in a
+ * file. When the graph is built again, class files whose size and last
+ * modified time are unchanged are not read again.
+ *
+ * @since 1.8
+ * @see TestImpactFilter
+ * @see TestResultCache
+ */
+@API(status = EXPERIMENTAL, since = "1.8")
+public final class ClassDependencyGraph {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClassDependencyGraph.class);
+
+	private static final String CLASS_FILE_EXTENSION = ".class";
+	private static final Pattern TYPE_DESCRIPTOR = Pattern.compile("L([\\p{javaJavaIdentifierPart}/]+)[;<]");
+	private static final Pattern DIGEST = Pattern.compile("[0-9a-f]{64}");
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+
+	/**
+	 * Build the graph of the classes in the supplied directories and JAR files.
+	 *
+	 * <p>If a class is contained in multiple class path roots, the first
+	 * occurrence is used.
+	 *
+	 * @param classpathRoots the directories and JAR files to read; never
+	 * {@code null}
+	 */
+	public static ClassDependencyGraph build(Collection<Path> classpathRoots) {
+		Preconditions.notNull(classpathRoots, "classpathRoots must not be null");
+		return new Builder(new HashMap<>()).build(classpathRoots);
+	}
+
+	/**
+	 * Build the graph of the classes in the supplied directories and JAR files
+	 * reusing the references of unchanged class files cached in the supplied
+	 * file and write the references of all classes to it afterwards.
+	 *
+	 * @param classpathRoots the directories and JAR files to read; never
+	 * {@code null}
+	 * @param cacheFile the file to read cached references from and write them
+	 * to; never {@code null}
+	 * @see #build(Collection)
+	 */
+	public static ClassDependencyGraph build(Collection<Path> classpathRoots, Path cacheFile) {
+		Preconditions.notNull(classpathRoots, "classpathRoots must not be null");
+		Preconditions.notNull(cacheFile, "cacheFile must not be null");
+		ClassDependencyGraph graph = new Builder(readCache(cacheFile)).build(classpathRoots);
+		writeCache(cacheFile, graph.nodes);
+		return graph;
+	}
+
+	private static Map<String, Node> readCache(Path cacheFile) {
+		Map<String, Node> cache = new HashMap<>();
+		if (!Files.exists(cacheFile)) {
+			return cache;
+		}
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		}
+		catch (IOException | IllegalArgumentException ex) {
+			logger.warn(ex, () -> "Ignoring unreadable class dependency cache " + cacheFile);
+			return cache;
+		}
+		properties.stringPropertyNames().forEach(className -> {
+			String[] parts = properties.getProperty(className).split(" ");
+			if (parts.length < 2 || !DIGEST.matcher(parts[1]).matches()) {
+				// written by an incompatible version; read the class file again
+				return;
+			}
+			Set<String> references = new LinkedHashSet<>();
+			for (int i = 2; i < parts.length; i++) {
+				references.add(parts[i]);
+			}
+			cache.put(className, new Node(parts[0], parts[1], references));
+		});
+		return cache;
+	}
+
+	private static void writeCache(Path cacheFile, Map<String, Node> nodes) {
+		Properties properties = new Properties();
+		nodes.forEach((className, node) -> {
+			StringBuilder value = new StringBuilder(node.fingerprint).append(' ').append(node.digest);
+			node.references.forEach(reference -> value.append(' ').append(reference));
+			properties.setProperty(className, value.toString());
+		});
+		try {
+			Path parent = cacheFile.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			try (Writer writer = Files.newBufferedWriter(cacheFile, StandardCharsets.UTF_8)) {
+				properties.store(writer, "JUnit Platform class dependency cache");
+			}
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to write class dependency cache " + cacheFile, ex);
+		}
+	}
+
+	private final Map<String, Node> nodes;
+	private final Map<String, Set<String>> dependents = new HashMap<>();
+
+	private ClassDependencyGraph(Map<String, Node> nodes) {
+		this.nodes = nodes;
+		nodes.forEach((className, node) -> node.references.forEach(
+			reference -> this.dependents.computeIfAbsent(reference, key -> new LinkedHashSet<>()).add(className)));
+	}
+
+	/**
+	 * Determine whether the supplied class is contained in the class path
+	 * roots of this graph.
+	 *
+	 * @param className the binary name of the class, e.g.
+	 * {@code com.example.Outer$Inner}
+	 */
+	public boolean contains(String className) {
+		return this.nodes.containsKey(className);
+	}
+
+	/**
+	 * Get the binary names of all classes directly referenced by the supplied
+	 * class.
+	 *
+	 * @param className the binary name of the class
+	 * @return the referenced classes; never {@code null} but empty if the
+	 * class is not part of this graph
+	 */
+	public Set<String> getReferencedClasses(String className) {
+		Node node = this.nodes.get(className);
+		return node == null ? emptySet() : unmodifiableSet(node.references);
+	}
+
+	/**
+	 * Get the binary names of the supplied classes and all classes in this
+	 * graph that directly or transitively reference any of them.
+	 *
+	 * @param classNames the binary names of the classes, e.g. of changed
+	 * classes; never {@code null}
+	 */
+	public Set<String> getClassesAffectedBy(Collection<String> classNames) {
+		Preconditions.notNull(classNames, "classNames must not be null");
+		Set<String> affected = new LinkedHashSet<>(classNames);
+		Deque<String> queue = new ArrayDeque<>(classNames);
+		while (!queue.isEmpty()) {
+			for (String dependent : this.dependents.getOrDefault(queue.poll(), emptySet())) {
+				if (affected.add(dependent)) {
+					queue.add(dependent);
+				}
+			}
+		}
+		return affected;
+	}
+
+	/**
+	 * Compute a fingerprint of the supplied class and all classes in this graph
+	 * it directly or transitively references.
+	 *
+	 * <p>The fingerprint is derived from the digests of the class files of
+	 * these classes. Thus, it only changes if one of them changed.
+	 *
+	 * @param className the binary name of the class
+	 * @return the fingerprint as a hexadecimal string; empty if the class is
+	 * not part of this graph
+	 */
+	public Optional<String> computeFingerprint(String className) {
+		if (!this.nodes.containsKey(className)) {
+			return Optional.empty();
+		}
+		Set<String> referencedClasses = new TreeSet<>();
+		Deque<String> queue = new ArrayDeque<>();
+		referencedClasses.add(className);
+		queue.add(className);
+		while (!queue.isEmpty()) {
+			for (String reference : getReferencedClasses(queue.poll())) {
+				if (this.nodes.containsKey(reference) && referencedClasses.add(reference)) {
+					queue.add(reference);
+				}
+			}
+		}
+		MessageDigest digest = newMessageDigest();
+		for (String referencedClass : referencedClasses) {
+			digest.update(referencedClass.getBytes(StandardCharsets.UTF_8));
+			digest.update(this.nodes.get(referencedClass).digest.getBytes(StandardCharsets.UTF_8));
+		}
+		return Optional.of(toHexString(digest.digest()));
+	}
+
+	@Override
+	public String toString() {
+		return new ToStringBuilder(this).append("classes", this.nodes.size()).toString();
+	}
+
+	static MessageDigest newMessageDigest() {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new JUnitException(DIGEST_ALGORITHM + " is not supported", ex);
+		}
+	}
+
+	static String toHexString(byte[] bytes) {
+		StringBuilder builder = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Class in the graph along with the classes it references, the digest of
+	 * its class file, and the fingerprint of the file they were read from.
+	 */
+	private static class Node {
+
+		private final String fingerprint;
+		private final String digest;
+		private final Set<String> references;
+
+		Node(String fingerprint, String digest, Set<String> references) {
+			this.fingerprint = fingerprint;
+			this.digest = digest;
+			this.references = references;
+		}
+
+	}
+
+	private static class Builder {
+
+		private final Map<String, Node> cache;
+		private final Map<String, Node> nodes = new LinkedHashMap<>();
+		private int readCount;
+
+		Builder(Map<String, Node> cache) {
+			this.cache = cache;
+		}
+
+		ClassDependencyGraph build(Collection<Path> classpathRoots) {
+			for (Path root : classpathRoots) {
+				try {
+					if (Files.isDirectory(root)) {
+						addDirectory(root);
+					}
+					else if (Files.isRegularFile(root)) {
+						addJarFile(root);
+					}
+				}
+				catch (IOException ex) {
+					throw new JUnitException("Failed to read class files in " + root, ex);
+				}
+			}
+			logger.config(() -> String.format("Read %d of %d class files to build class dependency graph", readCount,
+				this.nodes.size()));
+			return new ClassDependencyGraph(this.nodes);
+		}
+
+		private void addDirectory(Path root) throws IOException {
+			try (Stream<Path> files = Files.walk(root)) {
+				for (Path file : (Iterable<Path>) files::iterator) {
+					String relativePath = root.relativize(file).toString().replace(file.getFileSystem().getSeparator(),
+						"/");
+					if (isClassFile(relativePath)) {
+						BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+						if (attributes.isRegularFile()) {
+							String fingerprint = attributes.size() + "-" + attributes.lastModifiedTime().toMillis();
+							add(toClassName(relativePath), fingerprint, () -> Files.newInputStream(file));
+						}
+					}
+				}
+			}
+		}
+
+		private void addJarFile(Path jarFile) throws IOException {
+			BasicFileAttributes attributes = Files.readAttributes(jarFile, BasicFileAttributes.class);
+			String fingerprint = attributes.size() + "-" + attributes.lastModifiedTime().toMillis() + "-jar";
+			try (ZipFile zipFile = new ZipFile(jarFile.toFile())) {
+				Enumeration<? extends ZipEntry> entries = zipFile.entries();
+				while (entries.hasMoreElements()) {
+					ZipEntry entry = entries.nextElement();
+					if (!entry.isDirectory() && isClassFile(entry.getName())
+							&& !entry.getName().startsWith("META-INF/")) {
+						add(toClassName(entry.getName()), fingerprint, () -> zipFile.getInputStream(entry));
+					}
+				}
+			}
+		}
+
+		private void add(String className, String fingerprint, ClassFileOpener opener) throws IOException {
+			if (this.nodes.containsKey(className)) {
+				return;
+			}
+			Node cached = this.cache.get(className);
+			if (cached != null && cached.fingerprint.equals(fingerprint)) {
+				this.nodes.put(className, cached);
+				return;
+			}
+			byte[] bytes;
+			try (InputStream in = opener.open()) {
+				bytes = readAllBytes(in);
+			}
+			String digest = toHexString(newMessageDigest().digest(bytes));
+			Set<String> references = readReferences(className, new ByteArrayInputStream(bytes));
+			this.nodes.put(className, new Node(fingerprint, digest, references));
+			this.readCount++;
+		}
+
+		private static byte[] readAllBytes(InputStream in) throws IOException {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+			byte[] buffer = new byte[4096];
+			int count;
+			while ((count = in.read(buffer)) != -1) {
+				out.write(buffer, 0, count);
+			}
+			return out.toByteArray();
+		}
+
+		private static boolean isClassFile(String path) {
+			return path.endsWith(CLASS_FILE_EXTENSION) && !path.endsWith("module-info.class")
+					&& !path.endsWith("package-info.class");
+		}
+
+		private static String toClassName(String path) {
+			return path.substring(0, path.length() - CLASS_FILE_EXTENSION.length()).replace('/', '.');
+		}
+
+	}
+
+	@FunctionalInterface
+	private interface ClassFileOpener {
+
+		InputStream open() throws IOException;
+
+	}
+
+	/**
+	 * Read the classes referenced in the constant pool of the supplied class
+	 * file.
+	 *
+	 * @see <a href="https://docs.oracle.com/javase/specs/jvms/se16/html/jvms-4.html#jvms-4.4">JVMS 4.4</a>
+	 */
+	static Set<String> readReferences(String className, InputStream classFile) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(classFile));
+		if (in.readInt() != 0xCAFEBABE) {
+			throw new JUnitException("Not a class file: " + className);
+		}
+		in.readUnsignedShort(); // minor_version
+		in.readUnsignedShort(); // major_version
+		int constantPoolCount = in.readUnsignedShort();
+		String[] utf8Entries = new String[constantPoolCount];
+		int[] classNameIndexes = new int[constantPoolCount];
+		int classCount = 0;
+		for (int i = 1; i < constantPoolCount; i++) {
+			int tag = in.readUnsignedByte();
+			switch (tag) {
+				case 1: // Utf8
+					utf8Entries[i] = in.readUTF();
+					break;
+				case 7: // Class
+					classNameIndexes[classCount++] = in.readUnsignedShort();
+					break;
+				case 8: // String
+				case 16: // MethodType
+				case 19: // Module
+				case 20: // Package
+					in.skipBytes(2);
+					break;
+				case 15: // MethodHandle
+					in.skipBytes(3);
+					break;
+				case 3: // Integer
+				case 4: // Float
+				case 9: // Fieldref
+				case 10: // Methodref
+				case 11: // InterfaceMethodref
+				case 12: // NameAndType
+				case 17: // Dynamic
+				case 18: // InvokeDynamic
+					in.skipBytes(4);
+					break;
+				case 5: // Long
+				case 6: // Double
+					in.skipBytes(8);
+					i++; // takes up two entries
+					break;
+				default:
+					throw new JUnitException(
+						String.format("Unsupported constant pool tag %d in class file of %s", tag, className));
+			}
+		}
+
+		Set<String> references = new LinkedHashSet<>();
+		for (int i = 0; i < classCount; i++) {
+			String name = utf8Entries[classNameIndexes[i]];
+			if (name.startsWith("[")) {
+				addTypeDescriptors(name, references);
+			}
+			else {
+				references.add(name.replace('/', '.'));
+			}
+		}
+		// descriptors and signatures, e.g. of fields, methods, and annotations
+		for (String utf8 : utf8Entries) {
+			if (utf8 != null && utf8.indexOf(';') > 0) {
+				addTypeDescriptors(utf8, references);
+			}
+		}
+		references.remove(className);
+		return references;
+	}
+
+	private static void addTypeDescriptors(String descriptor, Set<String> references) {
+		Matcher matcher = TYPE_DESCRIPTOR.matcher(descriptor);
+		while (matcher.find()) {
+			references.add(matcher.group(1).replace('/', '.'));
+		}
+	}
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.platform.launcher;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import org.apiguardian.api.API;
@@ -135,6 +136,70 @@ public class LauncherConstants {
 	 */
 	public static final String DEACTIVATE_ALL_LISTENERS_PATTERN = ClassNamePatternFilterUtils.DEACTIVATE_ALL_PATTERN;
 
+	/**
+	 * Property name used to enable asynchronous notification of
+	 * {@link TestExecutionListener TestExecutionListeners}: {@value}
+	 *
+	 * <p>By default, all listeners are notified synchronously on the thread
+	 * that reports the corresponding event.
+	 *
+	 * <p>If enabled, events are placed into a bounded queue and delivered to
+	 * the registered listeners on a single, dedicated thread in the order in
+	 * which they were reported. A thread reporting an event only blocks if the
+	 * queue is full. All pending events have been delivered once the test plan
+	 * has been reported as finished.
+	 *
+	 * @since 1.8
+	 * @see #ASYNC_LISTENERS_QUEUE_CAPACITY_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8")
+	public static final String ASYNC_LISTENERS_ENABLED_PROPERTY_NAME = "junit.platform.execution.listeners.async.enabled";
+
+	/**
+	 * Property name used to configure the maximum number of pending events if
+	 * asynchronous notification of listeners is enabled: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to
+	 * {@value ASYNC_LISTENERS_QUEUE_CAPACITY_DEFAULT}.
+	 *
+	 * @since 1.8
+	 * @see #ASYNC_LISTENERS_ENABLED_PROPERTY_NAME
+	 * @see #ASYNC_LISTENERS_QUEUE_CAPACITY_DEFAULT
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8")
+	public static final String ASYNC_LISTENERS_QUEUE_CAPACITY_PROPERTY_NAME = "junit.platform.execution.listeners.async.queueCapacity";
+
+	/**
+	 * Default maximum number of pending events if asynchronous notification of
+	 * listeners is enabled.
+	 *
+	 * @since 1.8
+	 * @see #ASYNC_LISTENERS_QUEUE_CAPACITY_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8")
+	public static final int ASYNC_LISTENERS_QUEUE_CAPACITY_DEFAULT = 1024;
+
+	/**
+	 * Property name used to enable reusing discovery results within a
+	 * {@link LauncherSession}: {@value}
+	 *
+	 * <p>By default, tests are discovered again whenever a request is executed.
+	 *
+	 * <p>If enabled in the configuration parameters of a request and
+	 * {@link Launcher#execute(LauncherDiscoveryRequest, TestExecutionListener...)}
+	 * is called with the same request instance that was previously passed to
+	 * {@link Launcher#discover(LauncherDiscoveryRequest)} on the launcher of
+	 * the same session, the {@link TestPlan} returned by the latter is
+	 * executed instead of discovering tests again. Since a {@code TestPlan}
+	 * may only be executed once, it may not be passed to
+	 * {@link Launcher#execute(TestPlan, TestExecutionListener...)} afterwards.
+	 *
+	 * @since 1.8
+	 * @see LauncherSession
+	 */
+	@API(status = EXPERIMENTAL, since = "1.8")
+	public static final String DISCOVERY_RESULT_REUSE_ENABLED_PROPERTY_NAME = "junit.platform.discovery.results.reuse.enabled";
+
 	private LauncherConstants() {
 		/* no-op */
 	}
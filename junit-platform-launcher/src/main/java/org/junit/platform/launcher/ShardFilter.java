@@ -0,0 +1,380 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.Comparator.comparingLong;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ToStringBuilder;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+/**
+ * A {@code ShardFilter} partitions the discovered tests into a fixed number
+ * of shards and only includes the tests of a single shard, so that a test
+ * suite can be split across multiple machines by executing the same
+ * discovery request with a different {@linkplain #getShardIndex() shard
+ * index} on each of them.
+ *
+ * <p>Tests are partitioned at the granularity of the direct children of each
+ * engine descriptor, e.g. top-level test classes, so that containers are
+ * never split across shards. In addition, containers whose descendants
+ * declare the same {@linkplain Node#getExclusiveResources() exclusive
+ * resource} are assigned to the same shard.
+ *
+ * <p>If a timings file written by
+ * {@link org.junit.platform.launcher.listeners.ShardTimingsListener
+ * ShardTimingsListener} during earlier runs is supplied, containers are
+ * distributed across shards such that the expected duration of each shard is
+ * balanced. Containers without recorded timings are assumed to take as long
+ * as the average container. Otherwise, containers are distributed based on
+ * a stable hash of their unique IDs.
+ *
+ * <p>In any case, the partitioning is deterministic: given the same
+ * discovered tests and the same timings, each container is assigned to
+ * exactly one shard. Consequently, <em>all shards must read an identical
+ * timings file</em>. Since each shard only records the durations of its
+ * own containers, the timings files written by the shards of one run have
+ * to be merged into a single file before it is distributed to all shards
+ * of the next run. Otherwise, shards compute different partitions and
+ * containers may be executed by no shard or by several shards. Supplying
+ * the expected {@linkplain #shard(int, int, Path, String) digest} of the
+ * timings file to each shard turns such a mismatch into an error.
+ *
+ * @since 1.8
+ * @see #shard(int, int)
+ * @see #shard(int, int, Path)
+ * @see #shard(int, int, Path, String)
+ * @see org.junit.platform.launcher.listeners.ShardTimingsListener
+ */
+@API(status = EXPERIMENTAL, since = "1.8")
+public final class ShardFilter implements PostDiscoveryFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(ShardFilter.class);
+
+	/**
+	 * Create a new {@code ShardFilter} that includes the tests of the supplied
+	 * shard and distributes containers based on a stable hash of their
+	 * unique IDs.
+	 *
+	 * @param shardIndex the zero-based index of the shard to include; must be
+	 * less than {@code shardCount}
+	 * @param shardCount the total number of shards; must be positive
+	 */
+	public static ShardFilter shard(int shardIndex, int shardCount) {
+		return new ShardFilter(shardIndex, shardCount, Collections.emptyMap());
+	}
+
+	/**
+	 * Create a new {@code ShardFilter} that includes the tests of the supplied
+	 * shard and distributes containers based on the durations recorded in
+	 * the supplied timings file.
+	 *
+	 * <p>If the timings file does not exist, containers are distributed based
+	 * on a stable hash of their unique IDs.
+	 *
+	 * <p>Every shard must read an identical timings file; consider using
+	 * {@link #shard(int, int, Path, String)} to verify that.
+	 *
+	 * @param shardIndex the zero-based index of the shard to include; must be
+	 * less than {@code shardCount}
+	 * @param shardCount the total number of shards; must be positive
+	 * @param timingsFile the timings file to read; never {@code null}
+	 * @see org.junit.platform.launcher.listeners.ShardTimingsListener
+	 */
+	public static ShardFilter shard(int shardIndex, int shardCount, Path timingsFile) {
+		Preconditions.notNull(timingsFile, "timingsFile must not be null");
+		return new ShardFilter(shardIndex, shardCount, readTimings(timingsFile, null));
+	}
+
+	/**
+	 * Create a new {@code ShardFilter} that includes the tests of the supplied
+	 * shard and distributes containers based on the durations recorded in
+	 * the supplied timings file, which must exist and whose SHA-256 digest
+	 * must match the supplied one.
+	 *
+	 * <p>Passing the same digest, e.g. as computed by {@code sha256sum}, to
+	 * every shard ensures that all shards read an identical timings file and
+	 * thus compute the same partitioning.
+	 *
+	 * @param shardIndex the zero-based index of the shard to include; must be
+	 * less than {@code shardCount}
+	 * @param shardCount the total number of shards; must be positive
+	 * @param timingsFile the timings file to read; never {@code null}
+	 * @param expectedTimingsDigest the expected hexadecimal SHA-256 digest of
+	 * the timings file; never {@code null} or blank
+	 * @throws JUnitException if the timings file does not exist or its digest
+	 * does not match
+	 * @see org.junit.platform.launcher.listeners.ShardTimingsListener
+	 */
+	public static ShardFilter shard(int shardIndex, int shardCount, Path timingsFile, String expectedTimingsDigest) {
+		Preconditions.notNull(timingsFile, "timingsFile must not be null");
+		Preconditions.notBlank(expectedTimingsDigest, "expectedTimingsDigest must not be null or blank");
+		return new ShardFilter(shardIndex, shardCount, readTimings(timingsFile, expectedTimingsDigest.trim()));
+	}
+
+	private static Map<String, Long> readTimings(Path timingsFile, String expectedDigest) {
+		byte[] content;
+		try {
+			content = Files.readAllBytes(timingsFile);
+		}
+		catch (NoSuchFileException ex) {
+			if (expectedDigest != null) {
+				throw new JUnitException(String.format(
+					"Shard timings file %s does not exist but its digest was expected to be %s", timingsFile,
+					expectedDigest));
+			}
+			logger.config(() -> "Shard timings file " + timingsFile + " does not exist");
+			return Collections.emptyMap();
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to read shard timings file " + timingsFile, ex);
+		}
+		if (expectedDigest != null) {
+			String actualDigest = ClassDependencyGraph.toHexString(
+				ClassDependencyGraph.newMessageDigest().digest(content));
+			if (!actualDigest.equalsIgnoreCase(expectedDigest)) {
+				throw new JUnitException(String.format(
+					"Shard timings file %s has digest %s but %s was expected; all shards must read the same "
+							+ "timings file",
+					timingsFile, actualDigest, expectedDigest));
+			}
+		}
+		Properties properties = new Properties();
+		try (Reader reader = new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to read shard timings file " + timingsFile, ex);
+		}
+		Map<String, Long> timings = new HashMap<>();
+		properties.stringPropertyNames().forEach(uniqueId -> {
+			String value = properties.getProperty(uniqueId);
+			try {
+				timings.put(uniqueId, Math.max(0, Long.parseLong(value.trim())));
+			}
+			catch (NumberFormatException ex) {
+				logger.warn(() -> String.format("Ignoring invalid duration '%s' for [%s] in shard timings file %s",
+					value, uniqueId, timingsFile));
+			}
+		});
+		return timings;
+	}
+
+	private final int shardIndex;
+	private final int shardCount;
+	private final Map<String, Long> timings;
+
+	private TestDescriptor currentRoot;
+	private Map<UniqueId, Integer> currentShards;
+
+	private ShardFilter(int shardIndex, int shardCount, Map<String, Long> timings) {
+		Preconditions.condition(shardCount > 0, "shardCount must be greater than 0");
+		Preconditions.condition(shardIndex >= 0 && shardIndex < shardCount,
+			() -> String.format("shardIndex must be between 0 and %d", shardCount - 1));
+		this.shardIndex = shardIndex;
+		this.shardCount = shardCount;
+		this.timings = timings;
+	}
+
+	/**
+	 * Get the zero-based index of the shard whose tests are included by this
+	 * filter.
+	 */
+	public int getShardIndex() {
+		return this.shardIndex;
+	}
+
+	/**
+	 * Get the total number of shards.
+	 */
+	public int getShardCount() {
+		return this.shardCount;
+	}
+
+	@Override
+	public synchronized FilterResult apply(TestDescriptor descriptor) {
+		TestDescriptor unit = descriptor;
+		TestDescriptor parent = descriptor.getParent().orElse(null);
+		if (parent == null) {
+			return FilterResult.included("engine descriptors are included in every shard");
+		}
+		while (parent.getParent().isPresent()) {
+			unit = parent;
+			parent = parent.getParent().get();
+		}
+		if (this.currentRoot != parent) {
+			this.currentShards = assignShards(parent);
+			this.currentRoot = parent;
+		}
+		int shard = this.currentShards.getOrDefault(unit.getUniqueId(), this.shardIndex);
+		return FilterResult.includedIf(shard == this.shardIndex, //
+			() -> String.format("included because assigned to shard %d of %d", shard, this.shardCount), //
+			() -> String.format("excluded because assigned to shard %d of %d", shard, this.shardCount));
+	}
+
+	private Map<UniqueId, Integer> assignShards(TestDescriptor root) {
+		List<Group> groups = groupByExclusiveResources(root);
+		Map<UniqueId, Integer> shards = new HashMap<>();
+		if (this.timings.isEmpty()) {
+			for (Group group : groups) {
+				group.assignTo(Math.floorMod(group.getKey().hashCode(), this.shardCount), shards);
+			}
+			return shards;
+		}
+		long defaultDuration = Math.max(1, Math.round(this.timings.values().stream() //
+				.mapToLong(Long::longValue) //
+				.average() //
+				.orElse(1)));
+		groups.forEach(group -> group.computeExpectedDuration(this.timings, defaultDuration));
+		groups.sort(comparingLong(Group::getExpectedDuration).reversed().thenComparing(Group::getKey));
+
+		// Assign the longest groups first, each to the shard with the lowest expected duration so far. Ties are
+		// broken starting from an engine-specific shard so that small engines are not all assigned to shard 0.
+		long[] expectedDurations = new long[this.shardCount];
+		int offset = Math.floorMod(root.getUniqueId().toString().hashCode(), this.shardCount);
+		for (Group group : groups) {
+			int shard = offset;
+			for (int i = 1; i < this.shardCount; i++) {
+				int candidate = (offset + i) % this.shardCount;
+				if (expectedDurations[candidate] < expectedDurations[shard]) {
+					shard = candidate;
+				}
+			}
+			expectedDurations[shard] += group.getExpectedDuration();
+			group.assignTo(shard, shards);
+		}
+		return shards;
+	}
+
+	/**
+	 * Group the children of the supplied root such that children whose
+	 * descendants declare the same exclusive resource end up in the same group.
+	 */
+	private static List<Group> groupByExclusiveResources(TestDescriptor root) {
+		List<Group> groups = new ArrayList<>();
+		Map<String, Group> groupsByResourceKey = new HashMap<>();
+		for (TestDescriptor child : root.getChildren()) {
+			Group group = new Group(child);
+			groups.add(group);
+			child.accept(descriptor -> {
+				if (descriptor instanceof Node) {
+					for (ExclusiveResource resource : ((Node<?>) descriptor).getExclusiveResources()) {
+						if (ExclusiveResource.GLOBAL_KEY.equals(resource.getKey())) {
+							// isolation only applies within a single JVM
+							continue;
+						}
+						Group existing = groupsByResourceKey.putIfAbsent(resource.getKey(), group.find());
+						if (existing != null) {
+							existing.find().mergeInto(group.find());
+						}
+					}
+				}
+			});
+		}
+		groups.removeIf(group -> group.find() != group);
+		return groups;
+	}
+
+	@Override
+	public String toString() {
+		// @formatter:off
+		return new ToStringBuilder(this)
+				.append("shardIndex", this.shardIndex)
+				.append("shardCount", this.shardCount)
+				.append("timings", this.timings.size())
+				.toString();
+		// @formatter:on
+	}
+
+	/**
+	 * Set of children of an engine descriptor that must be assigned to the
+	 * same shard, implemented as a union-find structure.
+	 */
+	private static class Group {
+
+		private final List<TestDescriptor> members = new ArrayList<>();
+		private Group parent = this;
+		private long expectedDuration;
+
+		Group(TestDescriptor member) {
+			this.members.add(member);
+		}
+
+		Group find() {
+			Group group = this;
+			while (group.parent != group) {
+				group = group.parent;
+			}
+			return group;
+		}
+
+		void mergeInto(Group other) {
+			if (this != other) {
+				other.members.addAll(this.members);
+				this.members.clear();
+				this.parent = other;
+			}
+		}
+
+		/**
+		 * Get the lexicographically smallest unique ID of all members of this
+		 * group, which is used for hashing and for ordering groups
+		 * deterministically.
+		 */
+		String getKey() {
+			return this.members.stream() //
+					.map(member -> member.getUniqueId().toString()) //
+					.min(Comparator.naturalOrder()) //
+					.orElse("");
+		}
+
+		void computeExpectedDuration(Map<String, Long> timings, long defaultDuration) {
+			this.expectedDuration = this.members.stream() //
+					.mapToLong(member -> timings.getOrDefault(member.getUniqueId().toString(), defaultDuration)) //
+					.sum();
+		}
+
+		long getExpectedDuration() {
+			return this.expectedDuration;
+		}
+
+		void assignTo(int shard, Map<UniqueId, Integer> shards) {
+			this.members.forEach(member -> shards.put(member.getUniqueId(), shard));
+		}
+
+	}
+
+}
@@ -16,14 +16,19 @@ import static org.junit.platform.commons.util.CollectionUtils.toUnmodifiableList
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ToStringBuilder;
 import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.discovery.TagDiscoveryFilter;
+import org.junit.platform.launcher.core.TagPostDiscoveryFilter;
+import org.junit.platform.launcher.tagexpression.CompiledTagExpressions;
 import org.junit.platform.launcher.tagexpression.TagExpression;
 
 /**
@@ -39,6 +44,11 @@ import org.junit.platform.launcher.tagexpression.TagExpression;
  * <p>Please note that a tag name is a valid tag expression. Thus, wherever a tag
  * expression can be used, a single tag name can also be used.
  *
+ * <p>When added to a {@link org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder
+ * LauncherDiscoveryRequestBuilder}, the created filters are also passed to engines as
+ * {@link org.junit.platform.engine.discovery.TagDiscoveryFilter TagDiscoveryFilters}
+ * so they can skip resolving containers without any included tests.
+ *
  * @since 1.0
  * @see #includeTags(String...)
  * @see #excludeTags(String...)
@@ -130,13 +140,12 @@ public final class TagFilter {
 	private static PostDiscoveryFilter includeMatching(List<String> tagExpressions) {
 		Supplier<String> inclusionReason = () -> inclusionReasonExpressionSatisfy(tagExpressions);
 		Supplier<String> exclusionReason = () -> exclusionReasonExpressionNotSatisfy(tagExpressions);
-		List<TagExpression> parsedTagExpressions = parseAll(tagExpressions);
-		return descriptor -> {
-			Set<TestTag> tags = descriptor.getTags();
-			boolean included = parsedTagExpressions.stream().anyMatch(expression -> expression.evaluate(tags));
+		CompiledTagExpressions compiledTagExpressions = compileAll(tagExpressions);
+		return new TagPostDiscoveryFilter(new CompiledTagFilter("include", tagExpressions, tags -> {
+			boolean included = compiledTagExpressions.anyMatch(tags);
 
 			return FilterResult.includedIf(included, inclusionReason, exclusionReason);
-		};
+		}));
 	}
 
 	private static String inclusionReasonExpressionSatisfy(List<String> tagExpressions) {
@@ -151,13 +160,12 @@ public final class TagFilter {
 	private static PostDiscoveryFilter excludeMatching(List<String> tagExpressions) {
 		Supplier<String> inclusionReason = () -> inclusionReasonExpressionNotSatisfy(tagExpressions);
 		Supplier<String> exclusionReason = () -> exclusionReasonExpressionSatisfy(tagExpressions);
-		List<TagExpression> parsedTagExpressions = parseAll(tagExpressions);
-		return descriptor -> {
-			Set<TestTag> tags = descriptor.getTags();
-			boolean included = parsedTagExpressions.stream().noneMatch(expression -> expression.evaluate(tags));
+		CompiledTagExpressions compiledTagExpressions = compileAll(tagExpressions);
+		return new TagPostDiscoveryFilter(new CompiledTagFilter("exclude", tagExpressions, tags -> {
+			boolean included = compiledTagExpressions.noneMatch(tags);
 
 			return FilterResult.includedIf(included, inclusionReason, exclusionReason);
-		};
+		}));
 	}
 
 	private static String inclusionReasonExpressionNotSatisfy(List<String> tagExpressions) {
@@ -172,8 +180,9 @@ public final class TagFilter {
 		return tagExpressions.stream().map(String::trim).sorted().collect(Collectors.joining(","));
 	}
 
-	private static List<TagExpression> parseAll(List<String> tagExpressions) {
-		return tagExpressions.stream().map(TagFilter::parse).collect(toUnmodifiableList());
+	private static CompiledTagExpressions compileAll(List<String> tagExpressions) {
+		return CompiledTagExpressions.compile(
+			tagExpressions.stream().map(TagFilter::parse).collect(toUnmodifiableList()));
 	}
 
 	private static TagExpression parse(String tagExpression) {
@@ -182,4 +191,38 @@ public final class TagFilter {
 				"Unable to parse tag expression \"" + tagExpression + "\": " + message));
 	}
 
+	/**
+	 * {@link TagDiscoveryFilter} whose string representation describes its
+	 * tag expressions, e.g. for fingerprinting discovery requests.
+	 */
+	private static final class CompiledTagFilter implements TagDiscoveryFilter {
+
+		private final String mode;
+		private final String tagExpressions;
+		private final Function<Set<TestTag>, FilterResult> filter;
+
+		CompiledTagFilter(String mode, List<String> tagExpressions,
+				Function<Set<TestTag>, FilterResult> filter) {
+			this.mode = mode;
+			this.tagExpressions = formatToString(tagExpressions);
+			this.filter = filter;
+		}
+
+		@Override
+		public FilterResult apply(Set<TestTag> tags) {
+			return this.filter.apply(tags);
+		}
+
+		@Override
+		public String toString() {
+			// @formatter:off
+			return new ToStringBuilder(this)
+					.append("mode", this.mode)
+					.append("tagExpressions", this.tagExpressions)
+					.toString();
+			// @formatter:on
+		}
+
+	}
+
 }
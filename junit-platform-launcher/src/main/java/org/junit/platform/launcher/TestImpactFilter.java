@@ -0,0 +1,124 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ToStringBuilder;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+
+/**
+ * A {@code TestImpactFilter} only includes tests whose classes directly or
+ * transitively reference any of a set of changed classes, e.g. the classes
+ * modified by a pull request, according to a {@link ClassDependencyGraph}.
+ *
+ * <p>The class of a test or container is determined by its
+ * {@link ClassSource} or {@link MethodSource}. Tests and containers without
+ * such a source and those whose class is not part of the graph are always
+ * included since their dependencies are unknown. Containers that no longer
+ * contain any tests after filtering are removed by the launcher.
+ *
+ * @since 1.8
+ * @see #affectedBy(ClassDependencyGraph, Collection)
+ * @see #affectedBy(Collection, Collection, Path)
+ * @see ClassDependencyGraph
+ */
+@API(status = EXPERIMENTAL, since = "1.8")
+public final class TestImpactFilter implements PostDiscoveryFilter {
+
+	/**
+	 * Create a new {@code TestImpactFilter} that includes tests affected by
+	 * the supplied changed classes according to the supplied graph.
+	 *
+	 * @param graph the class dependency graph; never {@code null}
+	 * @param changedClassNames the binary names of the changed classes; never
+	 * {@code null}
+	 */
+	public static TestImpactFilter affectedBy(ClassDependencyGraph graph, Collection<String> changedClassNames) {
+		Preconditions.notNull(graph, "graph must not be null");
+		Preconditions.notNull(changedClassNames, "changedClassNames must not be null");
+		return new TestImpactFilter(graph, changedClassNames);
+	}
+
+	/**
+	 * Create a new {@code TestImpactFilter} that includes tests affected by
+	 * the supplied changed classes according to the graph of the classes in
+	 * the supplied class path roots.
+	 *
+	 * @param changedClassNames the binary names of the changed classes; never
+	 * {@code null}
+	 * @param classpathRoots the directories and JAR files containing the test
+	 * classes and the classes they reference; never {@code null}
+	 * @param cacheFile the file to cache the graph in; never {@code null}
+	 * @see ClassDependencyGraph#build(Collection, Path)
+	 */
+	public static TestImpactFilter affectedBy(Collection<String> changedClassNames, Collection<Path> classpathRoots,
+			Path cacheFile) {
+		return affectedBy(ClassDependencyGraph.build(classpathRoots, cacheFile), changedClassNames);
+	}
+
+	private final ClassDependencyGraph graph;
+	private final Set<String> changedClassNames;
+	private final Set<String> affectedClassNames;
+
+	private TestImpactFilter(ClassDependencyGraph graph, Collection<String> changedClassNames) {
+		this.graph = graph;
+		this.changedClassNames = new LinkedHashSet<>(changedClassNames);
+		this.affectedClassNames = graph.getClassesAffectedBy(changedClassNames);
+	}
+
+	@Override
+	public FilterResult apply(TestDescriptor descriptor) {
+		Optional<String> className = descriptor.getSource().flatMap(TestImpactFilter::getClassName);
+		if (!className.isPresent()) {
+			return FilterResult.included("no class source");
+		}
+		if (!this.graph.contains(className.get())) {
+			return FilterResult.included("class is not part of the class dependency graph");
+		}
+		return FilterResult.includedIf(this.affectedClassNames.contains(className.get()), //
+			() -> "class is affected by changed classes", //
+			() -> "class is not affected by changed classes");
+	}
+
+	private static Optional<String> getClassName(TestSource source) {
+		if (source instanceof ClassSource) {
+			return Optional.of(((ClassSource) source).getClassName());
+		}
+		if (source instanceof MethodSource) {
+			return Optional.of(((MethodSource) source).getClassName());
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public String toString() {
+		// @formatter:off
+		return new ToStringBuilder(this)
+				.append("changedClassNames", this.changedClassNames)
+				.append("affectedClasses", this.affectedClassNames.size())
+				.toString();
+		// @formatter:on
+	}
+
+}
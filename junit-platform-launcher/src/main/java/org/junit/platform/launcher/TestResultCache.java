@@ -0,0 +1,340 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.stream.Collectors.toList;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ToStringBuilder;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+
+/**
+ * A {@code TestResultCache} records which top-level containers, e.g. test
+ * classes, passed and excludes them from subsequent discoveries as long as
+ * neither they nor any class they transitively reference changed.
+ *
+ * <p>A {@code TestResultCache} is a {@link PostDiscoveryFilter}, a
+ * {@link LauncherDiscoveryListener}, and a {@link TestExecutionListener}; it
+ * needs to be registered as all three in order to skip unchanged containers
+ * and record the results of executed ones.
+ *
+ * <p>Only the direct children of engine descriptors with a
+ * {@link ClassSource} are cached. Their fingerprint is
+ * {@linkplain ClassDependencyGraph#computeFingerprint(String) computed} from
+ * the class files of the class and all classes it transitively references,
+ * the supplied configuration parameters, the Java version, the size and
+ * last-modified time of all JAR files on the system class path, and the
+ * {@link Object#toString() string representations} of the selectors and
+ * filters of the discovery request. Since a container is recorded along with
+ * the fingerprint of the request it was executed for, containers that only
+ * partially executed, e.g. because a single method was selected, are not
+ * skipped by requests with other selectors or filters. A container is
+ * recorded as passed if neither it nor any of its descendants failed or were
+ * aborted. Resources other than class files, e.g. files read by tests, are
+ * not part of the fingerprint.
+ *
+ * <p>The cache directory contains the recorded results and the
+ * {@link ClassDependencyGraph} cache. It may be deleted at any time to
+ * execute all tests again.
+ *
+ * @since 1.8
+ * @see #open(Path, Collection, Map)
+ * @see ClassDependencyGraph
+ */
+@API(status = EXPERIMENTAL, since = "1.8")
+public final class TestResultCache implements PostDiscoveryFilter, LauncherDiscoveryListener, TestExecutionListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(TestResultCache.class);
+
+	static final String RESULTS_FILE_NAME = "test-results.properties";
+	static final String CLASS_DEPENDENCIES_FILE_NAME = "class-dependencies.properties";
+
+	/**
+	 * Open the cache in the supplied directory.
+	 *
+	 * @param directory the directory to read and write the cache in; never
+	 * {@code null}
+	 * @param classpathRoots the directories and JAR files containing the test
+	 * classes and the classes they reference; never {@code null}
+	 * @param configurationParameters the configuration parameters of the
+	 * discovery request; never {@code null}
+	 */
+	public static TestResultCache open(Path directory, Collection<Path> classpathRoots,
+			Map<String, String> configurationParameters) {
+		Preconditions.notNull(directory, "directory must not be null");
+		Preconditions.notNull(classpathRoots, "classpathRoots must not be null");
+		Preconditions.notNull(configurationParameters, "configurationParameters must not be null");
+		return open(directory, classpathRoots, configurationParameters, getClassPathJarFiles());
+	}
+
+	static TestResultCache open(Path directory, Collection<Path> classpathRoots,
+			Map<String, String> configurationParameters, Collection<Path> classPathJarFiles) {
+		ClassDependencyGraph graph = ClassDependencyGraph.build(classpathRoots,
+			directory.resolve(CLASS_DEPENDENCIES_FILE_NAME));
+		return new TestResultCache(directory.resolve(RESULTS_FILE_NAME), graph,
+			computeEnvironmentFingerprint(configurationParameters, classPathJarFiles));
+	}
+
+	private static List<Path> getClassPathJarFiles() {
+		// @formatter:off
+		return Arrays.stream(System.getProperty("java.class.path", "").split(File.pathSeparator))
+				.filter(entry -> !entry.isEmpty())
+				.map(Paths::get)
+				.filter(Files::isRegularFile)
+				.collect(toList());
+		// @formatter:on
+	}
+
+	private final Path resultsFile;
+	private final ClassDependencyGraph graph;
+	private final String environmentFingerprint;
+	private final Map<String, String> cachedResults;
+
+	private final Map<String, Boolean> skipDecisions = new HashMap<>();
+	private final Set<String> skippedUniqueIds = new LinkedHashSet<>();
+	private final Map<String, String> passedContainers = new HashMap<>();
+	private final Set<String> failedContainers = new HashSet<>();
+	private String requestFingerprint;
+	private TestPlan testPlan;
+
+	private TestResultCache(Path resultsFile, ClassDependencyGraph graph, String environmentFingerprint) {
+		this.resultsFile = resultsFile;
+		this.graph = graph;
+		this.environmentFingerprint = environmentFingerprint;
+		this.cachedResults = readResults(resultsFile);
+	}
+
+	private static String computeEnvironmentFingerprint(Map<String, String> configurationParameters,
+			Collection<Path> classPathJarFiles) {
+		MessageDigest digest = ClassDependencyGraph.newMessageDigest();
+		new TreeMap<>(configurationParameters).forEach((key, value) -> update(digest, key + "=" + value));
+		update(digest, System.getProperty("java.version", ""));
+		for (Path jarFile : classPathJarFiles) {
+			update(digest, jarFile.toAbsolutePath().toString());
+			try {
+				BasicFileAttributes attributes = Files.readAttributes(jarFile, BasicFileAttributes.class);
+				update(digest, attributes.size() + "-" + attributes.lastModifiedTime().toMillis());
+			}
+			catch (IOException ex) {
+				update(digest, "missing");
+			}
+		}
+		return ClassDependencyGraph.toHexString(digest.digest());
+	}
+
+	private String computeRequestFingerprint(LauncherDiscoveryRequest request) {
+		MessageDigest digest = ClassDependencyGraph.newMessageDigest();
+		update(digest, this.environmentFingerprint);
+		// @formatter:off
+		Stream.of(
+					request.getSelectorsByType(DiscoverySelector.class).stream(),
+					request.getEngineFilters().stream(),
+					request.getFiltersByType(DiscoveryFilter.class).stream(),
+					request.getPostDiscoveryFilters().stream().filter(filter -> filter != this))
+				.flatMap(Function.identity())
+				.map(String::valueOf)
+				.sorted()
+				.forEach(value -> update(digest, value));
+		// @formatter:on
+		return ClassDependencyGraph.toHexString(digest.digest());
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) '\n');
+	}
+
+	private static Map<String, String> readResults(Path resultsFile) {
+		Map<String, String> results = new HashMap<>();
+		if (Files.exists(resultsFile)) {
+			Properties properties = new Properties();
+			try (Reader reader = Files.newBufferedReader(resultsFile, StandardCharsets.UTF_8)) {
+				properties.load(reader);
+			}
+			catch (IOException | IllegalArgumentException ex) {
+				logger.warn(ex, () -> "Ignoring unreadable test result cache " + resultsFile);
+				return results;
+			}
+			properties.stringPropertyNames().forEach(
+				uniqueId -> results.put(uniqueId, properties.getProperty(uniqueId)));
+		}
+		return results;
+	}
+
+	/**
+	 * Compute the fingerprint of the selectors and filters of the supplied
+	 * request that containers are recorded and skipped for.
+	 */
+	@Override
+	public synchronized void launcherDiscoveryStarted(LauncherDiscoveryRequest request) {
+		this.requestFingerprint = computeRequestFingerprint(request);
+	}
+
+	/**
+	 * Exclude top-level containers that passed before and whose fingerprint is
+	 * unchanged, including all of their descendants.
+	 */
+	@Override
+	public synchronized FilterResult apply(TestDescriptor descriptor) {
+		Optional<TestDescriptor> topLevelContainer = getTopLevelContainer(descriptor);
+		if (!topLevelContainer.isPresent()) {
+			return FilterResult.included("only top-level containers are cached");
+		}
+		TestDescriptor container = topLevelContainer.get();
+		boolean skipped = this.skipDecisions.computeIfAbsent(container.getUniqueId().toString(),
+			uniqueId -> isUnchangedSinceLastPass(uniqueId, container));
+		return FilterResult.includedIf(!skipped, () -> "no cached result", () -> "passed before and unchanged since");
+	}
+
+	private Optional<TestDescriptor> getTopLevelContainer(TestDescriptor descriptor) {
+		TestDescriptor current = descriptor;
+		Optional<TestDescriptor> parent = current.getParent();
+		while (parent.isPresent() && !parent.get().isRoot()) {
+			current = parent.get();
+			parent = current.getParent();
+		}
+		return parent.isPresent() ? Optional.of(current) : Optional.empty();
+	}
+
+	private boolean isUnchangedSinceLastPass(String uniqueId, TestDescriptor container) {
+		String cachedFingerprint = this.cachedResults.get(uniqueId);
+		if (cachedFingerprint != null
+				&& cachedFingerprint.equals(container.getSource().flatMap(this::computeFingerprint).orElse(null))) {
+			this.skippedUniqueIds.add(uniqueId);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Get the unique IDs of all top-level containers that have been excluded
+	 * because they passed before and are unchanged.
+	 */
+	public synchronized List<String> getSkippedUniqueIds() {
+		return Collections.unmodifiableList(new ArrayList<>(this.skippedUniqueIds));
+	}
+
+	@Override
+	public synchronized void testPlanExecutionStarted(TestPlan testPlan) {
+		this.testPlan = testPlan;
+	}
+
+	@Override
+	public synchronized void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		Optional<TestIdentifier> topLevelContainer = getTopLevelContainer(testIdentifier);
+		if (!topLevelContainer.isPresent()) {
+			return;
+		}
+		String uniqueId = topLevelContainer.get().getUniqueId();
+		if (testExecutionResult.getStatus() != TestExecutionResult.Status.SUCCESSFUL) {
+			this.failedContainers.add(uniqueId);
+		}
+		else if (testIdentifier.equals(topLevelContainer.get()) && !this.failedContainers.contains(uniqueId)) {
+			testIdentifier.getSource().flatMap(this::computeFingerprint).ifPresent(
+				fingerprint -> this.passedContainers.put(uniqueId, fingerprint));
+		}
+	}
+
+	@Override
+	public synchronized void testPlanExecutionFinished(TestPlan testPlan) {
+		Map<String, String> results = new TreeMap<>(this.cachedResults);
+		results.putAll(this.passedContainers);
+		results.keySet().removeAll(this.failedContainers);
+		Properties properties = new Properties();
+		properties.putAll(results);
+		try {
+			Files.createDirectories(this.resultsFile.toAbsolutePath().getParent());
+			try (Writer writer = Files.newBufferedWriter(this.resultsFile, StandardCharsets.UTF_8)) {
+				properties.store(writer, "JUnit Platform test result cache");
+			}
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to write test result cache " + this.resultsFile, ex);
+		}
+		this.cachedResults.clear();
+		this.cachedResults.putAll(results);
+		this.skipDecisions.clear();
+		this.passedContainers.clear();
+		this.failedContainers.clear();
+	}
+
+	private Optional<TestIdentifier> getTopLevelContainer(TestIdentifier testIdentifier) {
+		if (this.testPlan == null) {
+			return Optional.empty();
+		}
+		TestIdentifier current = testIdentifier;
+		Optional<TestIdentifier> parent = this.testPlan.getParent(current);
+		if (!parent.isPresent()) {
+			return Optional.empty();
+		}
+		while (this.testPlan.getParent(parent.get()).isPresent()) {
+			current = parent.get();
+			parent = this.testPlan.getParent(current);
+		}
+		return Optional.of(current);
+	}
+
+	private Optional<String> computeFingerprint(TestSource source) {
+		if (source instanceof ClassSource && this.requestFingerprint != null) {
+			return this.graph.computeFingerprint(((ClassSource) source).getClassName()) //
+					.map(classFingerprint -> classFingerprint + "-" + this.requestFingerprint);
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public String toString() {
+		// @formatter:off
+		return new ToStringBuilder(this)
+				.append("resultsFile", this.resultsFile)
+				.append("graph", this.graph)
+				.toString();
+		// @formatter:on
+	}
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENERS_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENERS_QUEUE_CAPACITY_DEFAULT;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENERS_QUEUE_CAPACITY_PROPERTY_NAME;
+
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.engine.ConfigurationParameters;
+
+/**
+ * Delivers listener notifications on a single, dedicated thread in the order
+ * in which they were dispatched.
+ *
+ * <p>Notifications are placed into a lock-free queue whose capacity is bounded
+ * by a {@link Semaphore}: dispatching threads only block if the queue is full.
+ * The dispatcher thread parks while the queue is empty and is only unparked by
+ * dispatching threads if it is actually waiting.
+ *
+ * <p>Since all threads publish into the same queue, a notification is always
+ * delivered after all notifications that were dispatched before it by the
+ * same thread or by threads it synchronized with, e.g. a child test is
+ * reported as started after its parent container.
+ *
+ * @since 1.8
+ * @see org.junit.platform.launcher.LauncherConstants#ASYNC_LISTENERS_ENABLED_PROPERTY_NAME
+ */
+class AsynchronousListenerDispatcher implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AsynchronousListenerDispatcher.class);
+
+	static Optional<AsynchronousListenerDispatcher> create(ConfigurationParameters configurationParameters) {
+		boolean enabled = configurationParameters.getBoolean(ASYNC_LISTENERS_ENABLED_PROPERTY_NAME).orElse(false);
+		if (!enabled) {
+			return Optional.empty();
+		}
+		int capacity = configurationParameters.get(ASYNC_LISTENERS_QUEUE_CAPACITY_PROPERTY_NAME, Integer::valueOf) //
+				.orElse(ASYNC_LISTENERS_QUEUE_CAPACITY_DEFAULT);
+		if (capacity < 1) {
+			logger.warn(() -> String.format(
+				"Ignoring invalid value '%d' for configuration parameter '%s': must be a positive integer.", capacity,
+				ASYNC_LISTENERS_QUEUE_CAPACITY_PROPERTY_NAME));
+			return Optional.of(new AsynchronousListenerDispatcher(ASYNC_LISTENERS_QUEUE_CAPACITY_DEFAULT));
+		}
+		return Optional.of(new AsynchronousListenerDispatcher(capacity));
+	}
+
+	private final Queue<Runnable> notifications = new ConcurrentLinkedQueue<>();
+	private final Semaphore freeSlots;
+	private final Thread thread;
+
+	private volatile boolean waiting;
+	private volatile boolean closed;
+	private volatile Throwable unrecoverableException;
+
+	AsynchronousListenerDispatcher(int capacity) {
+		this.freeSlots = new Semaphore(capacity);
+		this.thread = new Thread(this::deliverNotifications, "junit-platform-listener-dispatcher");
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	/**
+	 * Deliver the supplied notification on the dispatcher thread.
+	 *
+	 * <p>If this dispatcher has already been closed or the notification is
+	 * dispatched by a listener on the dispatcher thread, it is delivered
+	 * immediately on the calling thread.
+	 */
+	void dispatch(Runnable notification) {
+		if (this.closed || Thread.currentThread() == this.thread) {
+			notification.run();
+			return;
+		}
+		this.freeSlots.acquireUninterruptibly();
+		this.notifications.add(notification);
+		if (this.waiting) {
+			LockSupport.unpark(this.thread);
+		}
+	}
+
+	private void deliverNotifications() {
+		while (true) {
+			Runnable notification = this.notifications.poll();
+			if (notification != null) {
+				this.freeSlots.release();
+				deliver(notification);
+			}
+			else if (this.closed) {
+				return;
+			}
+			else {
+				this.waiting = true;
+				if (this.notifications.isEmpty() && !this.closed) {
+					LockSupport.park(this);
+				}
+				this.waiting = false;
+			}
+		}
+	}
+
+	private void deliver(Runnable notification) {
+		try {
+			notification.run();
+		}
+		catch (Throwable throwable) {
+			// listener exceptions are logged by the notification; anything else is unrecoverable
+			if (this.unrecoverableException == null) {
+				this.unrecoverableException = throwable;
+			}
+		}
+	}
+
+	/**
+	 * Deliver all pending notifications and stop the dispatcher thread.
+	 *
+	 * <p>Any unrecoverable exception thrown while delivering a notification
+	 * is rethrown on the calling thread.
+	 */
+	@Override
+	public void close() {
+		if (!this.closed) {
+			this.closed = true;
+			LockSupport.unpark(this.thread);
+			awaitTermination();
+			// notifications that were added concurrently with closing
+			Runnable notification;
+			while ((notification = this.notifications.poll()) != null) {
+				deliver(notification);
+			}
+		}
+		Throwable throwable = this.unrecoverableException;
+		if (throwable != null) {
+			this.unrecoverableException = null;
+			throw ExceptionUtils.throwAsUncheckedException(throwable);
+		}
+	}
+
+	private void awaitTermination() {
+		boolean interrupted = false;
+		while (this.thread.isAlive()) {
+			try {
+				this.thread.join();
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -32,24 +32,43 @@ class CompositeTestExecutionListener implements TestExecutionListener {
 
 	private final List<TestExecutionListener> testExecutionListeners;
 	private final List<EagerTestExecutionListener> eagerTestExecutionListeners;
+	private final List<TestExecutionListener> asynchronousTestExecutionListeners;
+	private final AsynchronousListenerDispatcher dispatcher;
 
 	CompositeTestExecutionListener(List<TestExecutionListener> testExecutionListeners) {
+		this(testExecutionListeners, null);
+	}
+
+	/**
+	 * Create a composite listener that notifies all listeners that are not
+	 * {@linkplain EagerTestExecutionListener eager} via the supplied
+	 * dispatcher, if present.
+	 *
+	 * <p>Eager listeners are always notified synchronously since they need to
+	 * observe events on the thread that reports them.
+	 */
+	CompositeTestExecutionListener(List<TestExecutionListener> testExecutionListeners,
+			AsynchronousListenerDispatcher dispatcher) {
 		this.testExecutionListeners = new ArrayList<>(testExecutionListeners);
 		this.eagerTestExecutionListeners = this.testExecutionListeners.stream() //
 				.filter(EagerTestExecutionListener.class::isInstance) //
 				.map(EagerTestExecutionListener.class::cast) //
 				.collect(toList());
+		this.asynchronousTestExecutionListeners = this.testExecutionListeners.stream() //
+				.filter(listener -> !(listener instanceof EagerTestExecutionListener)) //
+				.collect(toList());
+		this.dispatcher = dispatcher;
 	}
 
 	@Override
 	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
-		notifyEach(testExecutionListeners, listener -> listener.dynamicTestRegistered(testIdentifier),
+		notifyListeners(listener -> listener.dynamicTestRegistered(testIdentifier),
 			() -> "dynamicTestRegistered(" + testIdentifier + ")");
 	}
 
 	@Override
 	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
-		notifyEach(testExecutionListeners, listener -> listener.executionSkipped(testIdentifier, reason),
+		notifyListeners(listener -> listener.executionSkipped(testIdentifier, reason),
 			() -> "executionSkipped(" + testIdentifier + ", " + reason + ")");
 	}
 
@@ -57,7 +76,7 @@ class CompositeTestExecutionListener implements TestExecutionListener {
 	public void executionStarted(TestIdentifier testIdentifier) {
 		notifyEach(eagerTestExecutionListeners, listener -> listener.executionJustStarted(testIdentifier),
 			() -> "executionJustStarted(" + testIdentifier + ")");
-		notifyEach(testExecutionListeners, listener -> listener.executionStarted(testIdentifier),
+		notifyListeners(listener -> listener.executionStarted(testIdentifier),
 			() -> "executionStarted(" + testIdentifier + ")");
 	}
 
@@ -66,29 +85,43 @@ class CompositeTestExecutionListener implements TestExecutionListener {
 		notifyEach(eagerTestExecutionListeners,
 			listener -> listener.executionJustFinished(testIdentifier, testExecutionResult),
 			() -> "executionJustFinished(" + testIdentifier + ", " + testExecutionResult + ")");
-		notifyEach(testExecutionListeners, listener -> listener.executionFinished(testIdentifier, testExecutionResult),
+		notifyListeners(listener -> listener.executionFinished(testIdentifier, testExecutionResult),
 			() -> "executionFinished(" + testIdentifier + ", " + testExecutionResult + ")");
 	}
 
 	@Override
 	public void testPlanExecutionStarted(TestPlan testPlan) {
-		notifyEach(testExecutionListeners, listener -> listener.testPlanExecutionStarted(testPlan),
+		notifyListeners(listener -> listener.testPlanExecutionStarted(testPlan),
 			() -> "testPlanExecutionStarted(" + testPlan + ")");
 	}
 
 	@Override
 	public void testPlanExecutionFinished(TestPlan testPlan) {
-		notifyEach(testExecutionListeners, listener -> listener.testPlanExecutionFinished(testPlan),
+		notifyListeners(listener -> listener.testPlanExecutionFinished(testPlan),
 			() -> "testPlanExecutionFinished(" + testPlan + ")");
+		if (dispatcher != null) {
+			dispatcher.close();
+		}
 	}
 
 	@Override
 	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
-		notifyEach(testExecutionListeners, listener -> listener.reportingEntryPublished(testIdentifier, entry),
+		notifyListeners(listener -> listener.reportingEntryPublished(testIdentifier, entry),
 			() -> "reportingEntryPublished(" + testIdentifier + ", " + entry + ")");
 	}
 
-	private static <T extends TestExecutionListener> void notifyEach(List<T> listeners, Consumer<T> consumer,
+	private void notifyListeners(Consumer<TestExecutionListener> consumer, Supplier<String> description) {
+		if (dispatcher == null) {
+			notifyEach(testExecutionListeners, consumer, description);
+			return;
+		}
+		notifyEach(eagerTestExecutionListeners, consumer, description);
+		if (!asynchronousTestExecutionListeners.isEmpty()) {
+			dispatcher.dispatch(() -> notifyEach(asynchronousTestExecutionListeners, consumer, description));
+		}
+	}
+
+	private static <T extends TestExecutionListener> void notifyEach(List<T> listeners, Consumer<? super T> consumer,
 			Supplier<String> description) {
 		listeners.forEach(listener -> {
 			try {
@@ -10,6 +10,10 @@
 
 package org.junit.platform.launcher.core;
 
+import static org.junit.platform.launcher.LauncherConstants.DISCOVERY_RESULT_REUSE_ENABLED_PROPERTY_NAME;
+
+import java.util.Optional;
+
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.launcher.Launcher;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
@@ -53,6 +57,8 @@ class DefaultLauncherSession implements LauncherSession {
 	private static class DelegatingLauncher implements Launcher {
 
 		private Launcher delegate;
+		private LauncherDiscoveryRequest lastDiscoveryRequest;
+		private InternalTestPlan lastTestPlan;
 
 		DelegatingLauncher(Launcher delegate) {
 			this.delegate = delegate;
@@ -78,18 +84,62 @@ class DefaultLauncherSession implements LauncherSession {
 
 		@Override
 		public TestPlan discover(LauncherDiscoveryRequest launcherDiscoveryRequest) {
-			return delegate.discover(launcherDiscoveryRequest);
+			TestPlan testPlan = delegate.discover(launcherDiscoveryRequest);
+			if (testPlan instanceof InternalTestPlan && isDiscoveryResultReuseEnabled(launcherDiscoveryRequest)) {
+				synchronized (this) {
+					this.lastDiscoveryRequest = launcherDiscoveryRequest;
+					this.lastTestPlan = (InternalTestPlan) testPlan;
+				}
+			}
+			return testPlan;
 		}
 
 		@Override
 		public void execute(LauncherDiscoveryRequest launcherDiscoveryRequest, TestExecutionListener... listeners) {
-			delegate.execute(launcherDiscoveryRequest, listeners);
+			Optional<InternalTestPlan> reusableTestPlan = takeReusableTestPlan(launcherDiscoveryRequest);
+			if (reusableTestPlan.isPresent()) {
+				delegate.execute(reusableTestPlan.get(), listeners);
+			}
+			else {
+				delegate.execute(launcherDiscoveryRequest, listeners);
+			}
 		}
 
 		@Override
 		public void execute(TestPlan testPlan, TestExecutionListener... listeners) {
+			synchronized (this) {
+				if (testPlan == this.lastTestPlan) {
+					clearLastDiscovery();
+				}
+			}
 			delegate.execute(testPlan, listeners);
 		}
+
+		/**
+		 * Take the test plan discovered for the supplied request if it is the
+		 * same instance as the last discovered one and the test plan has not
+		 * been executed yet. Since test plans are modified during execution,
+		 * e.g. by registering dynamic tests, a test plan is only reused once.
+		 */
+		private synchronized Optional<InternalTestPlan> takeReusableTestPlan(
+				LauncherDiscoveryRequest launcherDiscoveryRequest) {
+			if (launcherDiscoveryRequest != this.lastDiscoveryRequest) {
+				return Optional.empty();
+			}
+			InternalTestPlan testPlan = this.lastTestPlan;
+			clearLastDiscovery();
+			return testPlan.isStarted() ? Optional.empty() : Optional.of(testPlan);
+		}
+
+		private void clearLastDiscovery() {
+			this.lastDiscoveryRequest = null;
+			this.lastTestPlan = null;
+		}
+
+		private static boolean isDiscoveryResultReuseEnabled(LauncherDiscoveryRequest launcherDiscoveryRequest) {
+			return launcherDiscoveryRequest.getConfigurationParameters().getBoolean(
+				DISCOVERY_RESULT_REUSE_ENABLED_PROPERTY_NAME).orElse(false);
+		}
 	}
 
 	private static class ClosedLauncher implements Launcher {
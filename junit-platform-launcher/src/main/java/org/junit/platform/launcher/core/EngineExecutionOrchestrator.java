@@ -59,18 +59,36 @@ public class EngineExecutionOrchestrator {
 	private void withInterceptedStreams(ConfigurationParameters configurationParameters,
 			ListenerRegistry<TestExecutionListener> listenerRegistry, Consumer<TestExecutionListener> action) {
 
-		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeListener();
+		Optional<AsynchronousListenerDispatcher> dispatcher = AsynchronousListenerDispatcher.create(
+			configurationParameters);
+		TestExecutionListener testExecutionListener = getCompositeListener(listenerRegistry, dispatcher);
 		Optional<StreamInterceptingTestExecutionListener> streamInterceptingTestExecutionListener = StreamInterceptingTestExecutionListener.create(
 			configurationParameters, testExecutionListener::reportingEntryPublished);
 		streamInterceptingTestExecutionListener.ifPresent(listenerRegistry::add);
 		try {
-			action.accept(listenerRegistry.getCompositeListener());
+			action.accept(getCompositeListener(listenerRegistry, dispatcher));
 		}
 		finally {
 			streamInterceptingTestExecutionListener.ifPresent(StreamInterceptingTestExecutionListener::unregister);
+			dispatcher.ifPresent(AsynchronousListenerDispatcher::close);
 		}
 	}
 
+	/**
+	 * Create a composite listener that notifies listeners via the supplied
+	 * dispatcher, if present; all composite listeners created for the same
+	 * execution must share the same dispatcher in order to preserve the order
+	 * of events.
+	 */
+	private static TestExecutionListener getCompositeListener(ListenerRegistry<TestExecutionListener> listenerRegistry,
+			Optional<AsynchronousListenerDispatcher> dispatcher) {
+
+		if (dispatcher.isPresent()) {
+			return new CompositeTestExecutionListener(listenerRegistry.getListeners(), dispatcher.get());
+		}
+		return listenerRegistry.getCompositeListener();
+	}
+
 	/**
 	 * Executes tests for the supplied {@linkplain LauncherDiscoveryResult
 	 * discovery results} and notifies the supplied {@linkplain
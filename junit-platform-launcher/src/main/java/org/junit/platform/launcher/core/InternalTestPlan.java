@@ -50,6 +50,10 @@ class InternalTestPlan extends TestPlan {
 		}
 	}
 
+	boolean isStarted() {
+		return executionStarted.get();
+	}
+
 	LauncherDiscoveryResult getDiscoveryResult() {
 		return discoveryResult;
 	}
@@ -26,6 +26,7 @@ import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.Filter;
+import org.junit.platform.engine.discovery.TagDiscoveryFilter;
 import org.junit.platform.launcher.EngineFilter;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
@@ -160,6 +161,11 @@ public final class LauncherDiscoveryRequestBuilder {
 	 * for the same discovery request since doing so will likely lead to
 	 * undesirable results (i.e., zero engines being active).
 	 *
+	 * <p>{@link TagDiscoveryFilter TagDiscoveryFilters} and the filters created
+	 * by {@link org.junit.platform.launcher.TagFilter TagFilter} are passed to
+	 * engines during discovery <em>and</em> applied to all discovered tests
+	 * after discovery.
+	 *
 	 * @param filters the {@code Filter}s to add; never {@code null}
 	 * @return this builder for method chaining
 	 */
@@ -244,9 +250,17 @@ public final class LauncherDiscoveryRequestBuilder {
 		if (filter instanceof EngineFilter) {
 			this.engineFilters.add((EngineFilter) filter);
 		}
+		else if (filter instanceof TagPostDiscoveryFilter) {
+			this.postDiscoveryFilters.add((PostDiscoveryFilter) filter);
+			this.discoveryFilters.add(((TagPostDiscoveryFilter) filter).getDiscoveryFilter());
+		}
 		else if (filter instanceof PostDiscoveryFilter) {
 			this.postDiscoveryFilters.add((PostDiscoveryFilter) filter);
 		}
+		else if (filter instanceof TagDiscoveryFilter) {
+			this.discoveryFilters.add((DiscoveryFilter<?>) filter);
+			this.postDiscoveryFilters.add(new TagPostDiscoveryFilter((TagDiscoveryFilter) filter));
+		}
 		else if (filter instanceof DiscoveryFilter<?>) {
 			this.discoveryFilters.add((DiscoveryFilter<?>) filter);
 		}
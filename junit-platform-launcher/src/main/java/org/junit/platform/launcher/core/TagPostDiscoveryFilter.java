@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ToStringBuilder;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.discovery.TagDiscoveryFilter;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * {@link PostDiscoveryFilter} that applies a {@link TagDiscoveryFilter} to
+ * the {@linkplain TestDescriptor#getTags() tags} of test descriptors.
+ *
+ * <p>When added to a {@link LauncherDiscoveryRequestBuilder}, the
+ * {@link TagDiscoveryFilter} is additionally passed to engines so they can
+ * apply it during discovery.
+ *
+ * @since 1.8
+ * @see org.junit.platform.launcher.TagFilter
+ */
+@API(status = INTERNAL, since = "1.8")
+public final class TagPostDiscoveryFilter implements PostDiscoveryFilter {
+
+	private final TagDiscoveryFilter discoveryFilter;
+
+	public TagPostDiscoveryFilter(TagDiscoveryFilter discoveryFilter) {
+		this.discoveryFilter = Preconditions.notNull(discoveryFilter, "discoveryFilter must not be null");
+	}
+
+	@Override
+	public FilterResult apply(TestDescriptor descriptor) {
+		return this.discoveryFilter.apply(descriptor.getTags());
+	}
+
+	/**
+	 * Get the {@link TagDiscoveryFilter} to be passed to engines.
+	 */
+	public TagDiscoveryFilter getDiscoveryFilter() {
+		return this.discoveryFilter;
+	}
+
+	@Override
+	public String toString() {
+		return new ToStringBuilder(this).append("discoveryFilter", this.discoveryFilter).toString();
+	}
+
+}
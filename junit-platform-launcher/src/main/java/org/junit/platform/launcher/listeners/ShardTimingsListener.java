@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@link TestExecutionListener} that records how long the direct children of
+ * each engine, e.g. top-level test classes, take to execute and writes these
+ * durations to a timings file when the test plan has finished.
+ *
+ * <p>Existing entries of the timings file are retained unless they are
+ * updated by the current execution. The file is a {@link Properties} file
+ * that maps unique IDs to durations in milliseconds; thus, timings files
+ * written on different machines, e.g. by different shards, can simply be
+ * concatenated.
+ *
+ * <p>Since each shard only records the durations of the containers it
+ * executed, the timings files written by the shards of one run must be
+ * merged and the merged file must be supplied to every shard of the next
+ * run. The {@link org.junit.platform.launcher.ShardFilter ShardFilter}
+ * otherwise computes a different partitioning on each shard.
+ *
+ * @since 1.8
+ * @see org.junit.platform.launcher.ShardFilter#shard(int, int, Path)
+ */
+@API(status = EXPERIMENTAL, since = "1.8")
+public class ShardTimingsListener implements TestExecutionListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(ShardTimingsListener.class);
+
+	private final Path timingsFile;
+	private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+	private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+	private TestPlan testPlan;
+
+	/**
+	 * Create a new {@code ShardTimingsListener} that writes to the supplied
+	 * timings file.
+	 *
+	 * @param timingsFile the timings file to write; never {@code null}
+	 */
+	public ShardTimingsListener(Path timingsFile) {
+		this.timingsFile = Preconditions.notNull(timingsFile, "timingsFile must not be null");
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.testPlan = testPlan;
+		this.startTimes.clear();
+		this.durations.clear();
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		if (isChildOfEngine(testIdentifier)) {
+			this.startTimes.put(testIdentifier.getUniqueId(), System.nanoTime());
+		}
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		Long startTime = this.startTimes.remove(testIdentifier.getUniqueId());
+		if (startTime != null) {
+			this.durations.put(testIdentifier.getUniqueId(), (System.nanoTime() - startTime) / 1_000_000);
+		}
+	}
+
+	private boolean isChildOfEngine(TestIdentifier testIdentifier) {
+		return testIdentifier.getParentId() //
+				.map(this.testPlan::getTestIdentifier) //
+				.map(parent -> !parent.getParentId().isPresent()) //
+				.orElse(false);
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		Properties timings = new Properties();
+		try {
+			if (Files.exists(this.timingsFile)) {
+				try (Reader reader = Files.newBufferedReader(this.timingsFile, StandardCharsets.UTF_8)) {
+					timings.load(reader);
+				}
+			}
+			this.durations.forEach((uniqueId, duration) -> timings.setProperty(uniqueId, String.valueOf(duration)));
+			Path parent = this.timingsFile.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			try (Writer writer = Files.newBufferedWriter(this.timingsFile, StandardCharsets.UTF_8)) {
+				timings.store(writer, "Durations in milliseconds, see " + getClass().getName());
+			}
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to write shard timings file " + this.timingsFile);
+		}
+	}
+
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.tagexpression;
+
+import java.util.function.LongPredicate;
+
+/**
+ * {@link TagExpression} that can be compiled into a predicate over the bits
+ * computed by {@link TagBits}.
+ *
+ * @since 1.8
+ */
+interface CompilableTagExpression extends TagExpression {
+
+	/**
+	 * Compile this expression, registering all referenced tags with the
+	 * supplied {@link TagBits}.
+	 */
+	LongPredicate compile(TagBits tagBits);
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.tagexpression;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestTag;
+
+/**
+ * A list of {@linkplain TagExpression tag expressions} compiled for
+ * repeated evaluation against many collections of {@linkplain TestTag tags}.
+ *
+ * <p>All tags referenced by the expressions are interned to bit positions
+ * of a {@code long}. Evaluating the expressions against a collection of tags
+ * then only requires looking up the bits of its tags instead of repeatedly
+ * searching the collection for each tag referenced by the expressions. If
+ * only a few distinct tags are referenced, the result for every combination
+ * of bits is precomputed so that evaluation becomes a single lookup in a
+ * bitmap.
+ *
+ * <p>If the expressions reference too many distinct tags or contain
+ * expressions that cannot be compiled, they are evaluated as is.
+ *
+ * @since 1.8
+ */
+@API(status = INTERNAL, since = "1.8")
+public final class CompiledTagExpressions {
+
+	/**
+	 * Maximum number of bits for which a truth table is computed; the table
+	 * for this number of bits occupies 16 KiB.
+	 */
+	private static final int MAX_TRUTH_TABLE_BITS = 17;
+
+	/**
+	 * Compile the supplied tag expressions.
+	 *
+	 * @param tagExpressions the tag expressions to compile; never {@code null}
+	 */
+	public static CompiledTagExpressions compile(List<TagExpression> tagExpressions) {
+		Preconditions.notNull(tagExpressions, "tagExpressions must not be null");
+		TagBits tagBits = new TagBits();
+		LongPredicate anyMatch = bits -> false;
+		for (TagExpression tagExpression : tagExpressions) {
+			anyMatch = anyMatch.or(TagExpressions.compile(tagExpression, tagBits));
+		}
+		if (!tagBits.isSupported()) {
+			return new CompiledTagExpressions(tagExpressions, null, null, null);
+		}
+		if (tagBits.size() > MAX_TRUTH_TABLE_BITS) {
+			return new CompiledTagExpressions(tagExpressions, tagBits, anyMatch, null);
+		}
+		return new CompiledTagExpressions(tagExpressions, tagBits, null, truthTable(anyMatch, tagBits.size()));
+	}
+
+	private static long[] truthTable(LongPredicate predicate, int bitCount) {
+		int combinations = 1 << bitCount;
+		long[] truthTable = new long[Math.max(1, combinations / Long.SIZE)];
+		for (int bits = 0; bits < combinations; bits++) {
+			if (predicate.test(bits)) {
+				truthTable[bits / Long.SIZE] |= 1L << bits;
+			}
+		}
+		return truthTable;
+	}
+
+	private final List<TagExpression> tagExpressions;
+	private final TagBits tagBits;
+	private final LongPredicate anyMatch;
+	private final long[] truthTable;
+
+	private CompiledTagExpressions(List<TagExpression> tagExpressions, TagBits tagBits, LongPredicate anyMatch,
+			long[] truthTable) {
+		this.tagExpressions = new ArrayList<>(tagExpressions);
+		this.tagBits = tagBits;
+		this.anyMatch = anyMatch;
+		this.truthTable = truthTable;
+	}
+
+	/**
+	 * Determine whether any of the compiled expressions matches the supplied
+	 * tags.
+	 *
+	 * @param tags the tags to evaluate the expressions against; never
+	 * {@code null}
+	 */
+	public boolean anyMatch(Collection<TestTag> tags) {
+		if (this.truthTable != null) {
+			int bits = (int) this.tagBits.bitsFor(tags);
+			return (this.truthTable[bits / Long.SIZE] & (1L << bits)) != 0;
+		}
+		if (this.anyMatch != null) {
+			return this.anyMatch.test(this.tagBits.bitsFor(tags));
+		}
+		for (TagExpression tagExpression : this.tagExpressions) {
+			if (tagExpression.evaluate(tags)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Determine whether none of the compiled expressions matches the supplied
+	 * tags.
+	 *
+	 * @param tags the tags to evaluate the expressions against; never
+	 * {@code null}
+	 */
+	public boolean noneMatch(Collection<TestTag> tags) {
+		return !anyMatch(tags);
+	}
+
+}
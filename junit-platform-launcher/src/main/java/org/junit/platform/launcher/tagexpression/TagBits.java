@@ -0,0 +1,109 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.tagexpression;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.platform.engine.TestTag;
+
+/**
+ * Interns the {@linkplain TestTag tags} referenced by compiled tag
+ * expressions to bit positions of a {@code long}.
+ *
+ * <p>The lowest bit is reserved for {@link #ANY_TAG} which is set whenever
+ * a collection of tags is not empty, regardless of whether any of its tags
+ * are referenced by an expression.
+ *
+ * @since 1.8
+ */
+class TagBits {
+
+	static final long ANY_TAG = 1L;
+
+	private static final int MAX_TAGS = Long.SIZE - 1;
+
+	private final Map<TestTag, Long> masks = new HashMap<>();
+	private boolean supported = true;
+
+	/**
+	 * Get the mask for the supplied tag, assigning the next free bit if the
+	 * tag has not been seen before.
+	 */
+	long maskFor(TestTag tag) {
+		Long mask = this.masks.get(tag);
+		if (mask == null) {
+			if (this.masks.size() == MAX_TAGS) {
+				markUnsupported();
+				return 0L;
+			}
+			mask = ANY_TAG << (this.masks.size() + 1);
+			this.masks.put(tag, mask);
+		}
+		return mask;
+	}
+
+	/**
+	 * Get the number of bits in use, including {@link #ANY_TAG}.
+	 */
+	int size() {
+		return this.masks.size() + 1;
+	}
+
+	/**
+	 * Record that an expression could not be compiled, e.g. because more
+	 * distinct tags were referenced than fit into a {@code long}.
+	 */
+	void markUnsupported() {
+		this.supported = false;
+	}
+
+	/**
+	 * Determine whether all expressions compiled against these bits can be
+	 * evaluated using them.
+	 */
+	boolean isSupported() {
+		return this.supported;
+	}
+
+	/**
+	 * Compute the bits for the supplied tags; tags that are not referenced by
+	 * any compiled expression only contribute {@link #ANY_TAG}.
+	 *
+	 * <p>Depending on which is smaller, either the supplied tags are looked
+	 * up in the interned tags or vice versa.
+	 */
+	long bitsFor(Collection<TestTag> tags) {
+		if (tags.isEmpty()) {
+			return 0L;
+		}
+		long bits = ANY_TAG;
+		if (tags.size() <= this.masks.size() || !(tags instanceof Set)) {
+			for (TestTag tag : tags) {
+				Long mask = this.masks.get(tag);
+				if (mask != null) {
+					bits |= mask;
+				}
+			}
+		}
+		else {
+			for (Map.Entry<TestTag, Long> entry : this.masks.entrySet()) {
+				if (tags.contains(entry.getKey())) {
+					bits |= entry.getValue();
+				}
+			}
+		}
+		return bits;
+	}
+
+}
@@ -11,6 +11,7 @@
 package org.junit.platform.launcher.tagexpression;
 
 import java.util.Collection;
+import java.util.function.LongPredicate;
 
 import org.junit.platform.engine.TestTag;
 
@@ -21,12 +22,18 @@ class TagExpressions {
 
 	static TagExpression tag(String tag) {
 		TestTag testTag = TestTag.create(tag);
-		return new TagExpression() {
+		return new CompilableTagExpression() {
 			@Override
 			public boolean evaluate(Collection<TestTag> tags) {
 				return tags.contains(testTag);
 			}
 
+			@Override
+			public LongPredicate compile(TagBits tagBits) {
+				long mask = tagBits.maskFor(testTag);
+				return bits -> (bits & mask) != 0;
+			}
+
 			@Override
 			public String toString() {
 				return testTag.getName();
@@ -35,12 +42,17 @@ class TagExpressions {
 	}
 
 	static TagExpression none() {
-		return new TagExpression() {
+		return new CompilableTagExpression() {
 			@Override
 			public boolean evaluate(Collection<TestTag> tags) {
 				return tags.isEmpty();
 			}
 
+			@Override
+			public LongPredicate compile(TagBits tagBits) {
+				return bits -> (bits & TagBits.ANY_TAG) == 0;
+			}
+
 			@Override
 			public String toString() {
 				return "none()";
@@ -49,12 +61,17 @@ class TagExpressions {
 	}
 
 	static TagExpression any() {
-		return new TagExpression() {
+		return new CompilableTagExpression() {
 			@Override
 			public boolean evaluate(Collection<TestTag> tags) {
 				return !tags.isEmpty();
 			}
 
+			@Override
+			public LongPredicate compile(TagBits tagBits) {
+				return bits -> (bits & TagBits.ANY_TAG) != 0;
+			}
+
 			@Override
 			public String toString() {
 				return "any()";
@@ -63,12 +80,17 @@ class TagExpressions {
 	}
 
 	static TagExpression not(TagExpression toNegate) {
-		return new TagExpression() {
+		return new CompilableTagExpression() {
 			@Override
 			public boolean evaluate(Collection<TestTag> tags) {
 				return !toNegate.evaluate(tags);
 			}
 
+			@Override
+			public LongPredicate compile(TagBits tagBits) {
+				return TagExpressions.compile(toNegate, tagBits).negate();
+			}
+
 			@Override
 			public String toString() {
 				return "!" + toNegate + "";
@@ -77,12 +99,17 @@ class TagExpressions {
 	}
 
 	static TagExpression and(TagExpression lhs, TagExpression rhs) {
-		return new TagExpression() {
+		return new CompilableTagExpression() {
 			@Override
 			public boolean evaluate(Collection<TestTag> tags) {
 				return lhs.evaluate(tags) && rhs.evaluate(tags);
 			}
 
+			@Override
+			public LongPredicate compile(TagBits tagBits) {
+				return TagExpressions.compile(lhs, tagBits).and(TagExpressions.compile(rhs, tagBits));
+			}
+
 			@Override
 			public String toString() {
 				return "(" + lhs + " & " + rhs + ")";
@@ -91,12 +118,17 @@ class TagExpressions {
 	}
 
 	static TagExpression or(TagExpression lhs, TagExpression rhs) {
-		return new TagExpression() {
+		return new CompilableTagExpression() {
 			@Override
 			public boolean evaluate(Collection<TestTag> tags) {
 				return lhs.evaluate(tags) || rhs.evaluate(tags);
 			}
 
+			@Override
+			public LongPredicate compile(TagBits tagBits) {
+				return TagExpressions.compile(lhs, tagBits).or(TagExpressions.compile(rhs, tagBits));
+			}
+
 			@Override
 			public String toString() {
 				return "(" + lhs + " | " + rhs + ")";
@@ -104,4 +136,18 @@ class TagExpressions {
 		};
 	}
 
+	/**
+	 * Compile the supplied expression against the supplied {@link TagBits},
+	 * marking them as unsupported if the expression cannot be compiled.
+	 *
+	 * @since 1.8
+	 */
+	static LongPredicate compile(TagExpression expression, TagBits tagBits) {
+		if (expression instanceof CompilableTagExpression) {
+			return ((CompilableTagExpression) expression).compile(tagBits);
+		}
+		tagBits.markUnsupported();
+		return bits -> false;
+	}
+
 }
@@ -10,6 +10,7 @@
 
 package org.junit.platform.suite.engine;
 
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver;
@@ -23,17 +24,27 @@ final class DiscoverySelectorResolver {
 			.build();
 	// @formatter:on
 
-	private static void discoverSuites(SuiteEngineDescriptor engineDescriptor) {
+	private static void discoverSuites(SuiteEngineDescriptor engineDescriptor,
+			ConfigurationParameters configurationParameters) {
+		if (engineDescriptor.getChildren().isEmpty()) {
+			return;
+		}
+		boolean concurrentByDefault = configurationParameters.getBoolean(
+			SuiteTestEngine.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false);
+		// All suites that are executed sequentially share a single launcher so
+		// that test engines are only loaded once per discovery rather than once
+		// per suite.
+		SuiteLauncher launcher = SuiteLauncher.create();
 		// @formatter:off
 		engineDescriptor.getChildren().stream()
 				.map(SuiteTestDescriptor.class::cast)
-				.forEach(SuiteTestDescriptor::discover);
+				.forEach(suiteTestDescriptor -> suiteTestDescriptor.discover(launcher, concurrentByDefault));
 		// @formatter:on
 	}
 
 	void resolveSelectors(EngineDiscoveryRequest request, SuiteEngineDescriptor engineDescriptor) {
 		resolver.resolve(request, engineDescriptor);
-		discoverSuites(engineDescriptor);
+		discoverSuites(engineDescriptor, request.getConfigurationParameters());
 		engineDescriptor.accept(TestDescriptor::prune);
 	}
 
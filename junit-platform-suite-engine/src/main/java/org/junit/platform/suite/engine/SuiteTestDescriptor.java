@@ -51,6 +51,7 @@ final class SuiteTestDescriptor extends AbstractTestDescriptor {
 
 	private LauncherDiscoveryResult launcherDiscoveryResult;
 	private SuiteLauncher launcher;
+	private boolean concurrentExecutionEnabled;
 
 	SuiteTestDescriptor(UniqueId id, Class<?> suiteClass) {
 		super(requireNoCycles(id), getSuiteDisplayName(suiteClass), ClassSource.from(suiteClass));
@@ -86,7 +87,7 @@ final class SuiteTestDescriptor extends AbstractTestDescriptor {
 		return this;
 	}
 
-	void discover() {
+	void discover(SuiteLauncher sharedLauncher, boolean concurrentExecutionEnabledByDefault) {
 		if (launcherDiscoveryResult != null) {
 			return;
 		}
@@ -95,8 +96,13 @@ final class SuiteTestDescriptor extends AbstractTestDescriptor {
 		LauncherDiscoveryRequest request = discoveryRequestBuilder
 				.filterStandardClassNamePatterns(true)
 				.build();
+		this.concurrentExecutionEnabled = request.getConfigurationParameters()
+				.getBoolean(SuiteTestEngine.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME)
+				.orElse(concurrentExecutionEnabledByDefault);
 		// @formatter:on
-		this.launcher = SuiteLauncher.create();
+		// Test engines are not required to be thread-safe, so suites that may be
+		// executed concurrently get their own launcher and engine instances.
+		this.launcher = concurrentExecutionEnabled ? SuiteLauncher.create() : sharedLauncher;
 		this.launcherDiscoveryResult = launcher.discover(request, getUniqueId());
 		// @formatter:off
 		launcherDiscoveryResult.getTestEngines()
@@ -106,6 +112,10 @@ final class SuiteTestDescriptor extends AbstractTestDescriptor {
 		// @formatter:on
 	}
 
+	boolean isConcurrentExecutionEnabled() {
+		return concurrentExecutionEnabled;
+	}
+
 	@Override
 	public Type getType() {
 		return Type.CONTAINER;
@@ -12,9 +12,20 @@ package org.junit.platform.suite.engine;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apiguardian.api.API;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
@@ -31,6 +42,27 @@ import org.junit.platform.engine.UniqueId;
 @API(status = INTERNAL, since = "5.8")
 public final class SuiteTestEngine implements TestEngine {
 
+	/**
+	 * Property name used to enable concurrent execution of the suites
+	 * discovered by this engine: {@value}
+	 *
+	 * <p>Suites are executed sequentially by default. The value supplied to
+	 * this engine is the default for all suites; each suite may override it
+	 * via {@link org.junit.platform.suite.api.ConfigurationParameter
+	 * @ConfigurationParameter}. Consecutive suites that enable it are executed
+	 * concurrently, each with its own test engine instances. Only enable
+	 * concurrent execution for suites that are independent of each other.
+	 */
+	static final String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "junit.platform.suite.execution.parallel.enabled";
+
+	/**
+	 * Property name used to set the maximum number of suites that are
+	 * executed concurrently: {@value}
+	 *
+	 * <p>Defaults to the number of available processors.
+	 */
+	static final String PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME = "junit.platform.suite.execution.parallel.parallelism";
+
 	@Override
 	public String getId() {
 		return SuiteEngineDescriptor.ENGINE_ID;
@@ -66,13 +98,72 @@ public final class SuiteTestEngine implements TestEngine {
 
 		engineExecutionListener.executionStarted(suiteEngineDescriptor);
 
-		// @formatter:off
-		suiteEngineDescriptor.getChildren()
-				.stream()
-				.map(SuiteTestDescriptor.class::cast)
-				.forEach(suiteTestDescriptor -> suiteTestDescriptor.execute(engineExecutionListener));
-		// @formatter:on
+		ConfigurationParameters configurationParameters = request.getConfigurationParameters();
+		List<SuiteTestDescriptor> concurrentSuites = new ArrayList<>();
+		for (TestDescriptor child : suiteEngineDescriptor.getChildren()) {
+			SuiteTestDescriptor suiteTestDescriptor = (SuiteTestDescriptor) child;
+			if (suiteTestDescriptor.isConcurrentExecutionEnabled()) {
+				concurrentSuites.add(suiteTestDescriptor);
+			}
+			else {
+				execute(concurrentSuites, engineExecutionListener, configurationParameters);
+				concurrentSuites.clear();
+				suiteTestDescriptor.execute(engineExecutionListener);
+			}
+		}
+		execute(concurrentSuites, engineExecutionListener, configurationParameters);
 		engineExecutionListener.executionFinished(suiteEngineDescriptor, TestExecutionResult.successful());
 	}
 
+	private static int getParallelism(ConfigurationParameters configurationParameters) {
+		int parallelism = configurationParameters.get(PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME,
+			Integer::valueOf).orElse(Runtime.getRuntime().availableProcessors());
+		Preconditions.condition(parallelism > 0,
+			() -> String.format("Invalid value for configuration parameter '%s': must be greater than 0",
+				PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME));
+		return parallelism;
+	}
+
+	private static void execute(List<SuiteTestDescriptor> suiteTestDescriptors,
+			EngineExecutionListener engineExecutionListener, ConfigurationParameters configurationParameters) {
+
+		if (suiteTestDescriptors.size() <= 1) {
+			suiteTestDescriptors.forEach(suiteTestDescriptor -> suiteTestDescriptor.execute(engineExecutionListener));
+			return;
+		}
+		int parallelism = getParallelism(configurationParameters);
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			Math.min(parallelism, suiteTestDescriptors.size()), new SuiteThreadFactory());
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (SuiteTestDescriptor suiteTestDescriptor : suiteTestDescriptors) {
+				futures.add(executorService.submit(() -> suiteTestDescriptor.execute(engineExecutionListener)));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		catch (ExecutionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e.getCause());
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static class SuiteThreadFactory implements ThreadFactory {
+
+		private static final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			return new Thread(runnable, "junit-platform-suite-worker-" + threadNumber.getAndIncrement());
+		}
+
+	}
+
 }
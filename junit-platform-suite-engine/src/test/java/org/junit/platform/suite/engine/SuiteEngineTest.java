@@ -29,10 +29,13 @@ import org.junit.platform.engine.support.descriptor.MethodSource;
 import org.junit.platform.launcher.PostDiscoveryFilter;
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
+import org.junit.platform.suite.engine.testcases.ConcurrentTestCase;
 import org.junit.platform.suite.engine.testcases.DynamicTest;
 import org.junit.platform.suite.engine.testcases.MultipleTest;
 import org.junit.platform.suite.engine.testcases.SimpleTest;
 import org.junit.platform.suite.engine.testsuites.AbstractSuite;
+import org.junit.platform.suite.engine.testsuites.AnotherConcurrentSuite;
+import org.junit.platform.suite.engine.testsuites.ConcurrentSuite;
 import org.junit.platform.suite.engine.testsuites.DynamicSuite;
 import org.junit.platform.suite.engine.testsuites.MultipleSuite;
 import org.junit.platform.suite.engine.testsuites.NestedSuite;
@@ -253,6 +256,40 @@ class SuiteEngineTest {
 		// @formatter:on
 	}
 
+	@Test
+	void suitesAreExecutedConcurrentlyWhenEnabled() {
+		// @formatter:off
+		EngineTestKit.engine(ENGINE_ID)
+				.selectors(selectClass(SelectClassesSuite.class))
+				.selectors(selectClass(MultipleSuite.class))
+				.selectors(selectClass(SuiteSuite.class))
+				.configurationParameter(SuiteTestEngine.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+				.configurationParameter(SuiteTestEngine.PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME, "2")
+				.execute()
+				.testEvents()
+				.assertThatEvents()
+				.haveExactly(2, event(test(SelectClassesSuite.class.getName()), finishedSuccessfully()))
+				.haveExactly(2, event(test(MultipleSuite.class.getName()), finishedSuccessfully()))
+				.haveExactly(1, event(test(SuiteSuite.class.getName()), finishedSuccessfully()))
+				.haveExactly(2, event(test(SimpleTest.class.getName()), finishedSuccessfully()));
+		// @formatter:on
+	}
+
+	@Test
+	void suitesThatEnableConcurrentExecutionOverlapInTime() {
+		ConcurrentTestCase.BARRIER.reset();
+		// @formatter:off
+		EngineTestKit.engine(ENGINE_ID)
+				.selectors(selectClass(ConcurrentSuite.class))
+				.selectors(selectClass(AnotherConcurrentSuite.class))
+				.configurationParameter(SuiteTestEngine.PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME, "2")
+				.execute()
+				.testEvents()
+				.assertThatEvents()
+				.haveExactly(2, event(test(ConcurrentTestCase.class.getName()), finishedSuccessfully()));
+		// @formatter:on
+	}
+
 	@Test
 	void postDiscoveryCanRemoveTestDescriptorsInSuite() {
 		// @formatter:off
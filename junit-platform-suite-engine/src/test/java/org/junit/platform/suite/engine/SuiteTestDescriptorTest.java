@@ -14,7 +14,9 @@ import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toSet;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Set;
 
@@ -27,6 +29,7 @@ import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.suite.engine.testcases.SimpleTest;
+import org.junit.platform.suite.engine.testsuites.ConcurrentSuite;
 import org.junit.platform.suite.engine.testsuites.CyclicSuite;
 import org.junit.platform.suite.engine.testsuites.SelectClassesSuite;
 
@@ -39,6 +42,7 @@ class SuiteTestDescriptorTest {
 	UniqueId methodId = testClassId.append(TestMethodTestDescriptor.SEGMENT_TYPE, "test()");
 
 	SuiteTestDescriptor suite = new SuiteTestDescriptor(suiteId, Object.class);
+	SuiteLauncher launcher = SuiteLauncher.create();
 
 	@Test
 	void suiteIsEmptyBeforeDiscovery() {
@@ -49,7 +53,7 @@ class SuiteTestDescriptorTest {
 	@Test
 	void suitDiscoversTestsFromClass() {
 		suite.addDiscoveryRequestFrom(SelectClassesSuite.class);
-		suite.discover();
+		suite.discover(launcher, false);
 		assertEquals(Set.of(jupiterEngineId, testClassId, methodId),
 			suite.getDescendants().stream().map(TestDescriptor::getUniqueId).collect(toSet()));
 	}
@@ -57,15 +61,36 @@ class SuiteTestDescriptorTest {
 	@Test
 	void suitDiscoversTestsFromUniqueId() {
 		suite.addDiscoveryRequestFrom(methodId);
-		suite.discover();
+		suite.discover(launcher, false);
 		assertEquals(Set.of(jupiterEngineId, testClassId, methodId),
 			suite.getDescendants().stream().map(TestDescriptor::getUniqueId).collect(toSet()));
 	}
 
+	@Test
+	void suiteIsExecutedSequentiallyByDefault() {
+		suite.addDiscoveryRequestFrom(SelectClassesSuite.class);
+		suite.discover(launcher, false);
+		assertFalse(suite.isConcurrentExecutionEnabled());
+	}
+
+	@Test
+	void suiteInheritsConcurrentExecutionDefault() {
+		suite.addDiscoveryRequestFrom(SelectClassesSuite.class);
+		suite.discover(launcher, true);
+		assertTrue(suite.isConcurrentExecutionEnabled());
+	}
+
+	@Test
+	void suiteCanEnableConcurrentExecution() {
+		suite.addDiscoveryRequestFrom(ConcurrentSuite.class);
+		suite.discover(launcher, false);
+		assertTrue(suite.isConcurrentExecutionEnabled());
+	}
+
 	@Test
 	void discoveryPlanCanNotBeModifiedAfterDiscovery() {
 		suite.addDiscoveryRequestFrom(SelectClassesSuite.class);
-		suite.discover();
+		suite.discover(launcher, false);
 		assertAll(() -> {
 			PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
 				() -> suite.addDiscoveryRequestFrom(SelectClassesSuite.class));
@@ -88,7 +113,7 @@ class SuiteTestDescriptorTest {
 				.append(SuiteTestDescriptor.SEGMENT_TYPE, CyclicSuite.class.getName());
 		// @formatter:on
 		suite.addDiscoveryRequestFrom(CyclicSuite.class);
-		JUnitException exception = assertThrows(JUnitException.class, suite::discover);
+		JUnitException exception = assertThrows(JUnitException.class, () -> suite.discover(launcher, false));
 		assertEquals("Configuration error: The suite configuration may not contain a cycle [" + expectedCycle + "]",
 			exception.getCause().getCause().getCause().getMessage());
 	}
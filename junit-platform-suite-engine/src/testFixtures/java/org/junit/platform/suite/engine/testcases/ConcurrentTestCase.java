@@ -0,0 +1,27 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.suite.engine.testcases;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.concurrent.CyclicBarrier;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentTestCase {
+
+	public static final CyclicBarrier BARRIER = new CyclicBarrier(2);
+
+	@Test
+	void test() throws Exception {
+		BARRIER.await(10, SECONDS);
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * {@code CompactEvents} provides access to the {@linkplain Event events} of
+ * one category recorded by a {@link CompactExecutionRecorder}.
+ *
+ * <p>In contrast to {@link Events}, {@code CompactEvents} does not hold
+ * {@code Event} objects. Counts are maintained while events are recorded
+ * and reflect all events recorded so far.
+ *
+ * @since 1.8
+ * @see CompactExecutionResults
+ * @see CompactExecutionRecorder
+ */
+@API(status = EXPERIMENTAL, since = "1.8")
+public final class CompactEvents {
+
+	private final EventColumns columns;
+	private final int category;
+	private final String categoryName;
+
+	CompactEvents(EventColumns columns, int category, String categoryName) {
+		this.columns = columns;
+		this.category = category;
+		this.categoryName = categoryName;
+	}
+
+	/**
+	 * Get the number of events recorded so far.
+	 */
+	public long count() {
+		return this.columns.count(this.category);
+	}
+
+	/**
+	 * Get the number of events of the supplied type recorded so far.
+	 *
+	 * @param type the type of events to count; never {@code null}
+	 */
+	public long count(EventType type) {
+		Preconditions.notNull(type, "EventType must not be null");
+		return this.columns.count(this.category, type);
+	}
+
+	/**
+	 * Get the number of {@linkplain EventType#FINISHED finished} events with
+	 * the supplied status recorded so far.
+	 *
+	 * @param status the status of the finished events to count; never
+	 * {@code null}
+	 */
+	public long count(Status status) {
+		Preconditions.notNull(status, "Status must not be null");
+		return this.columns.count(this.category, status);
+	}
+
+	/**
+	 * Get the unique IDs of the test descriptors of all events of the
+	 * supplied type in the order in which they were recorded.
+	 *
+	 * @param type the type of events; never {@code null}
+	 * @return the list of unique IDs; never {@code null}
+	 */
+	public List<UniqueId> uniqueIds(EventType type) {
+		Preconditions.notNull(type, "EventType must not be null");
+		return this.columns.uniqueIds(this.category, type, null);
+	}
+
+	/**
+	 * Get the unique IDs of the test descriptors of all
+	 * {@linkplain EventType#FINISHED finished} events with the supplied status
+	 * in the order in which they were recorded.
+	 *
+	 * @param status the status of the finished events; never {@code null}
+	 * @return the list of unique IDs; never {@code null}
+	 */
+	public List<UniqueId> uniqueIds(Status status) {
+		Preconditions.notNull(status, "Status must not be null");
+		return this.columns.uniqueIds(this.category, EventType.FINISHED, status);
+	}
+
+	/**
+	 * Assert statistics for the events recorded so far.
+	 *
+	 * @param statisticsConsumer a {@link Consumer} of {@link EventStatistics};
+	 * never {@code null}
+	 * @return this {@code CompactEvents} object for method chaining; never
+	 * {@code null}
+	 * @see Events#assertStatistics(Consumer)
+	 */
+	public CompactEvents assertStatistics(Consumer<EventStatistics> statisticsConsumer) {
+		Preconditions.notNull(statisticsConsumer, "Consumer must not be null");
+		EventStatistics eventStatistics = new EventStatistics(this.categoryName, this::count, this::count);
+		statisticsConsumer.accept(eventStatistics);
+		eventStatistics.assertAll();
+		return this;
+	}
+
+	/**
+	 * Materialize the events recorded so far as {@link Events}.
+	 *
+	 * <p>This is only supported if the {@link CompactExecutionRecorder} has
+	 * been created to retain details.
+	 *
+	 * @return the recorded events; never {@code null}
+	 * @throws PreconditionViolationException if the recorder does not retain
+	 * details
+	 * @see CompactExecutionRecorder#CompactExecutionRecorder(boolean)
+	 */
+	public Events toEvents() {
+		return new Events(this.columns.toEvents(this.category), this.categoryName);
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+/**
+ * {@code CompactExecutionRecorder} is an {@link EngineExecutionListener} that
+ * records the type, unique ID, result status, and timestamp of every event
+ * that occurs during the engine execution lifecycle in a compact, columnar
+ * form.
+ *
+ * <p>Unlike {@link ExecutionRecorder}, this recorder does not create an
+ * {@link Event} for each callback and, by default, neither retains
+ * {@link TestDescriptor TestDescriptors} nor payloads such as
+ * {@link TestExecutionResult TestExecutionResults} and their throwables.
+ * Statistics are updated while events are recorded and may be queried via
+ * {@link #getExecutionResults()} at any time, including during execution.
+ *
+ * @since 1.8
+ * @see CompactExecutionResults
+ * @see EngineTestKit.Builder#executeCompactly(CompactExecutionRecorder)
+ */
+@API(status = EXPERIMENTAL, since = "1.8")
+public class CompactExecutionRecorder implements EngineExecutionListener {
+
+	private final EventColumns columns;
+
+	/**
+	 * Create a recorder that neither retains test descriptors nor payloads.
+	 */
+	public CompactExecutionRecorder() {
+		this(false);
+	}
+
+	/**
+	 * Create a recorder that retains test descriptors and payloads if
+	 * {@code retainDetails} is {@code true}.
+	 *
+	 * <p>Retaining details allows materializing recorded events via
+	 * {@link CompactEvents#toEvents()}.
+	 *
+	 * @param retainDetails whether to retain test descriptors and payloads
+	 */
+	public CompactExecutionRecorder(boolean retainDetails) {
+		this.columns = new EventColumns(retainDetails);
+	}
+
+	/**
+	 * Record an event for a dynamically registered container or test.
+	 */
+	@Override
+	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		this.columns.append(EventType.DYNAMIC_TEST_REGISTERED, testDescriptor, null, null);
+	}
+
+	/**
+	 * Record an event for a container or test that was skipped.
+	 */
+	@Override
+	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		this.columns.append(EventType.SKIPPED, testDescriptor, null, reason);
+	}
+
+	/**
+	 * Record an event for a container or test that started.
+	 */
+	@Override
+	public void executionStarted(TestDescriptor testDescriptor) {
+		this.columns.append(EventType.STARTED, testDescriptor, null, null);
+	}
+
+	/**
+	 * Record an event for a container or test that completed with the
+	 * provided {@link TestExecutionResult}.
+	 */
+	@Override
+	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+		this.columns.append(EventType.FINISHED, testDescriptor, testExecutionResult.getStatus(), testExecutionResult);
+	}
+
+	/**
+	 * Record an event for a published {@link ReportEntry}.
+	 */
+	@Override
+	public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		this.columns.append(EventType.REPORTING_ENTRY_PUBLISHED, testDescriptor, null, entry);
+	}
+
+	/**
+	 * Get the events recorded so far in the form of
+	 * {@link CompactExecutionResults}.
+	 *
+	 * <p>The returned results reflect events that are recorded later on as
+	 * well.
+	 *
+	 * @return the {@code CompactExecutionResults} backed by this recorder
+	 */
+	public CompactExecutionResults getExecutionResults() {
+		return new CompactExecutionResults(this.columns);
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.TestDescriptor;
+
+/**
+ * {@code CompactExecutionResults} provides access to the events recorded by
+ * a {@link CompactExecutionRecorder}.
+ *
+ * <p>Use {@code CompactExecutionResults} instead of
+ * {@link EngineExecutionResults} when executing large test plans whose events
+ * would otherwise not fit into memory.
+ *
+ * @since 1.8
+ * @see EngineTestKit.Builder#executeCompactly()
+ * @see CompactExecutionRecorder
+ * @see CompactEvents
+ */
+@API(status = EXPERIMENTAL, since = "1.8")
+public final class CompactExecutionResults {
+
+	private final CompactEvents allEvents;
+	private final CompactEvents containerEvents;
+	private final CompactEvents testEvents;
+
+	CompactExecutionResults(EventColumns columns) {
+		this.allEvents = new CompactEvents(columns, EventColumns.ALL, "All");
+		this.containerEvents = new CompactEvents(columns, EventColumns.CONTAINER, "Container");
+		this.testEvents = new CompactEvents(columns, EventColumns.TEST, "Test");
+	}
+
+	/**
+	 * Get all recorded events.
+	 *
+	 * @see #containerEvents()
+	 * @see #testEvents()
+	 */
+	public CompactEvents allEvents() {
+		return this.allEvents;
+	}
+
+	/**
+	 * Get recorded events for containers.
+	 *
+	 * <p>In this context, the word "container" applies to {@link TestDescriptor
+	 * TestDescriptors} that return {@code true} from {@link TestDescriptor#isContainer()}.
+	 *
+	 * @see #allEvents()
+	 * @see #testEvents()
+	 */
+	public CompactEvents containerEvents() {
+		return this.containerEvents;
+	}
+
+	/**
+	 * Get recorded events for tests.
+	 *
+	 * <p>In this context, the word "test" applies to {@link TestDescriptor
+	 * TestDescriptors} that return {@code true} from {@link TestDescriptor#isTest()}.
+	 *
+	 * @see #allEvents()
+	 * @see #containerEvents()
+	 */
+	public CompactEvents testEvents() {
+		return this.testEvents;
+	}
+
+}
@@ -478,6 +478,48 @@ public final class EngineTestKit {
 			return executionRecorder.getExecutionResults();
 		}
 
+		/**
+		 * Execute tests for the configured {@link TestEngine},
+		 * {@linkplain DiscoverySelector discovery selectors},
+		 * {@linkplain DiscoveryFilter discovery filters}, and
+		 * <em>configuration parameters</em> while recording events using a
+		 * {@link CompactExecutionRecorder} that neither retains test
+		 * descriptors nor payloads.
+		 *
+		 * <p>Consider using this method instead of {@link #execute()} for
+		 * test plans with a large number of tests.
+		 *
+		 * @return the recorded {@code CompactExecutionResults}
+		 * @since 1.8
+		 * @see #executeCompactly(CompactExecutionRecorder)
+		 * @see #execute()
+		 */
+		@API(status = EXPERIMENTAL, since = "1.8")
+		public CompactExecutionResults executeCompactly() {
+			return executeCompactly(new CompactExecutionRecorder());
+		}
+
+		/**
+		 * Execute tests for the configured {@link TestEngine},
+		 * {@linkplain DiscoverySelector discovery selectors},
+		 * {@linkplain DiscoveryFilter discovery filters}, and
+		 * <em>configuration parameters</em> while recording events using the
+		 * supplied {@link CompactExecutionRecorder}.
+		 *
+		 * @param executionRecorder the recorder to use; never {@code null}
+		 * @return the recorded {@code CompactExecutionResults}
+		 * @since 1.8
+		 * @see #executeCompactly()
+		 * @see #execute()
+		 */
+		@API(status = EXPERIMENTAL, since = "1.8")
+		public CompactExecutionResults executeCompactly(CompactExecutionRecorder executionRecorder) {
+			Preconditions.notNull(executionRecorder, "CompactExecutionRecorder must not be null");
+			LauncherDiscoveryRequest request = this.requestBuilder.build();
+			EngineTestKit.executeUsingLauncherOrchestration(this.testEngine, request, executionRecorder);
+			return executionRecorder.getExecutionResults();
+		}
+
 	}
 
 }
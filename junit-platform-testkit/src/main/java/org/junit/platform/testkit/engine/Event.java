@@ -148,7 +148,7 @@ public class Event {
 
 	// -------------------------------------------------------------------------
 
-	private final Instant timestamp = Instant.now();
+	private final Instant timestamp;
 	private final EventType type;
 	private final TestDescriptor testDescriptor;
 	private final Object payload;
@@ -162,6 +162,17 @@ public class Event {
 	 * @param payload the generic payload associated with the event; may be {@code null}
 	 */
 	private Event(EventType type, TestDescriptor testDescriptor, Object payload) {
+		this(type, testDescriptor, payload, Instant.now());
+	}
+
+	/**
+	 * Construct an {@code Event} that occurred at the supplied timestamp.
+	 *
+	 * @since 1.8
+	 * @see CompactEvents#toEvents()
+	 */
+	Event(EventType type, TestDescriptor testDescriptor, Object payload, Instant timestamp) {
+		this.timestamp = timestamp;
 		this.type = Preconditions.notNull(type, "EventType must not be null");
 		this.testDescriptor = Preconditions.notNull(testDescriptor, "TestDescriptor must not be null");
 		this.payload = payload;
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Append-only, columnar store for the events recorded by a
+ * {@link CompactExecutionRecorder}.
+ *
+ * <p>Each event occupies one slot in a set of parallel primitive arrays.
+ * Unique IDs are interned, so each test descriptor is referenced only once
+ * regardless of how many events it fires. The number of events per category,
+ * type, and status is updated whenever an event is appended so that
+ * statistics can be queried in constant time at any point during execution.
+ *
+ * <p>Test descriptors and event payloads are only retained if requested.
+ *
+ * @since 1.8
+ */
+final class EventColumns {
+
+	static final int ALL = 0;
+	static final int CONTAINER = 1;
+	static final int TEST = 2;
+
+	private static final int INITIAL_CAPACITY = 64;
+	private static final byte NO_STATUS = -1;
+	private static final EventType[] EVENT_TYPES = EventType.values();
+	private static final Status[] STATUSES = Status.values();
+
+	private final Map<UniqueId, Integer> descriptorIndices = new HashMap<>();
+	private final List<UniqueId> uniqueIds = new ArrayList<>();
+	private final List<TestDescriptor> testDescriptors;
+	private final Map<Integer, Object> payloads;
+
+	private final long[][] countsByType = new long[3][EVENT_TYPES.length];
+	private final long[][] countsByStatus = new long[3][STATUSES.length];
+
+	private byte[] types = new byte[INITIAL_CAPACITY];
+	private byte[] categories = new byte[INITIAL_CAPACITY];
+	private byte[] statuses = new byte[INITIAL_CAPACITY];
+	private int[] descriptors = new int[INITIAL_CAPACITY];
+	private long[] timestamps = new long[INITIAL_CAPACITY];
+	private int size;
+
+	EventColumns(boolean retainDetails) {
+		this.testDescriptors = retainDetails ? new ArrayList<>() : null;
+		this.payloads = retainDetails ? new HashMap<>() : null;
+	}
+
+	boolean isRetainingDetails() {
+		return this.testDescriptors != null;
+	}
+
+	synchronized void append(EventType type, TestDescriptor testDescriptor, Status status, Object payload) {
+		ensureCapacity(this.size + 1);
+		int index = this.size;
+		byte categories = categoriesOf(testDescriptor);
+		this.types[index] = (byte) type.ordinal();
+		this.categories[index] = categories;
+		this.statuses[index] = status == null ? NO_STATUS : (byte) status.ordinal();
+		this.descriptors[index] = intern(testDescriptor);
+		this.timestamps[index] = toEpochNanos(Instant.now());
+		if (this.payloads != null && payload != null) {
+			this.payloads.put(index, payload);
+		}
+		for (int category = ALL; category <= TEST; category++) {
+			if (isInCategory(categories, category)) {
+				this.countsByType[category][type.ordinal()]++;
+				if (status != null) {
+					this.countsByStatus[category][status.ordinal()]++;
+				}
+			}
+		}
+		this.size++;
+	}
+
+	synchronized long count(int category) {
+		return Arrays.stream(this.countsByType[category]).sum();
+	}
+
+	synchronized long count(int category, EventType type) {
+		return this.countsByType[category][type.ordinal()];
+	}
+
+	synchronized long count(int category, Status status) {
+		return this.countsByStatus[category][status.ordinal()];
+	}
+
+	synchronized List<UniqueId> uniqueIds(int category, EventType type, Status status) {
+		List<UniqueId> result = new ArrayList<>();
+		for (int i = 0; i < this.size; i++) {
+			if (matches(i, category, type, status)) {
+				result.add(this.uniqueIds.get(this.descriptors[i]));
+			}
+		}
+		return result;
+	}
+
+	synchronized List<Event> toEvents(int category) {
+		Preconditions.condition(isRetainingDetails(),
+			"Events can only be materialized if the CompactExecutionRecorder retains details");
+		List<Event> result = new ArrayList<>();
+		for (int i = 0; i < this.size; i++) {
+			if (isInCategory(this.categories[i], category)) {
+				result.add(new Event(EVENT_TYPES[this.types[i]], this.testDescriptors.get(this.descriptors[i]),
+					this.payloads.get(i), toInstant(this.timestamps[i])));
+			}
+		}
+		return result;
+	}
+
+	private boolean matches(int index, int category, EventType type, Status status) {
+		return isInCategory(this.categories[index], category) //
+				&& (type == null || this.types[index] == type.ordinal()) //
+				&& (status == null || this.statuses[index] == status.ordinal());
+	}
+
+	private int intern(TestDescriptor testDescriptor) {
+		UniqueId uniqueId = testDescriptor.getUniqueId();
+		Integer existingIndex = this.descriptorIndices.get(uniqueId);
+		if (existingIndex != null) {
+			return existingIndex;
+		}
+		int index = this.uniqueIds.size();
+		this.descriptorIndices.put(uniqueId, index);
+		this.uniqueIds.add(uniqueId);
+		if (this.testDescriptors != null) {
+			this.testDescriptors.add(testDescriptor);
+		}
+		return index;
+	}
+
+	private void ensureCapacity(int minCapacity) {
+		if (minCapacity > this.types.length) {
+			int capacity = Math.max(minCapacity, this.types.length * 2);
+			this.types = Arrays.copyOf(this.types, capacity);
+			this.categories = Arrays.copyOf(this.categories, capacity);
+			this.statuses = Arrays.copyOf(this.statuses, capacity);
+			this.descriptors = Arrays.copyOf(this.descriptors, capacity);
+			this.timestamps = Arrays.copyOf(this.timestamps, capacity);
+		}
+	}
+
+	private static byte categoriesOf(TestDescriptor testDescriptor) {
+		int categories = 1 << ALL;
+		if (testDescriptor.isContainer()) {
+			categories |= 1 << CONTAINER;
+		}
+		if (testDescriptor.isTest()) {
+			categories |= 1 << TEST;
+		}
+		return (byte) categories;
+	}
+
+	private static boolean isInCategory(byte categories, int category) {
+		return (categories & (1 << category)) != 0;
+	}
+
+	private static long toEpochNanos(Instant instant) {
+		return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+	}
+
+	private static Instant toInstant(long epochNanos) {
+		return Instant.ofEpochSecond(0, epochNanos);
+	}
+
+}
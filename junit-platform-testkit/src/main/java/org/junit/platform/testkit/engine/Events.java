@@ -67,10 +67,6 @@ public final class Events {
 		this.category = category;
 	}
 
-	String getCategory() {
-		return this.category;
-	}
-
 	// --- Accessors -----------------------------------------------------------
 
 	/**
@@ -233,7 +229,8 @@ public final class Events {
 	 */
 	public Events assertStatistics(Consumer<EventStatistics> statisticsConsumer) {
 		Preconditions.notNull(statisticsConsumer, "Consumer must not be null");
-		EventStatistics eventStatistics = new EventStatistics(this, this.category);
+		EventStatistics eventStatistics = new EventStatistics(this.category, type -> eventsByType(type).count(),
+			status -> finishedEventsByStatus(status).count());
 		statisticsConsumer.accept(eventStatistics);
 		eventStatistics.assertAll();
 		return this;
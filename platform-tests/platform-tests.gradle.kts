@@ -35,6 +35,8 @@ dependencies {
 	// --- https://openjdk.java.net/projects/code-tools/jmh/ -----------------------
 	jmh(libs.jmh.core)
 	jmh(projects.jupiter.api)
+	jmh(projects.jupiter.engine)
+	jmh(projects.platform.launcher)
 	jmh(libs.junit4)
 	jmhAnnotationProcessor(libs.jmh.generator.annprocess)
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for asserting the equality of large, equal primitive arrays.
+ *
+ * <p>The {@code junit4_*} benchmarks serve as the baseline for the
+ * corresponding {@code junitJupiter_*} benchmarks.
+ *
+ * @since 5.8
+ */
+@State(Scope.Benchmark)
+public class ArrayAssertionBenchmarks {
+
+	@Param({ "1000", "1000000" })
+	public int length;
+
+	private byte[] expectedBytes;
+	private byte[] actualBytes;
+	private int[] expectedInts;
+	private int[] actualInts;
+	private long[] expectedLongs;
+	private long[] actualLongs;
+	private double[] expectedDoubles;
+	private double[] actualDoubles;
+
+	@Setup
+	public void createArrays() {
+		Random random = new Random(42);
+		expectedBytes = new byte[length];
+		random.nextBytes(expectedBytes);
+		actualBytes = expectedBytes.clone();
+		expectedInts = random.ints(length).toArray();
+		actualInts = expectedInts.clone();
+		expectedLongs = random.longs(length).toArray();
+		actualLongs = expectedLongs.clone();
+		expectedDoubles = random.doubles(length).toArray();
+		actualDoubles = expectedDoubles.clone();
+	}
+
+	@Benchmark
+	public void junit4_assertArrayEquals_byte() {
+		Assert.assertArrayEquals(expectedBytes, actualBytes);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_byte() {
+		Assertions.assertArrayEquals(expectedBytes, actualBytes);
+	}
+
+	@Benchmark
+	public void junit4_assertArrayEquals_int() {
+		Assert.assertArrayEquals(expectedInts, actualInts);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_int() {
+		Assertions.assertArrayEquals(expectedInts, actualInts);
+	}
+
+	@Benchmark
+	public void junit4_assertArrayEquals_long() {
+		Assert.assertArrayEquals(expectedLongs, actualLongs);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_long() {
+		Assertions.assertArrayEquals(expectedLongs, actualLongs);
+	}
+
+	@Benchmark
+	public void junit4_assertArrayEquals_double_delta() {
+		Assert.assertArrayEquals(expectedDoubles, actualDoubles, 0.0001);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_double() {
+		Assertions.assertArrayEquals(expectedDoubles, actualDoubles);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_double_delta() {
+		Assertions.assertArrayEquals(expectedDoubles, actualDoubles, 0.0001);
+	}
+
+}
@@ -10,17 +10,39 @@
 
 package org.junit.jupiter.jmh;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.jupiter.api.Assertions;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
 
 /**
  * JMH benchmarks for assertions.
  *
+ * <p>All benchmarks exercise the success path of the respective assertion.
+ *
  * @since 5.1
  */
+@State(Scope.Benchmark)
 public class AssertionBenchmarks {
 
+	private final Object object = new Object();
+	private final String string = "value";
+	private final int[] ints = { 1, 2, 3, 4, 5, 6, 7, 8 };
+	private final int[] otherInts = ints.clone();
+	private final Object[] objects = { "a", 1, new int[] { 1, 2 }, Arrays.asList("b", "c") };
+	private final Object[] otherObjects = { "a", 1, new int[] { 1, 2 }, Arrays.asList("b", "c") };
+	private final List<Object> iterable = Arrays.asList("a", 1, Arrays.asList("b", "c"));
+	private final List<Object> otherIterable = Arrays.asList("a", 1, Arrays.asList("b", "c"));
+	private final List<String> lines = Arrays.asList("first line", "second line", "third line");
+	private final List<String> otherLines = Arrays.asList("first line", "second line", "third line");
+	private final Duration timeout = Duration.ofSeconds(10);
+
 	@Benchmark
 	public void junit4_assertTrue_boolean() {
 		Assert.assertTrue(true);
@@ -56,4 +78,126 @@ public class AssertionBenchmarks {
 		Assertions.assertTrue(() -> true, () -> "message");
 	}
 
+	@Benchmark
+	public void junitJupiter_assertFalse_boolean() {
+		Assertions.assertFalse(false);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertNull() {
+		Assertions.assertNull(null);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertNotNull() {
+		Assertions.assertNotNull(object);
+	}
+
+	@Benchmark
+	public void junit4_assertEquals_Object() {
+		Assert.assertEquals(string, new String(string));
+	}
+
+	@Benchmark
+	public void junitJupiter_assertEquals_Object() {
+		Assertions.assertEquals(string, new String(string));
+	}
+
+	@Benchmark
+	public void junitJupiter_assertEquals_int() {
+		Assertions.assertEquals(42, 42);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertEquals_double_delta() {
+		Assertions.assertEquals(42.0, 42.001, 0.01);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertNotEquals_Object() {
+		Assertions.assertNotEquals(string, object);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertSame() {
+		Assertions.assertSame(object, object);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertNotSame() {
+		Assertions.assertNotSame(object, string);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertInstanceOf(Blackhole blackhole) {
+		blackhole.consume(Assertions.assertInstanceOf(CharSequence.class, string));
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_int() {
+		Assertions.assertArrayEquals(ints, otherInts);
+	}
+
+	@Benchmark
+	public void junit4_assertArrayEquals_Object() {
+		Assert.assertArrayEquals(objects, otherObjects);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_Object() {
+		Assertions.assertArrayEquals(objects, otherObjects);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertIterableEquals() {
+		Assertions.assertIterableEquals(iterable, otherIterable);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertLinesMatch_List() {
+		Assertions.assertLinesMatch(lines, otherLines);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertAll_Executables() {
+		Assertions.assertAll(() -> {
+		}, () -> {
+		});
+	}
+
+	@Benchmark
+	public void junitJupiter_assertAll_Stream() {
+		Assertions.assertAll(lines.stream().map(line -> () -> {
+		}));
+	}
+
+	@Benchmark
+	public void junit4_assertThrows(Blackhole blackhole) {
+		blackhole.consume(Assert.assertThrows(IllegalStateException.class, () -> {
+			throw new IllegalStateException();
+		}));
+	}
+
+	@Benchmark
+	public void junitJupiter_assertThrows(Blackhole blackhole) {
+		blackhole.consume(Assertions.assertThrows(IllegalStateException.class, () -> {
+			throw new IllegalStateException();
+		}));
+	}
+
+	@Benchmark
+	public void junitJupiter_assertDoesNotThrow(Blackhole blackhole) {
+		blackhole.consume(Assertions.assertDoesNotThrow(() -> string));
+	}
+
+	@Benchmark
+	public void junitJupiter_assertTimeout(Blackhole blackhole) {
+		blackhole.consume(Assertions.assertTimeout(timeout, () -> string));
+	}
+
+	@Benchmark
+	public void junitJupiter_assertTimeoutPreemptively(Blackhole blackhole) {
+		blackhole.consume(Assertions.assertTimeoutPreemptively(timeout, () -> string));
+	}
+
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.util.Collections.emptyMap;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+import org.junit.platform.commons.util.ReflectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * JMH benchmarks for scanning a synthetic JAR file with 50,000 class file
+ * entries for classes.
+ *
+ * <p>{@code zipFileSystem} mounts a zip file system and walks its directory
+ * tree like the {@code ClasspathScanner} used to and serves as the baseline
+ * for {@code classpathScanner}, which reads the central directory of the JAR
+ * file directly. The class name filter rejects all classes so that only the
+ * scanning itself is measured.
+ *
+ * @since 1.8
+ */
+@State(Scope.Benchmark)
+public class ClasspathScannerBenchmarks {
+
+	private static final int PACKAGE_COUNT = 500;
+	private static final int CLASSES_PER_PACKAGE = 100;
+
+	private Path tempDir;
+	private URI jarFileUri;
+
+	@Setup
+	public void createJarFile() throws IOException {
+		tempDir = Files.createTempDirectory("classpath-scanner-benchmarks");
+		Path jarFile = tempDir.resolve("classes.jar");
+		try (OutputStream out = Files.newOutputStream(jarFile); JarOutputStream jar = new JarOutputStream(out)) {
+			for (int i = 0; i < PACKAGE_COUNT; i++) {
+				String packagePath = "com/example/package" + i + "/";
+				jar.putNextEntry(new ZipEntry(packagePath));
+				jar.closeEntry();
+				for (int j = 0; j < CLASSES_PER_PACKAGE; j++) {
+					jar.putNextEntry(new ZipEntry(packagePath + "Class" + j + ".class"));
+					jar.closeEntry();
+				}
+			}
+		}
+		jarFileUri = jarFile.toUri();
+	}
+
+	@TearDown
+	public void deleteJarFile() throws IOException {
+		try (Stream<Path> paths = Files.walk(tempDir)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	@Benchmark
+	public int zipFileSystem() throws IOException {
+		AtomicInteger count = new AtomicInteger();
+		try (FileSystem fileSystem = FileSystems.newFileSystem(URI.create("jar:" + jarFileUri), emptyMap())) {
+			Path root = fileSystem.getRootDirectories().iterator().next();
+			Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+					String relativePath = root.relativize(file).toString();
+					if (relativePath.endsWith(".class") && rejectClassName(
+						relativePath.substring(0, relativePath.length() - 6).replace('/', '.'), count)) {
+						throw new IllegalStateException("all class names should have been rejected");
+					}
+					return CONTINUE;
+				}
+			});
+		}
+		return count.get();
+	}
+
+	@Benchmark
+	public int classpathScanner() {
+		AtomicInteger count = new AtomicInteger();
+		ReflectionUtils.findAllClassesInClasspathRoot(jarFileUri, type -> true,
+			className -> rejectClassName(className, count));
+		return count.get();
+	}
+
+	private static boolean rejectClassName(String className, AtomicInteger count) {
+		count.incrementAndGet();
+		return className.isEmpty();
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.junit.jupiter.engine.execution.ExtensionValuesStore;
+import org.junit.jupiter.engine.execution.NamespaceAwareStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * JMH benchmarks for concurrent access to {@link ExtensionValuesStore}.
+ *
+ * <p>The stores mimic a test method's store whose values are looked up in
+ * the root store, e.g. shared resources of an extension.
+ *
+ * @since 5.8
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class ExtensionValuesStoreBenchmarks {
+
+	private static final Namespace NAMESPACE = Namespace.create(ExtensionValuesStoreBenchmarks.class);
+
+	private Store rootStore;
+	private Store childStore;
+
+	@Setup
+	public void createStores() {
+		ExtensionValuesStore root = new ExtensionValuesStore(null);
+		ExtensionValuesStore engine = new ExtensionValuesStore(root);
+		ExtensionValuesStore testClass = new ExtensionValuesStore(engine);
+		ExtensionValuesStore testMethod = new ExtensionValuesStore(testClass);
+		rootStore = new NamespaceAwareStore(root, NAMESPACE);
+		childStore = new NamespaceAwareStore(testMethod, NAMESPACE);
+		rootStore.put("shared", "value");
+		for (int i = 0; i < 10; i++) {
+			new NamespaceAwareStore(root, Namespace.create("other", i)).put("shared", i);
+		}
+	}
+
+	@Benchmark
+	public Object get() {
+		return rootStore.get("shared");
+	}
+
+	@Benchmark
+	public Object getFromChildStore() {
+		return childStore.get("shared");
+	}
+
+	@Benchmark
+	public Object getOrComputeIfAbsent() {
+		return rootStore.getOrComputeIfAbsent("computed", key -> "value");
+	}
+
+	@Benchmark
+	public Object getOrComputeIfAbsentFromChildStore() {
+		return childStore.getOrComputeIfAbsent("computed", key -> "value");
+	}
+
+}
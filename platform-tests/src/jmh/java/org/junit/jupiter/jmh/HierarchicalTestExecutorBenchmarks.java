@@ -0,0 +1,138 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import java.util.Optional;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.hierarchical.EngineExecutionContext;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks measuring the per-node overhead of executing a tree of
+ * {@value #CONTAINERS} containers with {@value #TESTS_PER_CONTAINER} trivial
+ * tests each using a {@link HierarchicalTestEngine}.
+ *
+ * <p>The reported score is the time spent per test.
+ *
+ * @since 1.8
+ */
+@State(Scope.Benchmark)
+public class HierarchicalTestExecutorBenchmarks {
+
+	private static final int CONTAINERS = 1_000;
+	private static final int TESTS_PER_CONTAINER = 1_000;
+
+	private final TrivialTestEngine engine = new TrivialTestEngine();
+	private ExecutionRequest request;
+
+	@Setup
+	public void createTestTree() {
+		UniqueId engineId = UniqueId.forEngine(engine.getId());
+		TrivialEngineDescriptor engineDescriptor = new TrivialEngineDescriptor(engineId);
+		for (int i = 0; i < CONTAINERS; i++) {
+			TestDescriptor container = new TrivialTestDescriptor(engineId.append("container", String.valueOf(i)),
+				TestDescriptor.Type.CONTAINER);
+			for (int j = 0; j < TESTS_PER_CONTAINER; j++) {
+				container.addChild(new TrivialTestDescriptor(
+					container.getUniqueId().append("test", String.valueOf(j)), TestDescriptor.Type.TEST));
+			}
+			engineDescriptor.addChild(container);
+		}
+		request = new ExecutionRequest(engineDescriptor, EngineExecutionListener.NOOP,
+			new EmptyConfigurationParameters());
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CONTAINERS * TESTS_PER_CONTAINER)
+	public void executeTrivialTests() {
+		engine.execute(request);
+	}
+
+	static class TrivialTestEngine extends HierarchicalTestEngine<TrivialExecutionContext> {
+
+		@Override
+		public String getId() {
+			return "trivial";
+		}
+
+		@Override
+		public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		protected TrivialExecutionContext createExecutionContext(ExecutionRequest request) {
+			return new TrivialExecutionContext();
+		}
+
+	}
+
+	static class TrivialExecutionContext implements EngineExecutionContext {
+	}
+
+	static class TrivialEngineDescriptor extends EngineDescriptor implements Node<TrivialExecutionContext> {
+
+		TrivialEngineDescriptor(UniqueId uniqueId) {
+			super(uniqueId, "trivial");
+		}
+
+	}
+
+	static class TrivialTestDescriptor extends AbstractTestDescriptor implements Node<TrivialExecutionContext> {
+
+		private final Type type;
+
+		TrivialTestDescriptor(UniqueId uniqueId, Type type) {
+			super(uniqueId, uniqueId.getLastSegment().getValue());
+			this.type = type;
+		}
+
+		@Override
+		public Type getType() {
+			return type;
+		}
+
+	}
+
+	static class EmptyConfigurationParameters implements ConfigurationParameters {
+
+		@Override
+		public Optional<String> get(String key) {
+			return Optional.empty();
+		}
+
+		@Override
+		public Optional<Boolean> getBoolean(String key) {
+			return Optional.empty();
+		}
+
+		@Override
+		public int size() {
+			return 0;
+		}
+
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.launcher.TagFilter;
+import org.junit.platform.launcher.tagexpression.CompiledTagExpressions;
+import org.junit.platform.launcher.tagexpression.TagExpression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for evaluating the tag expressions of a {@link TagFilter}
+ * against the tags of many test descriptors.
+ *
+ * <p>{@code parsedExpressions} evaluates the parsed tag expressions directly
+ * and serves as the baseline for {@code compiledExpressions}.
+ *
+ * @since 1.8
+ */
+@State(Scope.Benchmark)
+public class TagFilterBenchmarks {
+
+	private static final String[] EXPRESSIONS = { "(smoke | fast) & !slow & !flaky",
+			"integration & (db | network) & !windows", "regression & !(ui | windows)", "none()" };
+
+	private final List<Set<TestTag>> tagSets = new ArrayList<>();
+	private final List<TagExpression> parsedExpressions = new ArrayList<>();
+	private CompiledTagExpressions compiledExpressions;
+
+	@Setup
+	public void createTagSets() {
+		String[] tags = { "smoke", "fast", "slow", "flaky", "integration", "db", "network", "ui", "windows",
+				"regression" };
+		for (int i = 0; i < 1000; i++) {
+			Set<TestTag> tagSet = new LinkedHashSet<>();
+			for (int j = 0; j < tags.length; j++) {
+				if ((i >> j & 1) == 1) {
+					tagSet.add(TestTag.create(tags[j]));
+				}
+			}
+			tagSets.add(tagSet);
+		}
+		for (String expression : EXPRESSIONS) {
+			parsedExpressions.add(TagExpression.parseFrom(expression).tagExpressionOrThrow(RuntimeException::new));
+		}
+		compiledExpressions = CompiledTagExpressions.compile(parsedExpressions);
+	}
+
+	@Benchmark
+	public void parsedExpressions(Blackhole blackhole) {
+		for (Set<TestTag> tags : tagSets) {
+			boolean included = false;
+			for (TagExpression expression : parsedExpressions) {
+				if (expression.evaluate(tags)) {
+					included = true;
+					break;
+				}
+			}
+			blackhole.consume(included);
+		}
+	}
+
+	@Benchmark
+	public void compiledExpressions(Blackhole blackhole) {
+		for (Set<TestTag> tags : tagSets) {
+			blackhole.consume(compiledExpressions.anyMatch(tags));
+		}
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.engine.Constants;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks quantifying the per-test overhead of a global default
+ * timeout.
+ *
+ * <p>Each benchmark invocation executes {@value #TESTS} trivial tests, so
+ * the reported score is the time spent per test.
+ *
+ * @since 5.8
+ */
+@State(Scope.Benchmark)
+public class TimeoutExtensionBenchmarks {
+
+	private static final int TESTS = 1000;
+
+	@Param({ "", "5 s" })
+	public String defaultTimeout;
+
+	private Launcher launcher;
+	private LauncherDiscoveryRequest request;
+
+	@Setup(Level.Trial)
+	public void createRequest() {
+		launcher = LauncherFactory.create();
+		LauncherDiscoveryRequestBuilder builder = LauncherDiscoveryRequestBuilder.request() //
+				.selectors(selectClass(TrivialTestCase.class));
+		if (!defaultTimeout.isEmpty()) {
+			builder.configurationParameter(Constants.DEFAULT_TIMEOUT_PROPERTY_NAME, defaultTimeout);
+		}
+		request = builder.build();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TESTS)
+	public long executeTrivialTests() {
+		SummaryGeneratingListener listener = new SummaryGeneratingListener();
+		launcher.execute(request, listener);
+		return listener.getSummary().getTestsSucceededCount();
+	}
+
+	public static class TrivialTestCase {
+
+		@RepeatedTest(TESTS)
+		void test() {
+		}
+
+	}
+
+}
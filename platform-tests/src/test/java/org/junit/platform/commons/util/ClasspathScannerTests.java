@@ -26,15 +26,18 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
+import java.util.jar.JarOutputStream;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.spi.ToolProvider;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.fixtures.TrackLogRecords;
@@ -171,6 +174,62 @@ class ClasspathScannerTests {
 		}
 	}
 
+	@Test
+	void scanForClassesWithinJarFileOnlyConsidersClassFilesWithEntryPrefix(@TempDir Path tempDir) throws Exception {
+		var jarFile = tempDir.resolve("test.jar");
+		var packagePath = ClasspathScannerTests.class.getPackageName().replace('.', '/') + "/";
+		try (var out = new JarOutputStream(Files.newOutputStream(jarFile))) {
+			for (var entryName : List.of("META-INF/MANIFEST.MF", "module-info.class", packagePath,
+				packagePath + "package-info.class", packagePath + "resource.txt",
+				packagePath + "ClasspathScannerTests$NestedClassToBeFound.class", "org/example/Other.class")) {
+				out.putNextEntry(new ZipEntry(entryName));
+				out.closeEntry();
+			}
+		}
+
+		var classes = classpathScanner.scanForClassesInClasspathRoot(jarFile.toUri(), allClasses);
+
+		assertThat(classes).containsExactly(NestedClassToBeFound.class);
+		assertThat(loadedClasses).containsExactly(NestedClassToBeFound.class);
+
+		loadedClasses.clear();
+		var packageUrl = URI.create("jar:" + jarFile.toUri() + "!/" + packagePath).toURL();
+		ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+			@Override
+			public Enumeration<URL> getResources(String name) {
+				return Collections.enumeration(List.of(packageUrl));
+			}
+		};
+		var scanner = new ClasspathScanner(() -> classLoader, trackingClassLoader);
+		classes = scanner.scanForClassesInPackage(ClasspathScannerTests.class.getPackageName(), allClasses);
+
+		assertThat(classes).containsExactly(NestedClassToBeFound.class);
+		assertThat(loadedClasses).containsExactly(NestedClassToBeFound.class);
+	}
+
+	@Test
+	void scanForClassesInPackageWithNonAsciiCharactersWithinJarFile(@TempDir Path tempDir) throws Exception {
+		var jarFile = tempDir.resolve("test.jar");
+		var packageName = "org.example.\u00e9t\u00e9";
+		var packagePath = packageName.replace('.', '/') + "/";
+		try (var out = new JarOutputStream(Files.newOutputStream(jarFile))) {
+			for (var entryName : List.of(packagePath, packagePath + "Summer.class", "org/example/Other.class")) {
+				out.putNextEntry(new ZipEntry(entryName));
+				out.closeEntry();
+			}
+		}
+
+		var classNames = new ArrayList<String>();
+		var classFilter = ClassFilter.of(className -> !classNames.add(className), type -> true);
+		try (var classLoader = new URLClassLoader(new URL[] { jarFile.toUri().toURL() }, null)) {
+			var scanner = new ClasspathScanner(() -> classLoader, trackingClassLoader);
+
+			assertThat(scanner.scanForClassesInPackage(packageName, classFilter)).isEmpty();
+		}
+
+		assertThat(classNames).containsExactly(packageName + ".Summer");
+	}
+
 	@Test
 	void scanForClassesInPackage() {
 		var classes = classpathScanner.scanForClassesInPackage("org.junit.platform.commons", allClasses);
@@ -306,6 +306,135 @@ class PicocliCommandLineOptionsParserTests {
 		assertOptionWithMissingRequiredArgumentThrowsException("--reports-dir");
 	}
 
+	@ParameterizedTest
+	@EnumSource
+	void parseValidShardOptions(ArgsType type) throws Exception {
+		var options = type.parseArgLine(
+			"--shard-index 2 --shard-count 16 --shard-timings build/shard-timings.properties --shard-timings-digest cafe");
+
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(2, options.getShardIndex()),
+			() -> assertEquals(16, options.getShardCount()),
+			() -> assertEquals(Optional.of(Paths.get("build/shard-timings.properties")), options.getShardTimingsFile()),
+			() -> assertEquals(Optional.of("cafe"), options.getShardTimingsDigest()),
+			() -> assertEquals(1, type.parseArgLine("").getShardCount()),
+			() -> assertEquals(Optional.empty(), type.parseArgLine("").getShardTimingsFile()),
+			() -> assertEquals(Optional.empty(), type.parseArgLine("").getShardTimingsDigest())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void parseInvalidShardOptions() {
+		// @formatter:off
+		assertAll(
+			() -> assertThrows(JUnitException.class, () -> ArgsType.args.parseArgLine("--shard-index 1")),
+			() -> assertThrows(JUnitException.class, () -> ArgsType.args.parseArgLine("--shard-count 2")),
+			() -> assertThrows(JUnitException.class, () -> ArgsType.args.parseArgLine("--shard-index 2 --shard-count 2")),
+			() -> assertThrows(JUnitException.class, () -> ArgsType.args.parseArgLine("--shard-index -1 --shard-count 2")),
+			() -> assertThrows(JUnitException.class, () -> ArgsType.args.parseArgLine("--shard-index 0 --shard-count 0")),
+			() -> assertThrows(JUnitException.class, () -> ArgsType.args.parseArgLine("--shard-timings-digest cafe"))
+		);
+		// @formatter:on
+		assertOptionWithMissingRequiredArgumentThrowsException("--shard-index", "--shard-count", "--shard-timings",
+			"--shard-timings-digest");
+	}
+
+	@ParameterizedTest
+	@EnumSource
+	void parseValidTestImpactOptions(ArgsType type) throws Exception {
+		var options = type.parseArgLine(
+			"--changed-class com.example.First --changed-class=com.example.Second --class-dependency-cache deps.properties");
+
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(List.of("com.example.First", "com.example.Second"), options.getChangedClasses()),
+			() -> assertEquals(Optional.of(Paths.get("deps.properties")), options.getClassDependencyCacheFile()),
+			() -> assertEquals(List.of(), type.parseArgLine("").getChangedClasses()),
+			() -> assertEquals(Optional.empty(), type.parseArgLine("").getClassDependencyCacheFile())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void parseInvalidTestImpactOptions() {
+		assertOptionWithMissingRequiredArgumentThrowsException("--changed-class", "--class-dependency-cache");
+	}
+
+	@ParameterizedTest
+	@EnumSource
+	void parseValidTestResultCacheOptions(ArgsType type) throws Exception {
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(Optional.of(Paths.get("build/test-results-cache")),
+				type.parseArgLine("--test-result-cache build/test-results-cache").getTestResultCacheDirectory()),
+			() -> assertEquals(Optional.empty(), type.parseArgLine("").getTestResultCacheDirectory())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void parseInvalidTestResultCacheOptions() {
+		assertOptionWithMissingRequiredArgumentThrowsException("--test-result-cache");
+	}
+
+	@ParameterizedTest
+	@EnumSource
+	void parseValidForkOptions(ArgsType type) throws Exception {
+		var options = type.parseArgLine("--fork-count 4 --fork-jvm-option=-Xmx512m --fork-jvm-option=-Dkey=value");
+
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(4, options.getForkCount()),
+			() -> assertEquals(List.of("-Xmx512m", "-Dkey=value"), options.getForkJvmOptions()),
+			() -> assertEquals(0, type.parseArgLine("").getForkCount()),
+			() -> assertEquals(List.of(), type.parseArgLine("").getForkJvmOptions())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void parseInvalidForkOptions() {
+		assertThrows(JUnitException.class, () -> ArgsType.args.parseArgLine("--fork-count -1"));
+		assertOptionWithMissingRequiredArgumentThrowsException("--fork-count", "--fork-jvm-option");
+	}
+
+	@ParameterizedTest
+	@EnumSource
+	void parseValidDaemonOptions(ArgsType type) throws Exception {
+		var options = type.parseArgLine("--daemon build/daemon --start-daemon");
+
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(Optional.of(Paths.get("build/daemon")), options.getDaemonDirectory()),
+			() -> assertTrue(options.isStartDaemon()),
+			() -> assertEquals(Optional.of(Paths.get("build/daemon")), type.parseArgLine("--daemon=build/daemon").getDaemonDirectory()),
+			() -> assertFalse(type.parseArgLine("--daemon=build/daemon").isStartDaemon()),
+			() -> assertEquals(Optional.empty(), type.parseArgLine("").getDaemonDirectory())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void parseInvalidDaemonOptions() {
+		assertThrows(JUnitException.class, () -> ArgsType.args.parseArgLine("--start-daemon"));
+		assertOptionWithMissingRequiredArgumentThrowsException("--daemon");
+	}
+
+	@ParameterizedTest
+	@EnumSource
+	void parseValidWatchOptions(ArgsType type) throws Exception {
+		assertTrue(type.parseArgLine("--watch").isWatch());
+		assertFalse(type.parseArgLine("").isWatch());
+	}
+
+	@Test
+	void parseInvalidWatchOptions() {
+		assertThrows(JUnitException.class,
+			() -> ArgsType.args.parseArgLine("--watch --shard-index 0 --shard-count 2"));
+	}
+
 	@ParameterizedTest
 	@EnumSource
 	void parseValidUriSelectors(ArgsType type) {
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.DataOutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.console.options.PicocliCommandLineOptionsParser;
+
+/**
+ * @since 1.8
+ */
+class ConsoleDaemonTests {
+
+	@TempDir
+	Path tempDir;
+
+	private ConsoleDaemon daemon;
+	private CompletableFuture<Void> daemonRun;
+
+	@BeforeEach
+	void startDaemon() throws Exception {
+		daemon = new ConsoleDaemon(tempDir.resolve("daemon"), new PicocliCommandLineOptionsParser());
+		daemonRun = CompletableFuture.runAsync(() -> {
+			try {
+				daemon.run(new PrintWriter(new StringWriter()));
+			}
+			catch (Exception ex) {
+				throw new RuntimeException(ex);
+			}
+		});
+		var stateFile = tempDir.resolve("daemon").resolve(ConsoleDaemon.STATE_FILE_NAME);
+		for (int i = 0; i < 500 && !Files.exists(stateFile); i++) {
+			Thread.sleep(10);
+		}
+	}
+
+	@AfterEach
+	void stopDaemon() throws Exception {
+		daemon.stop();
+		daemonRun.get();
+		daemon.close();
+		assertThat(stateFile()).doesNotExist();
+	}
+
+	private Path stateFile() {
+		return tempDir.resolve("daemon").resolve(ConsoleDaemon.STATE_FILE_NAME);
+	}
+
+	@Test
+	void deletesStateFileOnlyWhenClosed() throws Exception {
+		daemon.stop();
+		daemonRun.get();
+		assertThat(stateFile()).exists();
+
+		daemon.close();
+		assertThat(stateFile()).doesNotExist();
+
+		daemon.close();
+	}
+
+	@Test
+	void stopAndAwaitCloseWaitsUntilDaemonIsClosed() throws Exception {
+		var shutdownHook = CompletableFuture.runAsync(() -> daemon.stopAndAwaitClose(10, TimeUnit.SECONDS));
+		daemonRun.get();
+		assertFalse(shutdownHook.isDone());
+		assertThat(stateFile()).exists();
+
+		daemon.close();
+		shutdownHook.get(5, TimeUnit.SECONDS);
+		assertThat(stateFile()).doesNotExist();
+	}
+
+	@Test
+	void stopAndAwaitCloseDeletesStateFileIfDaemonIsNotClosedInTime() throws Exception {
+		daemon.stopAndAwaitClose(10, TimeUnit.MILLISECONDS);
+		daemonRun.get();
+
+		assertThat(stateFile()).doesNotExist();
+	}
+
+	@Test
+	void executesRequestsRelativeToClientWorkingDirectory() throws Exception {
+		var args = List.of("--daemon", "daemon", "--disable-banner", "--details=tree", "--reports-dir", "reports",
+			"--select-class", DaemonTestCase.class.getName());
+
+		for (int i = 0; i < 2; i++) {
+			var out = new StringWriter();
+			var exitCode = ConsoleDaemonClient.execute(tempDir.resolve("daemon"), tempDir, args, new PrintWriter(out));
+
+			assertEquals(Optional.of(1), exitCode);
+			assertThat(out.toString()) //
+					.contains("succeeds()", "fails()") //
+					.contains("1 tests successful", "1 tests failed");
+			assertThat(tempDir.resolve("reports").resolve("TEST-junit-jupiter.xml")).exists();
+		}
+	}
+
+	@Test
+	void reportsInvalidArguments() {
+		var out = new StringWriter();
+		var exitCode = ConsoleDaemonClient.execute(tempDir.resolve("daemon"), tempDir,
+			List.of("--daemon=daemon", "--start-daemon"), new PrintWriter(out));
+
+		assertEquals(Optional.of(-1), exitCode);
+		assertThat(out.toString()).contains("The --start-daemon option requires --daemon.", "Usage: ConsoleLauncher");
+	}
+
+	@Test
+	void rejectsRequestsWithInvalidToken() throws Exception {
+		var state = new Properties();
+		try (var in = Files.newInputStream(tempDir.resolve("daemon").resolve(ConsoleDaemon.STATE_FILE_NAME))) {
+			state.load(in);
+		}
+		var port = Integer.parseInt(state.getProperty(ConsoleDaemon.PORT_KEY));
+
+		try (var socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+			var out = new DataOutputStream(socket.getOutputStream());
+			out.writeUTF("invalid");
+			out.flush();
+
+			assertEquals(-1, socket.getInputStream().read());
+		}
+	}
+
+	@Test
+	void returnsEmptyResultIfNoDaemonIsRunning() {
+		var exitCode = ConsoleDaemonClient.execute(tempDir.resolve("other"), tempDir, List.of(),
+			new PrintWriter(new StringWriter()));
+
+		assertEquals(Optional.empty(), exitCode);
+	}
+
+	@Test
+	void removesDaemonOptionAndResolvesArgumentFiles() {
+		var args = List.of("--daemon", "daemon", "@args.txt", "@@literal", "--daemon=daemon", "-e", "junit-jupiter");
+
+		assertEquals(List.of("@" + tempDir.resolve("args.txt"), "@@literal", "-e", "junit-jupiter"),
+			ConsoleDaemonClient.toDaemonArguments(args, tempDir));
+	}
+
+	static class DaemonTestCase {
+
+		@Test
+		void succeeds() {
+		}
+
+		@Test
+		void fails() {
+			fail("expected");
+		}
+
+	}
+
+}
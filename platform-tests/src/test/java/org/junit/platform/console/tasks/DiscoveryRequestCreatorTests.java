@@ -18,6 +18,7 @@ import static org.junit.platform.engine.discovery.ClassNameFilter.STANDARD_INCLU
 
 import java.io.File;
 import java.net.URI;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
@@ -25,9 +26,11 @@ import java.util.Map.Entry;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.console.options.CommandLineOptions;
 import org.junit.platform.engine.Filter;
+import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.discovery.ClassNameFilter;
 import org.junit.platform.engine.discovery.ClassSelector;
 import org.junit.platform.engine.discovery.ClasspathResourceSelector;
@@ -39,6 +42,9 @@ import org.junit.platform.engine.discovery.PackageNameFilter;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UriSelector;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.ShardFilter;
+import org.junit.platform.launcher.TestImpactFilter;
 
 /**
  * @since 1.0
@@ -195,6 +201,54 @@ class DiscoveryRequestCreatorTests {
 		assertThat(engineFilters.get(1).toString()).contains("excludes", "[engine2]");
 	}
 
+	@Test
+	void convertsShardOptions() {
+		options.setScanClasspath(true);
+		options.setShardIndex(1);
+		options.setShardCount(3);
+
+		var request = convert();
+		var postDiscoveryFilters = request.getPostDiscoveryFilters();
+
+		assertThat(postDiscoveryFilters).hasSize(1);
+		assertThat(postDiscoveryFilters.get(0)).isInstanceOf(ShardFilter.class);
+		assertThat(postDiscoveryFilters.get(0).toString()).contains("shardIndex = 1", "shardCount = 3");
+	}
+
+	@Test
+	void doesNotAddShardFilterForSingleShard() {
+		options.setScanClasspath(true);
+
+		var request = convert();
+
+		assertThat(request.getPostDiscoveryFilters()).isEmpty();
+	}
+
+	@Test
+	void convertsChangedClassesToTestImpactFilter(@TempDir Path tempDir) {
+		options.setScanClasspath(true);
+		options.setChangedClasses(List.of("com.example.Changed"));
+		options.setClassDependencyCacheFile(tempDir.resolve("dependencies.properties"));
+
+		var request = convert();
+		var postDiscoveryFilters = request.getPostDiscoveryFilters();
+
+		assertThat(postDiscoveryFilters).hasSize(1);
+		assertThat(postDiscoveryFilters.get(0)).isInstanceOf(TestImpactFilter.class);
+		assertThat(postDiscoveryFilters.get(0).toString()).contains("com.example.Changed");
+		assertThat(tempDir.resolve("dependencies.properties")).exists();
+	}
+
+	@Test
+	void addsAdditionalPostDiscoveryFilters() {
+		options.setScanClasspath(true);
+		PostDiscoveryFilter additionalFilter = descriptor -> FilterResult.included("additional");
+
+		var request = new DiscoveryRequestCreator(List.of(additionalFilter)).toDiscoveryRequest(options);
+
+		assertThat(request.getPostDiscoveryFilters()).containsExactly(additionalFilter);
+	}
+
 	@Test
 	void convertsUriSelectors() {
 		options.setSelectedUris(List.of(URI.create("a"), URI.create("b")));
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.text.SimpleDateFormat;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.console.tasks.ForkedExecutionProtocol.Event;
+import org.junit.platform.engine.TestExecutionResult;
+
+/**
+ * @since 1.8
+ */
+class ForkedExecutionProtocolTests {
+
+	@Test
+	void verifiesTokens() throws Exception {
+		var token = ForkedExecutionProtocol.newToken();
+
+		var validToken = input(out -> ForkedExecutionProtocol.writeToken(out, token));
+		var invalidToken = input(out -> ForkedExecutionProtocol.writeToken(out, "wrong"));
+
+		assertTrue(ForkedExecutionProtocol.readAndVerifyToken(validToken, token));
+		assertFalse(ForkedExecutionProtocol.readAndVerifyToken(invalidToken, token));
+	}
+
+	@Test
+	void readsMessagesWrittenByOtherSide() throws Exception {
+		Map<String, String> configurationParameters = new HashMap<>(Map.of("key", "value"));
+		var exception = new IllegalStateException("failure");
+
+		var in = input(out -> {
+			ForkedExecutionProtocol.write(out, configurationParameters);
+			ForkedExecutionProtocol.write(out, Event.finished("[engine:test]", TestExecutionResult.failed(exception)));
+		});
+
+		assertEquals(configurationParameters, ForkedExecutionProtocol.read(in));
+		var event = (Event) ForkedExecutionProtocol.read(in);
+		assertThat(event.getResult().getThrowable().orElseThrow()) //
+				.isInstanceOf(IllegalStateException.class) //
+				.hasMessage("failure");
+	}
+
+	@Test
+	void rejectsInvalidMessageLengths() {
+		assertThrows(StreamCorruptedException.class,
+			() -> ForkedExecutionProtocol.read(input(out -> out.writeInt(-1))));
+		assertThrows(StreamCorruptedException.class, () -> ForkedExecutionProtocol.read(
+			input(out -> out.writeInt(ForkedExecutionProtocol.MAX_MESSAGE_LENGTH + 1))));
+	}
+
+	@Test
+	void rejectsClassesThatAreNotAllowed() {
+		var disallowed = new SimpleDateFormat();
+
+		assertThrows(NotSerializableException.class,
+			() -> ForkedExecutionProtocol.write(new DataOutputStream(new ByteArrayOutputStream()), disallowed));
+		assertThrows(InvalidClassException.class, () -> ForkedExecutionProtocol.read(input(out -> {
+			var bytes = new ByteArrayOutputStream();
+			try (var objectOut = new ObjectOutputStream(bytes)) {
+				objectOut.writeObject(disallowed);
+			}
+			out.writeInt(bytes.size());
+			out.write(bytes.toByteArray());
+		})));
+	}
+
+	private static DataInputStream input(Writer writer) throws IOException {
+		var bytes = new ByteArrayOutputStream();
+		try (var out = new DataOutputStream(bytes)) {
+			writer.write(out);
+		}
+		return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+	}
+
+	@FunctionalInterface
+	private interface Writer {
+
+		void write(DataOutputStream out) throws IOException;
+
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.console.options.CommandLineOptions;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+
+/**
+ * @since 1.8
+ */
+class ForkedTestExecutorTests {
+
+	private final CommandLineOptions options = new CommandLineOptions();
+	private final SummaryGeneratingListener summaryListener = new SummaryGeneratingListener();
+	private final RecordingListener recordingListener = new RecordingListener();
+
+	@Test
+	void executesTopLevelContainersInForkedJvms() {
+		options.setForkCount(2);
+
+		execute(FirstForkedTestCase.class, SecondForkedTestCase.class);
+
+		var summary = summaryListener.getSummary();
+		assertEquals(5, summary.getTestsFoundCount());
+		assertEquals(5, summary.getTestsStartedCount());
+		assertEquals(4, summary.getTestsSucceededCount());
+		assertEquals(1, summary.getTestsFailedCount());
+		assertThat(summary.getFailures().get(0).getException()) //
+				.hasMessageContaining(NotSerializableException.class.getName()) //
+				.hasMessageContaining("not serializable");
+
+		assertThat(recordingListener.pids).hasSize(2);
+		assertThat(recordingListener.pids.values()).doesNotContain(String.valueOf(ProcessHandle.current().pid()));
+		assertThat(recordingListener.finishedRoots).containsExactly("[engine:junit-jupiter]");
+	}
+
+	@Test
+	void reportsWorkItemAsFailedAndStartsNewJvmIfForkedJvmTerminates() {
+		options.setForkCount(1);
+		options.setForkJvmOptions(List.of("-D" + CrashingTestCase.HALT_PROPERTY_NAME + "=true"));
+
+		execute(CrashingTestCase.class, SecondForkedTestCase.class);
+
+		var summary = summaryListener.getSummary();
+		assertEquals(1, summary.getTestsFailedCount());
+		assertThat(summary.getFailures().get(0).getException()) //
+				.hasMessageContaining("Forked JVM terminated unexpectedly") //
+				.hasMessageContaining(CrashingTestCase.class.getName());
+		assertEquals(3, summary.getTestsSucceededCount());
+		assertThat(recordingListener.finishedRoots).containsExactly("[engine:junit-jupiter]");
+	}
+
+	private void execute(Class<?>... testClasses) {
+		var requestBuilder = request();
+		Stream.of(testClasses).forEach(testClass -> requestBuilder.selectors(selectClass(testClass)));
+		var testPlan = createLauncher(new JupiterTestEngine()).discover(requestBuilder.build());
+
+		new ForkedTestExecutor(options, List.of(summaryListener, recordingListener)).execute(testPlan);
+	}
+
+	private static class RecordingListener implements TestExecutionListener {
+
+		final Map<String, String> pids = new ConcurrentHashMap<>();
+		final List<String> finishedRoots = new CopyOnWriteArrayList<>();
+		TestPlan testPlan;
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			this.testPlan = testPlan;
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			if (testPlan.getParent(testIdentifier).isEmpty()) {
+				finishedRoots.add(testIdentifier.getUniqueId());
+			}
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			pids.put(testIdentifier.getUniqueId(), entry.getKeyValuePairs().get("pid"));
+		}
+	}
+
+	static class FirstForkedTestCase {
+
+		@Test
+		void succeeds(TestReporter reporter) {
+			reporter.publishEntry("pid", String.valueOf(ProcessHandle.current().pid()));
+		}
+
+		@Test
+		void failsWithNonSerializableException() {
+			throw new NotSerializableException("not serializable");
+		}
+
+	}
+
+	static class SecondForkedTestCase {
+
+		@TestFactory
+		Stream<DynamicTest> dynamicTests(TestReporter reporter) {
+			reporter.publishEntry("pid", String.valueOf(ProcessHandle.current().pid()));
+			return Stream.of("a", "b", "c").map(name -> dynamicTest(name, () -> {
+			}));
+		}
+
+	}
+
+	static class CrashingTestCase {
+
+		static final String HALT_PROPERTY_NAME = "junit.platform.console.tests.halt";
+
+		@Test
+		void terminatesJvm() {
+			if (Boolean.getBoolean(HALT_PROPERTY_NAME)) {
+				Runtime.getRuntime().halt(42);
+			}
+			fail("should only be executed in a forked JVM");
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	static class NotSerializableException extends RuntimeException {
+
+		private final Object state = new Object();
+
+		NotSerializableException(String message) {
+			super(message);
+		}
+
+	}
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.console.options.CommandLineOptions;
+import org.junit.platform.console.options.Details;
+
+/**
+ * @since 1.8
+ */
+class TestWatcherTests {
+
+	private final CommandLineOptions options = new CommandLineOptions();
+
+	@Test
+	void selectsTopmostTestsOfChangedTopLevelClasses() {
+		var testPlan = createLauncher(new JupiterTestEngine()).discover(
+			request().selectors(selectClass(WatchedTestCase.class), selectClass(OtherTestCase.class)).build());
+		var watcher = new TestWatcher(options, new ConsoleTestExecutor(options));
+
+		watcher.addTestPlan(testPlan);
+
+		assertEquals(
+			List.of(selectUniqueId("[engine:junit-jupiter]/[class:" + WatchedTestCase.class.getName() + "]"),
+				selectUniqueId("[engine:junit-jupiter]/[class:" + OtherTestCase.class.getName() + "]")),
+			watcher.selectAffectedTests(Set.of(WatchedTestCase.NestedTestCase.class.getName())));
+		assertEquals(List.of(selectClass("com.example.NewTests")),
+			watcher.selectAffectedTests(Set.of("com.example.NewTests$Inner")));
+	}
+
+	@Test
+	void reExecutesTestsOfChangedClassFiles(@TempDir Path tempDir) throws Exception {
+		var classFileName = WatchedTestCase.class.getName().replace('.', '/') + ".class";
+		var classFile = Files.createDirectories(tempDir.resolve(classFileName).getParent()).resolve(
+			classFileName.substring(classFileName.lastIndexOf('/') + 1));
+		try (var in = WatchedTestCase.class.getClassLoader().getResourceAsStream(classFileName)) {
+			Files.copy(in, classFile);
+		}
+		options.setAdditionalClasspathEntries(List.of(tempDir));
+		options.setSelectedClasses(List.of(WatchedTestCase.class.getName()));
+		options.setDetails(Details.FLAT);
+
+		var out = new StringWriter();
+		var watcherThread = new Thread(() -> {
+			try {
+				new TestWatcher(options, new ConsoleTestExecutor(options)).watch(new PrintWriter(out));
+			}
+			catch (Exception ex) {
+				ex.printStackTrace(new PrintWriter(out));
+			}
+		});
+		watcherThread.start();
+		try {
+			awaitUntil(() -> countOccurrences(out.toString(), "Watching") == 1);
+			assertEquals(1, countOccurrences(out.toString(), "tests successful"));
+
+			Files.write(classFile, Files.readAllBytes(classFile));
+
+			awaitUntil(() -> countOccurrences(out.toString(), "Watching") == 2);
+			assertEquals(2, countOccurrences(out.toString(), "tests successful"));
+		}
+		finally {
+			watcherThread.interrupt();
+			watcherThread.join(10_000);
+		}
+		assertFalse(watcherThread.isAlive());
+		assertThat(out.toString()).doesNotContain("Exception");
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+		for (int i = 0; i < 3000 && !condition.getAsBoolean(); i++) {
+			Thread.sleep(10);
+		}
+		assertThat(condition.getAsBoolean()).isTrue();
+	}
+
+	private static int countOccurrences(String text, String substring) {
+		return text.split(Pattern.quote(substring), -1).length - 1;
+	}
+
+	static class WatchedTestCase {
+
+		@Test
+		void succeeds() {
+		}
+
+		@Nested
+		class NestedTestCase {
+
+			@Test
+			void succeedsToo() {
+			}
+
+		}
+
+	}
+
+	static class OtherTestCase {
+
+		@Test
+		void succeeds() {
+		}
+
+	}
+
+}
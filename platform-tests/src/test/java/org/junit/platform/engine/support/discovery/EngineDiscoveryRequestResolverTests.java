@@ -0,0 +1,173 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.discovery;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
+import static org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver.PARALLEL_RESOLUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver.PARALLEL_RESOLUTION_PARALLELISM_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.support.descriptor.DemoClassTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * @since 1.8
+ */
+class EngineDiscoveryRequestResolverTests {
+
+	private static final List<DiscoverySelector> SELECTORS = List.of(selectClass(A.B.C.class),
+		selectClass(E.F.class), selectClass(A.D.class), selectClass(G.class), selectClass(A.class),
+		selectClass(E.class), selectClass(A.B.class), selectClass(H.class));
+
+	@RepeatedTest(10)
+	void resolvesClassSelectorsConcurrentlyInSequentialOrder() {
+		var sequentialResolver = new ClassResolver();
+		var sequentialEngineDescriptor = resolve(sequentialResolver, false);
+
+		var concurrentResolver = new ClassResolver();
+		var concurrentEngineDescriptor = resolve(concurrentResolver, true);
+
+		assertThat(uniqueIds(concurrentEngineDescriptor)).containsExactlyElementsOf(
+			uniqueIds(sequentialEngineDescriptor));
+		assertThat(sequentialResolver.threadNames).containsExactly(Thread.currentThread().getName());
+		assertThat(concurrentResolver.threadNames).allMatch(name -> name.startsWith("junit-discovery-"));
+	}
+
+	@Test
+	void discoversSameTestPlanWhenResolvingConcurrently() {
+		var sequentialTestPlan = discover("false");
+		var concurrentTestPlan = discover("true");
+
+		assertThat(uniqueIds(concurrentTestPlan)).isNotEmpty().containsExactlyElementsOf(
+			uniqueIds(sequentialTestPlan));
+	}
+
+	@Test
+	void rejectsInvalidParallelism() {
+		var request = request() //
+				.selectors(SELECTORS) //
+				.configurationParameter(PARALLEL_RESOLUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(PARALLEL_RESOLUTION_PARALLELISM_PROPERTY_NAME, "0") //
+				.build();
+		var resolver = EngineDiscoveryRequestResolver.<EngineDescriptor> builder() //
+				.addSelectorResolver(new ClassResolver()) //
+				.build();
+
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> resolver.resolve(request, new EngineDescriptor(UniqueId.forEngine("test"), "Test")));
+
+		assertThat(exception).hasMessageContaining(PARALLEL_RESOLUTION_PARALLELISM_PROPERTY_NAME);
+	}
+
+	private static EngineDescriptor resolve(ClassResolver classResolver, boolean parallel) {
+		var request = request() //
+				.selectors(SELECTORS) //
+				.configurationParameter(PARALLEL_RESOLUTION_ENABLED_PROPERTY_NAME, String.valueOf(parallel)) //
+				.configurationParameter(PARALLEL_RESOLUTION_PARALLELISM_PROPERTY_NAME, "4") //
+				.build();
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("test"), "Test");
+		EngineDiscoveryRequestResolver.<EngineDescriptor> builder() //
+				.addSelectorResolver(classResolver) //
+				.build() //
+				.resolve(request, engineDescriptor);
+		return engineDescriptor;
+	}
+
+	private static TestPlan discover(String parallel) {
+		var request = request() //
+				.selectors(selectPackage("org.junit.platform.console.tasks")) //
+				.configurationParameter(PARALLEL_RESOLUTION_ENABLED_PROPERTY_NAME, parallel) //
+				.build();
+		return createLauncher(new JupiterTestEngine()).discover(request);
+	}
+
+	private static List<UniqueId> uniqueIds(TestDescriptor engineDescriptor) {
+		return Stream.concat(Stream.of(engineDescriptor), engineDescriptor.getDescendants().stream()) //
+				.map(TestDescriptor::getUniqueId) //
+				.collect(toList());
+	}
+
+	private static List<String> uniqueIds(TestPlan testPlan) {
+		return testPlan.getRoots().stream() //
+				.flatMap(root -> Stream.concat(Stream.of(root), testPlan.getDescendants(root).stream())) //
+				.map(TestIdentifier::getUniqueId) //
+				.collect(toList());
+	}
+
+	private static class ClassResolver implements SelectorResolver {
+
+		final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public Resolution resolve(ClassSelector selector, Context context) {
+			threadNames.add(Thread.currentThread().getName());
+			var testClass = selector.getJavaClass();
+			var enclosingClass = testClass.getEnclosingClass();
+			if (enclosingClass == EngineDiscoveryRequestResolverTests.class) {
+				return toResolution(context.addToParent(parent -> Optional.of(newDescriptor(parent, testClass))));
+			}
+			return toResolution(context.addToParent(() -> selectClass(enclosingClass),
+				parent -> Optional.of(newDescriptor(parent, testClass))));
+		}
+
+		private static TestDescriptor newDescriptor(TestDescriptor parent, Class<?> testClass) {
+			return new DemoClassTestDescriptor(parent.getUniqueId().append("class", testClass.getName()), testClass);
+		}
+
+		private static Resolution toResolution(Optional<TestDescriptor> testDescriptor) {
+			return testDescriptor.map(it -> Resolution.match(Match.exact(it))).orElse(Resolution.unresolved());
+		}
+
+	}
+
+	static class A {
+		static class B {
+			static class C {
+			}
+		}
+
+		static class D {
+		}
+	}
+
+	static class E {
+		static class F {
+		}
+	}
+
+	static class G {
+	}
+
+	static class H {
+	}
+
+}
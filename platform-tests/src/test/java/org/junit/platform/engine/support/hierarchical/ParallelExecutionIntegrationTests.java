@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
 import static org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD;
 import static org.junit.jupiter.engine.Constants.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.DEFAULT_PARALLEL_EXECUTION_MODE;
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TESTS_IN_FLIGHT_LIMIT_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
@@ -165,6 +166,21 @@ class ParallelExecutionIntegrationTests {
 		assertThat(timestampedEvents.get("afterEach")).isAfterOrEqualTo(timestampedEvents.get("dynamicTestFinished"));
 	}
 
+	@Test
+	void limitsNumberOfDynamicTestsInFlight() {
+		LargeTestFactoryTestCase.inFlight.set(0);
+		LargeTestFactoryTestCase.maxInFlight.set(0);
+
+		var configParams = Map.of( //
+			DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent", //
+			DYNAMIC_TESTS_IN_FLIGHT_LIMIT_PROPERTY_NAME, "4");
+		var results = executeWithFixedParallelism(3, configParams, LargeTestFactoryTestCase.class);
+
+		results.testEvents().assertStatistics(stats -> stats.succeeded(1000));
+		// the next dynamic test is requested from the stream before waiting for capacity
+		assertThat(LargeTestFactoryTestCase.maxInFlight.get()).isBetween(1, 4 + 1);
+	}
+
 	/**
 	 * @since 1.4
 	 * @see <a href="https://github.com/junit-team/junit5/issues/1688">gh-1688</a>
@@ -513,6 +529,20 @@ class ParallelExecutionIntegrationTests {
 		}
 	}
 
+	static class LargeTestFactoryTestCase {
+
+		static final AtomicInteger inFlight = new AtomicInteger();
+		static final AtomicInteger maxInFlight = new AtomicInteger();
+
+		@TestFactory
+		Stream<DynamicTest> testFactory() {
+			return IntStream.range(0, 1000).mapToObj(i -> {
+				maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+				return dynamicTest("test " + i, inFlight::decrementAndGet);
+			});
+		}
+	}
+
 	private static final ReentrantLock A = new ReentrantLock();
 	private static final ReentrantLock B = new ReentrantLock();
 
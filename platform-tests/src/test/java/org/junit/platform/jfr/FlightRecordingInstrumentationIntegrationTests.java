@@ -0,0 +1,69 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.jfr;
+
+import static dev.morling.jfrunit.ExpectedEvent.event;
+import static dev.morling.jfrunit.JfrEventsAssert.assertThat;
+import static org.junit.platform.engine.discovery.ClassNameFilter.includeClassNamePatterns;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import dev.morling.jfrunit.EnableEvent;
+import dev.morling.jfrunit.JfrEventTest;
+import dev.morling.jfrunit.JfrEvents;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly;
+
+@JfrEventTest
+public class FlightRecordingInstrumentationIntegrationTests {
+
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@Test
+	@EnableEvent("org.junit.*")
+	void reportsEvents() {
+		var launcher = LauncherFactoryForTestingPurposesOnly.createLauncher(new JupiterTestEngine());
+		var request = request() //
+				.selectors(selectPackage(getClass().getPackageName())) //
+				.filters(includeClassNamePatterns(".*ExampleTestCase")) //
+				.build();
+
+		launcher.execute(request);
+		jfrEvents.awaitEvents();
+
+		assertThat(jfrEvents) //
+				.contains(event("org.junit.ClasspathScan") //
+						.with("basePackage", "org.junit.platform.jfr")) //
+				.contains(event("org.junit.ExtensionCallback") //
+						.with("callback", "BeforeEachCallback") //
+						.with("extension", ExampleExtension.class.getName()));
+	}
+
+	@ExtendWith(ExampleExtension.class)
+	static class ExampleTestCase {
+
+		@Test
+		void test() {
+		}
+	}
+
+	static class ExampleExtension implements BeforeEachCallback {
+
+		@Override
+		public void beforeEach(ExtensionContext context) {
+		}
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.JUnitException;
+
+/**
+ * @since 1.8
+ */
+class ClassDependencyGraphTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void readsReferencesFromConstantPool() throws Exception {
+		var references = ClassDependencyGraph.readReferences(Middle.class.getName(), classFile(Middle.class));
+
+		assertThat(references) //
+				.contains(Helper.class.getName(), Annotation.class.getName(), Map.class.getName(),
+					Value.class.getName(), Object.class.getName()) //
+				.doesNotContain(Middle.class.getName());
+	}
+
+	@Test
+	void rejectsInvalidClassFiles() {
+		var invalidClassFile = new ByteArrayInputStream(new byte[] { 0, 1, 2, 3 });
+
+		var exception = assertThrows(JUnitException.class,
+			() -> ClassDependencyGraph.readReferences("Invalid", invalidClassFile));
+
+		assertThat(exception).hasMessage("Not a class file: Invalid");
+	}
+
+	@Test
+	void determinesTransitivelyAffectedClasses() throws Exception {
+		var root = copyClassFiles(tempDir.resolve("classes"), Helper.class, Middle.class, Top.class, Unrelated.class);
+
+		var graph = ClassDependencyGraph.build(List.of(root));
+
+		assertTrue(graph.contains(Helper.class.getName()));
+		assertFalse(graph.contains(String.class.getName()));
+		assertThat(graph.getReferencedClasses(Top.class.getName())).contains(Middle.class.getName());
+		assertThat(graph.getClassesAffectedBy(List.of(Helper.class.getName()))) //
+				.contains(Helper.class.getName(), Middle.class.getName(), Top.class.getName()) //
+				.doesNotContain(Unrelated.class.getName());
+		assertThat(graph.getClassesAffectedBy(List.of(Top.class.getName()))) //
+				.doesNotContain(Helper.class.getName(), Middle.class.getName());
+	}
+
+	@Test
+	void readsClassFilesFromJarFiles() throws Exception {
+		var jarFile = tempDir.resolve("classes.jar");
+		try (var out = new JarOutputStream(Files.newOutputStream(jarFile))) {
+			for (var testClass : List.of(Helper.class, Middle.class)) {
+				out.putNextEntry(new ZipEntry(classFileName(testClass)));
+				out.write(classFile(testClass).readAllBytes());
+				out.closeEntry();
+			}
+		}
+		var directory = copyClassFiles(tempDir.resolve("classes"), Top.class);
+
+		var graph = ClassDependencyGraph.build(List.of(directory, jarFile));
+
+		assertThat(graph.getClassesAffectedBy(List.of(Helper.class.getName()))) //
+				.contains(Middle.class.getName(), Top.class.getName());
+	}
+
+	@Test
+	void reusesCachedReferencesOfUnchangedClassFiles() throws Exception {
+		var root = copyClassFiles(tempDir.resolve("classes"), Helper.class, Unrelated.class);
+		var cacheFile = tempDir.resolve("cache").resolve("dependencies.properties");
+
+		var graph = ClassDependencyGraph.build(List.of(root), cacheFile);
+
+		assertThat(cacheFile).exists();
+		assertFalse(graph.getClassesAffectedBy(List.of(Helper.class.getName())).contains(Unrelated.class.getName()));
+
+		// pretend that Unrelated referenced Helper when the cache was written
+		var cache = new Properties();
+		try (Reader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+			cache.load(reader);
+		}
+		cache.setProperty(Unrelated.class.getName(),
+			cache.getProperty(Unrelated.class.getName()) + " " + Helper.class.getName());
+		try (Writer writer = Files.newBufferedWriter(cacheFile, StandardCharsets.UTF_8)) {
+			cache.store(writer, null);
+		}
+
+		graph = ClassDependencyGraph.build(List.of(root), cacheFile);
+		assertTrue(graph.getClassesAffectedBy(List.of(Helper.class.getName())).contains(Unrelated.class.getName()));
+
+		var unrelatedClassFile = root.resolve(classFileName(Unrelated.class));
+		Files.setLastModifiedTime(unrelatedClassFile,
+			FileTime.fromMillis(Files.getLastModifiedTime(unrelatedClassFile).toMillis() + 10_000));
+
+		graph = ClassDependencyGraph.build(List.of(root), cacheFile);
+		assertFalse(graph.getClassesAffectedBy(List.of(Helper.class.getName())).contains(Unrelated.class.getName()));
+	}
+
+	@Test
+	void computesFingerprintsFromTransitivelyReferencedClassFiles() throws Exception {
+		var root = copyClassFiles(tempDir.resolve("classes"), Helper.class, Middle.class, Top.class, Unrelated.class);
+
+		var graph = ClassDependencyGraph.build(List.of(root));
+		var topFingerprint = graph.computeFingerprint(Top.class.getName());
+		var unrelatedFingerprint = graph.computeFingerprint(Unrelated.class.getName());
+
+		assertThat(topFingerprint).isPresent();
+		assertThat(graph.computeFingerprint(String.class.getName())).isEmpty();
+		assertThat(ClassDependencyGraph.build(List.of(root)).computeFingerprint(Top.class.getName())) //
+				.isEqualTo(topFingerprint);
+
+		var helperClassFile = root.resolve(classFileName(Helper.class));
+		try (var out = Files.newOutputStream(helperClassFile, StandardOpenOption.APPEND)) {
+			out.write(0);
+		}
+
+		graph = ClassDependencyGraph.build(List.of(root));
+		assertThat(graph.computeFingerprint(Top.class.getName())).isPresent().isNotEqualTo(topFingerprint);
+		assertThat(graph.computeFingerprint(Unrelated.class.getName())).isEqualTo(unrelatedFingerprint);
+	}
+
+	static Path copyClassFiles(Path root, Class<?>... classes) throws IOException {
+		for (var testClass : classes) {
+			var target = root.resolve(classFileName(testClass));
+			Files.createDirectories(target.getParent());
+			try (var in = classFile(testClass)) {
+				Files.copy(in, target);
+			}
+		}
+		return root;
+	}
+
+	private static String classFileName(Class<?> testClass) {
+		return testClass.getName().replace('.', '/') + ".class";
+	}
+
+	private static InputStream classFile(Class<?> testClass) {
+		return testClass.getClassLoader().getResourceAsStream(classFileName(testClass));
+	}
+
+	@interface Annotation {
+	}
+
+	static class Value {
+	}
+
+	static class Helper {
+
+		static String help() {
+			return "help";
+		}
+
+	}
+
+	@Annotation
+	static class Middle {
+
+		Map<String, Value> values;
+
+		String callHelper() {
+			return Helper.help();
+		}
+
+	}
+
+	static class Top {
+
+		String callMiddle() {
+			return new Middle().callHelper();
+		}
+
+	}
+
+	static class Unrelated {
+	}
+
+}
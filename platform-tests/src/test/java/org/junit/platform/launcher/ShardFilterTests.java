@@ -0,0 +1,238 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.ShardFilter.shard;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
+
+/**
+ * Unit tests for {@link ShardFilter}.
+ *
+ * @since 1.8
+ */
+class ShardFilterTests {
+
+	@Test
+	void rejectsInvalidArguments() {
+		// @formatter:off
+		assertAll(
+			() -> assertThrows(PreconditionViolationException.class, () -> shard(0, 0)),
+			() -> assertThrows(PreconditionViolationException.class, () -> shard(-1, 2)),
+			() -> assertThrows(PreconditionViolationException.class, () -> shard(2, 2)),
+			() -> assertThrows(PreconditionViolationException.class, () -> shard(0, 2, null)),
+			() -> assertThrows(PreconditionViolationException.class, () -> shard(0, 2, null, "digest")),
+			() -> assertThrows(PreconditionViolationException.class, () -> shard(0, 2, Path.of("timings"), " "))
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void assignsEachChildOfEngineToExactlyOneShard() {
+		var shards = discoverShards(() -> demoEngine(20), 3, null);
+
+		assertThat(shards).hasSize(3);
+		assertThat(shards).allSatisfy(tests -> assertThat(tests).isNotEmpty());
+		assertThat(shards.stream().mapToInt(Set::size).sum()).isEqualTo(20);
+		assertThat(shards.stream().flatMap(Set::stream).collect(toSet())).hasSize(20);
+		assertThat(discoverShards(() -> demoEngine(20), 3, null)).isEqualTo(shards);
+	}
+
+	@Test
+	void balancesShardsBasedOnRecordedTimings(@TempDir Path tempDir) throws Exception {
+		var timingsFile = tempDir.resolve("timings.properties");
+		Files.write(timingsFile, List.of( //
+			"[engine\\:demo]/[test\\:test0]=1000", //
+			"[engine\\:demo]/[test\\:test1]=600", //
+			"[engine\\:demo]/[test\\:test2]=300", //
+			"[engine\\:demo]/[test\\:test3]=invalid"));
+
+		var shards = discoverShards(() -> demoEngine(4), 2, timingsFile);
+
+		// test3 is assumed to take as long as the average test, i.e. 633 ms
+		assertThat(shards).containsExactlyInAnyOrder( //
+			Set.of("[engine:demo]/[test:test0]", "[engine:demo]/[test:test2]"), //
+			Set.of("[engine:demo]/[test:test1]", "[engine:demo]/[test:test3]"));
+	}
+
+	@Test
+	void ignoresMissingTimingsFile(@TempDir Path tempDir) {
+		var filter = shard(0, 2, tempDir.resolve("missing.properties"));
+
+		assertThat(filter.toString()).contains("timings = 0");
+	}
+
+	@Test
+	void assignsEachChildOfEngineToExactlyOneShardIfAllShardsReadTimingsFileWithExpectedDigest(@TempDir Path tempDir)
+			throws Exception {
+		var timingsFile = tempDir.resolve("timings.properties");
+		Files.write(timingsFile, List.of("[engine\\:demo]/[test\\:test0]=1000", "[engine\\:demo]/[test\\:test1]=600"));
+		var digest = sha256(timingsFile);
+
+		var shards = discoverShardsWith(() -> demoEngine(10), 3,
+			shardIndex -> shard(shardIndex, 3, timingsFile, digest));
+
+		assertThat(shards.stream().mapToInt(Set::size).sum()).isEqualTo(10);
+		assertThat(shards.stream().flatMap(Set::stream).collect(toSet())).hasSize(10);
+	}
+
+	@Test
+	void failsIfShardsReadDifferentTimingsFiles(@TempDir Path tempDir) throws Exception {
+		var firstTimingsFile = tempDir.resolve("first.properties");
+		Files.write(firstTimingsFile, List.of("[engine\\:demo]/[test\\:test0]=1000"));
+		var secondTimingsFile = tempDir.resolve("second.properties");
+		Files.write(secondTimingsFile, List.of("[engine\\:demo]/[test\\:test1]=1000"));
+		var digest = sha256(firstTimingsFile);
+
+		assertThat(shard(0, 2, firstTimingsFile, digest.toUpperCase()).toString()).contains("timings = 1");
+		var exception = assertThrows(JUnitException.class, () -> shard(1, 2, secondTimingsFile, digest));
+		assertThat(exception).hasMessage("Shard timings file %s has digest %s but %s was expected; all shards "
+				+ "must read the same timings file",
+			secondTimingsFile, sha256(secondTimingsFile), digest);
+	}
+
+	@Test
+	void failsIfTimingsFileWithExpectedDigestIsMissing(@TempDir Path tempDir) {
+		var timingsFile = tempDir.resolve("missing.properties");
+
+		var exception = assertThrows(JUnitException.class, () -> shard(0, 2, timingsFile, "cafe"));
+		assertThat(exception).hasMessage(
+			"Shard timings file %s does not exist but its digest was expected to be cafe", timingsFile);
+	}
+
+	@Test
+	void assignsClassesSharingExclusiveResourcesToSameShard() {
+		for (int shardCount = 2; shardCount <= 5; shardCount++) {
+			var shards = discoverShards(JupiterTestEngine::new, shardCount, null, selectedTestCases());
+
+			var sharedShards = shards.stream() //
+					.filter(classes -> classes.stream().anyMatch(id -> id.contains("SharedResource"))) //
+					.collect(toSet());
+			assertThat(sharedShards).hasSize(1);
+			assertThat(sharedShards.iterator().next()) //
+					.anyMatch(id -> id.contains("FirstSharedResourceTestCase")) //
+					.anyMatch(id -> id.contains("SecondSharedResourceTestCase"));
+		}
+	}
+
+	private static Class<?>[] selectedTestCases() {
+		return new Class<?>[] { FirstSharedResourceTestCase.class, SecondSharedResourceTestCase.class,
+				FirstIndependentTestCase.class, SecondIndependentTestCase.class, ThirdIndependentTestCase.class };
+	}
+
+	private static String sha256(Path file) throws Exception {
+		var digest = MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file));
+		var result = new StringBuilder();
+		for (byte b : digest) {
+			result.append(String.format("%02x", b));
+		}
+		return result.toString();
+	}
+
+	private static TestEngine demoEngine(int numberOfTests) {
+		var engine = new DemoHierarchicalTestEngine("demo");
+		for (int i = 0; i < numberOfTests; i++) {
+			engine.addTest("test" + i, () -> {
+			});
+		}
+		return engine;
+	}
+
+	private static List<Set<String>> discoverShards(Supplier<TestEngine> engineSupplier, int shardCount,
+			Path timingsFile, Class<?>... testClasses) {
+
+		return discoverShardsWith(engineSupplier, shardCount, shardIndex -> timingsFile == null
+				? shard(shardIndex, shardCount)
+				: shard(shardIndex, shardCount, timingsFile),
+			testClasses);
+	}
+
+	private static List<Set<String>> discoverShardsWith(Supplier<TestEngine> engineSupplier, int shardCount,
+			IntFunction<ShardFilter> filterFactory, Class<?>... testClasses) {
+
+		// @formatter:off
+		return IntStream.range(0, shardCount).mapToObj(shardIndex -> {
+			var launcher = createLauncher(engineSupplier.get());
+			var builder = request().filters(filterFactory.apply(shardIndex));
+			for (Class<?> testClass : testClasses) {
+				builder.selectors(selectClass(testClass));
+			}
+			var testPlan = launcher.discover(builder.build());
+			return testPlan.getRoots().stream()
+					.flatMap(root -> testPlan.getChildren(root).stream())
+					.map(TestIdentifier::getUniqueId)
+					.collect(toSet());
+		}).collect(toList());
+		// @formatter:on
+	}
+
+	@ResourceLock("shared")
+	static class FirstSharedResourceTestCase {
+
+		@Test
+		void test() {
+		}
+	}
+
+	static class SecondSharedResourceTestCase {
+
+		@Test
+		@ResourceLock("shared")
+		void test() {
+		}
+	}
+
+	static class FirstIndependentTestCase {
+
+		@Test
+		void test() {
+		}
+	}
+
+	static class SecondIndependentTestCase {
+
+		@Test
+		void test() {
+		}
+	}
+
+	static class ThirdIndependentTestCase {
+
+		@Test
+		void test() {
+		}
+	}
+
+}
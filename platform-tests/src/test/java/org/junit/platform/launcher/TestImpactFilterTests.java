@@ -0,0 +1,109 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.engine.JupiterTestEngine;
+
+/**
+ * @since 1.8
+ */
+class TestImpactFilterTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void includesOnlyTestClassesThatTransitivelyReferenceChangedClasses() throws Exception {
+		var root = ClassDependencyGraphTests.copyClassFiles(tempDir.resolve("classes"), ProductionCode.class,
+			DirectTestCase.class, IndirectTestCase.class, UnaffectedTestCase.class);
+		var graph = ClassDependencyGraph.build(List.of(root));
+
+		var testClasses = discoverTestClasses(
+			TestImpactFilter.affectedBy(graph, List.of(ProductionCode.Dependency.class.getName())));
+
+		assertThat(testClasses).containsExactlyInAnyOrder(DirectTestCase.class.getName(),
+			IndirectTestCase.class.getName());
+	}
+
+	@Test
+	void includesTestClassesThatAreNotPartOfTheGraph() throws Exception {
+		var root = ClassDependencyGraphTests.copyClassFiles(tempDir.resolve("classes"), ProductionCode.class,
+			DirectTestCase.class);
+
+		var testClasses = discoverTestClasses(TestImpactFilter.affectedBy(List.of("com.example.Unknown"),
+			List.of(root), tempDir.resolve("dependencies.properties")));
+
+		assertThat(testClasses).containsExactlyInAnyOrder(IndirectTestCase.class.getName(),
+			UnaffectedTestCase.class.getName());
+		assertThat(tempDir.resolve("dependencies.properties")).exists();
+	}
+
+	private static Stream<String> discoverTestClasses(TestImpactFilter filter) {
+		var request = request() //
+				.selectors(selectClass(DirectTestCase.class), selectClass(IndirectTestCase.class),
+					selectClass(UnaffectedTestCase.class)) //
+				.filters(filter) //
+				.build();
+		var testPlan = createLauncher(new JupiterTestEngine()).discover(request);
+		return testPlan.getRoots().stream() //
+				.flatMap(root -> testPlan.getChildren(root).stream()) //
+				.map(testClass -> testClass.getLegacyReportingName());
+	}
+
+	static class ProductionCode {
+
+		static class Dependency {
+		}
+
+		Object create() {
+			return new Dependency();
+		}
+
+	}
+
+	static class DirectTestCase {
+
+		@Test
+		void usesDependency() {
+			new ProductionCode.Dependency();
+		}
+
+	}
+
+	static class IndirectTestCase {
+
+		@Test
+		void usesProductionCode() {
+			new ProductionCode().create();
+		}
+
+	}
+
+	static class UnaffectedTestCase {
+
+		@Test
+		void test() {
+		}
+
+	}
+
+}
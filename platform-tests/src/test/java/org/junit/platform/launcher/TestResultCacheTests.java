@@ -0,0 +1,220 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.launcher.TagFilter.excludeTags;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+
+/**
+ * @since 1.8
+ */
+class TestResultCacheTests {
+
+	@TempDir
+	Path tempDir;
+
+	Path classesDir;
+
+	@BeforeEach
+	void copyClassFiles() throws Exception {
+		classesDir = ClassDependencyGraphTests.copyClassFiles(tempDir.resolve("classes"), Helper.class,
+			PassingTestCase.class, FailingTestCase.class);
+	}
+
+	@Test
+	void skipsUnchangedContainersThatPassedBefore() {
+		var firstRun = execute(Map.of());
+
+		assertThat(firstRun.cache.getSkippedUniqueIds()).isEmpty();
+		assertThat(firstRun.executedTestClasses).containsExactlyInAnyOrder(PassingTestCase.class.getName(),
+			FailingTestCase.class.getName());
+		assertThat(tempDir.resolve("cache").resolve(TestResultCache.RESULTS_FILE_NAME)).exists();
+		assertThat(tempDir.resolve("cache").resolve(TestResultCache.CLASS_DEPENDENCIES_FILE_NAME)).exists();
+
+		var secondRun = execute(Map.of());
+
+		assertThat(secondRun.cache.getSkippedUniqueIds()).hasSize(1);
+		assertThat(secondRun.executedTestClasses).containsExactly(FailingTestCase.class.getName());
+	}
+
+	@Test
+	void executesContainersAgainWhenReferencedClassesChanged() throws Exception {
+		execute(Map.of());
+
+		var helperClassFile = classesDir.resolve(Helper.class.getName().replace('.', '/') + ".class");
+		try (var out = Files.newOutputStream(helperClassFile, StandardOpenOption.APPEND)) {
+			out.write(0);
+		}
+		Files.setLastModifiedTime(helperClassFile,
+			FileTime.fromMillis(Files.getLastModifiedTime(helperClassFile).toMillis() + 10_000));
+
+		var secondRun = execute(Map.of());
+
+		assertThat(secondRun.cache.getSkippedUniqueIds()).isEmpty();
+		assertThat(secondRun.executedTestClasses).contains(PassingTestCase.class.getName());
+	}
+
+	@Test
+	void executesContainersAgainThatOnlyPartiallyExecutedBefore() {
+		var firstRun = execute(List.of(selectMethod(PassingTestCase.class, "test")));
+
+		assertThat(firstRun.executedTestClasses).containsExactly(PassingTestCase.class.getName());
+
+		var secondRun = execute(List.of(selectClass(PassingTestCase.class), selectClass(FailingTestCase.class)));
+
+		assertThat(secondRun.cache.getSkippedUniqueIds()).isEmpty();
+		assertThat(secondRun.executedTestClasses).contains(PassingTestCase.class.getName());
+	}
+
+	@Test
+	void skipsUnchangedContainersThatPassedBeforeWithSameFilters() {
+		var selectors = List.of(selectClass(PassingTestCase.class), selectClass(FailingTestCase.class));
+
+		execute(selectors, excludeTags("slow"));
+		var secondRun = execute(selectors, excludeTags("slow"));
+
+		assertThat(secondRun.cache.getSkippedUniqueIds()).hasSize(1);
+
+		var thirdRun = execute(selectors);
+
+		assertThat(thirdRun.cache.getSkippedUniqueIds()).isEmpty();
+	}
+
+	@Test
+	void executesContainersAgainWhenJarFilesOnClassPathChanged() throws Exception {
+		var jarFile = Files.write(tempDir.resolve("library.jar"), new byte[] { 0 });
+		execute(Map.of(), List.of(jarFile));
+
+		var secondRun = execute(Map.of(), List.of(jarFile));
+
+		assertThat(secondRun.cache.getSkippedUniqueIds()).hasSize(1);
+
+		Files.write(jarFile, new byte[] { 0, 1 });
+		Files.setLastModifiedTime(jarFile, FileTime.fromMillis(Files.getLastModifiedTime(jarFile).toMillis() + 10_000));
+
+		var thirdRun = execute(Map.of(), List.of(jarFile));
+
+		assertThat(thirdRun.cache.getSkippedUniqueIds()).isEmpty();
+		assertThat(thirdRun.executedTestClasses).contains(PassingTestCase.class.getName());
+	}
+
+	@Test
+	void executesContainersAgainWhenConfigurationParametersChanged() {
+		execute(Map.of());
+
+		var secondRun = execute(Map.of("some.key", "some.value"));
+
+		assertThat(secondRun.cache.getSkippedUniqueIds()).isEmpty();
+		assertThat(secondRun.executedTestClasses).contains(PassingTestCase.class.getName());
+
+		var thirdRun = execute(Map.of("some.key", "some.value"));
+
+		assertThat(thirdRun.cache.getSkippedUniqueIds()).hasSize(1);
+	}
+
+	private Run execute(Map<String, String> configurationParameters) {
+		return execute(configurationParameters, List.of());
+	}
+
+	private Run execute(Map<String, String> configurationParameters, List<Path> classPathJarFiles) {
+		return execute(configurationParameters, classPathJarFiles,
+			List.of(selectClass(PassingTestCase.class), selectClass(FailingTestCase.class)));
+	}
+
+	private Run execute(List<? extends DiscoverySelector> selectors, PostDiscoveryFilter... filters) {
+		return execute(Map.of(), List.of(), selectors, filters);
+	}
+
+	private Run execute(Map<String, String> configurationParameters, List<Path> classPathJarFiles,
+			List<? extends DiscoverySelector> selectors, PostDiscoveryFilter... filters) {
+		var cache = TestResultCache.open(tempDir.resolve("cache"), List.of(classesDir), configurationParameters,
+			classPathJarFiles);
+		var request = request() //
+				.selectors(selectors) //
+				.configurationParameters(configurationParameters) //
+				.filters(filters) //
+				.filters(cache) //
+				.listeners(cache) //
+				.build();
+		var launcher = createLauncher(new JupiterTestEngine());
+		var testPlan = launcher.discover(request);
+		var executedTestClasses = testPlan.getRoots().stream() //
+				.flatMap(root -> testPlan.getChildren(root).stream()) //
+				.map(TestIdentifier::getLegacyReportingName) //
+				.collect(Collectors.toList());
+		launcher.execute(testPlan, cache, new SummaryGeneratingListener());
+		return new Run(cache, executedTestClasses);
+	}
+
+	private static class Run {
+
+		final TestResultCache cache;
+		final List<String> executedTestClasses;
+
+		Run(TestResultCache cache, List<String> executedTestClasses) {
+			this.cache = cache;
+			this.executedTestClasses = executedTestClasses;
+		}
+
+	}
+
+	static class Helper {
+
+		static String help() {
+			return "help";
+		}
+
+	}
+
+	static class PassingTestCase {
+
+		@Test
+		void test() {
+			Helper.help();
+		}
+
+		@Test
+		void anotherTest() {
+			Helper.help();
+		}
+
+	}
+
+	static class FailingTestCase {
+
+		@Test
+		void test() {
+			fail("always fails");
+		}
+
+	}
+
+}
@@ -12,11 +12,17 @@ package org.junit.platform.launcher.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENERS_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
 import static org.mockito.Mockito.mock;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -28,6 +34,7 @@ import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.descriptor.DemoMethodTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
@@ -163,6 +170,116 @@ class CompositeTestExecutionListenerTests {
 		assertNotLogs(logRecordListener);
 	}
 
+	@Test
+	void notifiesListenersInOrderOnDispatcherThreadIfDispatcherIsPresent() {
+		var callerThread = Thread.currentThread();
+		var eagerEvents = new ConcurrentLinkedQueue<String>();
+		var asynchronousEvents = new ConcurrentLinkedQueue<String>();
+		var dispatcherThreads = ConcurrentHashMap.<Thread> newKeySet();
+		listeners.clear();
+		listeners.add(new EagerTestExecutionListener() {
+			@Override
+			public void executionJustStarted(TestIdentifier testIdentifier) {
+				assertThat(Thread.currentThread()).isSameAs(callerThread);
+				eagerEvents.add("executionJustStarted");
+			}
+
+			@Override
+			public void executionJustFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				assertThat(Thread.currentThread()).isSameAs(callerThread);
+				eagerEvents.add("executionJustFinished");
+			}
+		});
+		listeners.add(new TestExecutionListener() {
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				record("executionStarted");
+			}
+
+			@Override
+			public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+				record("reportingEntryPublished");
+			}
+
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				record("executionFinished");
+			}
+
+			@Override
+			public void testPlanExecutionFinished(TestPlan testPlan) {
+				record("testPlanExecutionFinished");
+			}
+
+			private void record(String event) {
+				dispatcherThreads.add(Thread.currentThread());
+				asynchronousEvents.add(event);
+				try {
+					Thread.sleep(10);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		var testIdentifier = getSampleMethodTestIdentifier();
+		var listener = new CompositeTestExecutionListener(listeners, new AsynchronousListenerDispatcher(1));
+
+		listener.executionStarted(testIdentifier);
+		listener.reportingEntryPublished(testIdentifier, ReportEntry.from("key", "value"));
+		listener.executionFinished(testIdentifier, TestExecutionResult.successful());
+		listener.testPlanExecutionFinished(TestPlan.from(Set.of(getDemoMethodTestDescriptor())));
+
+		assertThat(eagerEvents).containsExactly("executionJustStarted", "executionJustFinished");
+		assertThat(asynchronousEvents).containsExactly("executionStarted", "reportingEntryPublished",
+			"executionFinished", "testPlanExecutionFinished");
+		assertThat(dispatcherThreads).extracting(Thread::getName).containsExactly(
+			"junit-platform-listener-dispatcher");
+	}
+
+	@Test
+	void shouldRethrowOutOfMemoryErrorOfAsynchronousListenerWhenTestPlanExecutionFinishes(
+			LogRecordListener logRecordListener) {
+		listeners.clear();
+		listeners.add(new TestExecutionListener() {
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				throw new OutOfMemoryError();
+			}
+		});
+		var testIdentifier = getSampleMethodTestIdentifier();
+		var listener = new CompositeTestExecutionListener(listeners, new AsynchronousListenerDispatcher(1));
+
+		listener.executionStarted(testIdentifier);
+
+		var testPlan = TestPlan.from(Set.of(getDemoMethodTestDescriptor()));
+		assertThatThrownBy(() -> listener.testPlanExecutionFinished(testPlan)).isInstanceOf(OutOfMemoryError.class);
+		assertNotLogs(logRecordListener);
+	}
+
+	@Test
+	void launcherNotifiesListenersAsynchronouslyIfEnabled() {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		engine.addTest("test", () -> {
+		});
+		var startedTests = new ConcurrentLinkedQueue<String>();
+		var listener = new TestExecutionListener() {
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				startedTests.add(testIdentifier.getDisplayName() + "@" + Thread.currentThread().getName());
+			}
+		};
+
+		var request = request() //
+				.selectors(selectUniqueId(engine.getEngineDescriptor().getUniqueId())) //
+				.configurationParameter(ASYNC_LISTENERS_ENABLED_PROPERTY_NAME, "true") //
+				.build();
+		createLauncher(engine).execute(request, listener);
+
+		assertThat(startedTests).containsExactly("engine@junit-platform-listener-dispatcher",
+			"test@junit-platform-listener-dispatcher");
+	}
+
 	private TestExecutionListener compositeTestExecutionListener() {
 		return new CompositeTestExecutionListener(listeners);
 	}
@@ -21,6 +21,7 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectModul
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.TagFilter.includeTags;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.DEFAULT_DISCOVERY_LISTENER_CONFIGURATION_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.listeners.discovery.LauncherDiscoveryListeners.abortOnFailure;
@@ -35,12 +36,15 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.discovery.ClassSelector;
 import org.junit.platform.engine.discovery.MethodSelector;
 import org.junit.platform.engine.discovery.ModuleSelector;
 import org.junit.platform.engine.discovery.PackageSelector;
+import org.junit.platform.engine.discovery.TagDiscoveryFilter;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
 import org.junit.platform.fakes.TestEngineStub;
 import org.junit.platform.launcher.DiscoveryFilterStub;
@@ -224,6 +228,35 @@ class LauncherDiscoveryRequestBuilderTests {
 			assertThat(filters).containsOnly(postFilter1, postFilter2);
 		}
 
+		@Test
+		void tagFiltersAreStoredAsDiscoveryAndPostDiscoveryFilters() {
+			var tagFilter = (TagPostDiscoveryFilter) includeTags("foo");
+			// @formatter:off
+			var discoveryRequest = request()
+					.filters(tagFilter)
+					.build();
+			// @formatter:on
+
+			assertThat(discoveryRequest.getPostDiscoveryFilters()).containsExactly(tagFilter);
+			assertThat(discoveryRequest.getFiltersByType(TagDiscoveryFilter.class)) //
+					.containsExactly(tagFilter.getDiscoveryFilter());
+		}
+
+		@Test
+		void tagDiscoveryFiltersAreAlsoAppliedAfterDiscovery() {
+			TagDiscoveryFilter tagFilter = tags -> FilterResult.includedIf(tags.contains(TestTag.create("foo")));
+			// @formatter:off
+			var discoveryRequest = request()
+					.filters(tagFilter)
+					.build();
+			// @formatter:on
+
+			assertThat(discoveryRequest.getFiltersByType(TagDiscoveryFilter.class)).containsExactly(tagFilter);
+			assertThat(discoveryRequest.getPostDiscoveryFilters()).singleElement() //
+					.isInstanceOfSatisfying(TagPostDiscoveryFilter.class,
+						postFilter -> assertThat(postFilter.getDiscoveryFilter()).isSameAs(tagFilter));
+		}
+
 		@Test
 		void exceptionForIllegalFilterClass() {
 			Exception exception = assertThrows(PreconditionViolationException.class,
@@ -11,14 +11,18 @@
 package org.junit.platform.launcher.core;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.platform.launcher.LauncherConstants.DISCOVERY_RESULT_REUSE_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncherConfigBuilderWithDisabledServiceLoading;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.fakes.TestEngineStub;
+import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.LauncherSession;
 import org.junit.platform.launcher.LauncherSessionListener;
@@ -33,6 +37,9 @@ public class LauncherSessionTests {
 			.addTestEngines(new TestEngineStub()) //
 			.build();
 	LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request().build();
+	LauncherDiscoveryRequest reusableRequest = LauncherDiscoveryRequestBuilder.request() //
+			.configurationParameter(DISCOVERY_RESULT_REUSE_ENABLED_PROPERTY_NAME, "true") //
+			.build();
 
 	@Test
 	void callsRegisteredListenersWhenLauncherIsUsedDirectly() {
@@ -91,6 +98,88 @@ public class LauncherSessionTests {
 		verifyNoMoreInteractions(firstSessionListener, secondSessionListener);
 	}
 
+	@Test
+	void reusesDiscoveryResultWhenSameRequestIsExecutedAfterDiscovery() {
+		var discoveryListener = mock(LauncherDiscoveryListener.class);
+		try (var session = LauncherFactory.openSession(launcherConfig)) {
+			var launcher = session.getLauncher();
+			launcher.registerLauncherDiscoveryListeners(discoveryListener);
+
+			launcher.discover(reusableRequest);
+			launcher.execute(reusableRequest);
+
+			verify(discoveryListener, times(1)).launcherDiscoveryStarted(reusableRequest);
+
+			launcher.execute(reusableRequest);
+
+			verify(discoveryListener, times(2)).launcherDiscoveryStarted(reusableRequest);
+		}
+	}
+
+	@Test
+	void discoversAgainWhenDiscoveredTestPlanHasBeenExecuted() {
+		var discoveryListener = mock(LauncherDiscoveryListener.class);
+		try (var session = LauncherFactory.openSession(launcherConfig)) {
+			var launcher = session.getLauncher();
+			launcher.registerLauncherDiscoveryListeners(discoveryListener);
+
+			var testPlan = launcher.discover(reusableRequest);
+			launcher.execute(testPlan);
+			launcher.execute(reusableRequest);
+
+			verify(discoveryListener, times(2)).launcherDiscoveryStarted(reusableRequest);
+		}
+	}
+
+	@Test
+	void discoversAgainForDifferentRequestInstances() {
+		var discoveryListener = mock(LauncherDiscoveryListener.class);
+		var otherRequest = LauncherDiscoveryRequestBuilder.request().build();
+		try (var session = LauncherFactory.openSession(launcherConfig)) {
+			var launcher = session.getLauncher();
+			launcher.registerLauncherDiscoveryListeners(discoveryListener);
+
+			launcher.discover(reusableRequest);
+			launcher.execute(otherRequest);
+
+			verify(discoveryListener).launcherDiscoveryStarted(reusableRequest);
+			verify(discoveryListener).launcherDiscoveryStarted(otherRequest);
+		}
+	}
+
+	@Test
+	void doesNotReuseDiscoveryResultByDefault() {
+		var discoveryListener = mock(LauncherDiscoveryListener.class);
+		try (var session = LauncherFactory.openSession(launcherConfig)) {
+			var launcher = session.getLauncher();
+			launcher.registerLauncherDiscoveryListeners(discoveryListener);
+
+			var testPlan = launcher.discover(request);
+			launcher.execute(request);
+			launcher.execute(testPlan);
+
+			verify(discoveryListener, times(2)).launcherDiscoveryStarted(request);
+		}
+	}
+
+	@Test
+	void doesNotReuseDiscoveryResultWhenDisabled() {
+		var discoveryListener = mock(LauncherDiscoveryListener.class);
+		var request = LauncherDiscoveryRequestBuilder.request() //
+				.configurationParameter(DISCOVERY_RESULT_REUSE_ENABLED_PROPERTY_NAME, "false") //
+				.build();
+		try (var session = LauncherFactory.openSession(launcherConfig)) {
+			var launcher = session.getLauncher();
+			launcher.registerLauncherDiscoveryListeners(discoveryListener);
+
+			var testPlan = launcher.discover(request);
+			launcher.execute(request);
+			launcher.execute(testPlan);
+
+			verify(discoveryListener, times(2)).launcherDiscoveryStarted(request);
+		}
+	}
+
 	@Test
 	void closedSessionCannotBeUsed() {
 		var session = LauncherFactory.openSession(launcherConfig);
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
+import org.junit.platform.launcher.ShardFilter;
+
+/**
+ * @since 1.8
+ */
+class ShardTimingsListenerTests {
+
+	@Test
+	void recordsDurationsOfChildrenOfEngines(@TempDir Path tempDir) throws Exception {
+		var timingsFile = tempDir.resolve("build/timings.properties");
+
+		execute(timingsFile);
+
+		var timings = load(timingsFile);
+		assertThat(timings.stringPropertyNames()) //
+				.containsExactlyInAnyOrder("[engine:demo]/[container:container]", "[engine:demo]/[test:test]");
+		assertThat(Long.parseLong(timings.getProperty("[engine:demo]/[test:test]"))).isGreaterThanOrEqualTo(10);
+	}
+
+	@Test
+	void retainsExistingTimings(@TempDir Path tempDir) throws Exception {
+		var timingsFile = tempDir.resolve("timings.properties");
+		Files.write(timingsFile, List.of( //
+			"[engine\\:other]/[test\\:test]=42", //
+			"[engine\\:demo]/[test\\:test]=0"));
+
+		execute(timingsFile);
+
+		var timings = load(timingsFile);
+		assertThat(timings.stringPropertyNames()).hasSize(3);
+		assertThat(timings.getProperty("[engine:other]/[test:test]")).isEqualTo("42");
+		assertThat(timings.getProperty("[engine:demo]/[test:test]")).isNotEqualTo("0");
+		assertThat(ShardFilter.shard(0, 1, timingsFile).toString()).contains("timings = 3");
+	}
+
+	private static void execute(Path timingsFile) {
+		var engine = new DemoHierarchicalTestEngine("demo");
+		engine.addTest("test", () -> sleep(10));
+		var container = engine.addContainer("container", () -> {
+		});
+		container.addChild(new DemoHierarchicalTestDescriptor(container.getUniqueId().append("test", "nested"),
+			"nested", () -> {
+			}));
+
+		createLauncher(engine).execute(request().build(), new ShardTimingsListener(timingsFile));
+	}
+
+	private static Properties load(Path timingsFile) throws Exception {
+		var timings = new Properties();
+		try (Reader reader = Files.newBufferedReader(timingsFile)) {
+			timings.load(reader);
+		}
+		return timings;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
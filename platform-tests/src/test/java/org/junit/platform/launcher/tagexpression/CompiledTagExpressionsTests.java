@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.tagexpression;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.launcher.tagexpression.TagExpressions.or;
+import static org.junit.platform.launcher.tagexpression.TagExpressions.tag;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.engine.TestTag;
+
+/**
+ * @since 1.8
+ */
+class CompiledTagExpressionsTests {
+
+	private static final List<Set<TestTag>> tagSets = List.of( //
+		Set.of(), //
+		tags("foo"), //
+		tags("bar"), //
+		tags("baz"), //
+		tags("unrelated"), //
+		tags("foo", "bar"), //
+		tags("foo", "baz"), //
+		tags("bar", "baz", "unrelated"), //
+		tags("foo", "bar", "baz") //
+	);
+
+	@ParameterizedTest
+	@ValueSource(strings = { "foo", "!foo", "foo & bar", "foo | bar", "!(foo & bar) | baz", "foo & !bar & !baz",
+			"any()", "none()", "!any()", "!none() & !foo", "foo | none()", "(foo | bar) & (baz | any())" })
+	void compiledExpressionMatchesSameTagsAsParsedExpression(String expression) {
+		var parsed = parse(expression);
+		var compiled = CompiledTagExpressions.compile(List.of(parsed));
+
+		for (var tags : tagSets) {
+			assertThat(compiled.anyMatch(tags)).as("%s evaluated against %s", expression, tags) //
+					.isEqualTo(parsed.evaluate(tags));
+			assertThat(compiled.noneMatch(tags)).isNotEqualTo(parsed.evaluate(tags));
+		}
+	}
+
+	@Test
+	void anyMatchReturnsTrueIfOneOfSeveralExpressionsMatches() {
+		var compiled = CompiledTagExpressions.compile(List.of(parse("foo & bar"), parse("baz")));
+
+		assertThat(compiled.anyMatch(tags("foo", "bar"))).isTrue();
+		assertThat(compiled.anyMatch(tags("baz"))).isTrue();
+		assertThat(compiled.anyMatch(tags("foo"))).isFalse();
+		assertThat(compiled.anyMatch(Set.of())).isFalse();
+	}
+
+	@Test
+	void emptyListOfExpressionsMatchesNothing() {
+		var compiled = CompiledTagExpressions.compile(List.of());
+
+		assertThat(compiled.anyMatch(tags("foo"))).isFalse();
+		assertThat(compiled.noneMatch(Set.of())).isTrue();
+	}
+
+	@Test
+	void evaluatesExpressionsThatReferenceManyTags() {
+		var expression = IntStream.range(0, 30).mapToObj(i -> tag("tag" + i)).reduce(TagExpressions::and).get();
+		var compiled = CompiledTagExpressions.compile(List.of(expression));
+
+		var allTags = IntStream.range(0, 30).mapToObj(i -> "tag" + i).toArray(String[]::new);
+		assertThat(compiled.anyMatch(tags(allTags))).isTrue();
+		assertThat(compiled.anyMatch(tags("tag0", "tag29"))).isFalse();
+	}
+
+	@Test
+	void fallsBackToEvaluatingExpressionsThatReferenceTooManyTags() {
+		var expression = IntStream.range(0, 100).mapToObj(i -> tag("tag" + i)).reduce(TagExpressions::or).get();
+		var compiled = CompiledTagExpressions.compile(List.of(expression));
+
+		assertThat(compiled.anyMatch(tags("tag0"))).isTrue();
+		assertThat(compiled.anyMatch(tags("tag99"))).isTrue();
+		assertThat(compiled.anyMatch(tags("tag100"))).isFalse();
+	}
+
+	@Test
+	void fallsBackToEvaluatingExpressionsThatCannotBeCompiled() {
+		TagExpression custom = tags -> tags.size() == 2;
+		var compiled = CompiledTagExpressions.compile(List.of(or(tag("foo"), custom)));
+
+		assertThat(compiled.anyMatch(tags("foo"))).isTrue();
+		assertThat(compiled.anyMatch(tags("bar", "baz"))).isTrue();
+		assertThat(compiled.anyMatch(tags("bar"))).isFalse();
+	}
+
+	private static TagExpression parse(String expression) {
+		return TagExpression.parseFrom(expression).tagExpressionOrThrow(RuntimeException::new);
+	}
+
+	private static Set<TestTag> tags(String... names) {
+		return Stream.of(names).map(TestTag::create).collect(toSet());
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2015-2021 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * @since 1.8
+ */
+class CompactExecutionRecorderTests {
+
+	@Test
+	void recordsSameStatisticsAsExecutionRecorder() {
+		var results = EngineTestKit.engine("junit-jupiter") //
+				.selectors(selectClass(ExampleTestCase.class)) //
+				.executeCompactly();
+
+		results.testEvents().assertStatistics(stats -> stats //
+				.dynamicallyRegistered(2) //
+				.skipped(1) //
+				.started(5) //
+				.finished(5) //
+				.succeeded(2) //
+				.aborted(1) //
+				.failed(2) //
+				.reportingEntryPublished(1));
+		results.containerEvents().assertStatistics(stats -> stats //
+				.dynamicallyRegistered(0) //
+				.skipped(0) //
+				.started(3) //
+				.succeeded(3));
+		assertThat(results.allEvents().count()) //
+				.isEqualTo(results.testEvents().count() + results.containerEvents().count());
+		assertThat(results.allEvents().count()).isEqualTo(EngineTestKit.engine("junit-jupiter") //
+				.selectors(selectClass(ExampleTestCase.class)) //
+				.execute() //
+				.allEvents() //
+				.count());
+	}
+
+	@Test
+	void providesUniqueIdsOfRecordedEvents() {
+		var testEvents = EngineTestKit.engine("junit-jupiter") //
+				.selectors(selectClass(ExampleTestCase.class)) //
+				.executeCompactly() //
+				.testEvents();
+
+		assertThat(testEvents.uniqueIds(Status.FAILED)) //
+				.extracting(UniqueId::getLastSegment) //
+				.extracting(UniqueId.Segment::getValue) //
+				.containsExactlyInAnyOrder("failingTest()", "#2");
+		assertThat(testEvents.uniqueIds(EventType.SKIPPED)) //
+				.extracting(uniqueId -> uniqueId.getLastSegment().getValue()) //
+				.containsExactly("skippedTest()");
+		assertThat(testEvents.count(Status.SUCCESSFUL)).isEqualTo(2);
+		assertThat(testEvents.count(EventType.STARTED)).isEqualTo(5);
+	}
+
+	@Test
+	void updatesStatisticsDuringExecution() {
+		var recorder = new CompactExecutionRecorder();
+		var startedTestsWhenFinished = new AtomicLong();
+		var results = recorder.getExecutionResults();
+		RecorderTestCase.callback = () -> startedTestsWhenFinished.set(results.testEvents().count(EventType.STARTED));
+
+		EngineTestKit.engine("junit-jupiter") //
+				.selectors(selectClass(RecorderTestCase.class)) //
+				.executeCompactly(recorder);
+
+		assertThat(startedTestsWhenFinished).hasValue(1);
+		assertThat(results.testEvents().count(EventType.FINISHED)).isEqualTo(1);
+	}
+
+	@Test
+	void materializesEventsOnlyIfDetailsAreRetained() {
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> EngineTestKit.engine("junit-jupiter") //
+					.selectors(selectClass(ExampleTestCase.class)) //
+					.executeCompactly() //
+					.testEvents() //
+					.toEvents());
+		assertThat(exception).hasMessageContaining("retains details");
+
+		var events = EngineTestKit.engine("junit-jupiter") //
+				.selectors(selectClass(ExampleTestCase.class)) //
+				.executeCompactly(new CompactExecutionRecorder(true)) //
+				.testEvents() //
+				.toEvents();
+
+		events.failed().assertEventsMatchLoosely(
+			event(test("failingTest"), finishedWithFailure(message("failing test"))));
+		assertThat(events.list()).extracting(Event::getTimestamp).isSorted();
+	}
+
+	static class ExampleTestCase {
+
+		@Test
+		void succeedingTest(TestReporter testReporter) {
+			testReporter.publishEntry("key", "value");
+		}
+
+		@Test
+		void failingTest() {
+			fail("failing test");
+		}
+
+		@Test
+		void abortedTest() {
+			assumeTrue(false);
+		}
+
+		@Test
+		@Disabled
+		void skippedTest() {
+		}
+
+		@TestFactory
+		Stream<DynamicTest> dynamicTests() {
+			return List.of(1, 2).stream() //
+					.map(i -> dynamicTest(String.valueOf(i), () -> {
+						if (i == 2) {
+							fail("failing dynamic test");
+						}
+					}));
+		}
+
+	}
+
+	static class RecorderTestCase {
+
+		static Runnable callback;
+
+		@Test
+		void test() {
+			callback.run();
+		}
+
+	}
+
+}